@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.benchmark;
+
+import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.Gauge.SkinType;
+import eu.hansolo.medusa.tools.AsyncValueDispatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Stress test for Gauge.setValueAsync() with {@value #THREADS} producer
+ * threads. Each thread owns one gauge and writes an increasing counter
+ * to it. After each iteration the gauges are checked on the FX thread:
+ * every gauge must show the last value its producer has written,
+ * otherwise the iteration fails with an IllegalStateException.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(AsyncValueBenchmark.THREADS)
+@Fork(1)
+public class AsyncValueBenchmark {
+    static final int THREADS = 16;
+
+
+    @State(Scope.Benchmark)
+    public static class Gauges {
+        final Gauge[]       gauges = new Gauge[THREADS];
+        final AtomicInteger index  = new AtomicInteger();
+
+        @Setup public void setup() {
+            FxSupport.startup();
+            FxSupport.runAndWait(() -> {
+                for (int i = 0 ; i < THREADS ; i++) {
+                    gauges[i] = new Gauge(SkinType.GAUGE);
+                    gauges[i].setAnimated(false);
+                    gauges[i].setMaxValue(Double.MAX_VALUE);
+                }
+            });
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Producer {
+        Gauge  gauge;
+        double value;
+
+        @Setup public void setup(final Gauges GAUGES) {
+            gauge = GAUGES.gauges[GAUGES.index.getAndIncrement() % THREADS];
+        }
+
+        @TearDown(Level.Iteration) public void verify() {
+            final double EXPECTED = value;
+            // the slots are drained on the next pulse
+            while (AsyncValueDispatcher.getQueuedCount() > 0) { Thread.onSpinWait(); }
+            FxSupport.runAndWait(() -> {
+                if (Double.compare(gauge.getValue(), EXPECTED) != 0) {
+                    throw new IllegalStateException("Lost update, expected " + EXPECTED + " but was " + gauge.getValue() + " (" + AsyncValueDispatcher.getQueuedCount() + " slots queued)");
+                }
+            });
+        }
+    }
+
+
+    @Benchmark
+    public void setValueAsync(final Producer PRODUCER) {
+        PRODUCER.gauge.setValueAsync(++PRODUCER.value);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.benchmark;
+
+import eu.hansolo.medusa.tools.AsyncValueDispatcher;
+import eu.hansolo.medusa.tools.AsyncValueDispatcher.Slot;
+import javafx.animation.AnimationTimer;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Checks that the AsyncValueDispatcher never loses the latest value.
+ * {@value #THREADS} producer threads write increasing values to
+ * {@value #SLOTS_PER_THREAD} slots each for {@value #DURATION_MS} ms.
+ * After all queued slots have been drained every consumer must have
+ * received the last value its producer has written, and no slot must
+ * have been drained more often than there were pulses. Fails with an
+ * IllegalStateException (and a non zero exit code) otherwise.
+ * Usage: gradlew asyncValueCheck (also part of gradlew check)
+ */
+public class AsyncValueCheck {
+    static final int  THREADS          = 16;
+    static final int  SLOTS_PER_THREAD = 8;
+    static final long DURATION_MS      = 2_000;
+    static final long TIMEOUT_MS       = 10_000;
+
+    private static final int      SLOTS     = THREADS * SLOTS_PER_THREAD;
+    private static final double[] received  = new double[SLOTS];   // only accessed on the FX application thread
+    private static final long[]   drains    = new long[SLOTS];     // only accessed on the FX application thread
+    private static final double[] written   = new double[SLOTS];   // written by the producers, read after join()
+    private static       long     pulses;                          // only accessed on the FX application thread
+
+
+    public static void main(final String[] args) throws InterruptedException {
+        FxSupport.startup();
+
+        final AnimationTimer PULSE_COUNTER = new AnimationTimer() {
+            @Override public void handle(final long NOW) { pulses++; }
+        };
+        FxSupport.runAndWait(PULSE_COUNTER::start);
+
+        final Slot[] SLOT_ARRAY = new Slot[SLOTS];
+        for (int i = 0 ; i < SLOTS ; i++) {
+            final int INDEX = i;
+            SLOT_ARRAY[i] = new Slot(VALUE -> {
+                received[INDEX] = VALUE;
+                drains[INDEX]++;
+            });
+        }
+
+        final CountDownLatch START     = new CountDownLatch(1);
+        final long           END_NANOS = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DURATION_MS);
+        final Thread[]       PRODUCERS = new Thread[THREADS];
+        for (int t = 0 ; t < THREADS ; t++) {
+            final int FIRST = t * SLOTS_PER_THREAD;
+            PRODUCERS[t] = new Thread(() -> {
+                try { START.await(); } catch (InterruptedException e) { return; }
+                double value = 0;
+                while (System.nanoTime() < END_NANOS) {
+                    value++;
+                    for (int s = FIRST ; s < FIRST + SLOTS_PER_THREAD ; s++) { SLOT_ARRAY[s].set(value); }
+                }
+                for (int s = FIRST ; s < FIRST + SLOTS_PER_THREAD ; s++) { written[s] = value; }
+            }, "producer-" + t);
+            PRODUCERS[t].start();
+        }
+        START.countDown();
+        for (Thread producer : PRODUCERS) { producer.join(); }
+
+        // wait until the dispatcher drained all slots on a pulse
+        final long TIMEOUT_NANOS = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MS);
+        final boolean[] DRAINED  = new boolean[1];
+        while (!DRAINED[0]) {
+            if (System.nanoTime() > TIMEOUT_NANOS) { throw new IllegalStateException(AsyncValueDispatcher.getQueuedCount() + " slots still queued after " + TIMEOUT_MS + " ms"); }
+            Thread.sleep(16);
+            FxSupport.runAndWait(() -> DRAINED[0] = 0 == AsyncValueDispatcher.getQueuedCount());
+        }
+
+        FxSupport.runAndWait(() -> {
+            PULSE_COUNTER.stop();
+            long maxDrains = 0;
+            for (int i = 0 ; i < SLOTS ; i++) {
+                if (Double.compare(received[i], written[i]) != 0) {
+                    throw new IllegalStateException("Lost update in slot " + i + ", expected " + written[i] + " but was " + received[i]);
+                }
+                maxDrains = Math.max(maxDrains, drains[i]);
+            }
+            // the pulse counter might have been started one pulse after the dispatcher
+            if (maxDrains > pulses + 1) {
+                throw new IllegalStateException("A slot was drained " + maxDrains + " times in " + pulses + " pulses");
+            }
+            System.out.printf("%d producers, %d slots, %d pulses, max %d drains per slot, no lost updates%n", THREADS, SLOTS, pulses, maxDrains);
+        });
+        System.exit(0);
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.benchmark;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import eu.hansolo.medusa.Clock;
+import eu.hansolo.medusa.Clock.ClockSkinType;
+import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.Gauge.SkinType;
+import eu.hansolo.medusa.GaugeBuilder;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.scene.layout.FlowPane;
+import javafx.stage.Stage;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Runs a dashboard of gauges and clocks with a synthetic load and writes
+ * a report with frame times, FX thread busy time, allocation rate and GC
+ * pauses, so different Medusa versions and skin choices can be compared
+ * on the same workload. Like the benchmarks it runs headless (Monocle)
+ * unless a glass platform is given, e.g.
+ * gradlew dashboard -Pdashboard.args="gauges=500 skins=GAUGE,SIMPLE_SECTION rate=50"
+ *
+ * Arguments (key=value):
+ * gauges   number of gauges (default 200)
+ * skins    comma separated skin types that are used in turn (default GAUGE)
+ * clocks   number of clocks (default 0)
+ * rate     values per second and gauge (default 60)
+ * warmup   seconds before the measurement starts (default 5)
+ * duration seconds of the measurement (default 20)
+ * seed     seed of the signal generator (default 42)
+ * width    width of the stage (default 1600)
+ * height   height of the stage (default 1000)
+ * report   file the report will be written to (default: stdout only)
+ *
+ * The values are a function of the seed, the gauge index and the tick,
+ * so every run produces the same sequence of values. A producer thread
+ * creates one tick of values for all gauges per period and sets them with
+ * setValueAsync(), the clocks are moved forward by one period per tick.
+ * Frame times are the intervals between the pulses (AnimationTimer).
+ */
+public class DashboardHarness {
+    private static final double NANOS_PER_FRAME = 1_000_000_000.0 / 60;
+
+    private final Map<String, String> config;
+    private final List<Gauge>         gauges;
+    private final List<Clock>         clocks;
+    private final long                seed;
+    private final long[]              offsets;
+    private       long[]              frameTimes;
+    private       int                 frameCount;
+    private       long                lastPulse;
+    private       boolean             recording;
+    private final AtomicLong          ticks;
+    private final AtomicLong          gcCount;
+    private final AtomicLong          gcPauseMillis;
+    private final AtomicLong          gcMaxPauseMillis;
+
+
+    // ******************** Constructors **************************************
+    private DashboardHarness(final Map<String, String> CONFIG) {
+        config           = CONFIG;
+        gauges           = new ArrayList<>();
+        clocks           = new ArrayList<>();
+        seed             = getLong("seed");
+        offsets          = new long[getInt("gauges")];
+        frameTimes       = new long[4096];
+        ticks            = new AtomicLong();
+        gcCount          = new AtomicLong();
+        gcPauseMillis    = new AtomicLong();
+        gcMaxPauseMillis = new AtomicLong();
+        final SplittableRandom RND = new SplittableRandom(seed);
+        for (int i = 0 ; i < offsets.length ; i++) { offsets[i] = RND.nextLong(); }
+    }
+
+
+    // ******************** Methods *******************************************
+    public static void main(final String[] args) throws Exception {
+        final Map<String, String> CONFIG = new LinkedHashMap<>();
+        CONFIG.put("gauges", "200");
+        CONFIG.put("skins", "GAUGE");
+        CONFIG.put("clocks", "0");
+        CONFIG.put("rate", "60");
+        CONFIG.put("warmup", "5");
+        CONFIG.put("duration", "20");
+        CONFIG.put("seed", "42");
+        CONFIG.put("width", "1600");
+        CONFIG.put("height", "1000");
+        CONFIG.put("report", "");
+        for (String arg : args) {
+            final int INDEX = arg.indexOf('=');
+            if (INDEX < 0 || !CONFIG.containsKey(arg.substring(0, INDEX))) { throw new IllegalArgumentException("Unknown argument: " + arg + ", known arguments: " + CONFIG.keySet()); }
+            CONFIG.put(arg.substring(0, INDEX), arg.substring(INDEX + 1));
+        }
+        new DashboardHarness(CONFIG).run();
+        Platform.exit();
+    }
+
+    private void run() throws Exception {
+        FxSupport.startup();
+        final FlowPane PANE  = new FlowPane();
+        final Stage    STAGE = FxSupport.show(PANE, getInt("width"), getInt("height"));
+        FxSupport.runAndWait(() -> buildDashboard(PANE));
+
+        final long[] FX_THREAD = new long[1];
+        FxSupport.runAndWait(() -> FX_THREAD[0] = Thread.currentThread().getId());
+        final AnimationTimer PULSE = new AnimationTimer() {
+            @Override public void handle(final long NOW) { recordPulse(NOW); }
+        };
+        FxSupport.runAndWait(PULSE::start);
+        registerGcListener();
+
+        final long                     PERIOD   = Math.max(1, (long) (1_000_000_000.0 / getDouble("rate")));
+        final ScheduledExecutorService PRODUCER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread THREAD = new Thread(runnable, "DashboardHarness-Producer");
+            THREAD.setDaemon(true);
+            return THREAD;
+        });
+        PRODUCER.scheduleAtFixedRate(() -> tick(PERIOD), 0, PERIOD, TimeUnit.NANOSECONDS);
+
+        TimeUnit.SECONDS.sleep(getLong("warmup"));
+
+        // measurement
+        final com.sun.management.ThreadMXBean THREADS = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        FxSupport.runAndWait(() -> {
+            frameCount = 0;
+            recording  = true;
+        });
+        final long GC_COUNT      = gcCount.get();
+        final long GC_PAUSE      = gcPauseMillis.get();
+        gcMaxPauseMillis.set(0);
+        final long TICKS         = ticks.get();
+        final long FX_CPU        = THREADS.getThreadCpuTime(FX_THREAD[0]);
+        final long FX_ALLOCATED  = THREADS.getThreadAllocatedBytes(FX_THREAD[0]);
+        final long ALLOCATED     = getAllocatedBytes(THREADS);
+        final long START         = System.nanoTime();
+
+        TimeUnit.SECONDS.sleep(getLong("duration"));
+
+        final long ELAPSED       = System.nanoTime() - START;
+        final long FX_CPU_END    = THREADS.getThreadCpuTime(FX_THREAD[0]);
+        final long FX_ALLOC_END  = THREADS.getThreadAllocatedBytes(FX_THREAD[0]);
+        final long ALLOCATED_END = getAllocatedBytes(THREADS);
+        final long TICKS_END     = ticks.get();
+        FxSupport.runAndWait(() -> recording = false);
+        PRODUCER.shutdownNow();
+        FxSupport.runAndWait(PULSE::stop);
+        FxSupport.close(STAGE);
+
+        final long[]       FRAMES = Arrays.copyOf(frameTimes, frameCount);
+        Arrays.sort(FRAMES);
+        final double       SECONDS = ELAPSED / 1e9;
+        final StringWriter REPORT  = new StringWriter();
+        final PrintWriter  OUT     = new PrintWriter(REPORT);
+        OUT.println("Medusa dashboard report");
+        OUT.printf(Locale.US, "java %s, %s %s%n", System.getProperty("java.version"), System.getProperty("os.name"), System.getProperty("os.arch"));
+        OUT.printf(Locale.US, "javafx %s, glass %s, prism %s%n", System.getProperty("javafx.runtime.version"), System.getProperty("glass.platform", "default"), System.getProperty("prism.order", "default"));
+        config.forEach((key, value) -> OUT.printf(Locale.US, "%-10s %s%n", key, value));
+        OUT.println();
+        OUT.printf(Locale.US, "duration           %.1f s%n", SECONDS);
+        OUT.printf(Locale.US, "ticks              %d (%.1f/s, %d values/s)%n", TICKS_END - TICKS, (TICKS_END - TICKS) / SECONDS, (long) ((TICKS_END - TICKS) / SECONDS * gauges.size()));
+        OUT.printf(Locale.US, "frames             %d (%.1f fps)%n", FRAMES.length, FRAMES.length / SECONDS);
+        if (FRAMES.length > 0) {
+            OUT.printf(Locale.US, "frame time p50     %.2f ms%n", percentile(FRAMES, 0.5) / 1e6);
+            OUT.printf(Locale.US, "frame time p90     %.2f ms%n", percentile(FRAMES, 0.9) / 1e6);
+            OUT.printf(Locale.US, "frame time p99     %.2f ms%n", percentile(FRAMES, 0.99) / 1e6);
+            OUT.printf(Locale.US, "frame time max     %.2f ms%n", FRAMES[FRAMES.length - 1] / 1e6);
+            OUT.printf(Locale.US, "frames > 2 frames  %d%n", Arrays.stream(FRAMES).filter(frame -> frame > 2 * NANOS_PER_FRAME).count());
+        }
+        OUT.printf(Locale.US, "fx thread busy     %.1f %%%n", (FX_CPU_END - FX_CPU) * 100.0 / ELAPSED);
+        OUT.printf(Locale.US, "fx thread alloc    %.1f MB/s%n", (FX_ALLOC_END - FX_ALLOCATED) / SECONDS / 1e6);
+        OUT.printf(Locale.US, "total alloc        %.1f MB/s%n", (ALLOCATED_END - ALLOCATED) / SECONDS / 1e6);
+        OUT.printf(Locale.US, "gc count           %d%n", gcCount.get() - GC_COUNT);
+        OUT.printf(Locale.US, "gc pause total     %d ms%n", gcPauseMillis.get() - GC_PAUSE);
+        OUT.printf(Locale.US, "gc pause max       %d ms%n", gcMaxPauseMillis.get());
+        OUT.flush();
+
+        System.out.print(REPORT);
+        if (!config.get("report").isEmpty()) { writeReport(Paths.get(config.get("report")), REPORT.toString()); }
+    }
+
+    private void buildDashboard(final FlowPane PANE) {
+        final String[] SKINS = config.get("skins").split(",");
+        for (int i = 0, n = getInt("gauges") ; i < n ; i++) {
+            gauges.add(GaugeBuilder.create()
+                                   .skinType(SkinType.valueOf(SKINS[i % SKINS.length].trim()))
+                                   .prefSize(100, 100)
+                                   .title("Gauge " + i)
+                                   .unit("kW")
+                                   .minValue(0)
+                                   .maxValue(100)
+                                   .decimals(1)
+                                   .animated(false)
+                                   .build());
+        }
+        final ZonedDateTime START = ZonedDateTime.of(2021, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+        for (int i = 0, n = getInt("clocks") ; i < n ; i++) {
+            final Clock CLOCK = new Clock(ClockSkinType.values()[i % ClockSkinType.values().length], START);
+            CLOCK.setPrefSize(100, 100);
+            clocks.add(CLOCK);
+        }
+        PANE.getChildren().setAll(gauges);
+        PANE.getChildren().addAll(clocks);
+    }
+
+    // called by the producer thread, the values only depend on the seed, the gauge and the tick
+    private void tick(final long PERIOD) {
+        final long TICK = ticks.getAndIncrement();
+        for (int i = 0 ; i < gauges.size() ; i++) { gauges.get(i).setValueAsync(signal(i, TICK)); }
+        if (!clocks.isEmpty()) {
+            final long TIME_MS = ZonedDateTime.of(2021, 1, 1, 12, 0, 0, 0, ZoneOffset.UTC).toInstant().toEpochMilli() + TICK * PERIOD / 1_000_000;
+            Platform.runLater(() -> { for (Clock clock : clocks) { clock.setTimeMs(TIME_MS); } });
+        }
+    }
+
+    // a slow sine with a gauge specific phase plus deterministic noise
+    private double signal(final int GAUGE, final long TICK) {
+        final long   OFFSET = offsets[GAUGE];
+        final double PHASE  = (OFFSET & 0xFFFF) / 65536.0 * 2 * Math.PI;
+        final double NOISE  = (mix(OFFSET + TICK) >>> 11) * 0x1.0p-53 - 0.5;
+        return 50 + 35 * Math.sin(TICK * 0.01 + PHASE) + 10 * NOISE;
+    }
+
+    // SplitMix64 finalizer, a cheap stateless random function
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private void recordPulse(final long NOW) {
+        if (recording && lastPulse > 0) {
+            if (frameCount == frameTimes.length) { frameTimes = Arrays.copyOf(frameTimes, frameCount * 2); }
+            frameTimes[frameCount++] = NOW - lastPulse;
+        }
+        lastPulse = NOW;
+    }
+
+    private void registerGcListener() {
+        final NotificationListener LISTENER = (Notification notification, Object handback) -> {
+            if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) { return; }
+            final long DURATION = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData()).getGcInfo().getDuration();
+            gcCount.incrementAndGet();
+            gcPauseMillis.addAndGet(DURATION);
+            gcMaxPauseMillis.accumulateAndGet(DURATION, Math::max);
+        };
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (gc instanceof NotificationEmitter) { ((NotificationEmitter) gc).addNotificationListener(LISTENER, null, null); }
+        }
+    }
+
+    private static long getAllocatedBytes(final com.sun.management.ThreadMXBean THREADS) {
+        long sum = 0;
+        for (long bytes : THREADS.getThreadAllocatedBytes(THREADS.getAllThreadIds())) { if (bytes > 0) { sum += bytes; } }
+        return sum;
+    }
+
+    private static long percentile(final long[] SORTED, final double P) {
+        return SORTED[Math.min(SORTED.length - 1, (int) Math.ceil(P * SORTED.length) - 1)];
+    }
+
+    private static void writeReport(final Path FILE, final String REPORT) throws IOException {
+        if (null != FILE.getParent()) { Files.createDirectories(FILE.getParent()); }
+        Files.writeString(FILE, REPORT);
+        System.out.println("Report written to " + FILE.toAbsolutePath());
+    }
+
+    private int getInt(final String KEY) { return Integer.parseInt(config.get(KEY).trim()); }
+    private long getLong(final String KEY) { return Long.parseLong(config.get(KEY).trim()); }
+    private double getDouble(final String KEY) { return Double.parseDouble(config.get(KEY).trim()); }
+}
@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.benchmark;
+
+import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.Gauge.SkinType;
+import javafx.application.Platform;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the creation of gauges that are never added to a scene. The
+ * skin is created on first show (see Gauge.createDefaultSkin()), so these
+ * gauges have no skin and only the model is measured. The retained heap
+ * per gauge can be printed with the main method (uses JOL), e.g.
+ * gradlew footprint
+ * which creates {@value #COUNT} gauges with default settings and the same
+ * number of gauges with a few customized style properties.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FootprintBenchmark {
+    static final int COUNT = 10_000;
+    static final int BATCH = 100;
+
+
+    @Setup public void setup() { FxSupport.startup(); }
+
+
+    @Benchmark @OperationsPerInvocation(BATCH)
+    public List<Gauge> createGauges() {
+        final List<Gauge> GAUGES = new ArrayList<>(BATCH);
+        FxSupport.runAndWait(() -> {
+            for (int i = 0 ; i < BATCH ; i++) { GAUGES.add(new Gauge(SkinType.GAUGE)); }
+        });
+        return GAUGES;
+    }
+
+
+    public static void main(final String[] args) {
+        FxSupport.startup();
+        final List<Gauge> DEFAULT_GAUGES    = new ArrayList<>(COUNT);
+        final List<Gauge> CUSTOMIZED_GAUGES = new ArrayList<>(COUNT);
+        FxSupport.runAndWait(() -> {
+            for (int i = 0 ; i < COUNT ; i++) {
+                DEFAULT_GAUGES.add(new Gauge(SkinType.GAUGE));
+
+                Gauge gauge = new Gauge(SkinType.GAUGE);
+                gauge.setMajorTickMarkLengthFactor(0.5);
+                gauge.setLcdVisible(true);
+                gauge.setInteractive(true);
+                CUSTOMIZED_GAUGES.add(gauge);
+            }
+        });
+        print("default", DEFAULT_GAUGES);
+        print("customized", CUSTOMIZED_GAUGES);
+        Platform.exit();
+    }
+
+    private static void print(final String NAME, final List<Gauge> GAUGES) {
+        // objects that are shared between the gauges (e.g. fonts, colors, default style blocks) are counted once
+        final long SIZE = GraphLayout.parseInstance(GAUGES.toArray()).totalSize();
+        System.out.printf("%-10s gauges: %,d, total: %,d bytes, per gauge: %,d bytes%n", NAME, GAUGES.size(), SIZE, SIZE / GAUGES.size());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.benchmark;
+
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+
+/**
+ * Starts the JavaFX toolkit for the benchmarks. If no glass platform
+ * was given on the command line the headless Monocle platform with the
+ * software pipeline will be used so the benchmarks run without display.
+ */
+final class FxSupport {
+    private static volatile boolean started;
+
+
+    // ******************** Constructors **************************************
+    private FxSupport() {}
+
+
+    // ******************** Methods *******************************************
+    static synchronized void startup() {
+        if (started) { return; }
+        if (null == System.getProperty("glass.platform")) {
+            System.setProperty("glass.platform", "Monocle");
+            System.setProperty("monocle.platform", "Headless");
+            System.setProperty("prism.order", "sw");
+            System.setProperty("prism.text", "t2k");
+            System.setProperty("java.awt.headless", "true");
+        }
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            Platform.startup(latch::countDown);
+        } catch (IllegalStateException e) {
+            latch.countDown(); // toolkit already running
+        }
+        Platform.setImplicitExit(false);
+        await(latch);
+        started = true;
+    }
+
+    static void runAndWait(final Runnable RUNNABLE) {
+        if (Platform.isFxApplicationThread()) {
+            RUNNABLE.run();
+            return;
+        }
+        final CountDownLatch             LATCH = new CountDownLatch(1);
+        final AtomicReference<Throwable> ERROR = new AtomicReference<>();
+        Platform.runLater(() -> {
+            try {
+                RUNNABLE.run();
+            } catch (Throwable t) {
+                ERROR.set(t);
+            } finally {
+                LATCH.countDown();
+            }
+        });
+        await(LATCH);
+        if (null != ERROR.get()) { throw new IllegalStateException(ERROR.get()); }
+    }
+
+    static Stage show(final Node NODE, final double WIDTH, final double HEIGHT) {
+        final AtomicReference<Stage> STAGE = new AtomicReference<>();
+        runAndWait(() -> {
+            Stage stage = new Stage();
+            stage.setScene(new Scene(new StackPane(NODE), WIDTH, HEIGHT));
+            stage.show();
+            STAGE.set(stage);
+        });
+        return STAGE.get();
+    }
+
+    static void close(final Stage STAGE) {
+        if (null == STAGE) { return; }
+        runAndWait(STAGE::close);
+    }
+
+    private static void await(final CountDownLatch LATCH) {
+        try {
+            LATCH.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
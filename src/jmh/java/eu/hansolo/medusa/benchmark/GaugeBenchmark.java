@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.benchmark;
+
+import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.Gauge.SkinType;
+import eu.hansolo.medusa.events.UpdateEvent;
+import javafx.beans.value.ChangeListener;
+import javafx.stage.Stage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures Gauge.setValue() and Gauge.fireUpdateEvent() with a varying
+ * number of registered listeners. All calls are made on the FX thread
+ * in batches of {@value #BATCH} operations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GaugeBenchmark {
+    static final int BATCH = 1000;
+
+    @Param({ "0", "1", "10", "100" })
+    public int listeners;
+
+    private Gauge       gauge;
+    private Stage       stage;
+    private UpdateEvent event;
+    private double      value;
+    private double      sink;
+
+
+    @Setup public void setup() {
+        FxSupport.startup();
+        FxSupport.runAndWait(() -> {
+            gauge = new Gauge(SkinType.GAUGE);
+            gauge.setAnimated(false);
+            ChangeListener<Number> changeListener = (o, ov, nv) -> sink += nv.doubleValue();
+            for (int i = 0 ; i < listeners ; i++) {
+                gauge.valueProperty().addListener(changeListener);
+                gauge.addUpdateEventListener(e -> sink++);
+            }
+        });
+        event = new UpdateEvent(gauge, UpdateEvent.EventType.VALUE);
+        stage = FxSupport.show(gauge, 250, 250);
+    }
+
+    @TearDown public void tearDown() { FxSupport.close(stage); }
+
+
+    @Benchmark @OperationsPerInvocation(BATCH)
+    public double setValue() {
+        FxSupport.runAndWait(() -> {
+            for (int i = 0 ; i < BATCH ; i++) {
+                value = value > 99 ? 0 : value + 0.7;
+                gauge.setValue(value);
+            }
+        });
+        return sink;
+    }
+
+    @Benchmark @OperationsPerInvocation(BATCH)
+    public double fireUpdateEvent() {
+        FxSupport.runAndWait(() -> {
+            for (int i = 0 ; i < BATCH ; i++) { gauge.fireUpdateEvent(event); }
+        });
+        return sink;
+    }
+}
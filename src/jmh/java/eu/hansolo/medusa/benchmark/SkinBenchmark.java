@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.benchmark;
+
+import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.Gauge.SkinType;
+import javafx.stage.Stage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the value update path (currentValue listeners and the
+ * resulting redraw of the dynamic parts) of every gauge skin on a
+ * showing stage with animation switched off.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SkinBenchmark {
+    static final int BATCH = 100;
+
+    @Param({ "AMP", "PLAIN_AMP", "BULLET_CHART", "DASHBOARD", "FLAT", "GAUGE", "INDICATOR", "KPI",
+             "MODERN", "SIMPLE", "SLIM", "SPACE_X", "QUARTER", "HORIZONTAL", "VERTICAL",
+             "LCD", "TINY", "BATTERY", "LEVEL", "LINEAR", "DIGITAL", "SIMPLE_DIGITAL", "SECTION",
+             "BAR", "WHITE", "CHARGE", "SIMPLE_SECTION", "TILE_KPI", "TILE_TEXT_KPI", "TILE_SPARK_LINE",
+             "NASA" })
+    public String skinType;
+
+    private Gauge  gauge;
+    private Stage  stage;
+    private double value;
+
+
+    @Setup public void setup() {
+        FxSupport.startup();
+        FxSupport.runAndWait(() -> {
+            gauge = new Gauge(SkinType.valueOf(skinType));
+            gauge.setAnimated(false);
+        });
+        stage = FxSupport.show(gauge, 250, 250);
+    }
+
+    @TearDown public void tearDown() { FxSupport.close(stage); }
+
+
+    @Benchmark @OperationsPerInvocation(BATCH)
+    public double valueUpdate() {
+        FxSupport.runAndWait(() -> {
+            double min   = gauge.getMinValue();
+            double range = gauge.getRange();
+            for (int i = 0 ; i < BATCH ; i++) {
+                value = value > 0.95 ? 0.05 : value + 0.0173;
+                gauge.setValue(min + value * range);
+            }
+        });
+        return gauge.getCurrentValue();
+    }
+}
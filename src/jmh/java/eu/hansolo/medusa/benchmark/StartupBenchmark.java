@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.benchmark;
+
+import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.Gauge.SkinType;
+import eu.hansolo.medusa.GaugeBuilder;
+import eu.hansolo.medusa.Section;
+import javafx.scene.layout.TilePane;
+import javafx.scene.paint.Color;
+import javafx.stage.Stage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the startup of a dashboard with {@value #COUNT} gauges that are
+ * configured with the GaugeBuilder. buildGauges only creates and
+ * configures the gauges (no skin will be created), buildAndShowGauges
+ * also adds them to a showing stage and runs the first CSS and layout
+ * pass in which the skins are created. switchSkinTypes switches all
+ * gauges to another skin type and back, which reuses the cached skins.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class StartupBenchmark {
+    static final int COUNT = 2_000;
+
+    private TilePane    pane;
+    private Stage       stage;
+    private List<Gauge> shownGauges;
+
+
+    @Setup(Level.Trial) public void setup() {
+        FxSupport.startup();
+        FxSupport.runAndWait(() -> pane = new TilePane());
+        stage = FxSupport.show(pane, 1600, 1000);
+    }
+
+    @Setup(Level.Iteration) public void prepare() {
+        FxSupport.runAndWait(() -> {
+            pane.getChildren().clear();
+            shownGauges = buildGauges();
+            pane.getChildren().setAll(shownGauges);
+            pane.applyCss();
+            pane.layout();
+        });
+    }
+
+    @TearDown(Level.Trial) public void tearDown() { FxSupport.close(stage); }
+
+
+    @Benchmark
+    public List<Gauge> buildGauges() {
+        final List<Gauge> GAUGES = new ArrayList<>(COUNT);
+        FxSupport.runAndWait(() -> {
+            for (int i = 0 ; i < COUNT ; i++) { GAUGES.add(createGauge(i)); }
+        });
+        return GAUGES;
+    }
+
+    @Benchmark
+    public List<Gauge> buildAndShowGauges() {
+        final List<Gauge> GAUGES = new ArrayList<>(COUNT);
+        FxSupport.runAndWait(() -> {
+            for (int i = 0 ; i < COUNT ; i++) { GAUGES.add(createGauge(i)); }
+            pane.getChildren().setAll(GAUGES);
+            pane.applyCss();
+            pane.layout();
+        });
+        return GAUGES;
+    }
+
+    @Benchmark
+    public List<Gauge> switchSkinTypes() {
+        FxSupport.runAndWait(() -> {
+            for (Gauge gauge : shownGauges) { gauge.setSkinType(SkinType.SIMPLE); }
+            pane.layout();
+            for (Gauge gauge : shownGauges) { gauge.setSkinType(SkinType.GAUGE); }
+            pane.layout();
+        });
+        return shownGauges;
+    }
+
+
+    private static Gauge createGauge(final int INDEX) {
+        return GaugeBuilder.create()
+                           .skinType(SkinType.GAUGE)
+                           .prefSize(40, 40)
+                           .title("Gauge " + INDEX)
+                           .unit("kW")
+                           .minValue(-20)
+                           .maxValue(80)
+                           .decimals(1)
+                           .value(INDEX % 100 - 20)
+                           .animated(false)
+                           .sectionsVisible(true)
+                           .sections(new Section(40, 60, Color.ORANGE), new Section(60, 80, Color.RED))
+                           .majorTickMarkColor(Color.DARKGRAY)
+                           .needleColor(Color.CRIMSON)
+                           .build();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.benchmark;
+
+import eu.hansolo.medusa.Fonts;
+import eu.hansolo.medusa.tools.Helper;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Compares Helper.adjustTextSize() with the former iteration in 0.1
+ * steps. A {@value #FONT_SIZE}pt text has to fit into the given fraction
+ * of its width. TextFitCheck checks that both return the same font size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextFitBenchmark {
+    static final double   FONT_SIZE = 60;
+    static final String[] TEXTS     = { "42.5", "-1234.56", "Temperature", "Wind speed (km/h)" };
+
+    @Param({ "0.9", "0.5", "0.2" })
+    public double fraction;
+
+    private Text   text;
+    private double maxWidth;
+
+
+    @Setup public void setup() {
+        FxSupport.startup();
+        FxSupport.runAndWait(() -> {
+            text = new Text("Temperature");
+            text.setFont(Fonts.robotoRegular(FONT_SIZE));
+            maxWidth = text.getLayoutBounds().getWidth() * fraction;
+        });
+    }
+
+
+    @Benchmark public double closedForm() {
+        text.setFont(Fonts.robotoRegular(FONT_SIZE));
+        Helper.adjustTextSize(text, maxWidth, FONT_SIZE);
+        return text.getFont().getSize();
+    }
+
+    @Benchmark public double iterative() {
+        text.setFont(Fonts.robotoRegular(FONT_SIZE));
+        adjustTextSizeIteratively(text, maxWidth, FONT_SIZE);
+        return text.getFont().getSize();
+    }
+
+
+    // The former implementation of Helper.adjustTextSize()
+    static void adjustTextSizeIteratively(final Text TEXT, final double MAX_WIDTH, final double FONT_SIZE) {
+        final String FONT_NAME          = TEXT.getFont().getName();
+        double       adjustableFontSize = FONT_SIZE;
+        while (TEXT.getLayoutBounds().getWidth() > MAX_WIDTH && adjustableFontSize > Helper.MIN_FONT_SIZE) {
+            adjustableFontSize -= 0.1;
+            TEXT.setFont(new Font(FONT_NAME, adjustableFontSize));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.benchmark;
+
+import eu.hansolo.medusa.Fonts;
+import eu.hansolo.medusa.tools.Helper;
+import javafx.application.Platform;
+import javafx.scene.text.Text;
+
+
+/**
+ * Checks that Helper.adjustTextSize() returns the same font size as the
+ * former iteration in 0.1 steps (within one step) for a range of texts
+ * and widths. Fails with an IllegalStateException (and a non zero exit
+ * code) otherwise.
+ * Usage: gradlew textFitCheck (also part of gradlew check)
+ */
+public class TextFitCheck {
+    static final double MAX_DIFFERENCE = 0.1 + 1e-6;
+
+
+    public static void main(final String[] args) {
+        FxSupport.startup();
+        try {
+            FxSupport.runAndWait(() -> {
+                final Text TEXT    = new Text();
+                double     maxDiff = 0;
+                for (String string : TextFitBenchmark.TEXTS) {
+                    TEXT.setText(string);
+                    for (double f = 0.05 ; f <= 1.0 ; f += 0.05) {
+                        TEXT.setFont(Fonts.robotoRegular(TextFitBenchmark.FONT_SIZE));
+                        final double MAX_WIDTH = TEXT.getLayoutBounds().getWidth() * f;
+                        TextFitBenchmark.adjustTextSizeIteratively(TEXT, MAX_WIDTH, TextFitBenchmark.FONT_SIZE);
+                        final double EXPECTED = TEXT.getFont().getSize();
+
+                        TEXT.setFont(Fonts.robotoRegular(TextFitBenchmark.FONT_SIZE));
+                        Helper.adjustTextSize(TEXT, MAX_WIDTH, TextFitBenchmark.FONT_SIZE);
+                        maxDiff = Math.max(maxDiff, Math.abs(TEXT.getFont().getSize() - EXPECTED));
+                    }
+                }
+                System.out.printf("max difference to the iterative font size: %.3f pt%n", maxDiff);
+                if (maxDiff > MAX_DIFFERENCE) { throw new IllegalStateException("Closed form text fitting differs from the iterative result"); }
+            });
+        } finally {
+            Platform.exit();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.benchmark;
+
+import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.Gauge.SkinType;
+import eu.hansolo.medusa.tools.Helper;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.stage.Stage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures Helper.drawRadialTickMarks() for a standard gauge on a
+ * canvas that is part of a showing stage.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TickMarkBenchmark {
+    static final int    BATCH = 10;
+    static final double SIZE  = 400;
+
+    private Gauge           gauge;
+    private Canvas          canvas;
+    private GraphicsContext ctx;
+    private Stage           stage;
+
+
+    @Setup public void setup() {
+        FxSupport.startup();
+        FxSupport.runAndWait(() -> {
+            gauge  = new Gauge(SkinType.GAUGE);
+            canvas = new Canvas(SIZE, SIZE);
+            ctx    = canvas.getGraphicsContext2D();
+        });
+        stage = FxSupport.show(canvas, SIZE, SIZE);
+    }
+
+    @TearDown public void tearDown() { FxSupport.close(stage); }
+
+
+    @Benchmark @OperationsPerInvocation(BATCH)
+    public void drawRadialTickMarks() {
+        FxSupport.runAndWait(() -> {
+            for (int i = 0 ; i < BATCH ; i++) {
+                ctx.clearRect(0, 0, SIZE, SIZE);
+                Helper.drawRadialTickMarks(gauge, ctx, gauge.getMinValue(), gauge.getMaxValue(), gauge.getStartAngle(),
+                                           gauge.getAngleRange(), gauge.getAngleStep(), SIZE * 0.5, SIZE * 0.5, SIZE);
+            }
+        });
+    }
+}
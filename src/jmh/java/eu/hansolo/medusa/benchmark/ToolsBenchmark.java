@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.benchmark;
+
+import eu.hansolo.medusa.Gauge.ScaleDirection;
+import eu.hansolo.medusa.tools.ConicalGradient;
+import eu.hansolo.medusa.tools.GradientLookup;
+import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.MovingAverage;
+import eu.hansolo.medusa.tools.Statistics;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Stop;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the helper classes in the tools package.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ToolsBenchmark {
+    private GradientLookup  gradientLookup;
+    private ConicalGradient conicalGradient;
+    private MovingAverage   movingAverage;
+    private List<Double>    data;
+    private double          value;
+
+
+    @Setup public void setup() {
+        FxSupport.startup();
+        Stop[] stops = { new Stop(0.0, Color.LIME), new Stop(0.5, Color.YELLOW), new Stop(0.75, Color.ORANGE), new Stop(1.0, Color.RED) };
+        gradientLookup  = new GradientLookup(stops);
+        conicalGradient = new ConicalGradient(100, 100, ScaleDirection.CLOCKWISE, stops);
+        movingAverage   = new MovingAverage(100);
+        data            = new ArrayList<>(1000);
+        Random random = new Random(42);
+        for (int i = 0 ; i < 1000 ; i++) { data.add(random.nextDouble() * 100); }
+    }
+
+    private double nextValue() {
+        value = value > 99 ? 0 : value + 0.37;
+        return value;
+    }
+
+
+    @Benchmark public String formatNumber() { return Helper.formatNumber(Locale.US, "%.2f", 2, nextValue()); }
+
+    @Benchmark public Color gradientLookupGetColorAt() { return gradientLookup.getColorAt(nextValue() / 100.0); }
+
+    @Benchmark public Image conicalGradientGetImage() { return conicalGradient.getImage(200, 200); }
+
+    @Benchmark public double movingAverage() {
+        movingAverage.addValue(nextValue());
+        return movingAverage.getAverage();
+    }
+
+    @Benchmark public double statisticsMean() { return Statistics.getMean(data); }
+
+    @Benchmark public double statisticsStdDev() { return Statistics.getStdDev(data); }
+
+    @Benchmark public double statisticsMedian() { return Statistics.getMedian(new ArrayList<>(data)); }
+}
@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.benchmark;
+
+import eu.hansolo.medusa.tools.Trig;
+
+
+/**
+ * Checks the accuracy of the Trig lookup tables against the Math
+ * functions. For sin/cos (degrees and radians) and atan2 it measures the
+ * maximum angular error in degrees and the maximum error in pixels at
+ * the needle tip of a {@value #SIZE}px gauge. Fails with an
+ * IllegalStateException (and a non zero exit code) if an error would be
+ * visible, i.e. more than {@value #MAX_PIXEL_ERROR}px or
+ * {@value #MAX_ANGULAR_ERROR} deg.
+ * Usage: gradlew trigAccuracy (also part of gradlew check), the
+ * resolution can be given with -Dmedusa.trigResolution=n
+ */
+public class TrigAccuracyCheck {
+    static final double SIZE              = 1024;
+    static final double MAX_PIXEL_ERROR   = 0.01;
+    static final double MAX_ANGULAR_ERROR = 0.01;
+
+
+    public static void main(final String[] args) {
+        final double RADIUS = SIZE * 0.5;
+
+        // sin/cos: position of the needle tip and its angle
+        double sinCosPixelErr = 0;
+        double sinCosAngleErr = 0;
+        for (double angle = -720 ; angle <= 720 ; angle += 0.001) {
+            final double RAD       = Math.toRadians(angle);
+            final double EXACT_SIN = Math.sin(RAD);
+            final double EXACT_COS = Math.cos(RAD);
+            final double[][] RESULTS = {
+                { Trig.sinDeg(angle), Trig.cosDeg(angle) },
+                { Trig.sin(RAD), Trig.cos(RAD) }
+            };
+            for (double[] result : RESULTS) {
+                sinCosPixelErr = Math.max(sinCosPixelErr, Math.hypot(result[0] - EXACT_SIN, result[1] - EXACT_COS) * RADIUS);
+                sinCosAngleErr = Math.max(sinCosAngleErr, angleDistance(Math.toDegrees(Math.atan2(result[0], result[1])), angle));
+            }
+        }
+
+        // atan2: angle of a point and the resulting offset of the needle tip
+        double atanPixelErr = 0;
+        double atanAngleErr = 0;
+        for (int y = -512 ; y <= 512 ; y++) {
+            for (int x = -512 ; x <= 512 ; x++) {
+                if (0 == x && 0 == y) { continue; }
+                final double ERR = angleDistance(Trig.atan2Deg(y, x), Math.toDegrees(Math.atan2(y, x)));
+                atanAngleErr = Math.max(atanAngleErr, ERR);
+                atanPixelErr = Math.max(atanPixelErr, Math.toRadians(ERR) * RADIUS);
+            }
+        }
+
+        System.out.printf("resolution: %d entries/deg, %.0fpx gauge%n", Trig.getResolution(), SIZE);
+        System.out.printf("sin/cos: max error %.2e px, %.2e deg%n", sinCosPixelErr, sinCosAngleErr);
+        System.out.printf("atan2  : max error %.2e px, %.2e deg%n", atanPixelErr, atanAngleErr);
+        if (sinCosPixelErr > MAX_PIXEL_ERROR || atanPixelErr > MAX_PIXEL_ERROR) {
+            throw new IllegalStateException("Lookup tables are not accurate enough, max pixel error is " + MAX_PIXEL_ERROR + "px");
+        }
+        if (sinCosAngleErr > MAX_ANGULAR_ERROR || atanAngleErr > MAX_ANGULAR_ERROR) {
+            throw new IllegalStateException("Lookup tables are not accurate enough, max angular error is " + MAX_ANGULAR_ERROR + " deg");
+        }
+    }
+
+    // distance of two angles in degrees, taking the wrap around at 360 deg into account
+    private static double angleDistance(final double A, final double B) {
+        final double DIFF = Math.abs(A - B) % 360;
+        return Math.min(DIFF, 360 - DIFF);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.benchmark;
+
+import eu.hansolo.medusa.tools.Trig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Compares the speed of the Trig lookup tables with the Math functions.
+ * The accuracy of the tables is checked by TrigAccuracyCheck.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrigBenchmark {
+    static final int    COUNT = 1024;
+    static final double SIZE  = 1024;
+
+    private double[] angles;
+    private double[] xs;
+    private double[] ys;
+
+
+    @Setup public void setup() {
+        Random random = new Random(42);
+        angles = new double[COUNT];
+        xs     = new double[COUNT];
+        ys     = new double[COUNT];
+        for (int i = 0 ; i < COUNT ; i++) {
+            angles[i] = random.nextDouble() * 720 - 360;
+            xs[i]     = random.nextDouble() * SIZE - SIZE * 0.5;
+            ys[i]     = random.nextDouble() * SIZE - SIZE * 0.5;
+        }
+    }
+
+
+    @Benchmark @OperationsPerInvocation(COUNT)
+    public double mathSinCos() {
+        double sum = 0;
+        for (int i = 0 ; i < COUNT ; i++) { sum += Math.sin(Math.toRadians(angles[i])) + Math.cos(Math.toRadians(angles[i])); }
+        return sum;
+    }
+
+    @Benchmark @OperationsPerInvocation(COUNT)
+    public double tableSinCos() {
+        double sum = 0;
+        for (int i = 0 ; i < COUNT ; i++) { sum += Trig.sinDeg(angles[i]) + Trig.cosDeg(angles[i]); }
+        return sum;
+    }
+
+    @Benchmark @OperationsPerInvocation(COUNT)
+    public double mathAcos() {
+        double sum = 0;
+        for (int i = 0 ; i < COUNT ; i++) {
+            double distance = Math.sqrt(xs[i] * xs[i] + ys[i] * ys[i]);
+            sum += Math.toDegrees(Math.acos(xs[i] / distance));
+        }
+        return sum;
+    }
+
+    @Benchmark @OperationsPerInvocation(COUNT)
+    public double tableAtan2() {
+        double sum = 0;
+        for (int i = 0 ; i < COUNT ; i++) { sum += Math.abs(Trig.atan2Deg(ys[i], xs[i])); }
+        return sum;
+    }
+}
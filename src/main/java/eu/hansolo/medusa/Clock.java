@@ -27,7 +27,10 @@ import eu.hansolo.medusa.events.UpdateEvent.EventType;
 import eu.hansolo.medusa.events.UpdateEventListener;
 import eu.hansolo.medusa.skins.*;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.Metrics;
+import eu.hansolo.medusa.tools.PublisherBinding;
 import eu.hansolo.medusa.tools.TimeSectionComparator;
+import javafx.animation.Animation.Status;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
 import javafx.animation.Timeline;
@@ -65,6 +68,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
@@ -193,6 +197,8 @@ public class Clock extends Control {
     private BooleanProperty                   lcdCrystalEnabled;
     private boolean                           _shadowsEnabled;
     private BooleanProperty                   shadowsEnabled;
+    private RenderingProfile                  _renderingProfile;
+    private ObjectProperty<RenderingProfile>  renderingProfile;
     private LcdFont                           _lcdFont;
     private ObjectProperty<LcdFont>           lcdFont;
     private Locale                            _locale;
@@ -206,6 +212,8 @@ public class Clock extends Control {
     private BooleanProperty                   customFontEnabled;
     private Font                              _customFont;
     private ObjectProperty<Font>              customFont;
+    private Metrics                           metrics;
+    private PublisherBinding<Instant, Clock>  publisherBinding;
 
 
     // ******************** Constructors **************************************
@@ -292,6 +300,7 @@ public class Clock extends Control {
     private void init(final ZonedDateTime TIME) {
         time                    = new ObjectPropertyBase<ZonedDateTime>(TIME) {
             @Override protected void invalidated() {
+                if (Metrics.isEnabled()) { getMetrics().increment(Metrics.Type.VALUE_SET); }
                 if (!isRunning() && isAnimated()) {
                     long animationDuration = getAnimationDuration();
                     timeline.stop();
@@ -300,6 +309,7 @@ public class Clock extends Control {
                     timeline.getKeyFrames().setAll(KEY_FRAME);
                     timeline.setOnFinished(e -> fireUpdateEvent(FINISHED_EVENT));
                     timeline.play();
+                    if (Metrics.isEnabled()) { getMetrics().increment(Metrics.Type.ANIMATION_START); }
                 } else {
                     currentTime.set(TIME.toEpochSecond());
                     fireUpdateEvent(FINISHED_EVENT);
@@ -309,7 +319,9 @@ public class Clock extends Control {
             @Override public String getName() { return "time"; }
         };
         currentTime             = new LongPropertyBase(time.get().toEpochSecond()) {
-            @Override protected void invalidated() {}
+            @Override protected void invalidated() {
+                if (Metrics.isEnabled() && null != timeline && Status.RUNNING == timeline.getStatus()) { getMetrics().increment(Metrics.Type.ANIMATION_FRAME); }
+            }
             @Override public Object getBean() { return Clock.this; }
             @Override public String getName() { return "currentTime"; }
         };
@@ -362,6 +374,7 @@ public class Clock extends Control {
         alarmsToRemove          = new ArrayList<>();
         _lcdCrystalEnabled      = false;
         _shadowsEnabled         = false;
+        _renderingProfile       = RenderingProfile.getDefault();
         _lcdFont                = LcdFont.DIGITAL_BOLD;
         _locale                 = Locale.US;
         _tickLabelLocation      = TickLabelLocation.INSIDE;
@@ -438,6 +451,30 @@ public class Clock extends Control {
     }
     public ObjectProperty<ZonedDateTime> timeProperty() { return time; }
 
+    /**
+     * Subscribes the clock to the given time source. At most one time per
+     * frame will be requested from the publisher and applied with
+     * setTimeMs() on the FX application thread, times that arrive in
+     * between will be dropped (latest wins). To show the published time
+     * the clock should not be running. An existing binding will be
+     * cancelled. The subscription will be cancelled by unbind(), stop()
+     * or when the clock is garbage collected.
+     * @param PUBLISHER
+     */
+    public void bind(final Flow.Publisher<? extends Instant> PUBLISHER) {
+        unbind();
+        publisherBinding = new PublisherBinding<>(Clock.this, instant -> instant.toEpochMilli(), (clock, epochMilli) -> clock.setTimeMs((long) epochMilli));
+        PUBLISHER.subscribe(publisherBinding);
+    }
+    /**
+     * Cancels the subscription to the time source that was bound with bind().
+     */
+    public void unbind() {
+        if (null == publisherBinding) { return; }
+        publisherBinding.cancel();
+        publisherBinding = null;
+    }
+
     /**
      * Returns the current time in epoch seconds
      * @return the current time in epoch seconds
@@ -1834,6 +1871,44 @@ public class Clock extends Control {
         return shadowsEnabled;
     }
 
+    /**
+     * Returns the rendering profile of the clock. In PERFORMANCE mode
+     * the skins will not apply effects to nodes that change with the
+     * time and render effects on static nodes into cached bitmaps.
+     *
+     * @return the rendering profile of the clock
+     */
+    public RenderingProfile getRenderingProfile() { return null == renderingProfile ? _renderingProfile : renderingProfile.get(); }
+    /**
+     * Defines the rendering profile of the clock. In PERFORMANCE mode
+     * the skins will not apply effects to nodes that change with the
+     * time and render effects on static nodes into cached bitmaps.
+     * The default is taken from RenderingProfile.getDefault().
+     *
+     * @param PROFILE
+     */
+    public void setRenderingProfile(final RenderingProfile PROFILE) {
+        if (null == renderingProfile) {
+            _renderingProfile = null == PROFILE ? RenderingProfile.QUALITY : PROFILE;
+            fireUpdateEvent(REDRAW_EVENT);
+        } else {
+            renderingProfile.set(PROFILE);
+        }
+    }
+    public ObjectProperty<RenderingProfile> renderingProfileProperty() {
+        if (null == renderingProfile) {
+            renderingProfile = new ObjectPropertyBase<RenderingProfile>(_renderingProfile) {
+                @Override protected void invalidated() {
+                    if (null == get()) { set(RenderingProfile.QUALITY); }
+                    fireUpdateEvent(REDRAW_EVENT);
+                }
+                @Override public Object getBean() { return Clock.this; }
+                @Override public String getName() { return "renderingProfile"; }
+            };
+        }
+        return renderingProfile;
+    }
+
     /**
      * Returns the font that will be used to visualize the LCD
      * if the clock has a LCD display or for the LcdClockSkin.
@@ -2182,12 +2257,24 @@ public class Clock extends Control {
      * JavaFX on mobile devices when the device goes to sleep mode.
      */
     public void stop() {
+        unbind();
         if (null != periodicTickTask) { stopTask(periodicTickTask); }
         if (null != periodicTickExecutorService) { periodicTickExecutorService.shutdownNow(); }
     }
 
     private void createShutdownHook() { Runtime.getRuntime().addShutdownHook(new Thread(() -> stop())); }
 
+    /**
+     * Returns the runtime metrics of this clock. The metrics will only be
+     * recorded if Metrics.isEnabled() returns true.
+     *
+     * @return the runtime metrics of this clock
+     */
+    public Metrics getMetrics() {
+        if (null == metrics) { metrics = new Metrics(Clock.this); }
+        return metrics;
+    }
+
 
     // ******************** Style related *************************************
     @Override protected Skin createDefaultSkin() {
@@ -2393,8 +2480,10 @@ public class Clock extends Control {
     public void removeUpdateEventListener(final UpdateEventListener LISTENER) { if (listenerList.contains(LISTENER)) listenerList.remove(LISTENER); }
 
     public void fireUpdateEvent(final UpdateEvent EVENT) {
-        int listSize = listenerList.size();
+        final long START    = Metrics.start();
+        int        listSize = listenerList.size();
         for (int i = 0 ; i < listSize ; i++) { listenerList.get(i).onUpdateEvent(EVENT); }
+        if (0 != START) { getMetrics().record(Metrics.Type.UPDATE_DISPATCH, START); }
     }
 
 
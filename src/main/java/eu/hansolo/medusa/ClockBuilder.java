@@ -319,6 +319,11 @@ public class ClockBuilder <B extends ClockBuilder<B>> {
         return (B)this;
     }
 
+    public final B renderingProfile(final RenderingProfile PROFILE) {
+        properties.put("renderingProfile", new SimpleObjectProperty<>(PROFILE));
+        return (B)this;
+    }
+
     public final B lcdFont(final LcdFont FONT) {
         properties.put("lcdFont", new SimpleObjectProperty<>(FONT));
         return (B)this;
@@ -711,6 +716,8 @@ public class ClockBuilder <B extends ClockBuilder<B>> {
                 CONTROL.setLcdCrystalEnabled(((BooleanProperty) properties.get(key)).get());
             } else if ("shadowsEnabled".equals(key)) {
                 CONTROL.setShadowsEnabled(((BooleanProperty) properties.get(key)).get());
+            } else if ("renderingProfile".equals(key)) {
+                CONTROL.setRenderingProfile(((ObjectProperty<RenderingProfile>) properties.get(key)).get());
             } else if ("lcdFont".equals(key)) {
                 CONTROL.setLcdFont(((ObjectProperty<LcdFont>) properties.get(key)).get());
             } else if ("locale".equals(key)) {
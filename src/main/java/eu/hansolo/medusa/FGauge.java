@@ -20,7 +20,6 @@ package eu.hansolo.medusa;
 import eu.hansolo.medusa.Gauge.SkinType;
 import eu.hansolo.medusa.GaugeDesign.GaugeBackground;
 import eu.hansolo.medusa.skins.GaugeSkin;
-import javafx.scene.control.Skin;
 import javafx.scene.effect.BlurType;
 import javafx.scene.effect.InnerShadow;
 import javafx.scene.layout.Region;
@@ -72,9 +71,8 @@ public class FGauge extends Region {
         gaugeDesign     = DESIGN;
         gaugeBackground = BACKGROUND;
 
-        Skin skin = gauge.getSkin();
-
-        if (null == skin) {
+        // the skin of the gauge will be created when it is shown for the first time
+        if (null == gauge.getSkin() && null == gauge.getSkinType()) {
             throw new RuntimeException("Please use a valid Skin.");
         }
 
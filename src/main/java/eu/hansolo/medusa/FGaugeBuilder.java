@@ -17,6 +17,7 @@
  */
 package eu.hansolo.medusa;
 
+import eu.hansolo.medusa.Gauge.SkinType;
 import eu.hansolo.medusa.GaugeDesign.GaugeBackground;
 import eu.hansolo.medusa.skins.GaugeSkin;
 import javafx.beans.property.BooleanProperty;
@@ -141,7 +142,7 @@ public class FGaugeBuilder<B extends FGaugeBuilder<B>> {
         GaugeBackground background = null == properties.get("gaugeBackground") ? GaugeBackground.DARK_GRAY : ((ObjectProperty<GaugeBackground>) properties.get("gaugeBackground")).get();
 
         Skin skin = gauge.getSkin();
-        if (null != skin && gauge.getSkin().getClass() != GaugeSkin.class) {
+        if (null == skin ? SkinType.GAUGE != gauge.getSkinType() : skin.getClass() != GaugeSkin.class) {
             throw new RuntimeException("Please change Skin to GaugeSkin.");
         }
 
@@ -17,21 +17,31 @@
  */
 package eu.hansolo.medusa;
 
+import eu.hansolo.medusa.events.CrossingEvent;
+import eu.hansolo.medusa.events.CrossingEventListener;
 import eu.hansolo.medusa.events.UpdateEvent;
 import eu.hansolo.medusa.events.UpdateEventListener;
 import eu.hansolo.medusa.skins.*;
+import eu.hansolo.medusa.tools.AsyncValueDispatcher;
 import eu.hansolo.medusa.tools.Data;
+import eu.hansolo.medusa.tools.ExponentialAverage;
 import eu.hansolo.medusa.tools.GradientLookup;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.HistoryStore;
 import eu.hansolo.medusa.tools.MarkerComparator;
+import eu.hansolo.medusa.tools.Metrics;
 import eu.hansolo.medusa.tools.MovingAverage;
+import eu.hansolo.medusa.tools.PublisherBinding;
 import eu.hansolo.medusa.tools.SectionComparator;
+import eu.hansolo.medusa.tools.VisibilityTracker;
 import javafx.animation.Animation.Status;
 import javafx.animation.Interpolator;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
+import javafx.animation.PauseTransition;
 import javafx.animation.Timeline;
 import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
 import javafx.beans.NamedArg;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.BooleanBinding;
@@ -43,11 +53,13 @@ import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.IntegerPropertyBase;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ObjectPropertyBase;
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.StringProperty;
 import javafx.beans.property.StringPropertyBase;
+import javafx.beans.value.WritableDoubleValue;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.event.Event;
@@ -66,16 +78,20 @@ import javafx.scene.text.Font;
 import javafx.util.Duration;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
 import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -107,6 +123,10 @@ public class Gauge extends Control {
 
     public enum LedType { STANDARD, FLAT }
 
+    public enum AveragingType { MOVING, EXPONENTIAL, TIME_WEIGHTED }
+
+    public enum CrossingMode { VALUE, CURRENT_VALUE }
+
     public enum ScaleDirection { CLOCKWISE, COUNTER_CLOCKWISE, LEFT_TO_RIGHT, RIGHT_TO_LEFT, BOTTOM_TO_TOP, TOP_TO_BOTTOM }
 
     public enum SkinType {
@@ -121,6 +141,7 @@ public class Gauge extends Control {
     public  static final Color   BRIGHT_COLOR        = Color.rgb(223, 223, 223); // #dfdfdf
     private static final long    LED_BLINK_INTERVAL  = 500l;
     private static final int     MAX_NO_OF_DECIMALS  = 3;
+    private static final CrossingEventListener[] NO_CROSSING_LISTENERS = {};
 
     public  final ButtonEvent    BTN_PRESSED_EVENT   = new ButtonEvent(ButtonEvent.BTN_PRESSED);
     public  final ButtonEvent    BTN_RELEASED_EVENT  = new ButtonEvent(ButtonEvent.BTN_RELEASED);
@@ -147,9 +168,22 @@ public class Gauge extends Control {
     private                 BooleanBinding       showing;
 
     // Update events
-    private              Queue<UpdateEvent>      updateEventQueue = new LinkedBlockingQueue<>();
+    private static final UpdateEvent.EventType[] UPDATE_EVENT_TYPES = UpdateEvent.EventType.values();
+    private              int                     pendingUpdateEvents; // one bit per UpdateEvent.EventType
+    private              byte[]                  pendingUpdateOrder;  // ordinals of the pending update events in the order they were fired
+    private              int                     pendingUpdateCount;
     private List<UpdateEventListener>            listenerList     = new CopyOnWriteArrayList<>();
 
+    // Crossing events (copy on write, iterating the array does not allocate)
+    private CrossingEventListener[]              crossingListeners = NO_CROSSING_LISTENERS;
+    private CrossingEvent                        crossingEvent;
+    private CrossingMode                         crossingMode;
+    private double                               crossingValue; // last value checked for crossings
+    private double                               markerCheckValue; // last value checked for marker events
+    private Marker[]                             sortedMarkers; // markers sorted by value, null if the markers changed
+    private double[]                             markerValues;
+    private final InvalidationListener           markersInvalidated = o -> invalidateSortedMarkers();
+
     // Data related
     private DoubleProperty                       value;
     private DoubleProperty                       oldValue;      // last value
@@ -181,12 +215,11 @@ public class Gauge extends Control {
     private ObservableList<Marker>               markers;
     // UI related
     private SkinType                             skinType;
+    private Map<SkinType, Skin<?>>               skins;
     private boolean                              _startFromZero;
     private BooleanProperty                      startFromZero;
     private boolean                              _returnToZero;
     private BooleanProperty                      returnToZero;
-    private Color                                _zeroColor;
-    private ObjectProperty<Color>                zeroColor;
     private double                               _minMeasuredValue;
     private DoubleProperty                       minMeasuredValue;
     private double                               _maxMeasuredValue;
@@ -207,8 +240,6 @@ public class Gauge extends Control {
     private DoubleProperty                       borderWidth;
     private Paint                                _foregroundPaint;
     private ObjectProperty<Paint>                foregroundPaint;
-    private Color                                _knobColor;
-    private ObjectProperty<Color>                knobColor;
     private KnobType                             _knobType;
     private ObjectProperty<KnobType>             knobType;
     private Pos                                  _knobPosition;
@@ -230,6 +261,8 @@ public class Gauge extends Control {
     private BooleanProperty                      autoScale;
     private boolean                              _shadowsEnabled;
     private BooleanProperty                      shadowsEnabled;
+    private RenderingProfile                     _renderingProfile;
+    private ObjectProperty<RenderingProfile>     renderingProfile;
     private boolean                              _barEffectEnabled;
     private BooleanProperty                      barEffectEnabled;
     private ScaleDirection                       _scaleDirection;
@@ -238,34 +271,6 @@ public class Gauge extends Control {
     private ObjectProperty<TickLabelLocation>    tickLabelLocation;
     private TickLabelOrientation                 _tickLabelOrientation;
     private ObjectProperty<TickLabelOrientation> tickLabelOrientation;
-    private Color                                _tickLabelColor;
-    private ObjectProperty<Color>                tickLabelColor;
-    private Color                                _tickMarkColor;
-    private ObjectProperty<Color>                tickMarkColor;
-    private Color                                _majorTickMarkColor;
-    private ObjectProperty<Color>                majorTickMarkColor;
-    private double                               _majorTickMarkLengthFactor;
-    private DoubleProperty                       majorTickMarkLengthFactor;
-    private double                               _majorTickMarkWidthFactor;
-    private DoubleProperty                       majorTickMarkWidthFactor;
-    private Color                                _mediumTickMarkColor;
-    private ObjectProperty<Color>                mediumTickMarkColor;
-    private double                               _mediumTickMarkLengthFactor;
-    private DoubleProperty                       mediumTickMarkLengthFactor;
-    private double                               _mediumTickMarkWidthFactor;
-    private DoubleProperty                       mediumTickMarkWidthFactor;
-    private Color                                _minorTickMarkColor;
-    private ObjectProperty<Color>                minorTickMarkColor;
-    private double                               _minorTickMarkLengthFactor;
-    private DoubleProperty                       minorTickMarkLengthFactor;
-    private double                               _minorTickMarkWidthFactor;
-    private DoubleProperty                       minorTickMarkWidthFactor;
-    private TickMarkType                         _majorTickMarkType;
-    private ObjectProperty<TickMarkType>         majorTickMarkType;
-    private TickMarkType                         _mediumTickMarkType;
-    private ObjectProperty<TickMarkType>         mediumTickMarkType;
-    private TickMarkType                         _minorTickMarkType;
-    private ObjectProperty<TickMarkType>         minorTickMarkType;
     private Locale                               _locale;
     private ObjectProperty<Locale>               locale;
     private int                                  _decimals;
@@ -280,36 +285,6 @@ public class Gauge extends Control {
     private ObjectProperty<NeedleSize>           needleSize;
     private NeedleBehavior                       _needleBehavior;
     private ObjectProperty<NeedleBehavior>       needleBehavior;
-    private Color                                _needleColor;
-    private ObjectProperty<Color>                needleColor;
-    private Color                                _needleBorderColor;
-    private ObjectProperty<Color>                needleBorderColor;
-    private Color                                _barColor;
-    private ObjectProperty<Color>                barColor;
-    private Color                                _barBorderColor;
-    private ObjectProperty<Color>                barBorderColor;
-    private Color                                _barBackgroundColor;
-    private ObjectProperty<Color>                barBackgroundColor;
-    private LcdDesign                            _lcdDesign;
-    private ObjectProperty<LcdDesign>            lcdDesign;
-    private LcdFont                              _lcdFont;
-    private ObjectProperty<LcdFont>              lcdFont;
-    private Color                                _ledColor;
-    private ObjectProperty<Color>                ledColor;
-    private LedType                              _ledType;
-    private ObjectProperty<LedType>              ledType;
-    private Color                                _titleColor;
-    private ObjectProperty<Color>                titleColor;
-    private Color                                _subTitleColor;
-    private ObjectProperty<Color>                subTitleColor;
-    private Color                                _unitColor;
-    private ObjectProperty<Color>                unitColor;
-    private Color                                _valueColor;
-    private ObjectProperty<Color>                valueColor;
-    private Color                                _thresholdColor;
-    private ObjectProperty<Color>                thresholdColor;
-    private Color                                _averageColor;
-    private ObjectProperty<Color>                averageColor;
     private boolean                              _checkSectionsForValue;
     private BooleanProperty                      checkSectionsForValue;
     private boolean                              _checkAreasForValue;
@@ -362,12 +337,6 @@ public class Gauge extends Control {
     private DoubleProperty                       majorTickSpace;
     private double                               _minorTickSpace;
     private DoubleProperty                       minorTickSpace;
-    private boolean                              _lcdVisible;
-    private BooleanProperty                      lcdVisible;
-    private boolean                              _lcdCrystalEnabled;
-    private BooleanProperty                      lcdCrystalEnabled;
-    private boolean                              _ledVisible;
-    private BooleanProperty                      ledVisible;
     private boolean                              _ledOn;
     private BooleanProperty                      ledOn;
     private boolean                              _ledBlinking;
@@ -384,10 +353,6 @@ public class Gauge extends Control {
     private ObservableList<String>               customTickLabels;
     private double                               _customTickLabelFontSize;
     private DoubleProperty                       customTickLabelFontSize;
-    private boolean                              _interactive;
-    private BooleanProperty                      interactive;
-    private String                               _buttonTooltipText;
-    private StringProperty                       buttonTooltipText;
     private boolean                              _keepAspect;
     private BooleanProperty                      keepAspect;
     private boolean                              _customFontEnabled;
@@ -409,6 +374,26 @@ public class Gauge extends Control {
     private Timeline timeline;
     private Instant  lastCall;
     private boolean  withinSpeedLimit;
+    private boolean  batchUpdate;
+    private boolean  unfilteredUpdate;
+    private volatile AsyncValueDispatcher.Slot asyncValueSlot;
+    private PublisherBinding<Number, Gauge> publisherBinding;
+    private HistoryStore     historyStore;
+    private AveragingType    averagingType;
+    private double           averagingAlpha;
+    private long             averagingHalfLifeNanos;
+    private ExponentialAverage exponentialAverage;
+    private long             measuredValueHalfLifeNanos;
+    private long             lastMeasuredNanos;
+    private Metrics  metrics;
+    private VisibilityTracker visibilityTracker;
+
+    // rarely changed state, shared between all gauges until it is changed (see style blocks below)
+    private ColorStyle       colorStyle;
+    private TickMarkStyle    tickMarkStyle;
+    private LcdLedStyle      lcdLedStyle;
+    private InteractionStyle interactionStyle;
+    private ValueFilter      valueFilter;
 
 
     // ******************** Constructors **************************************
@@ -551,9 +536,9 @@ public class Gauge extends Control {
                 final double VALUE = get();
                 withinSpeedLimit = !(Instant.now().minusMillis(getAnimationDuration()).isBefore(lastCall));
                 lastCall = Instant.now();
-                if (isAnimated() && withinSpeedLimit) {
+                if (isAnimated() && withinSpeedLimit && !batchUpdate) {
                     long animationDuration = isReturnToZero() ? (long) (0.2 * getAnimationDuration()) : getAnimationDuration();
-                    timeline.stop();
+                    getTimeline().stop();
 
                     final KeyValue KEY_VALUE;
                     if (NeedleBehavior.STANDARD == getNeedleBehavior()) {
@@ -590,13 +575,31 @@ public class Gauge extends Control {
                     final KeyFrame KEY_FRAME = new KeyFrame(Duration.millis(animationDuration), KEY_VALUE);
                     timeline.getKeyFrames().setAll(KEY_FRAME);
                     timeline.play();
+                    if (Metrics.isEnabled()) { getMetrics().increment(Metrics.Type.ANIMATION_START); }
                 } else {
                     currentValue.set(VALUE);
                     fireUpdateEvent(FINISHED_EVENT);
                 }
-                if (isAveragingEnabled()) { movingAverage.addData(new Data(VALUE)); }
+                if (isAveragingEnabled() && !batchUpdate) { addToAverage(VALUE, System.nanoTime()); }
+                if (null != historyStore && !batchUpdate) { historyStore.append(System.currentTimeMillis(), VALUE); }
+                // markers are checked against the values that are set (like in addSamples()), not against the animated current value
+                if (null != markers && !markers.isEmpty() && !batchUpdate) { checkMarkers(markerCheckValue, VALUE, true, false); }
+                markerCheckValue = VALUE;
+                if (CrossingMode.VALUE == getCrossingMode()) {
+                    if (crossingListeners.length > 0 && !batchUpdate) { checkCrossings(crossingValue, VALUE); }
+                    crossingValue = VALUE;
+                }
             }
             @Override public void set(final double VALUE) {
+                if (ValueFilter.DEFAULT != valueFilter && !batchUpdate && !unfilteredUpdate) {
+                    if (isFiltered(VALUE)) {
+                        suppressValue(VALUE);
+                        return;
+                    }
+                    valueFilter.lastUpdate = System.nanoTime();
+                    if (null != valueFilter.trailingUpdate) { valueFilter.trailingUpdate.stop(); }
+                }
+                if (Metrics.isEnabled()) { getMetrics().increment(Metrics.Type.VALUE_SET); }
                 super.set(VALUE);
                 fireUpdateEvent(VALUE_EVENT);
             }
@@ -615,18 +618,27 @@ public class Gauge extends Control {
                         fireEvent(UNDERRUN_EVENT);
                     }
                 }
-                if (VALUE < getMinMeasuredValue()) {
+                if (measuredValueHalfLifeNanos > 0) {
+                    decayMeasuredValues(VALUE, System.nanoTime());
+                } else if (VALUE < getMinMeasuredValue()) {
                     setMinMeasuredValue(VALUE);
                 } else if (VALUE > getMaxMeasuredValue()) {
                     setMaxMeasuredValue(VALUE);
                 }
+                if (CrossingMode.CURRENT_VALUE == getCrossingMode()) {
+                    if (crossingListeners.length > 0) { checkCrossings(crossingValue, VALUE); }
+                    crossingValue = VALUE;
+                }
                 formerValue.set(VALUE);
+                if (Metrics.isEnabled() && null != timeline && Status.RUNNING == timeline.getStatus()) { getMetrics().increment(Metrics.Type.ANIMATION_FRAME); }
             }
             @Override public void set(final double VALUE) { super.set(VALUE); }
             @Override public Object getBean() { return Gauge.this; }
             @Override public String getName() { return "currentValue";}
         };
         formerValue                         = new SimpleDoubleProperty(Gauge.this, "formerValue", value.get());
+        crossingValue                       = value.get();
+        markerCheckValue                    = value.get();
         _range                              = _maxValue - _minValue;
         _threshold                          = _maxValue;
         _title                              = "";
@@ -634,16 +646,9 @@ public class Gauge extends Control {
         _unit                               = "";
         _averagingEnabled                   = false;
         _averagingPeriod                    = 10;
-        movingAverage                       = new MovingAverage(_averagingPeriod);
-        sections                            = FXCollections.observableArrayList();
-        areas                               = FXCollections.observableArrayList();
-        tickMarkSections                    = FXCollections.observableArrayList();
-        tickLabelSections                   = FXCollections.observableArrayList();
-        markers                             = FXCollections.observableArrayList();
 
         _startFromZero                      = false;
         _returnToZero                       = false;
-        _zeroColor                          = DARK_COLOR;
         _minMeasuredValue                   = _maxValue;
         _maxMeasuredValue                   = _minValue;
         _minMeasuredValueVisible            = false;
@@ -654,7 +659,6 @@ public class Gauge extends Control {
         _borderPaint                        = Color.TRANSPARENT;
         _borderWidth                        = 1;
         _foregroundPaint                    = Color.TRANSPARENT;
-        _knobColor                          = Color.rgb(204, 204, 204);
         _knobType                           = KnobType.STANDARD;
         _knobPosition                       = Pos.CENTER;
         _knobVisible                        = true;
@@ -666,24 +670,11 @@ public class Gauge extends Control {
         _arcExtend                          = 9.2;
         _autoScale                          = true;
         _shadowsEnabled                     = false;
+        _renderingProfile                   = RenderingProfile.getDefault();
         _barEffectEnabled                   = false;
         _scaleDirection                     = ScaleDirection.CLOCKWISE;
         _tickLabelLocation                  = TickLabelLocation.INSIDE;
         _tickLabelOrientation               = TickLabelOrientation.HORIZONTAL;
-        _tickLabelColor                     = DARK_COLOR;
-        _tickMarkColor                      = DARK_COLOR;
-        _majorTickMarkColor                 = DARK_COLOR;
-        _majorTickMarkLengthFactor          = 0.42;
-        _majorTickMarkWidthFactor           = 0.275;
-        _mediumTickMarkColor                = DARK_COLOR;
-        _mediumTickMarkLengthFactor         = 0.41;
-        _mediumTickMarkWidthFactor          = 0.175;
-        _minorTickMarkColor                 = DARK_COLOR;
-        _minorTickMarkLengthFactor          = 0.40;
-        _minorTickMarkWidthFactor           = 0.1125;
-        _majorTickMarkType                  = TickMarkType.LINE;
-        _mediumTickMarkType                 = TickMarkType.LINE;
-        _minorTickMarkType                  = TickMarkType.LINE;
         _locale                             = Locale.US;
         _decimals                           = 1;
         _tickLabelDecimals                  = 0;
@@ -691,21 +682,6 @@ public class Gauge extends Control {
         _needleShape                        = NeedleShape.ANGLED;
         _needleSize                         = NeedleSize.STANDARD;
         _needleBehavior                     = NeedleBehavior.STANDARD;
-        _needleColor                        = Color.rgb(200, 0, 0);
-        _needleBorderColor                  = Color.TRANSPARENT;
-        _barColor                           = BRIGHT_COLOR;
-        _barBorderColor                     = Color.TRANSPARENT;
-        _barBackgroundColor                 = DARK_COLOR;
-        _lcdDesign                          = LcdDesign.STANDARD;
-        _lcdFont                            = LcdFont.DIGITAL_BOLD;
-        _ledColor                           = Color.RED;
-        _ledType                            = LedType.STANDARD;
-        _titleColor                         = DARK_COLOR;
-        _subTitleColor                      = DARK_COLOR;
-        _unitColor                          = DARK_COLOR;
-        _valueColor                         = DARK_COLOR;
-        _thresholdColor                     = Color.CRIMSON;
-        _averageColor                       = Color.MAGENTA;
         _checkSectionsForValue              = false;
         _checkAreasForValue                 = false;
         _checkThreshold                     = false;
@@ -732,19 +708,13 @@ public class Gauge extends Control {
         _tickMarkRingVisible                = false;
         _majorTickSpace                     = 10;
         _minorTickSpace                     = 1;
-        _lcdVisible                         = false;
-        _lcdCrystalEnabled                  = false;
-        _ledVisible                         = false;
         _ledOn                              = false;
         _ledBlinking                        = false;
         _orientation                        = Orientation.HORIZONTAL;
         _gradientBarEnabled                 = false;
         _customTickLabelsEnabled            = false;
-        customTickLabels                    = FXCollections.observableArrayList();
         _customTickLabelFontSize            = 18;
         _customTickLabelFontSizeEnabled     = false;
-        _interactive                        = false;
-        _buttonTooltipText                  = "";
         _keepAspect                         = true;
         _customFontEnabled                  = false;
         _customFont                         = Fonts.robotoRegular(12);
@@ -752,21 +722,41 @@ public class Gauge extends Control {
         _alertMessage                       = "";
         _smoothing                          = false;
         formatString                        = "%.2f";
+        colorStyle                          = ColorStyle.DEFAULT;
+        tickMarkStyle                       = TickMarkStyle.DEFAULT;
+        lcdLedStyle                         = LcdLedStyle.DEFAULT;
+        interactionStyle                    = InteractionStyle.DEFAULT;
+        valueFilter                         = ValueFilter.DEFAULT;
 
         originalMinValue                    = -Double.MAX_VALUE;
         originalMaxValue                    = Double.MAX_VALUE;
         originalThreshold                   = Double.MAX_VALUE;
         lastCall                            = Instant.now();
-        timeline                            = new Timeline();
-        timeline.setOnFinished(e -> {
-            if (isReturnToZero() && Double.compare(currentValue.get(), 0.0) != 0.0) {
-                final KeyValue KEY_VALUE2 = new KeyValue(value, 0, Interpolator.SPLINE(0.5, 0.4, 0.4, 1.0));
-                final KeyFrame KEY_FRAME2 = new KeyFrame(Duration.millis((long) (0.8 * getAnimationDuration())), KEY_VALUE2);
-                timeline.getKeyFrames().setAll(KEY_FRAME2);
-                timeline.play();
-            }
-            fireUpdateEvent(FINISHED_EVENT);
-        });
+    }
+
+    // The timeline is only needed for animated gauges and will be created on the first animation
+    private Timeline getTimeline() {
+        if (null == timeline) {
+            timeline = new Timeline();
+            // the return to zero animation writes the value on every frame, these writes must not be dropped by the value filter
+            final WritableDoubleValue UNFILTERED_VALUE = new WritableDoubleValue() {
+                @Override public double get() { return value.get(); }
+                @Override public void set(final double VALUE) { setValueUnfiltered(VALUE); }
+                @Override public void setValue(final Number VALUE) { set(VALUE.doubleValue()); }
+                @Override public Number getValue() { return get(); }
+            };
+            timeline.setOnFinished(e -> {
+                if (isReturnToZero() && Double.compare(currentValue.get(), 0.0) != 0.0) {
+                    final KeyValue KEY_VALUE2 = new KeyValue(UNFILTERED_VALUE, 0, Interpolator.SPLINE(0.5, 0.4, 0.4, 1.0));
+                    final KeyFrame KEY_FRAME2 = new KeyFrame(Duration.millis((long) (0.8 * getAnimationDuration())), KEY_VALUE2);
+                    timeline.getKeyFrames().setAll(KEY_FRAME2);
+                    timeline.play();
+                    if (Metrics.isEnabled()) { getMetrics().increment(Metrics.Type.ANIMATION_START); }
+                }
+                fireUpdateEvent(FINISHED_EVENT);
+            });
+        }
+        return timeline;
     }
 
     public void reInit() {
@@ -866,6 +856,10 @@ public class Gauge extends Control {
     private void registerListeners() {
         disabledProperty().addListener(o -> setOpacity(isDisabled() ? 0.4 : 1));
         valueProperty().addListener((o, ov, nv) -> oldValue.set(ov.doubleValue()));
+        visibilityTracker = new VisibilityTracker(Gauge.this);
+        visibilityTracker.visibleProperty().addListener((o, ov, nv) -> {
+            if (nv && null != showing && showing.get()) { flushUpdateEvents(); }
+        });
         if (null != getScene()) {
             setupBinding();
         } else {
@@ -897,12 +891,322 @@ public class Gauge extends Control {
     /**
      * Sets the value of the Gauge to the given double. If animated == true this
      * value will be the end value after the animation is finished.
+     * The markers are checked against the value that is set (not against
+     * the animated current value), so a marker fires its EXCEEDED/UNDERRUN
+     * event once when the value crosses it, like in addSamples().
      *
      * @param VALUE
      */
     public void setValue(final double VALUE) { value.set(VALUE); }
     public DoubleProperty valueProperty() { return value; }
 
+    /**
+     * Adds a batch of samples to the Gauge. For every sample the moving
+     * average, the min- and maxMeasuredValue, the threshold, the markers
+     * and the sections and areas (if checkSectionsForValue/checkAreasForValue
+     * is enabled) will be checked, so crossings within the batch will be
+     * reported in the order of the samples (also to the crossing listeners,
+     * no matter which CrossingMode is used). The marker events are the same
+     * as if every sample had been set with setValue(). The visual state will only be
+     * updated once with the last sample (without animation), which leads to
+     * only one VALUE event instead of one per sample.
+     * The timestamps are nanoseconds since the epoch and will be used for
+     * the moving average, if TIMESTAMPS_NANOS is null the current time will
+     * be used for all samples.
+     * Like setValue() this method should be called on the FX application
+     * thread if the Gauge is part of a scene.
+     *
+     * @param VALUES
+     * @param TIMESTAMPS_NANOS nanoseconds since the epoch or null
+     * @param OFFSET index of the first sample in VALUES and TIMESTAMPS_NANOS
+     * @param LENGTH number of samples to add
+     */
+    public void addSamples(final double[] VALUES, final long[] TIMESTAMPS_NANOS, final int OFFSET, final int LENGTH) {
+        Objects.checkFromIndexSize(OFFSET, LENGTH, VALUES.length);
+        if (null != TIMESTAMPS_NANOS) { Objects.checkFromIndexSize(OFFSET, LENGTH, TIMESTAMPS_NANOS.length); }
+        if (0 == LENGTH) { return; }
+
+        final MovingAverage   AVERAGE         = isAveragingEnabled() && AveragingType.MOVING == getAveragingType() ? getMovingAverage() : null;
+        final ExponentialAverage EXP_AVERAGE  = isAveragingEnabled() && AveragingType.MOVING != getAveragingType() ? getExponentialAverage() : null;
+        final long            NOW_NANOS       = System.nanoTime();
+        final long            LAST_TIMESTAMP  = null == TIMESTAMPS_NANOS ? 0 : TIMESTAMPS_NANOS[OFFSET + LENGTH - 1];
+        final boolean         CHECK_THRESHOLD = isCheckThreshold();
+        final double          THRESHOLD       = getThreshold();
+        final List<Section>   SECTIONS        = getCheckSectionsForValue() && null != sections ? sections : Collections.emptyList();
+        final List<Section>   AREAS           = getCheckAreasForValue() && null != areas ? areas : Collections.emptyList();
+        final boolean         CHECK_MARKERS   = null != markers && !markers.isEmpty();
+        final boolean         CHECK_CROSSINGS = crossingListeners.length > 0;
+        final Instant         NOW             = null == TIMESTAMPS_NANOS ? Instant.now() : null;
+        double minMeasured = getMinMeasuredValue();
+        double maxMeasured = getMaxMeasuredValue();
+        double former      = formerValue.get();
+        for (int i = OFFSET ; i < OFFSET + LENGTH ; i++) {
+            final double VALUE = VALUES[i];
+            // the time of the last sample of the batch is now
+            final long NANOS = null == TIMESTAMPS_NANOS ? NOW_NANOS : NOW_NANOS - (LAST_TIMESTAMP - TIMESTAMPS_NANOS[i]);
+            if (null != AVERAGE) {
+                AVERAGE.addData(new Data(VALUE, null == NOW ? Instant.ofEpochSecond(0, TIMESTAMPS_NANOS[i]) : NOW));
+            } else if (null != EXP_AVERAGE) {
+                EXP_AVERAGE.add(VALUE, NANOS);
+            }
+            if (null != historyStore) {
+                historyStore.append(null == NOW ? TIMESTAMPS_NANOS[i] / 1_000_000 : NOW.toEpochMilli(), VALUE);
+            }
+            if (CHECK_THRESHOLD) {
+                if (former < THRESHOLD && VALUE > THRESHOLD) {
+                    fireEvent(EXCEEDED_EVENT);
+                } else if (former > THRESHOLD && VALUE < THRESHOLD) {
+                    fireEvent(UNDERRUN_EVENT);
+                }
+            }
+            if (measuredValueHalfLifeNanos > 0) {
+                final long DT = 0 == lastMeasuredNanos ? 0 : NANOS - lastMeasuredNanos;
+                minMeasured       = Math.min(VALUE, ExponentialAverage.decayPeak(minMeasured, VALUE, DT, measuredValueHalfLifeNanos));
+                maxMeasured       = Math.max(VALUE, ExponentialAverage.decayPeak(maxMeasured, VALUE, DT, measuredValueHalfLifeNanos));
+                lastMeasuredNanos = NANOS;
+            } else if (VALUE < minMeasured) {
+                minMeasured = VALUE;
+            } else if (VALUE > maxMeasured) {
+                maxMeasured = VALUE;
+            }
+            for (int s = 0 ; s < SECTIONS.size() ; s++) { SECTIONS.get(s).checkForValue(VALUE); }
+            for (int a = 0 ; a < AREAS.size() ; a++) { AREAS.get(a).checkForValue(VALUE); }
+            if (CHECK_MARKERS) { checkMarkers(former, VALUE, true, false); }
+            if (CHECK_CROSSINGS) { checkCrossings(former, VALUE); }
+            former = VALUE;
+        }
+        if (Double.compare(minMeasured, getMinMeasuredValue()) != 0) { setMinMeasuredValue(minMeasured); }
+        if (Double.compare(maxMeasured, getMaxMeasuredValue()) != 0) { setMaxMeasuredValue(maxMeasured); }
+
+        // the checks for the last sample have been done already, so the current value will not fire them again
+        formerValue.set(former);
+        crossingValue    = former;
+        markerCheckValue = former;
+        if (null != timeline) { timeline.stop(); }
+        batchUpdate = true;
+        try {
+            setValue(former);
+        } finally {
+            batchUpdate = false;
+        }
+    }
+
+    /**
+     * Sets the value of the Gauge from any thread. The value will be set
+     * on the FX application thread with setValue(), the values of all
+     * gauges that have been set asynchronously are applied together once
+     * per pulse (frame). If the value is set several times before
+     * it was applied, only the latest value will be applied (use
+     * addSamples() on the FX application thread if every sample matters).
+     * Everything the calling thread did before calling this method is
+     * visible on the FX application thread when the value is applied.
+     * The FX toolkit has to be running.
+     *
+     * @param VALUE
+     */
+    public void setValueAsync(final double VALUE) {
+        AsyncValueDispatcher.Slot slot = asyncValueSlot;
+        if (null == slot) {
+            synchronized (this) {
+                slot = asyncValueSlot;
+                if (null == slot) {
+                    slot           = new AsyncValueDispatcher.Slot(this::setValue);
+                    asyncValueSlot = slot;
+                }
+            }
+        }
+        slot.set(VALUE);
+    }
+
+    /**
+     * Subscribes the Gauge to the given publisher, e.g. a message stream.
+     * At most one value per frame will be requested from the publisher
+     * and applied with setValue() on the FX application thread, values
+     * that arrive in between will be dropped (latest wins). An existing
+     * binding will be cancelled. The subscription will be cancelled by
+     * unbind(), dispose() or when the Gauge is garbage collected.
+     *
+     * @param PUBLISHER
+     */
+    public void bind(final Flow.Publisher<? extends Number> PUBLISHER) { bind(PUBLISHER, PublisherBinding.DEFAULT_DEMAND); }
+    /**
+     * Subscribes the Gauge to the given publisher and requests at most
+     * VALUES_PER_FRAME values per frame. Only the latest value of each
+     * frame will be applied with setValue().
+     *
+     * @param PUBLISHER
+     * @param VALUES_PER_FRAME
+     */
+    public void bind(final Flow.Publisher<? extends Number> PUBLISHER, final int VALUES_PER_FRAME) {
+        unbind();
+        publisherBinding = new PublisherBinding<>(Gauge.this, Number::doubleValue, Gauge::setValue, VALUES_PER_FRAME);
+        PUBLISHER.subscribe(publisherBinding);
+    }
+    /**
+     * Cancels the subscription to the publisher that was bound with bind().
+     */
+    public void unbind() {
+        if (null == publisherBinding) { return; }
+        publisherBinding.cancel();
+        publisherBinding = null;
+    }
+    public boolean isPublisherBound() { return null != publisherBinding && publisherBinding.isActive(); }
+
+    /**
+     * Cancels the subscription to a bound publisher, stops running
+     * animations and removes the listeners that track the visibility of
+     * the Gauge. Call this method if the Gauge will not be used anymore.
+     */
+    public void dispose() {
+        unbind();
+        if (null != timeline) { timeline.stop(); }
+        if (null != valueFilter.trailingUpdate) { valueFilter.trailingUpdate.stop(); }
+        if (null != visibilityTracker) { visibilityTracker.dispose(); }
+    }
+
+    // for values that are set by the gauge itself (animations, clamping to the range), they bypass the value filter
+    private void setValueUnfiltered(final double VALUE) {
+        final boolean FORMER = unfilteredUpdate;
+        unfilteredUpdate = true;
+        try {
+            value.set(VALUE);
+        } finally {
+            unfilteredUpdate = FORMER;
+        }
+    }
+
+    private boolean isFiltered(final double VALUE) {
+        final ValueFilter FILTER = valueFilter;
+        final double      DELTA  = Math.abs(VALUE - getValue());
+        if (DELTA < FILTER._deadBand || DELTA < FILTER._relativeDeadBand * getRange()) { return true; }
+        if (FILTER._visualDeadBand) {
+            final double FACTOR = Math.pow(10, getDecimals());
+            // travel of the indicator in pixels, only the rounded value is compared if the gauge has no skin yet
+            final double TRAVEL = getSkin() instanceof GaugeSkinBase ? DELTA * ((GaugeSkinBase) getSkin()).getPixelsPerUnit() : 0;
+            if (Double.compare(Math.rint(VALUE * FACTOR), Math.rint(getValue() * FACTOR)) == 0 && TRAVEL < 1) { return true; }
+        }
+        if (FILTER._maxUpdateRate > 0) {
+            final long INTERVAL = (long) (1_000_000_000 / FILTER._maxUpdateRate);
+            final long ELAPSED  = System.nanoTime() - FILTER.lastUpdate;
+            if (ELAPSED < INTERVAL) {
+                scheduleTrailingUpdate(INTERVAL - ELAPSED);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void suppressValue(final double VALUE) {
+        final ValueFilter FILTER = valueFilter;
+        FILTER.suppressed++;
+        if (Metrics.isEnabled()) { getMetrics().increment(Metrics.Type.UPDATE_DROPPED); }
+        // the latest value will be set by a pending trailing update
+        if (null != FILTER.trailingUpdate && Status.RUNNING == FILTER.trailingUpdate.getStatus()) { FILTER.pendingValue = VALUE; }
+        if (FILTER._trackSuppressed) {
+            if (isAveragingEnabled()) { addToAverage(VALUE, System.nanoTime()); }
+            if (VALUE < getMinMeasuredValue()) {
+                setMinMeasuredValue(VALUE);
+            } else if (VALUE > getMaxMeasuredValue()) {
+                setMaxMeasuredValue(VALUE);
+            }
+        }
+    }
+
+    private void scheduleTrailingUpdate(final long DELAY_NANOS) {
+        final ValueFilter FILTER = valueFilter;
+        if (null == FILTER.trailingUpdate) {
+            FILTER.trailingUpdate = new PauseTransition();
+            FILTER.trailingUpdate.setOnFinished(e -> setValue(valueFilter.pendingValue));
+        }
+        if (Status.RUNNING != FILTER.trailingUpdate.getStatus()) {
+            FILTER.trailingUpdate.setDuration(Duration.millis(DELAY_NANOS / 1_000_000.0));
+            FILTER.trailingUpdate.playFromStart();
+        }
+    }
+
+    // fires the events of the markers in the order in which they are crossed, binary search in the sorted marker values makes this O(log n + crossed markers)
+    private void checkMarkers(final double FORMER_VALUE, final double VALUE, final boolean FIRE_MARKER_EVENTS, final boolean FIRE_CROSSING_EVENTS) {
+        if (null == sortedMarkers) { sortMarkers(); }
+        // a handler might change the markers, so the snapshot is used
+        final Marker[] MARKERS = sortedMarkers;
+        final double[] VALUES  = markerValues;
+        if (VALUE > FORMER_VALUE) {
+            for (int i = search(VALUES, FORMER_VALUE, true) ; i < VALUES.length && VALUES[i] <= VALUE ; i++) {
+                final Marker MARKER = MARKERS[i];
+                if (FIRE_MARKER_EVENTS) { MARKER.fireMarkerEvent(MARKER.EXCEEDED_EVENT); }
+                if (FIRE_CROSSING_EVENTS) { fireCrossingEvent(CrossingEvent.Type.MARKER_EXCEEDED, FORMER_VALUE, VALUE, VALUES[i], null, MARKER); }
+            }
+        } else if (VALUE < FORMER_VALUE) {
+            for (int i = search(VALUES, FORMER_VALUE, false) - 1 ; i >= 0 && VALUES[i] >= VALUE ; i--) {
+                final Marker MARKER = MARKERS[i];
+                if (FIRE_MARKER_EVENTS) { MARKER.fireMarkerEvent(MARKER.UNDERRUN_EVENT); }
+                if (FIRE_CROSSING_EVENTS) { fireCrossingEvent(CrossingEvent.Type.MARKER_UNDERRUN, FORMER_VALUE, VALUE, VALUES[i], null, MARKER); }
+            }
+        }
+    }
+
+    // returns the index of the first value that is greater than (UPPER) or greater or equal to the given value
+    private static int search(final double[] VALUES, final double VALUE, final boolean UPPER) {
+        int low  = 0;
+        int high = VALUES.length;
+        while (low < high) {
+            final int MID = (low + high) >>> 1;
+            if (VALUES[MID] < VALUE || (UPPER && VALUES[MID] == VALUE)) { low = MID + 1; } else { high = MID; }
+        }
+        return low;
+    }
+
+    private void sortMarkers() {
+        final Marker[] MARKERS = markers.toArray(new Marker[0]);
+        Arrays.sort(MARKERS, new MarkerComparator());
+        final double[] VALUES = new double[MARKERS.length];
+        for (int i = 0 ; i < MARKERS.length ; i++) {
+            VALUES[i] = MARKERS[i].getValue();
+            MARKERS[i].valueProperty().addListener(markersInvalidated);
+        }
+        markerValues  = VALUES;
+        sortedMarkers = MARKERS;
+    }
+
+    private void invalidateSortedMarkers() {
+        if (null == sortedMarkers) { return; }
+        for (Marker marker : sortedMarkers) { marker.valueProperty().removeListener(markersInvalidated); }
+        sortedMarkers = null;
+        markerValues  = null;
+    }
+
+    private void checkCrossings(final double FORMER_VALUE, final double VALUE) {
+        if (Double.compare(FORMER_VALUE, VALUE) == 0) { return; }
+        final double THRESHOLD = getThreshold();
+        if (FORMER_VALUE < THRESHOLD && VALUE > THRESHOLD) {
+            fireCrossingEvent(CrossingEvent.Type.THRESHOLD_EXCEEDED, FORMER_VALUE, VALUE, THRESHOLD, null, null);
+        } else if (FORMER_VALUE > THRESHOLD && VALUE < THRESHOLD) {
+            fireCrossingEvent(CrossingEvent.Type.THRESHOLD_UNDERRUN, FORMER_VALUE, VALUE, THRESHOLD, null, null);
+        }
+        if (null != sections) { checkSectionCrossings(sections, FORMER_VALUE, VALUE, CrossingEvent.Type.SECTION_ENTERED, CrossingEvent.Type.SECTION_LEFT); }
+        if (null != areas) { checkSectionCrossings(areas, FORMER_VALUE, VALUE, CrossingEvent.Type.AREA_ENTERED, CrossingEvent.Type.AREA_LEFT); }
+        if (null != markers && !markers.isEmpty()) { checkMarkers(FORMER_VALUE, VALUE, false, true); }
+    }
+
+    private void checkSectionCrossings(final List<Section> SECTIONS, final double FORMER_VALUE, final double VALUE, final CrossingEvent.Type ENTERED, final CrossingEvent.Type LEFT) {
+        final boolean UPWARDS = VALUE > FORMER_VALUE;
+        for (int i = 0 ; i < SECTIONS.size() ; i++) {
+            final Section SECTION      = SECTIONS.get(i);
+            final boolean WAS_IN       = SECTION.contains(FORMER_VALUE);
+            final boolean IS_IN        = SECTION.contains(VALUE);
+            if (WAS_IN == IS_IN) { continue; }
+            // entering upwards and leaving downwards crosses the start
+            final double  BOUNDARY     = IS_IN == UPWARDS ? SECTION.getStart() : SECTION.getStop();
+            fireCrossingEvent(IS_IN ? ENTERED : LEFT, FORMER_VALUE, VALUE, BOUNDARY, SECTION, null);
+        }
+    }
+
+    private void fireCrossingEvent(final CrossingEvent.Type TYPE, final double FORMER_VALUE, final double VALUE, final double CROSSED_VALUE, final Section SECTION, final Marker MARKER) {
+        final CrossingEventListener[] LISTENERS = crossingListeners;
+        final CrossingEvent           EVENT     = crossingEvent.set(TYPE, FORMER_VALUE, VALUE, CROSSED_VALUE, SECTION, MARKER);
+        for (int i = 0 ; i < LISTENERS.length ; i++) { LISTENERS[i].onCrossingEvent(EVENT); }
+    }
+
     /**
      * Returns the current value of the Gauge. If animated == true this value
      * represents the current value during the animation. Otherwise it's returns
@@ -949,17 +1253,17 @@ public class Gauge extends Control {
      * @param VALUE
      */
     public void setMinValue(final double VALUE) {
-        if (Status.RUNNING == timeline.getStatus()) { timeline.jumpTo(Duration.ONE); }
+        if (null != timeline && Status.RUNNING == timeline.getStatus()) { timeline.jumpTo(Duration.ONE); }
         if (null == minValue) {
             if (VALUE > getMaxValue()) { setMaxValue(VALUE); }
             _minValue = Helper.clamp(-Double.MAX_VALUE, getMaxValue(), VALUE);
             setRange(getMaxValue() - _minValue);
             if (Double.compare(originalMinValue, -Double.MAX_VALUE) == 0) originalMinValue = _minValue;
-            if (isStartFromZero() && _minValue < 0) setValue(0);
+            if (isStartFromZero() && _minValue < 0) setValueUnfiltered(0);
             if (Double.compare(originalThreshold, getThreshold()) < 0) { setThreshold(Helper.clamp(_minValue, getMaxValue(), originalThreshold)); }
             updateFormatString();
             fireUpdateEvent(RECALC_EVENT);
-            if (!valueProperty().isBound()) Gauge.this.setValue(Helper.clamp(getMinValue(), getMaxValue(), Gauge.this.getValue()));
+            if (!valueProperty().isBound()) setValueUnfiltered(Helper.clamp(getMinValue(), getMaxValue(), Gauge.this.getValue()));
         } else {
             minValue.set(VALUE);
         }
@@ -972,11 +1276,11 @@ public class Gauge extends Control {
                     if (VALUE > getMaxValue()) setMaxValue(VALUE);
                     setRange(getMaxValue() - VALUE);
                     if (Double.compare(originalMinValue, -Double.MAX_VALUE) == 0) originalMinValue = VALUE;
-                    if (isStartFromZero() && _minValue < 0) Gauge.this.setValue(0);
+                    if (isStartFromZero() && _minValue < 0) setValueUnfiltered(0);
                     if (Double.compare(originalThreshold, getThreshold()) < 0) { setThreshold(Helper.clamp(VALUE, getMaxValue(), originalThreshold)); }
                     updateFormatString();
                     fireUpdateEvent(RECALC_EVENT);
-                    if (!valueProperty().isBound()) Gauge.this.setValue(Helper.clamp(getMinValue(), getMaxValue(), Gauge.this.getValue()));
+                    if (!valueProperty().isBound()) setValueUnfiltered(Helper.clamp(getMinValue(), getMaxValue(), Gauge.this.getValue()));
                 }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "minValue";}
@@ -998,7 +1302,7 @@ public class Gauge extends Control {
      * @param VALUE
      */
     public void setMaxValue(final double VALUE) {
-        if (Status.RUNNING == timeline.getStatus()) { timeline.jumpTo(Duration.ONE); }
+        if (null != timeline && Status.RUNNING == timeline.getStatus()) { timeline.jumpTo(Duration.ONE); }
         if (null == maxValue) {
             if (VALUE < getMinValue()) { setMinValue(VALUE); }
             _maxValue = Helper.clamp(getMinValue(), Double.MAX_VALUE, VALUE);
@@ -1006,7 +1310,7 @@ public class Gauge extends Control {
             if (Double.compare(originalMaxValue, Double.MAX_VALUE) == 0) originalMaxValue = _maxValue;
             if (Double.compare(originalThreshold, getThreshold()) > 0) { setThreshold(Helper.clamp(getMinValue(), _maxValue, originalThreshold)); }
 
-            if (!valueProperty().isBound()) Gauge.this.setValue(Helper.clamp(getMinValue(), getMaxValue(), Gauge.this.getValue()));
+            if (!valueProperty().isBound()) setValueUnfiltered(Helper.clamp(getMinValue(), getMaxValue(), Gauge.this.getValue()));
             updateFormatString();
             fireUpdateEvent(RECALC_EVENT);
         } else {
@@ -1024,7 +1328,7 @@ public class Gauge extends Control {
                     if (Double.compare(originalThreshold, getThreshold()) > 0) { setThreshold(Helper.clamp(getMinValue(), VALUE, originalThreshold)); }
                     updateFormatString();
                     fireUpdateEvent(RECALC_EVENT);
-                    if (!valueProperty().isBound()) Gauge.this.setValue(Helper.clamp(getMinValue(), getMaxValue(), Gauge.this.getValue()));
+                    if (!valueProperty().isBound()) setValueUnfiltered(Helper.clamp(getMinValue(), getMaxValue(), Gauge.this.getValue()));
                 }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "maxValue"; }
@@ -1225,6 +1529,34 @@ public class Gauge extends Control {
         return movingAverage;
     }
 
+    /**
+     * Returns the store that keeps the history of the values or null.
+     * @return the store that keeps the history of the values or null
+     */
+    public HistoryStore getHistoryStore() { return historyStore; }
+    /**
+     * Defines a store that keeps the history of all values that will be
+     * set (with the time they have been set). The moving average will be
+     * filled with the latest samples of the store and skins like the
+     * TileSparklineSkin will show them, so a (memory-mapped) history is
+     * visible immediately without setting the values again.
+     * The store is not closed by the Gauge.
+     *
+     * @param STORE
+     */
+    public void setHistoryStore(final HistoryStore STORE) {
+        historyStore = STORE;
+        if (null != STORE && !STORE.isEmpty()) {
+            final MovingAverage AVERAGE = getMovingAverage();
+            final int           SIZE    = STORE.size();
+            AVERAGE.reset();
+            for (int i = Math.max(0, SIZE - AVERAGE.getPeriod()) ; i < SIZE ; i++) {
+                AVERAGE.addData(new Data(STORE.getValue(i), Instant.ofEpochMilli(STORE.getTimestamp(i))));
+            }
+        }
+        fireUpdateEvent(RECALC_EVENT);
+    }
+
     /**
      * Returns true if the averaging functionality is enabled.
      * @return true if the averaging functionality is enabled
@@ -1268,7 +1600,8 @@ public class Gauge extends Control {
     public void setAveragingPeriod(final int PERIOD) {
         if (null == averagingPeriod) {
             _averagingPeriod = PERIOD;
-            getMovingAverage().setPeriod(_averagingPeriod); // MAX 1000 values
+            if (null != movingAverage) { movingAverage.setPeriod(_averagingPeriod); } // MAX 1000 values
+            exponentialAverage = null;
             fireUpdateEvent(REDRAW_EVENT);
         } else {
             averagingPeriod.set(PERIOD);
@@ -1278,7 +1611,8 @@ public class Gauge extends Control {
         if (null == averagingPeriod) {
             averagingPeriod = new IntegerPropertyBase(_averagingPeriod) {
                 @Override protected void invalidated() {
-                    getMovingAverage().setPeriod(_averagingPeriod); // MAX 1000 values
+                    if (null != movingAverage) { movingAverage.setPeriod(get()); } // MAX 1000 values
+                    exponentialAverage = null;
                     fireUpdateEvent(REDRAW_EVENT);
                 }
                 @Override public Object getBean() { return Gauge.this; }
@@ -1293,20 +1627,142 @@ public class Gauge extends Control {
      * be used to calculate the moving average.
      * @return the current list of Data objects used for the moving average
      */
-    public Queue<Data> getAveragingWindow() { return movingAverage.getWindow(); }
+    public Queue<Data> getAveragingWindow() { return getMovingAverage().getWindow(); }
+
+    /**
+     * Returns the average of the values, depending on the averagingType
+     * this is the moving average over the number of values defined by
+     * averagingPeriod (MOVING), the exponential moving average (EXPONENTIAL)
+     * or the time weighted average (TIME_WEIGHTED).
+     * @return the average of the values
+     */
+    public double getAverage() { return AveragingType.MOVING == getAveragingType() ? getMovingAverage().getAverage() : getExponentialAverage().getAverage(); }
 
     /**
-     * Returns the moving average over the number of values
-     * defined by averagingPeriod.
-     * @return the moving the average over the number of values defined by averagingPeriod
+     * Returns the type of average that will be returned by getAverage().
+     * @return the type of average that will be returned by getAverage()
+     */
+    public AveragingType getAveragingType() { return null == averagingType ? AveragingType.MOVING : averagingType; }
+    /**
+     * Defines the type of average that will be returned by getAverage().
+     * MOVING keeps the last averagingPeriod values, EXPONENTIAL and
+     * TIME_WEIGHTED only need O(1) memory and don't allocate per value.
+     * EXPONENTIAL uses the averagingAlpha per value or, if an averagingHalfLife
+     * is defined, decays with the half-life. TIME_WEIGHTED weights every value
+     * with the time it was the current value (for irregularly spaced values)
+     * and decays with the averagingHalfLife (default 1 second).
+     * Changing the type resets the average.
+     * @param TYPE
      */
-    public double getAverage() { return movingAverage.getAverage(); }
+    public void setAveragingType(final AveragingType TYPE) {
+        averagingType      = TYPE;
+        exponentialAverage = null;
+        fireUpdateEvent(REDRAW_EVENT);
+    }
+
+    /**
+     * Returns the weight of a new value for the EXPONENTIAL average, by
+     * default 2 / (averagingPeriod + 1).
+     * @return the weight of a new value for the EXPONENTIAL average
+     */
+    public double getAveragingAlpha() { return averagingAlpha > 0 ? averagingAlpha : 2.0 / (Math.max(1, getAveragingPeriod()) + 1); }
+    /**
+     * Defines the weight of a new value for the EXPONENTIAL average in the
+     * range of (0, 1], 0 returns to the default of 2 / (averagingPeriod + 1).
+     * @param ALPHA
+     */
+    public void setAveragingAlpha(final double ALPHA) {
+        averagingAlpha     = Helper.clamp(0.0, 1.0, ALPHA);
+        exponentialAverage = null;
+    }
+
+    /**
+     * Returns the half-life of the EXPONENTIAL and TIME_WEIGHTED average or
+     * null if not defined.
+     * @return the half-life of the EXPONENTIAL and TIME_WEIGHTED average or null
+     */
+    public java.time.Duration getAveragingHalfLife() { return 0 == averagingHalfLifeNanos ? null : java.time.Duration.ofNanos(averagingHalfLifeNanos); }
+    /**
+     * Defines the time in which a value loses half of its weight in the
+     * EXPONENTIAL and TIME_WEIGHTED average, null removes the half-life.
+     * @param HALF_LIFE
+     */
+    public void setAveragingHalfLife(final java.time.Duration HALF_LIFE) {
+        averagingHalfLifeNanos = null == HALF_LIFE || HALF_LIFE.isNegative() ? 0 : HALF_LIFE.toNanos();
+        exponentialAverage     = null;
+    }
+
+    /**
+     * Returns the half-life with which the min- and maxMeasuredValue decay
+     * towards the current value or null if they don't decay.
+     * @return the half-life of the min- and maxMeasuredValue or null
+     */
+    public java.time.Duration getMeasuredValueHalfLife() { return 0 == measuredValueHalfLifeNanos ? null : java.time.Duration.ofNanos(measuredValueHalfLifeNanos); }
+    /**
+     * Defines the half-life with which the min- and maxMeasuredValue decay
+     * towards the current value (peak hold with decay), so they show the
+     * recent peaks instead of the peaks since the last reset. Null (default)
+     * disables the decay.
+     * @param HALF_LIFE
+     */
+    public void setMeasuredValueHalfLife(final java.time.Duration HALF_LIFE) {
+        measuredValueHalfLifeNanos = null == HALF_LIFE || HALF_LIFE.isNegative() ? 0 : HALF_LIFE.toNanos();
+        lastMeasuredNanos          = 0;
+    }
+
+    /**
+     * Returns the value that will be checked for crossings by the
+     * crossing listeners.
+     * @return the value that will be checked for crossings
+     */
+    public CrossingMode getCrossingMode() { return null == crossingMode ? CrossingMode.VALUE : crossingMode; }
+    /**
+     * Defines the value that will be checked for crossings by the crossing
+     * listeners. VALUE (default) checks every value that is set once,
+     * CURRENT_VALUE checks every frame of the animation like the threshold
+     * events, so crossings are reported when the needle crosses.
+     * @param MODE
+     */
+    public void setCrossingMode(final CrossingMode MODE) {
+        crossingMode  = MODE;
+        crossingValue = CrossingMode.CURRENT_VALUE == getCrossingMode() ? getCurrentValue() : getValue();
+    }
+
+    private ExponentialAverage getExponentialAverage() {
+        if (null == exponentialAverage) {
+            if (AveragingType.TIME_WEIGHTED == getAveragingType()) {
+                exponentialAverage = new ExponentialAverage(0 == averagingHalfLifeNanos ? 1_000_000_000L : averagingHalfLifeNanos, true);
+            } else if (averagingHalfLifeNanos > 0) {
+                exponentialAverage = new ExponentialAverage(averagingHalfLifeNanos, false);
+            } else {
+                exponentialAverage = new ExponentialAverage(getAveragingAlpha());
+            }
+        }
+        return exponentialAverage;
+    }
+
+    private void addToAverage(final double VALUE, final long NANOS) {
+        if (AveragingType.MOVING == getAveragingType()) {
+            getMovingAverage().addData(new Data(VALUE));
+        } else {
+            getExponentialAverage().add(VALUE, NANOS);
+        }
+    }
+
+    private void decayMeasuredValues(final double VALUE, final long NANOS) {
+        final long   DT  = 0 == lastMeasuredNanos ? 0 : NANOS - lastMeasuredNanos;
+        final double MIN = Math.min(VALUE, ExponentialAverage.decayPeak(getMinMeasuredValue(), VALUE, DT, measuredValueHalfLifeNanos));
+        final double MAX = Math.max(VALUE, ExponentialAverage.decayPeak(getMaxMeasuredValue(), VALUE, DT, measuredValueHalfLifeNanos));
+        lastMeasuredNanos = NANOS;
+        if (Double.compare(MIN, getMinMeasuredValue()) != 0) { setMinMeasuredValue(MIN); }
+        if (Double.compare(MAX, getMaxMeasuredValue()) != 0) { setMaxMeasuredValue(MAX); }
+    }
     /**
      * Returns the moving average over the given duration.
      * @param DURATION
      * @return the moving average over the given duration
      */
-    public double getTimeBasedAverageOf(final java.time.Duration DURATION) { return movingAverage.getTimeBasedAverageOf(DURATION); }
+    public double getTimeBasedAverageOf(final java.time.Duration DURATION) { return getMovingAverage().getTimeBasedAverageOf(DURATION); }
 
     /**
      * Returns an observable list of Section objects. The sections
@@ -1316,7 +1772,10 @@ public class Gauge extends Control {
      *
      * @return an observable list of Section objects
      */
-    public ObservableList<Section> getSections() { return sections; }
+    public ObservableList<Section> getSections() {
+        if (null == sections) { sections = FXCollections.observableArrayList(); }
+        return sections;
+    }
     /**
      * Sets the sections to the given list of Section objects. The
      * sections will be used to colorize areas with a special
@@ -1327,8 +1786,8 @@ public class Gauge extends Control {
      * @param SECTIONS
      */
     public void setSections(final List<Section> SECTIONS) {
-        sections.setAll(SECTIONS);
-        Collections.sort(sections, new SectionComparator());
+        getSections().setAll(SECTIONS);
+        Collections.sort(getSections(), new SectionComparator());
         fireUpdateEvent(SECTION_EVENT);
     }
     /**
@@ -1348,8 +1807,8 @@ public class Gauge extends Control {
      */
     public void addSection(final Section SECTION) {
         if (null == SECTION) return;
-        sections.add(SECTION);
-        Collections.sort(sections, new SectionComparator());
+        getSections().add(SECTION);
+        Collections.sort(getSections(), new SectionComparator());
         fireUpdateEvent(SECTION_EVENT);
     }
     /**
@@ -1361,15 +1820,15 @@ public class Gauge extends Control {
      */
     public void removeSection(final Section SECTION) {
         if (null == SECTION) return;
-        sections.remove(SECTION);
-        Collections.sort(sections, new SectionComparator());
+        getSections().remove(SECTION);
+        Collections.sort(getSections(), new SectionComparator());
         fireUpdateEvent(SECTION_EVENT);
     }
     /**
      * Clears the list of sections.
      */
     public void clearSections() {
-        sections.clear();
+        getSections().clear();
         fireUpdateEvent(SECTION_EVENT);
     }
 
@@ -1381,7 +1840,10 @@ public class Gauge extends Control {
      *
      * @return an observable list of Section objects
      */
-    public ObservableList<Section> getAreas() { return areas; }
+    public ObservableList<Section> getAreas() {
+        if (null == areas) { areas = FXCollections.observableArrayList(); }
+        return areas;
+    }
     /**
      * Sets the sections to the given list of Section objects. The
      * sections will be used to colorize areas with a special
@@ -1392,8 +1854,8 @@ public class Gauge extends Control {
      * @param AREAS
      */
     public void setAreas(final List<Section> AREAS) {
-        areas.setAll(AREAS);
-        Collections.sort(areas, new SectionComparator());
+        getAreas().setAll(AREAS);
+        Collections.sort(getAreas(), new SectionComparator());
         fireUpdateEvent(SECTION_EVENT);
     }
     /**
@@ -1415,8 +1877,8 @@ public class Gauge extends Control {
      */
     public void addArea(final Section AREA) {
         if (null == AREA) return;
-        areas.add(AREA);
-        Collections.sort(areas, new SectionComparator());
+        getAreas().add(AREA);
+        Collections.sort(getAreas(), new SectionComparator());
         fireUpdateEvent(SECTION_EVENT);
     }
     /**
@@ -1428,15 +1890,15 @@ public class Gauge extends Control {
      */
     public void removeArea(final Section AREA) {
         if (null == AREA) return;
-        areas.remove(AREA);
-        Collections.sort(areas, new SectionComparator());
+        getAreas().remove(AREA);
+        Collections.sort(getAreas(), new SectionComparator());
         fireUpdateEvent(SECTION_EVENT);
     }
     /**
      * Clears the list of areas.
      */
     public void clearAreas() {
-        areas.clear();
+        getAreas().clear();
         fireUpdateEvent(SECTION_EVENT);
     }
 
@@ -1447,15 +1909,18 @@ public class Gauge extends Control {
      *
      * @return an observable list of Section objects
      */
-    public ObservableList<Section> getTickMarkSections() { return tickMarkSections; }
+    public ObservableList<Section> getTickMarkSections() {
+        if (null == tickMarkSections) { tickMarkSections = FXCollections.observableArrayList(); }
+        return tickMarkSections;
+    }
     /**
      * Sets the tickmark sections to the given list of Section objects.
      *
      * @param SECTIONS
      */
     public void setTickMarkSections(final List<Section> SECTIONS) {
-        tickMarkSections.setAll(SECTIONS);
-        Collections.sort(tickMarkSections, new SectionComparator());
+        getTickMarkSections().setAll(SECTIONS);
+        Collections.sort(getTickMarkSections(), new SectionComparator());
         fireUpdateEvent(REDRAW_EVENT);
     }
     /**
@@ -1471,8 +1936,8 @@ public class Gauge extends Control {
      */
     public void addTickMarkSection(final Section SECTION) {
         if (null == SECTION) return;
-        tickMarkSections.add(SECTION);
-        Collections.sort(tickMarkSections, new SectionComparator());
+        getTickMarkSections().add(SECTION);
+        Collections.sort(getTickMarkSections(), new SectionComparator());
         fireUpdateEvent(REDRAW_EVENT);
     }
     /**
@@ -1482,15 +1947,15 @@ public class Gauge extends Control {
      */
     public void removeTickMarkSection(final Section SECTION) {
         if (null == SECTION) return;
-        tickMarkSections.remove(SECTION);
-        Collections.sort(tickMarkSections, new SectionComparator());
+        getTickMarkSections().remove(SECTION);
+        Collections.sort(getTickMarkSections(), new SectionComparator());
         fireUpdateEvent(REDRAW_EVENT);
     }
     /**
      * Clears the list of tickmark sections.
      */
     public void clearTickMarkSections() {
-        tickMarkSections.clear();
+        getTickMarkSections().clear();
         fireUpdateEvent(REDRAW_EVENT);
     }
 
@@ -1501,15 +1966,18 @@ public class Gauge extends Control {
      *
      * @return an observable list of Section objects
      */
-    public ObservableList<Section> getTickLabelSections() { return tickLabelSections; }
+    public ObservableList<Section> getTickLabelSections() {
+        if (null == tickLabelSections) { tickLabelSections = FXCollections.observableArrayList(); }
+        return tickLabelSections;
+    }
     /**
      * Sets the ticklabel sections to the given list of Section objects.
      *
      * @param SECTIONS
      */
     public void setTickLabelSections(final List<Section> SECTIONS) {
-        tickLabelSections.setAll(SECTIONS);
-        Collections.sort(tickLabelSections, new SectionComparator());
+        getTickLabelSections().setAll(SECTIONS);
+        Collections.sort(getTickLabelSections(), new SectionComparator());
         fireUpdateEvent(REDRAW_EVENT);
     }
     /**
@@ -1525,8 +1993,8 @@ public class Gauge extends Control {
      */
     public void addTickLabelSection(final Section SECTION) {
         if (null == SECTION) return;
-        tickLabelSections.add(SECTION);
-        Collections.sort(tickLabelSections, new SectionComparator());
+        getTickLabelSections().add(SECTION);
+        Collections.sort(getTickLabelSections(), new SectionComparator());
         fireUpdateEvent(REDRAW_EVENT);
     }
     /**
@@ -1536,15 +2004,15 @@ public class Gauge extends Control {
      */
     public void removeTickLabelSection(final Section SECTION) {
         if (null == SECTION) return;
-        tickLabelSections.remove(SECTION);
-        Collections.sort(tickLabelSections, new SectionComparator());
+        getTickLabelSections().remove(SECTION);
+        Collections.sort(getTickLabelSections(), new SectionComparator());
         fireUpdateEvent(REDRAW_EVENT);
     }
     /**
      * Clears the list of ticklabel sections.
      */
     public void clearTickLabelSections() {
-        tickLabelSections.clear();
+        getTickLabelSections().clear();
         fireUpdateEvent(REDRAW_EVENT);
     }
 
@@ -1557,7 +2025,13 @@ public class Gauge extends Control {
      *
      * @return an observable list of Marker objects
      */
-    public ObservableList<Marker> getMarkers() { return markers; }
+    public ObservableList<Marker> getMarkers() {
+        if (null == markers) {
+            markers = FXCollections.observableArrayList();
+            markers.addListener(markersInvalidated);
+        }
+        return markers;
+    }
     /**
      * Sets the list of markers to the given list of Marker objects.
      * The markers will be visualized using nodes with mouse event
@@ -1566,8 +2040,8 @@ public class Gauge extends Control {
      * @param MARKERS
      */
     public void setMarkers(final List<Marker> MARKERS) {
-        markers.setAll(MARKERS);
-        Collections.sort(markers, new MarkerComparator());
+        getMarkers().setAll(MARKERS);
+        Collections.sort(getMarkers(), new MarkerComparator());
         fireUpdateEvent(REDRAW_EVENT);
     }
     /**
@@ -1585,8 +2059,8 @@ public class Gauge extends Control {
      */
     public void addMarker(final Marker MARKER) {
         if (null == MARKER) return;
-        markers.add(MARKER);
-        Collections.sort(markers, new MarkerComparator());
+        getMarkers().add(MARKER);
+        Collections.sort(getMarkers(), new MarkerComparator());
         fireUpdateEvent(REDRAW_EVENT);
     }
     /**
@@ -1596,15 +2070,15 @@ public class Gauge extends Control {
      */
     public void removeMarker(final Marker MARKER) {
         if (null == MARKER) return;
-        markers.remove(MARKER);
-        Collections.sort(markers, new MarkerComparator());
+        getMarkers().remove(MARKER);
+        Collections.sort(getMarkers(), new MarkerComparator());
         fireUpdateEvent(REDRAW_EVENT);
     }
     /**
      * Clears the list of markers.
      */
     public void clearMarkers() {
-        markers.clear();
+        getMarkers().clear();
         fireUpdateEvent(REDRAW_EVENT);
     }
 
@@ -1618,16 +2092,16 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setForegroundBaseColor(final Color COLOR) {
-        if (null == titleColor) { _titleColor = COLOR; } else { titleColor.set(COLOR); }
-        if (null == subTitleColor) { _subTitleColor = COLOR; } else { subTitleColor.set(COLOR); }
-        if (null == unitColor) { _unitColor = COLOR; } else { unitColor.set(COLOR); }
-        if (null == valueColor) { _valueColor = COLOR; } else { valueColor.set(COLOR); }
-        if (null == tickLabelColor) { _tickLabelColor = COLOR; } else { tickLabelColor.set(COLOR); }
-        if (null == zeroColor) { _zeroColor = COLOR; } else { zeroColor.set(COLOR); }
-        if (null == tickMarkColor) { _tickMarkColor = COLOR; } else { tickMarkColor.set(COLOR); }
-        if (null == majorTickMarkColor) { _majorTickMarkColor = COLOR; } else { majorTickMarkColor.set(COLOR); }
-        if (null == mediumTickMarkColor) { _mediumTickMarkColor = COLOR; } else { mediumTickMarkColor.set(COLOR); }
-        if (null == minorTickMarkColor) { _minorTickMarkColor = COLOR; } else { minorTickMarkColor.set(COLOR); }
+        if (null == colorStyle.titleColor) { mutableColorStyle()._titleColor = COLOR; } else { colorStyle.titleColor.set(COLOR); }
+        if (null == colorStyle.subTitleColor) { mutableColorStyle()._subTitleColor = COLOR; } else { colorStyle.subTitleColor.set(COLOR); }
+        if (null == colorStyle.unitColor) { mutableColorStyle()._unitColor = COLOR; } else { colorStyle.unitColor.set(COLOR); }
+        if (null == colorStyle.valueColor) { mutableColorStyle()._valueColor = COLOR; } else { colorStyle.valueColor.set(COLOR); }
+        if (null == colorStyle.tickLabelColor) { mutableColorStyle()._tickLabelColor = COLOR; } else { colorStyle.tickLabelColor.set(COLOR); }
+        if (null == colorStyle.zeroColor) { mutableColorStyle()._zeroColor = COLOR; } else { colorStyle.zeroColor.set(COLOR); }
+        if (null == colorStyle.tickMarkColor) { mutableColorStyle()._tickMarkColor = COLOR; } else { colorStyle.tickMarkColor.set(COLOR); }
+        if (null == tickMarkStyle.majorTickMarkColor) { mutableTickMarkStyle()._majorTickMarkColor = COLOR; } else { tickMarkStyle.majorTickMarkColor.set(COLOR); }
+        if (null == tickMarkStyle.mediumTickMarkColor) { mutableTickMarkStyle()._mediumTickMarkColor = COLOR; } else { tickMarkStyle.mediumTickMarkColor.set(COLOR); }
+        if (null == tickMarkStyle.minorTickMarkColor) { mutableTickMarkStyle()._minorTickMarkColor = COLOR; } else { tickMarkStyle.minorTickMarkColor.set(COLOR); }
         fireUpdateEvent(REDRAW_EVENT);
     }
 
@@ -1713,7 +2187,7 @@ public class Gauge extends Control {
      *
      * @return the color that will used to visualize the 0 tickmark and ticklabel
      */
-    public Color getZeroColor() { return null == zeroColor ? _zeroColor : zeroColor.get(); }
+    public Color getZeroColor() { return null == colorStyle.zeroColor ? colorStyle._zeroColor : colorStyle.zeroColor.get(); }
     /**
      * Defines the color that will be used to colorize the 0 tickmark and ticklabel
      * when the gauge range has a negative min- and positive maxValue.
@@ -1721,23 +2195,23 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setZeroColor(final Color COLOR) {
-        if (null == zeroColor) {
-            _zeroColor = COLOR;
+        if (null == colorStyle.zeroColor) {
+            if (!Objects.equals(COLOR, colorStyle._zeroColor)) { mutableColorStyle()._zeroColor = COLOR; }
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            zeroColor.set(COLOR);
+            colorStyle.zeroColor.set(COLOR);
         }
     }
     public ObjectProperty<Color> zeroColorProperty() {
-        if (null == zeroColor) {
-            zeroColor  = new ObjectPropertyBase<Color>(_zeroColor) {
+        if (null == colorStyle.zeroColor) {
+            mutableColorStyle().zeroColor = new ObjectPropertyBase<Color>(colorStyle._zeroColor) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "zeroColor"; }
             };
-            _zeroColor = null;
+            colorStyle._zeroColor = null;
         }
-        return zeroColor;
+        return colorStyle.zeroColor;
     }
 
     /**
@@ -2058,7 +2532,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the knob of the radial gauges
      */
-    public Color getKnobColor() { return null == knobColor ? _knobColor : knobColor.get(); }
+    public Color getKnobColor() { return null == colorStyle.knobColor ? colorStyle._knobColor : colorStyle.knobColor.get(); }
     /**
      * Defines the color that will be used to colorize the knob of
      * the radial gauges.
@@ -2066,23 +2540,23 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setKnobColor(final Color COLOR) {
-        if (null == knobColor) {
-            _knobColor = COLOR;
+        if (null == colorStyle.knobColor) {
+            if (!Objects.equals(COLOR, colorStyle._knobColor)) { mutableColorStyle()._knobColor = COLOR; }
             fireUpdateEvent(RESIZE_EVENT);
         } else {
-            knobColor.set(COLOR);
+            colorStyle.knobColor.set(COLOR);
         }
     }
     public ObjectProperty<Color> knobColorProperty() {
-        if (null == knobColor) {
-            knobColor  = new ObjectPropertyBase<Color>(_knobColor) {
+        if (null == colorStyle.knobColor) {
+            mutableColorStyle().knobColor = new ObjectPropertyBase<Color>(colorStyle._knobColor) {
                 @Override protected void invalidated() { fireUpdateEvent(RESIZE_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "knobColor"; }
             };
-            _knobColor = null;
+            colorStyle._knobColor = null;
         }
-        return knobColor;
+        return colorStyle.knobColor;
     }
 
     /**
@@ -2255,6 +2729,111 @@ public class Gauge extends Control {
      */
     public void setAnimationDuration(final long ANIMATION_DURATION) { animationDuration = Helper.clamp(10, 10000, ANIMATION_DURATION); }
 
+    /**
+     * Returns the absolute dead-band of the value. A new value that differs
+     * less than the dead-band from the current value will be suppressed.
+     * The default value is 0 (no dead-band).
+     *
+     * @return the absolute dead-band of the value
+     */
+    public double getValueDeadBand() { return valueFilter._deadBand; }
+    /**
+     * Defines the absolute dead-band of the value. A new value that differs
+     * less than the dead-band from the current value will be suppressed.
+     *
+     * @param DEAD_BAND
+     */
+    public void setValueDeadBand(final double DEAD_BAND) {
+        final double DB = Math.max(0, DEAD_BAND);
+        if (Double.compare(DB, valueFilter._deadBand) != 0) { mutableValueFilter()._deadBand = DB; }
+    }
+
+    /**
+     * Returns the dead-band of the value relative to the range of the gauge
+     * (e.g. 0.001 suppresses changes smaller than 0.1% of the range).
+     * The default value is 0 (no dead-band).
+     *
+     * @return the dead-band of the value relative to the range
+     */
+    public double getRelativeValueDeadBand() { return valueFilter._relativeDeadBand; }
+    /**
+     * Defines the dead-band of the value relative to the range of the gauge
+     * (e.g. 0.001 suppresses changes smaller than 0.1% of the range). The
+     * value will be clamped in the range of 0 - 1.
+     *
+     * @param RELATIVE_DEAD_BAND
+     */
+    public void setRelativeValueDeadBand(final double RELATIVE_DEAD_BAND) {
+        final double DB = Helper.clamp(0.0, 1.0, RELATIVE_DEAD_BAND);
+        if (Double.compare(DB, valueFilter._relativeDeadBand) != 0) { mutableValueFilter()._relativeDeadBand = DB; }
+    }
+
+    /**
+     * Returns true if new values that would not lead to a visible change
+     * will be suppressed. A change is not visible if the value rounded to
+     * the number of decimals stays the same and the indicator would move
+     * less than one pixel (as reported by GaugeSkinBase.getPixelsPerUnit()
+     * of the current skin).
+     *
+     * @return true if changes below the visual resolution will be suppressed
+     */
+    public boolean isVisualDeadBandEnabled() { return valueFilter._visualDeadBand; }
+    /**
+     * Defines if new values that would not lead to a visible change should
+     * be suppressed.
+     *
+     * @param ENABLED
+     */
+    public void setVisualDeadBandEnabled(final boolean ENABLED) {
+        if (ENABLED != valueFilter._visualDeadBand) { mutableValueFilter()._visualDeadBand = ENABLED; }
+    }
+
+    /**
+     * Returns the maximum number of value updates per second. Values that
+     * come in faster will be suppressed, the latest suppressed value will
+     * be set when the interval is over. The default value is 0 (no limit).
+     *
+     * @return the maximum number of value updates per second
+     */
+    public double getMaxUpdateRate() { return valueFilter._maxUpdateRate; }
+    /**
+     * Defines the maximum number of value updates per second [Hz]. Values
+     * that come in faster will be suppressed, the latest suppressed value
+     * will be set when the interval is over. 0 switches the limit off.
+     *
+     * @param RATE
+     */
+    public void setMaxUpdateRate(final double RATE) {
+        final double R = Math.max(0, RATE);
+        if (Double.compare(R, valueFilter._maxUpdateRate) != 0) { mutableValueFilter()._maxUpdateRate = R; }
+    }
+
+    /**
+     * Returns true if suppressed values will still be added to the moving
+     * average and to the min- and maxMeasuredValue.
+     *
+     * @return true if suppressed values will still be tracked
+     */
+    public boolean isTrackingSuppressedValues() { return valueFilter._trackSuppressed; }
+    /**
+     * Defines if suppressed values should still be added to the moving
+     * average and to the min- and maxMeasuredValue.
+     *
+     * @param TRACKING
+     */
+    public void setTrackingSuppressedValues(final boolean TRACKING) {
+        if (TRACKING != valueFilter._trackSuppressed) { mutableValueFilter()._trackSuppressed = TRACKING; }
+    }
+
+    /**
+     * Returns the number of values that have been suppressed by the
+     * dead-bands or the max update rate since the last reset.
+     *
+     * @return the number of suppressed values
+     */
+    public long getSuppressedValueCount() { return valueFilter.suppressed; }
+    public void resetSuppressedValueCount() { if (ValueFilter.DEFAULT != valueFilter) { valueFilter.suppressed = 0; } }
+
     /**
      * Returns the angle in degree that defines the start of the scale with
      * it's minValue in a radial gauge. If set to 0 the scale will start at
@@ -2489,6 +3068,44 @@ public class Gauge extends Control {
         return shadowsEnabled;
     }
 
+    /**
+     * Returns the rendering profile of the gauge. In PERFORMANCE mode
+     * the skins will not apply effects to nodes that change with the
+     * value and render effects on static nodes into cached bitmaps.
+     *
+     * @return the rendering profile of the gauge
+     */
+    public RenderingProfile getRenderingProfile() { return null == renderingProfile ? _renderingProfile : renderingProfile.get(); }
+    /**
+     * Defines the rendering profile of the gauge. In PERFORMANCE mode
+     * the skins will not apply effects to nodes that change with the
+     * value and render effects on static nodes into cached bitmaps.
+     * The default is taken from RenderingProfile.getDefault().
+     *
+     * @param PROFILE
+     */
+    public void setRenderingProfile(final RenderingProfile PROFILE) {
+        if (null == renderingProfile) {
+            _renderingProfile = null == PROFILE ? RenderingProfile.QUALITY : PROFILE;
+            fireUpdateEvent(REDRAW_EVENT);
+        } else {
+            renderingProfile.set(PROFILE);
+        }
+    }
+    public ObjectProperty<RenderingProfile> renderingProfileProperty() {
+        if (null == renderingProfile) {
+            renderingProfile = new ObjectPropertyBase<RenderingProfile>(_renderingProfile) {
+                @Override protected void invalidated() {
+                    if (null == get()) { set(RenderingProfile.QUALITY); }
+                    fireUpdateEvent(REDRAW_EVENT);
+                }
+                @Override public Object getBean() { return Gauge.this; }
+                @Override public String getName() { return "renderingProfile"; }
+            };
+        }
+        return renderingProfile;
+    }
+
     /**
      * Returns true if the highlight effect on the gauges like the
      * LinearSkin bar will be drawn. If you would like to have a
@@ -2649,7 +3266,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the ticklabels
      */
-    public Color getTickLabelColor() { return null == tickLabelColor ? _tickLabelColor : tickLabelColor.get(); }
+    public Color getTickLabelColor() { return null == colorStyle.tickLabelColor ? colorStyle._tickLabelColor : colorStyle.tickLabelColor.get(); }
     /**
      * Defines the color that will be used to colorize the ticklabels. This color
      * will only be used if no ticklabel section defines a different color.
@@ -2657,23 +3274,23 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setTickLabelColor(final Color COLOR) {
-        if (null == tickLabelColor) {
-            _tickLabelColor = COLOR;
+        if (null == colorStyle.tickLabelColor) {
+            if (!Objects.equals(COLOR, colorStyle._tickLabelColor)) { mutableColorStyle()._tickLabelColor = COLOR; }
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            tickLabelColor.set(COLOR);
+            colorStyle.tickLabelColor.set(COLOR);
         }
     }
     public ObjectProperty<Color> tickLabelColorProperty() {
-        if (null == tickLabelColor) {
-            tickLabelColor  = new ObjectPropertyBase<Color>(_tickLabelColor) {
+        if (null == colorStyle.tickLabelColor) {
+            mutableColorStyle().tickLabelColor = new ObjectPropertyBase<Color>(colorStyle._tickLabelColor) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "tickLabelColor"; }
             };
-            _tickLabelColor = null;
+            colorStyle._tickLabelColor = null;
         }
-        return tickLabelColor;
+        return colorStyle.tickLabelColor;
     }
 
     /**
@@ -2683,7 +3300,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the tickmarks
      */
-    public Color getTickMarkColor() { return null == tickMarkColor ? _tickMarkColor : tickMarkColor.get(); }
+    public Color getTickMarkColor() { return null == colorStyle.tickMarkColor ? colorStyle._tickMarkColor : colorStyle.tickMarkColor.get(); }
     /**
      * Defines the color that will be used to colorize the tickmarks. This color
      * will only be used if no tickmark section or major-, medium- and minorTickMarkColor
@@ -2692,23 +3309,23 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setTickMarkColor(final Color COLOR) {
-        if (null == tickMarkColor) {
-            _tickMarkColor = COLOR;
+        if (null == colorStyle.tickMarkColor) {
+            if (!Objects.equals(COLOR, colorStyle._tickMarkColor)) { mutableColorStyle()._tickMarkColor = COLOR; }
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            tickMarkColor.set(COLOR);
+            colorStyle.tickMarkColor.set(COLOR);
         }
     }
     public ObjectProperty<Color> tickMarkColorProperty() {
-        if (null == tickMarkColor) {
-            tickMarkColor  = new ObjectPropertyBase<Color>(_tickMarkColor) {
+        if (null == colorStyle.tickMarkColor) {
+            mutableColorStyle().tickMarkColor = new ObjectPropertyBase<Color>(colorStyle._tickMarkColor) {
                 @Override protected void invalidated() { fireUpdateEvent( REDRAW_EVENT ); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "tickMarkColor"; }
             };
-            _tickMarkColor = null;
+            colorStyle._tickMarkColor = null;
         }
-        return tickMarkColor;
+        return colorStyle.tickMarkColor;
     }
 
     /**
@@ -2718,7 +3335,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the major tickmarks
      */
-    public Color getMajorTickMarkColor() { return null == majorTickMarkColor ? _majorTickMarkColor : majorTickMarkColor.get(); }
+    public Color getMajorTickMarkColor() { return null == tickMarkStyle.majorTickMarkColor ? tickMarkStyle._majorTickMarkColor : tickMarkStyle.majorTickMarkColor.get(); }
     /**
      * Defines the color that will be used to colorize the major
      * tickmarks. This color will only be used if no tickmark
@@ -2727,23 +3344,23 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setMajorTickMarkColor(final Color COLOR) {
-        if (null == majorTickMarkColor) {
-            _majorTickMarkColor = COLOR;
+        if (null == tickMarkStyle.majorTickMarkColor) {
+            if (!Objects.equals(COLOR, tickMarkStyle._majorTickMarkColor)) { mutableTickMarkStyle()._majorTickMarkColor = COLOR; }
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            majorTickMarkColor.set(COLOR);
+            tickMarkStyle.majorTickMarkColor.set(COLOR);
         }
     }
     public ObjectProperty<Color> majorTickMarkColorProperty() {
-        if (null == majorTickMarkColor) {
-            majorTickMarkColor  = new ObjectPropertyBase<Color>(_majorTickMarkColor) {
+        if (null == tickMarkStyle.majorTickMarkColor) {
+            mutableTickMarkStyle().majorTickMarkColor  = new ObjectPropertyBase<Color>(tickMarkStyle._majorTickMarkColor) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "majorTickMarkColor"; }
             };
-            _majorTickMarkColor = null;
+            tickMarkStyle._majorTickMarkColor = null;
         }
-        return majorTickMarkColor;
+        return tickMarkStyle.majorTickMarkColor;
     }
 
     /**
@@ -2752,7 +3369,7 @@ public class Gauge extends Control {
      *
      * @return the factor that defines the length of the major tick mark
      */
-    public double getMajorTickMarkLengthFactor() { return null == majorTickMarkLengthFactor ? _majorTickMarkLengthFactor : majorTickMarkLengthFactor.get(); }
+    public double getMajorTickMarkLengthFactor() { return null == tickMarkStyle.majorTickMarkLengthFactor ? tickMarkStyle._majorTickMarkLengthFactor : tickMarkStyle.majorTickMarkLengthFactor.get(); }
     /**
      * The factor defines the length of the major tick mark.
      * It can be in the range from 0 - 1.
@@ -2760,16 +3377,17 @@ public class Gauge extends Control {
      * @param FACTOR
      */
     public void setMajorTickMarkLengthFactor(final double FACTOR) {
-        if (null == majorTickMarkLengthFactor) {
-            _majorTickMarkLengthFactor = Helper.clamp(0.0, 1.0, FACTOR);
+        if (null == tickMarkStyle.majorTickMarkLengthFactor) {
+            final double VALUE = Helper.clamp(0.0, 1.0, FACTOR);
+            if (Double.compare(VALUE, tickMarkStyle._majorTickMarkLengthFactor) != 0) { mutableTickMarkStyle()._majorTickMarkLengthFactor = VALUE; }
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            majorTickMarkLengthFactor.set(FACTOR);
+            tickMarkStyle.majorTickMarkLengthFactor.set(FACTOR);
         }
     }
     public DoubleProperty majorTickMarkLengthFactorProperty() {
-        if (null == majorTickMarkLengthFactor) {
-            majorTickMarkLengthFactor = new DoublePropertyBase(_majorTickMarkLengthFactor) {
+        if (null == tickMarkStyle.majorTickMarkLengthFactor) {
+            mutableTickMarkStyle().majorTickMarkLengthFactor = new DoublePropertyBase(tickMarkStyle._majorTickMarkLengthFactor) {
                 @Override protected void invalidated() {
                     final double VALUE = get();
                     if (VALUE < 0 || VALUE > 1) set(Helper.clamp(0.0, 1.0, VALUE));
@@ -2779,7 +3397,7 @@ public class Gauge extends Control {
                 @Override public String getName() { return "majorTickMarkLengthFactor"; }
             };
         }
-        return majorTickMarkLengthFactor;
+        return tickMarkStyle.majorTickMarkLengthFactor;
     }
 
     /**
@@ -2788,7 +3406,7 @@ public class Gauge extends Control {
      *
      * @return the factor that defines the width of the major tick mark
      */
-    public double getMajorTickMarkWidthFactor() { return null == majorTickMarkWidthFactor ? _majorTickMarkWidthFactor : majorTickMarkWidthFactor.get(); }
+    public double getMajorTickMarkWidthFactor() { return null == tickMarkStyle.majorTickMarkWidthFactor ? tickMarkStyle._majorTickMarkWidthFactor : tickMarkStyle.majorTickMarkWidthFactor.get(); }
     /**
      * The factor defines the width of the major tick mark.
      * It can be in the range from 0 - 1.
@@ -2796,16 +3414,17 @@ public class Gauge extends Control {
      * @param FACTOR
      */
     public void setMajorTickMarkWidthFactor(final double FACTOR) {
-        if (null == majorTickMarkWidthFactor) {
-            _majorTickMarkWidthFactor = Helper.clamp(0.0, 1.0, FACTOR);
+        if (null == tickMarkStyle.majorTickMarkWidthFactor) {
+            final double VALUE = Helper.clamp(0.0, 1.0, FACTOR);
+            if (Double.compare(VALUE, tickMarkStyle._majorTickMarkWidthFactor) != 0) { mutableTickMarkStyle()._majorTickMarkWidthFactor = VALUE; }
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            majorTickMarkWidthFactor.set(FACTOR);
+            tickMarkStyle.majorTickMarkWidthFactor.set(FACTOR);
         }
     }
     public DoubleProperty majorTickMarkWidthFactorProperty() {
-        if (null == majorTickMarkWidthFactor) {
-            majorTickMarkWidthFactor = new DoublePropertyBase(_majorTickMarkWidthFactor) {
+        if (null == tickMarkStyle.majorTickMarkWidthFactor) {
+            mutableTickMarkStyle().majorTickMarkWidthFactor = new DoublePropertyBase(tickMarkStyle._majorTickMarkWidthFactor) {
                 @Override protected void invalidated() {
                     final double VALUE = get();
                     if (VALUE < 0 || VALUE > 1) set(Helper.clamp(0.0, 1.0, VALUE));
@@ -2815,7 +3434,7 @@ public class Gauge extends Control {
                 @Override public String getName() { return "majorTickMarkWidthFactor"; }
             };
         }
-        return majorTickMarkWidthFactor;
+        return tickMarkStyle.majorTickMarkWidthFactor;
     }
 
     /**
@@ -2825,7 +3444,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the medium tickmark
      */
-    public Color getMediumTickMarkColor() { return null == mediumTickMarkColor ? _mediumTickMarkColor : mediumTickMarkColor.get(); }
+    public Color getMediumTickMarkColor() { return null == tickMarkStyle.mediumTickMarkColor ? tickMarkStyle._mediumTickMarkColor : tickMarkStyle.mediumTickMarkColor.get(); }
     /**
      * Defines the color that will be used to colorize the medium
      * tickmarks. This color will only be used if no tickmark
@@ -2834,23 +3453,23 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setMediumTickMarkColor(final Color COLOR) {
-        if (null == mediumTickMarkColor) {
-            _mediumTickMarkColor = COLOR;
+        if (null == tickMarkStyle.mediumTickMarkColor) {
+            if (!Objects.equals(COLOR, tickMarkStyle._mediumTickMarkColor)) { mutableTickMarkStyle()._mediumTickMarkColor = COLOR; }
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            mediumTickMarkColor.set(COLOR);
+            tickMarkStyle.mediumTickMarkColor.set(COLOR);
         }
     }
     public ObjectProperty<Color> mediumTickMarkColorProperty() {
-        if (null == mediumTickMarkColor) {
-            mediumTickMarkColor  = new ObjectPropertyBase<Color>(_mediumTickMarkColor) {
+        if (null == tickMarkStyle.mediumTickMarkColor) {
+            mutableTickMarkStyle().mediumTickMarkColor  = new ObjectPropertyBase<Color>(tickMarkStyle._mediumTickMarkColor) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "mediumTickMarkColor"; }
             };
-            _mediumTickMarkColor = null;
+            tickMarkStyle._mediumTickMarkColor = null;
         }
-        return mediumTickMarkColor;
+        return tickMarkStyle.mediumTickMarkColor;
     }
 
     /**
@@ -2859,7 +3478,7 @@ public class Gauge extends Control {
      *
      * @return the factor that defines the length of the medium tick mark
      */
-    public double getMediumTickMarkLengthFactor() { return null == mediumTickMarkLengthFactor ? _mediumTickMarkLengthFactor : mediumTickMarkLengthFactor.get(); }
+    public double getMediumTickMarkLengthFactor() { return null == tickMarkStyle.mediumTickMarkLengthFactor ? tickMarkStyle._mediumTickMarkLengthFactor : tickMarkStyle.mediumTickMarkLengthFactor.get(); }
     /**
      * The factor defines the length of the medium tick mark.
      * It can be in the range from 0 - 1.
@@ -2867,16 +3486,17 @@ public class Gauge extends Control {
      * @param FACTOR
      */
     public void setMediumTickMarkLengthFactor(final double FACTOR) {
-        if (null == mediumTickMarkLengthFactor) {
-            _mediumTickMarkLengthFactor = Helper.clamp(0.0, 1.0, FACTOR);
+        if (null == tickMarkStyle.mediumTickMarkLengthFactor) {
+            final double VALUE = Helper.clamp(0.0, 1.0, FACTOR);
+            if (Double.compare(VALUE, tickMarkStyle._mediumTickMarkLengthFactor) != 0) { mutableTickMarkStyle()._mediumTickMarkLengthFactor = VALUE; }
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            mediumTickMarkLengthFactor.set(FACTOR);
+            tickMarkStyle.mediumTickMarkLengthFactor.set(FACTOR);
         }
     }
     public DoubleProperty mediumTickMarkLengthFactorProperty() {
-        if (null == mediumTickMarkLengthFactor) {
-            mediumTickMarkLengthFactor = new DoublePropertyBase(_mediumTickMarkLengthFactor) {
+        if (null == tickMarkStyle.mediumTickMarkLengthFactor) {
+            mutableTickMarkStyle().mediumTickMarkLengthFactor = new DoublePropertyBase(tickMarkStyle._mediumTickMarkLengthFactor) {
                 @Override protected void invalidated() {
                     final double VALUE = get();
                     if (VALUE < 0 || VALUE > 1) set(Helper.clamp(0.0, 1.0, VALUE));
@@ -2886,7 +3506,7 @@ public class Gauge extends Control {
                 @Override public String getName() { return "mediumTickMarkLengthFactor"; }
             };
         }
-        return mediumTickMarkLengthFactor;
+        return tickMarkStyle.mediumTickMarkLengthFactor;
     }
 
     /**
@@ -2895,7 +3515,7 @@ public class Gauge extends Control {
      *
      * @return the factor that defines the width of the medium tick mark
      */
-    public double getMediumTickMarkWidthFactor() { return null == mediumTickMarkWidthFactor ? _mediumTickMarkWidthFactor : mediumTickMarkWidthFactor.get(); }
+    public double getMediumTickMarkWidthFactor() { return null == tickMarkStyle.mediumTickMarkWidthFactor ? tickMarkStyle._mediumTickMarkWidthFactor : tickMarkStyle.mediumTickMarkWidthFactor.get(); }
     /**
      * The factor defines the width of the medium tick mark.
      * It can be in the range from 0 - 1.
@@ -2903,16 +3523,17 @@ public class Gauge extends Control {
      * @param FACTOR
      */
     public void setMediumTickMarkWidthFactor(final double FACTOR) {
-        if (null == mediumTickMarkWidthFactor) {
-            _mediumTickMarkWidthFactor = Helper.clamp(0.0, 1.0, FACTOR);
+        if (null == tickMarkStyle.mediumTickMarkWidthFactor) {
+            final double VALUE = Helper.clamp(0.0, 1.0, FACTOR);
+            if (Double.compare(VALUE, tickMarkStyle._mediumTickMarkWidthFactor) != 0) { mutableTickMarkStyle()._mediumTickMarkWidthFactor = VALUE; }
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            mediumTickMarkWidthFactor.set(FACTOR);
+            tickMarkStyle.mediumTickMarkWidthFactor.set(FACTOR);
         }
     }
     public DoubleProperty mediumTickMarkWidthFactorProperty() {
-        if (null == mediumTickMarkWidthFactor) {
-            mediumTickMarkWidthFactor = new DoublePropertyBase(_mediumTickMarkWidthFactor) {
+        if (null == tickMarkStyle.mediumTickMarkWidthFactor) {
+            mutableTickMarkStyle().mediumTickMarkWidthFactor = new DoublePropertyBase(tickMarkStyle._mediumTickMarkWidthFactor) {
                 @Override protected void invalidated() {
                     final double VALUE = get();
                     if (VALUE < 0 || VALUE > 1) set(Helper.clamp(0.0, 1.0, VALUE));
@@ -2922,7 +3543,7 @@ public class Gauge extends Control {
                 @Override public String getName() { return "mediumTickMarkWidthFactor"; }
             };
         }
-        return mediumTickMarkWidthFactor;
+        return tickMarkStyle.mediumTickMarkWidthFactor;
     }
 
     /**
@@ -2932,7 +3553,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the minor tickmark
      */
-    public Color getMinorTickMarkColor() { return null == minorTickMarkColor ? _minorTickMarkColor : minorTickMarkColor.get(); }
+    public Color getMinorTickMarkColor() { return null == tickMarkStyle.minorTickMarkColor ? tickMarkStyle._minorTickMarkColor : tickMarkStyle.minorTickMarkColor.get(); }
     /**
      * Defines the color that will be used to colorize the minor
      * tickmarks. This color will only be used if no tickmark
@@ -2941,23 +3562,23 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setMinorTickMarkColor(final Color COLOR) {
-        if (null == minorTickMarkColor) {
-            _minorTickMarkColor = COLOR;
+        if (null == tickMarkStyle.minorTickMarkColor) {
+            if (!Objects.equals(COLOR, tickMarkStyle._minorTickMarkColor)) { mutableTickMarkStyle()._minorTickMarkColor = COLOR; }
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            minorTickMarkColor.set(COLOR);
+            tickMarkStyle.minorTickMarkColor.set(COLOR);
         }
     }
     public ObjectProperty<Color> minorTickMarkColorProperty() {
-        if (null == minorTickMarkColor) {
-            minorTickMarkColor  = new ObjectPropertyBase<Color>(_minorTickMarkColor) {
+        if (null == tickMarkStyle.minorTickMarkColor) {
+            mutableTickMarkStyle().minorTickMarkColor  = new ObjectPropertyBase<Color>(tickMarkStyle._minorTickMarkColor) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "minorTickMarkColor"; }
             };
-            _minorTickMarkColor = null;
+            tickMarkStyle._minorTickMarkColor = null;
         }
-        return minorTickMarkColor;
+        return tickMarkStyle.minorTickMarkColor;
     }
 
     /**
@@ -2966,7 +3587,7 @@ public class Gauge extends Control {
      *
      * @return the factor that defines the length of the minor tick mark
      */
-    public double getMinorTickMarkLengthFactor() { return null == minorTickMarkLengthFactor ? _minorTickMarkLengthFactor : minorTickMarkLengthFactor.get(); }
+    public double getMinorTickMarkLengthFactor() { return null == tickMarkStyle.minorTickMarkLengthFactor ? tickMarkStyle._minorTickMarkLengthFactor : tickMarkStyle.minorTickMarkLengthFactor.get(); }
     /**
      * The factor defines the length of the minor tick mark.
      * It can be in the range from 0 - 1.
@@ -2974,16 +3595,17 @@ public class Gauge extends Control {
      * @param FACTOR
      */
     public void setMinorTickMarkLengthFactor(final double FACTOR) {
-        if (null == minorTickMarkLengthFactor) {
-            _minorTickMarkLengthFactor = Helper.clamp(0.0, 1.0, FACTOR);
+        if (null == tickMarkStyle.minorTickMarkLengthFactor) {
+            final double VALUE = Helper.clamp(0.0, 1.0, FACTOR);
+            if (Double.compare(VALUE, tickMarkStyle._minorTickMarkLengthFactor) != 0) { mutableTickMarkStyle()._minorTickMarkLengthFactor = VALUE; }
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            minorTickMarkLengthFactor.set(FACTOR);
+            tickMarkStyle.minorTickMarkLengthFactor.set(FACTOR);
         }
     }
     public DoubleProperty minorTickMarkLengthFactorProperty() {
-        if (null == minorTickMarkLengthFactor) {
-            minorTickMarkLengthFactor = new DoublePropertyBase(_minorTickMarkLengthFactor) {
+        if (null == tickMarkStyle.minorTickMarkLengthFactor) {
+            mutableTickMarkStyle().minorTickMarkLengthFactor = new DoublePropertyBase(tickMarkStyle._minorTickMarkLengthFactor) {
                 @Override protected void invalidated() {
                     final double VALUE = get();
                     if (VALUE < 0 || VALUE > 1) set(Helper.clamp(0.0, 1.0, VALUE));
@@ -2993,7 +3615,7 @@ public class Gauge extends Control {
                 @Override public String getName() { return "minorTickMarkLengthFactor"; }
             };
         }
-        return minorTickMarkLengthFactor;
+        return tickMarkStyle.minorTickMarkLengthFactor;
     }
 
     /**
@@ -3002,7 +3624,7 @@ public class Gauge extends Control {
      *
      * @return the factor that defines the width of the minor tick mark
      */
-    public double getMinorTickMarkWidthFactor() { return null == minorTickMarkWidthFactor ? _minorTickMarkWidthFactor : minorTickMarkWidthFactor.get(); }
+    public double getMinorTickMarkWidthFactor() { return null == tickMarkStyle.minorTickMarkWidthFactor ? tickMarkStyle._minorTickMarkWidthFactor : tickMarkStyle.minorTickMarkWidthFactor.get(); }
     /**
      * The factor defines the width of the minor tick mark.
      * It can be in the range from 0 - 1.
@@ -3010,16 +3632,17 @@ public class Gauge extends Control {
      * @param FACTOR
      */
     public void setMinorTickMarkWidthFactor(final double FACTOR) {
-        if (null == minorTickMarkWidthFactor) {
-            _minorTickMarkWidthFactor = Helper.clamp(0.0, 1.0, FACTOR);
+        if (null == tickMarkStyle.minorTickMarkWidthFactor) {
+            final double VALUE = Helper.clamp(0.0, 1.0, FACTOR);
+            if (Double.compare(VALUE, tickMarkStyle._minorTickMarkWidthFactor) != 0) { mutableTickMarkStyle()._minorTickMarkWidthFactor = VALUE; }
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            minorTickMarkWidthFactor.set(FACTOR);
+            tickMarkStyle.minorTickMarkWidthFactor.set(FACTOR);
         }
     }
     public DoubleProperty minorTickMarkWidthFactorProperty() {
-        if (null == minorTickMarkWidthFactor) {
-            minorTickMarkWidthFactor = new DoublePropertyBase(_minorTickMarkWidthFactor) {
+        if (null == tickMarkStyle.minorTickMarkWidthFactor) {
+            mutableTickMarkStyle().minorTickMarkWidthFactor = new DoublePropertyBase(tickMarkStyle._minorTickMarkWidthFactor) {
                 @Override protected void invalidated() {
                     final double VALUE = get();
                     if (VALUE < 0 || VALUE > 1) set(Helper.clamp(0.0, 1.0, VALUE));
@@ -3029,7 +3652,7 @@ public class Gauge extends Control {
                 @Override public String getName() { return "minorTickMarkWidthFactor"; }
             };
         }
-        return minorTickMarkWidthFactor;
+        return tickMarkStyle.minorTickMarkWidthFactor;
     }
 
     /**
@@ -3038,7 +3661,7 @@ public class Gauge extends Control {
      *
      * @return the shape that will be used to visualize the major tickmark
      */
-    public TickMarkType getMajorTickMarkType() { return null == majorTickMarkType ? _majorTickMarkType : majorTickMarkType.get(); }
+    public TickMarkType getMajorTickMarkType() { return null == tickMarkStyle.majorTickMarkType ? tickMarkStyle._majorTickMarkType : tickMarkStyle.majorTickMarkType.get(); }
     /**
      * Defines the shape that will be used to visualize the major tickmark.
      * Values are LINE, DOT, TRAPEZOID, BOX, TICK_LABEL and PILL
@@ -3046,16 +3669,17 @@ public class Gauge extends Control {
      * @param TYPE
      */
     public void setMajorTickMarkType(final TickMarkType TYPE) {
-        if (null == majorTickMarkType) {
-            _majorTickMarkType = null == TYPE ? TickMarkType.LINE : TYPE;
+        if (null == tickMarkStyle.majorTickMarkType) {
+            final TickMarkType VALUE = null == TYPE ? TickMarkType.LINE : TYPE;
+            if (VALUE != tickMarkStyle._majorTickMarkType) { mutableTickMarkStyle()._majorTickMarkType = VALUE; }
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            majorTickMarkType.set(TYPE);
+            tickMarkStyle.majorTickMarkType.set(TYPE);
         }
     }
     public ObjectProperty<TickMarkType> majorTickMarkTypeProperty() {
-        if (null == majorTickMarkType) {
-            majorTickMarkType  = new ObjectPropertyBase<TickMarkType>(_majorTickMarkType) {
+        if (null == tickMarkStyle.majorTickMarkType) {
+            mutableTickMarkStyle().majorTickMarkType  = new ObjectPropertyBase<TickMarkType>(tickMarkStyle._majorTickMarkType) {
                 @Override protected void invalidated() {
                     if (null == get()) set(TickMarkType.LINE);
                     fireUpdateEvent(REDRAW_EVENT);
@@ -3063,9 +3687,9 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "majorTickMarkType"; }
             };
-            _majorTickMarkType = null;
+            tickMarkStyle._majorTickMarkType = null;
         }
-        return majorTickMarkType;
+        return tickMarkStyle.majorTickMarkType;
     }
 
     /**
@@ -3074,7 +3698,7 @@ public class Gauge extends Control {
      *
      * @return the shape that will be used to visualize the medium tickmark
      */
-    public TickMarkType getMediumTickMarkType() { return null == mediumTickMarkType ? _mediumTickMarkType : mediumTickMarkType.get(); }
+    public TickMarkType getMediumTickMarkType() { return null == tickMarkStyle.mediumTickMarkType ? tickMarkStyle._mediumTickMarkType : tickMarkStyle.mediumTickMarkType.get(); }
     /**
      * Defines the shape that will be used to visualize the medium tickmark.
      * Values are LINE, DOT, TRAPEZOID, BOX and PILL
@@ -3082,16 +3706,17 @@ public class Gauge extends Control {
      * @param TYPE
      */
     public void setMediumTickMarkType(final TickMarkType TYPE) {
-        if (null == mediumTickMarkType) {
-            _mediumTickMarkType = null == TYPE ? TickMarkType.LINE : TYPE;
+        if (null == tickMarkStyle.mediumTickMarkType) {
+            final TickMarkType VALUE = null == TYPE ? TickMarkType.LINE : TYPE;
+            if (VALUE != tickMarkStyle._mediumTickMarkType) { mutableTickMarkStyle()._mediumTickMarkType = VALUE; }
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            mediumTickMarkType.set(TYPE);
+            tickMarkStyle.mediumTickMarkType.set(TYPE);
         }
     }
     public ObjectProperty<TickMarkType> mediumTickMarkTypeProperty() {
-        if (null == mediumTickMarkType) {
-            mediumTickMarkType  = new ObjectPropertyBase<TickMarkType>(_mediumTickMarkType) {
+        if (null == tickMarkStyle.mediumTickMarkType) {
+            mutableTickMarkStyle().mediumTickMarkType  = new ObjectPropertyBase<TickMarkType>(tickMarkStyle._mediumTickMarkType) {
                 @Override protected void invalidated() {
                     if (null == get()) set(TickMarkType.LINE);
                     fireUpdateEvent(REDRAW_EVENT);
@@ -3099,9 +3724,9 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "mediumTickMarkType"; }
             };
-            _mediumTickMarkType = null;
+            tickMarkStyle._mediumTickMarkType = null;
         }
-        return mediumTickMarkType;
+        return tickMarkStyle.mediumTickMarkType;
     }
 
     /**
@@ -3110,7 +3735,7 @@ public class Gauge extends Control {
      *
      * @return the shape that will be used to visualize the minor tickmark
      */
-    public TickMarkType getMinorTickMarkType() { return null == minorTickMarkType ? _minorTickMarkType : minorTickMarkType.get(); }
+    public TickMarkType getMinorTickMarkType() { return null == tickMarkStyle.minorTickMarkType ? tickMarkStyle._minorTickMarkType : tickMarkStyle.minorTickMarkType.get(); }
     /**
      * Defines the shape that will be used to visualize the minor tickmark.
      * Values are LINE, DOT, TRAPEZOID, BOX and PILL
@@ -3118,16 +3743,17 @@ public class Gauge extends Control {
      * @param TYPE
      */
     public void setMinorTickMarkType(final TickMarkType TYPE) {
-        if (null == minorTickMarkType) {
-            _minorTickMarkType = null == TYPE ? TickMarkType.LINE : TYPE;
+        if (null == tickMarkStyle.minorTickMarkType) {
+            final TickMarkType VALUE = null == TYPE ? TickMarkType.LINE : TYPE;
+            if (VALUE != tickMarkStyle._minorTickMarkType) { mutableTickMarkStyle()._minorTickMarkType = VALUE; }
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            minorTickMarkType.set(TYPE);
+            tickMarkStyle.minorTickMarkType.set(TYPE);
         }
     }
     public ObjectProperty<TickMarkType> minorTickMarkTypeProperty() {
-        if (null == minorTickMarkType) {
-            minorTickMarkType  = new ObjectPropertyBase<TickMarkType>(_minorTickMarkType) {
+        if (null == tickMarkStyle.minorTickMarkType) {
+            mutableTickMarkStyle().minorTickMarkType  = new ObjectPropertyBase<TickMarkType>(tickMarkStyle._minorTickMarkType) {
                 @Override protected void invalidated() {
                     if (null == get()) set(TickMarkType.LINE);
                     fireUpdateEvent(REDRAW_EVENT);
@@ -3135,9 +3761,9 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "minorTickMarkType"; }
             };
-            _minorTickMarkType = null;
+            tickMarkStyle._minorTickMarkType = null;
         }
-        return minorTickMarkType;
+        return tickMarkStyle.minorTickMarkType;
     }
 
     public Locale getLocale() { return null == locale ? _locale : locale.get(); }
@@ -3412,7 +4038,7 @@ public class Gauge extends Control {
      *
      * @return the color that wil be used to colorize the needle
      */
-    public Color getNeedleColor() { return null == needleColor ? _needleColor : needleColor.get(); }
+    public Color getNeedleColor() { return null == colorStyle.needleColor ? colorStyle._needleColor : colorStyle.needleColor.get(); }
     /**
      * Defines the color that will be used to colorize the needle of
      * the radial gauges.
@@ -3420,23 +4046,23 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setNeedleColor(final Color COLOR) {
-        if (null == needleColor) {
-            _needleColor = COLOR;
+        if (null == colorStyle.needleColor) {
+            if (!Objects.equals(COLOR, colorStyle._needleColor)) { mutableColorStyle()._needleColor = COLOR; }
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            needleColor.set(COLOR);
+            colorStyle.needleColor.set(COLOR);
         }
     }
     public ObjectProperty<Color> needleColorProperty() {
-        if (null == needleColor) {
-            needleColor  = new ObjectPropertyBase<Color>(_needleColor) {
+        if (null == colorStyle.needleColor) {
+            mutableColorStyle().needleColor = new ObjectPropertyBase<Color>(colorStyle._needleColor) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "needleColor"; }
             };
-            _needleColor = null;
+            colorStyle._needleColor = null;
         }
-        return needleColor;
+        return colorStyle.needleColor;
     }
 
     /**
@@ -3444,23 +4070,23 @@ public class Gauge extends Control {
      *
      * @return the color that is used to colorize the border of the needle
      */
-    public Color getNeedleBorderColor() { return null == needleBorderColor ? _needleBorderColor : needleBorderColor.get(); }
+    public Color getNeedleBorderColor() { return null == colorStyle.needleBorderColor ? colorStyle._needleBorderColor : colorStyle.needleBorderColor.get(); }
     /**
      * Defines the color that will be used to colorize the border of the needle.
      *
      * @param COLOR
      */
     public void setNeedleBorderColor(final Color COLOR) {
-        if (null == needleBorderColor) {
-            _needleBorderColor = null == COLOR ? Color.TRANSPARENT : COLOR;
+        if (null == colorStyle.needleBorderColor) {
+            if (!Objects.equals(COLOR, colorStyle._needleBorderColor)) { mutableColorStyle()._needleBorderColor = null == COLOR ? Color.TRANSPARENT : COLOR; }
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            needleBorderColor.set(COLOR);
+            colorStyle.needleBorderColor.set(COLOR);
         }
     }
     public ObjectProperty<Color> needleBorderColorProperty() {
-        if (null == needleBorderColor) {
-            needleBorderColor  = new ObjectPropertyBase<Color>(_needleBorderColor) {
+        if (null == colorStyle.needleBorderColor) {
+            mutableColorStyle().needleBorderColor = new ObjectPropertyBase<Color>(colorStyle._needleBorderColor) {
                 @Override protected void invalidated() {
                     if (null == get()) set(Color.TRANSPARENT);
                     fireUpdateEvent(REDRAW_EVENT);
@@ -3468,9 +4094,9 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "needleBorderColor"; }
             };
-            _needleBorderColor = null;
+            colorStyle._needleBorderColor = null;
         }
-        return needleBorderColor;
+        return colorStyle.needleBorderColor;
     }
 
     /**
@@ -3479,7 +4105,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorized the bar (if available)
      */
-    public Color getBarColor() { return null == barColor ? _barColor : barColor.get(); }
+    public Color getBarColor() { return null == colorStyle.barColor ? colorStyle._barColor : colorStyle.barColor.get(); }
     /**
      * Defines the color that will be used to colorize the bar of
      * the gauge (if it has a bar).
@@ -3487,23 +4113,23 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setBarColor(final Color COLOR) {
-        if (null == barColor) {
-            _barColor = COLOR;
+        if (null == colorStyle.barColor) {
+            if (!Objects.equals(COLOR, colorStyle._barColor)) { mutableColorStyle()._barColor = COLOR; }
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            barColor.set(COLOR);
+            colorStyle.barColor.set(COLOR);
         }
     }
     public ObjectProperty<Color> barColorProperty() {
-        if (null == barColor) {
-            barColor  = new ObjectPropertyBase<Color>(_barColor) {
+        if (null == colorStyle.barColor) {
+            mutableColorStyle().barColor = new ObjectPropertyBase<Color>(colorStyle._barColor) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "barColor"; }
             };
-            _barColor = null;
+            colorStyle._barColor = null;
         }
-        return barColor;
+        return colorStyle.barColor;
     }
 
     /**
@@ -3511,23 +4137,23 @@ public class Gauge extends Control {
      *
      * @return the color that is used to colorize the border of the bar
      */
-    public Color getBarBorderColor() { return null == barBorderColor ? _barBorderColor : barBorderColor.get(); }
+    public Color getBarBorderColor() { return null == colorStyle.barBorderColor ? colorStyle._barBorderColor : colorStyle.barBorderColor.get(); }
     /**
      * Defines the color that will be used to colorize the border of the bar.
      *
      * @param COLOR
      */
     public void setBarBorderColor(final Color COLOR) {
-        if (null == barBorderColor) {
-            _barBorderColor = null == COLOR ? Color.TRANSPARENT : COLOR;
+        if (null == colorStyle.barBorderColor) {
+            if (!Objects.equals(COLOR, colorStyle._barBorderColor)) { mutableColorStyle()._barBorderColor = null == COLOR ? Color.TRANSPARENT : COLOR; }
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            barBorderColor.set(COLOR);
+            colorStyle.barBorderColor.set(COLOR);
         }
     }
     public ObjectProperty<Color> barBorderColorProperty() {
-        if (null == barBorderColor) {
-            barBorderColor  = new ObjectPropertyBase<Color>(_barBorderColor) {
+        if (null == colorStyle.barBorderColor) {
+            mutableColorStyle().barBorderColor = new ObjectPropertyBase<Color>(colorStyle._barBorderColor) {
                 @Override protected void invalidated() {
                     if(null == get()) set(Color.TRANSPARENT);
                     fireUpdateEvent(REDRAW_EVENT);
@@ -3535,9 +4161,9 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "barBorderColor"; }
             };
-            _barBorderColor = null;
+            colorStyle._barBorderColor = null;
         }
-        return barBorderColor;
+        return colorStyle.barBorderColor;
     }
 
     /**
@@ -3546,7 +4172,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the bar background
      */
-    public Color getBarBackgroundColor() { return null == barBackgroundColor ? _barBackgroundColor : barBackgroundColor.get(); }
+    public Color getBarBackgroundColor() { return null == colorStyle.barBackgroundColor ? colorStyle._barBackgroundColor : colorStyle.barBackgroundColor.get(); }
     /**
      * Returns the color that will be used to colorize the bar background of
      * the gauge (if it has a bar).
@@ -3554,23 +4180,23 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setBarBackgroundColor(final Color COLOR) {
-        if (null == barBackgroundColor) {
-            _barBackgroundColor = COLOR;
+        if (null == colorStyle.barBackgroundColor) {
+            if (!Objects.equals(COLOR, colorStyle._barBackgroundColor)) { mutableColorStyle()._barBackgroundColor = COLOR; }
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            barBackgroundColor.set(COLOR);
+            colorStyle.barBackgroundColor.set(COLOR);
         }
     }
     public ObjectProperty<Color> barBackgroundColorProperty() {
-        if (null == barBackgroundColor) {
-            barBackgroundColor  = new ObjectPropertyBase<Color>(_barBackgroundColor) {
+        if (null == colorStyle.barBackgroundColor) {
+            mutableColorStyle().barBackgroundColor = new ObjectPropertyBase<Color>(colorStyle._barBackgroundColor) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "barBackgroundColor"; }
             };
-            _barBackgroundColor = null;
+            colorStyle._barBackgroundColor = null;
         }
-        return barBackgroundColor;
+        return colorStyle.barBackgroundColor;
     }
 
     /**
@@ -3587,7 +4213,7 @@ public class Gauge extends Control {
      *
      * @return the design that will be used to visualize the LCD display (if available)
      */
-    public LcdDesign getLcdDesign() { return null == lcdDesign ? _lcdDesign : lcdDesign.get(); }
+    public LcdDesign getLcdDesign() { return null == lcdLedStyle.lcdDesign ? lcdLedStyle._lcdDesign : lcdLedStyle.lcdDesign.get(); }
     /**
      * Defines the design that will be used to visualize the LCD display
      * of the gauge (if it has one). The values are
@@ -3603,16 +4229,17 @@ public class Gauge extends Control {
      * @param DESIGN
      */
     public void setLcdDesign(final LcdDesign DESIGN) {
-        if (null == lcdDesign) {
-            _lcdDesign = null == DESIGN ? LcdDesign.STANDARD : DESIGN;
+        if (null == lcdLedStyle.lcdDesign) {
+            final LcdDesign VALUE = null == DESIGN ? LcdDesign.STANDARD : DESIGN;
+            if (VALUE != lcdLedStyle._lcdDesign) { mutableLcdLedStyle()._lcdDesign = VALUE; }
             fireUpdateEvent(LCD_EVENT);
         } else {
-            lcdDesign.set(DESIGN);
+            lcdLedStyle.lcdDesign.set(DESIGN);
         }
     }
     public ObjectProperty<LcdDesign> lcdDesignProperty() {
-        if (null == lcdDesign) {
-            lcdDesign  = new ObjectPropertyBase<LcdDesign>(_lcdDesign) {
+        if (null == lcdLedStyle.lcdDesign) {
+            mutableLcdLedStyle().lcdDesign  = new ObjectPropertyBase<LcdDesign>(lcdLedStyle._lcdDesign) {
                 @Override protected void invalidated() {
                     if(null == get()) set(LcdDesign.STANDARD);
                     fireUpdateEvent(LCD_EVENT);
@@ -3620,9 +4247,9 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "lcdDesign"; }
             };
-            _lcdDesign = null;
+            lcdLedStyle._lcdDesign = null;
         }
-        return lcdDesign;
+        return lcdLedStyle.lcdDesign;
     }
 
     /**
@@ -3632,7 +4259,7 @@ public class Gauge extends Control {
      *
      * @return the font that will be used to visualize the LCD value
      */
-    public LcdFont getLcdFont() { return null == lcdFont ? _lcdFont : lcdFont.get(); }
+    public LcdFont getLcdFont() { return null == lcdLedStyle.lcdFont ? lcdLedStyle._lcdFont : lcdLedStyle.lcdFont.get(); }
     /**
      * Defines the font that will be used to visualize the LCD value
      * if the gauge has a LCD display.
@@ -3641,16 +4268,17 @@ public class Gauge extends Control {
      * @param FONT
      */
     public void setLcdFont(final LcdFont FONT) {
-        if (null == lcdFont) {
-            _lcdFont = null == FONT ? LcdFont.DIGITAL_BOLD : FONT;
+        if (null == lcdLedStyle.lcdFont) {
+            final LcdFont VALUE = null == FONT ? LcdFont.DIGITAL_BOLD : FONT;
+            if (VALUE != lcdLedStyle._lcdFont) { mutableLcdLedStyle()._lcdFont = VALUE; }
             fireUpdateEvent(RESIZE_EVENT);
         } else {
-            lcdFont.set(FONT);
+            lcdLedStyle.lcdFont.set(FONT);
         }
     }
     public ObjectProperty<LcdFont> lcdFontProperty() {
-        if (null == lcdFont) {
-            lcdFont  = new ObjectPropertyBase<LcdFont>(_lcdFont) {
+        if (null == lcdLedStyle.lcdFont) {
+            mutableLcdLedStyle().lcdFont  = new ObjectPropertyBase<LcdFont>(lcdLedStyle._lcdFont) {
                 @Override protected void invalidated() {
                     if(null == get()) set(LcdFont.DIGITAL_BOLD);
                     fireUpdateEvent(RESIZE_EVENT);
@@ -3658,9 +4286,9 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "lcdFont"; }
             };
-            _lcdFont = null;
+            lcdLedStyle._lcdFont = null;
         }
-        return lcdFont;
+        return lcdLedStyle.lcdFont;
     }
 
     /**
@@ -3669,7 +4297,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to visualize the LED
      */
-    public Color getLedColor() { return null == ledColor ? _ledColor : ledColor.get(); }
+    public Color getLedColor() { return null == lcdLedStyle.ledColor ? lcdLedStyle._ledColor : lcdLedStyle.ledColor.get(); }
     /**
      * Defines the color that will be used to visualize the LED of the
      * gauge if it has one.
@@ -3677,16 +4305,17 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setLedColor(final Color COLOR) {
-        if (null == ledColor) {
-            _ledColor = null == COLOR ? Color.RED : COLOR;
+        if (null == lcdLedStyle.ledColor) {
+            final Color VALUE = null == COLOR ? Color.RED : COLOR;
+            if (!Objects.equals(VALUE, lcdLedStyle._ledColor)) { mutableLcdLedStyle()._ledColor = VALUE; }
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            ledColor.set(COLOR);
+            lcdLedStyle.ledColor.set(COLOR);
         }
     }
     public ObjectProperty<Color> ledColorProperty() {
-        if (null == ledColor) {
-            ledColor  = new ObjectPropertyBase<Color>(_ledColor) {
+        if (null == lcdLedStyle.ledColor) {
+            mutableLcdLedStyle().ledColor  = new ObjectPropertyBase<Color>(lcdLedStyle._ledColor) {
                 @Override protected void invalidated() {
                     if (null == get()) set(Color.RED);
                     fireUpdateEvent(REDRAW_EVENT);
@@ -3694,9 +4323,9 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "ledColor"; }
             };
-            _ledColor = null;
+            lcdLedStyle._ledColor = null;
         }
-        return ledColor;
+        return lcdLedStyle.ledColor;
     }
 
     /**
@@ -3706,7 +4335,7 @@ public class Gauge extends Control {
      *
      * @return the graphical representation of the LED
      */
-    public LedType getLedType() { return null == ledType ? _ledType : ledType.get(); }
+    public LedType getLedType() { return null == lcdLedStyle.ledType ? lcdLedStyle._ledType : lcdLedStyle.ledType.get(); }
     /**
      * Defines the graphical representation of the LED.
      * The values are STANDARD and FLAT
@@ -3715,16 +4344,17 @@ public class Gauge extends Control {
      * @param TYPE
      */
     public void setLedType(final LedType TYPE) {
-        if (null == ledType) {
-            _ledType = null == TYPE ? LedType.STANDARD : TYPE;
+        if (null == lcdLedStyle.ledType) {
+            final LedType VALUE = null == TYPE ? LedType.STANDARD : TYPE;
+            if (VALUE != lcdLedStyle._ledType) { mutableLcdLedStyle()._ledType = VALUE; }
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            ledType.set(TYPE);
+            lcdLedStyle.ledType.set(TYPE);
         }
     }
     public ObjectProperty<LedType> ledTypeProperty() {
-        if (null == ledType) {
-            ledType  = new ObjectPropertyBase<LedType>(_ledType) {
+        if (null == lcdLedStyle.ledType) {
+            mutableLcdLedStyle().ledType  = new ObjectPropertyBase<LedType>(lcdLedStyle._ledType) {
                 @Override protected void invalidated() {
                     if(null == get()) set(LedType.STANDARD);
                     fireUpdateEvent(REDRAW_EVENT);
@@ -3732,9 +4362,9 @@ public class Gauge extends Control {
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "ledType"; }
             };
-            _ledType = null;
+            lcdLedStyle._ledType = null;
         }
-        return ledType;
+        return lcdLedStyle.ledType;
     }
 
     /**
@@ -3743,7 +4373,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the title
      */
-    public Color getTitleColor() { return null == titleColor ? _titleColor : titleColor.get(); }
+    public Color getTitleColor() { return null == colorStyle.titleColor ? colorStyle._titleColor : colorStyle.titleColor.get(); }
     /**
      * Defines the color that will be used to colorize the title
      * of the gauge.
@@ -3751,23 +4381,23 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setTitleColor(final Color COLOR) {
-        if (null == titleColor) {
-            _titleColor = COLOR;
+        if (null == colorStyle.titleColor) {
+            if (!Objects.equals(COLOR, colorStyle._titleColor)) { mutableColorStyle()._titleColor = COLOR; }
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            titleColor.set(COLOR);
+            colorStyle.titleColor.set(COLOR);
         }
     }
     public ObjectProperty<Color> titleColorProperty() {
-        if (null == titleColor) {
-            titleColor  = new ObjectPropertyBase<Color>(_titleColor) {
+        if (null == colorStyle.titleColor) {
+            mutableColorStyle().titleColor = new ObjectPropertyBase<Color>(colorStyle._titleColor) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "titleColor"; }
             };
-            _titleColor = null;
+            colorStyle._titleColor = null;
         }
-        return titleColor;
+        return colorStyle.titleColor;
     }
 
     /**
@@ -3776,7 +4406,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the subTitle
      */
-    public Color getSubTitleColor() { return null == subTitleColor ? _subTitleColor : subTitleColor.get(); }
+    public Color getSubTitleColor() { return null == colorStyle.subTitleColor ? colorStyle._subTitleColor : colorStyle.subTitleColor.get(); }
     /**
      * Defines the color that will be used to colorize the subTitle
      * of the gauge.
@@ -3784,23 +4414,23 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setSubTitleColor(final Color COLOR) {
-        if (null == subTitleColor) {
-            _subTitleColor = COLOR;
+        if (null == colorStyle.subTitleColor) {
+            if (!Objects.equals(COLOR, colorStyle._subTitleColor)) { mutableColorStyle()._subTitleColor = COLOR; }
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            subTitleColor.set(COLOR);
+            colorStyle.subTitleColor.set(COLOR);
         }
     }
     public ObjectProperty<Color> subTitleColorProperty() {
-        if (null == subTitleColor) {
-            subTitleColor  = new ObjectPropertyBase<Color>(_subTitleColor) {
+        if (null == colorStyle.subTitleColor) {
+            mutableColorStyle().subTitleColor = new ObjectPropertyBase<Color>(colorStyle._subTitleColor) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "subTitleColor"; }
             };
-            _subTitleColor = null;
+            colorStyle._subTitleColor = null;
         }
-        return subTitleColor;
+        return colorStyle.subTitleColor;
     }
 
     /**
@@ -3809,7 +4439,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the unit
      */
-    public Color getUnitColor() { return null == unitColor ? _unitColor : unitColor.get(); }
+    public Color getUnitColor() { return null == colorStyle.unitColor ? colorStyle._unitColor : colorStyle.unitColor.get(); }
     /**
      * Defines the color that will be used to colorize the unit
      * of the gauge.
@@ -3817,23 +4447,23 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setUnitColor(final Color COLOR) {
-        if (null == unitColor) {
-            _unitColor = COLOR;
+        if (null == colorStyle.unitColor) {
+            if (!Objects.equals(COLOR, colorStyle._unitColor)) { mutableColorStyle()._unitColor = COLOR; }
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            unitColor.set(COLOR);
+            colorStyle.unitColor.set(COLOR);
         }
     }
     public ObjectProperty<Color> unitColorProperty() {
-        if (null == unitColor) {
-            unitColor  = new ObjectPropertyBase<Color>(_unitColor) {
+        if (null == colorStyle.unitColor) {
+            mutableColorStyle().unitColor = new ObjectPropertyBase<Color>(colorStyle._unitColor) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "unitColor"; }
             };
-            _unitColor = null;
+            colorStyle._unitColor = null;
         }
-        return unitColor;
+        return colorStyle.unitColor;
     }
 
     /**
@@ -3842,7 +4472,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the value
      */
-    public Color getValueColor() { return null == valueColor ? _valueColor : valueColor.get(); }
+    public Color getValueColor() { return null == colorStyle.valueColor ? colorStyle._valueColor : colorStyle.valueColor.get(); }
     /**
      * Defines the color that will be used to colorize the value
      * of the gauge.
@@ -3850,23 +4480,23 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setValueColor(final Color COLOR) {
-        if (null == valueColor) {
-            _valueColor = COLOR;
+        if (null == colorStyle.valueColor) {
+            if (!Objects.equals(COLOR, colorStyle._valueColor)) { mutableColorStyle()._valueColor = COLOR; }
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            valueColor.set(COLOR);
+            colorStyle.valueColor.set(COLOR);
         }
     }
     public ObjectProperty<Color> valueColorProperty() {
-        if (null == valueColor) {
-            valueColor  = new ObjectPropertyBase<Color>(_valueColor) {
+        if (null == colorStyle.valueColor) {
+            mutableColorStyle().valueColor = new ObjectPropertyBase<Color>(colorStyle._valueColor) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "valueColor"; }
             };
-            _valueColor = null;
+            colorStyle._valueColor = null;
         }
-        return valueColor;
+        return colorStyle.valueColor;
     }
 
     /**
@@ -3875,7 +4505,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the threshold indicator
      */
-    public Color getThresholdColor() { return null == thresholdColor ? _thresholdColor : thresholdColor.get(); }
+    public Color getThresholdColor() { return null == colorStyle.thresholdColor ? colorStyle._thresholdColor : colorStyle.thresholdColor.get(); }
     /**
      * Defines the color that will be used to colorize the threshold
      * indicator of the gauge.
@@ -3883,23 +4513,23 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setThresholdColor(final Color COLOR) {
-        if (null == thresholdColor) {
-            _thresholdColor = COLOR;
+        if (null == colorStyle.thresholdColor) {
+            if (!Objects.equals(COLOR, colorStyle._thresholdColor)) { mutableColorStyle()._thresholdColor = COLOR; }
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            thresholdColor.set(COLOR);
+            colorStyle.thresholdColor.set(COLOR);
         }
     }
     public ObjectProperty<Color> thresholdColorProperty() {
-        if (null == thresholdColor) {
-            thresholdColor  = new ObjectPropertyBase<Color>(_thresholdColor) {
+        if (null == colorStyle.thresholdColor) {
+            mutableColorStyle().thresholdColor = new ObjectPropertyBase<Color>(colorStyle._thresholdColor) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "thresholdColor"; }
             };
-            _thresholdColor = null;
+            colorStyle._thresholdColor = null;
         }
-        return thresholdColor;
+        return colorStyle.thresholdColor;
     }
 
     /**
@@ -3908,7 +4538,7 @@ public class Gauge extends Control {
      *
      * @return the color that will be used to colorize the average indicator
      */
-    public Color getAverageColor() { return null == averageColor ? _averageColor : averageColor.get(); }
+    public Color getAverageColor() { return null == colorStyle.averageColor ? colorStyle._averageColor : colorStyle.averageColor.get(); }
     /**
      * Defines the color that will be used to colorize the average
      * indicator of the gauge.
@@ -3916,23 +4546,23 @@ public class Gauge extends Control {
      * @param COLOR
      */
     public void setAverageColor(final Color COLOR) {
-        if (null == averageColor) {
-            _averageColor = COLOR;
+        if (null == colorStyle.averageColor) {
+            if (!Objects.equals(COLOR, colorStyle._averageColor)) { mutableColorStyle()._averageColor = COLOR; }
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            averageColor.set(COLOR);
+            colorStyle.averageColor.set(COLOR);
         }
     }
     public ObjectProperty<Color> averageColorProperty() {
-        if (null == averageColor) {
-            averageColor  = new ObjectPropertyBase<Color>(_averageColor) {
+        if (null == colorStyle.averageColor) {
+            mutableColorStyle().averageColor = new ObjectPropertyBase<Color>(colorStyle._averageColor) {
                 @Override protected void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "averageColor"; }
             };
-            _averageColor = null;
+            colorStyle._averageColor = null;
         }
-        return averageColor;
+        return colorStyle.averageColor;
     }
     
     /**
@@ -4744,7 +5374,7 @@ public class Gauge extends Control {
      *
      * @return true if the LCD display is visible
      */
-    public boolean isLcdVisible() { return null == lcdVisible ? _lcdVisible : lcdVisible.get(); }
+    public boolean isLcdVisible() { return null == lcdLedStyle.lcdVisible ? lcdLedStyle._lcdVisible : lcdLedStyle.lcdVisible.get(); }
     /**
      * Defines if the LCD display is visible (if available)
      * The LCD display won't be visible if valueVisible == false.
@@ -4752,22 +5382,22 @@ public class Gauge extends Control {
      * @param VISIBLE
      */
     public void setLcdVisible(final boolean VISIBLE) {
-        if (null == lcdVisible) {
-            _lcdVisible = VISIBLE;
+        if (null == lcdLedStyle.lcdVisible) {
+            if (VISIBLE != lcdLedStyle._lcdVisible) { mutableLcdLedStyle()._lcdVisible = VISIBLE; }
             fireUpdateEvent(VISIBILITY_EVENT);
         } else {
-            lcdVisible.set(VISIBLE);
+            lcdLedStyle.lcdVisible.set(VISIBLE);
         }
     }
     public BooleanProperty lcdVisibleProperty() {
-        if (null == lcdVisible) {
-            lcdVisible = new BooleanPropertyBase(_lcdVisible) {
+        if (null == lcdLedStyle.lcdVisible) {
+            mutableLcdLedStyle().lcdVisible = new BooleanPropertyBase(lcdLedStyle._lcdVisible) {
                 @Override protected void invalidated() { fireUpdateEvent(VISIBILITY_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "lcdVisible"; }
             };
         }
-        return lcdVisible;
+        return lcdLedStyle.lcdVisible;
     }
 
     /**
@@ -4778,7 +5408,7 @@ public class Gauge extends Control {
      *
      * @return true if the crystal effect of the LCD display will be drawn
      */
-    public boolean isLcdCrystalEnabled() { return null == lcdCrystalEnabled ? _lcdCrystalEnabled : lcdCrystalEnabled.get(); }
+    public boolean isLcdCrystalEnabled() { return null == lcdLedStyle.lcdCrystalEnabled ? lcdLedStyle._lcdCrystalEnabled : lcdLedStyle.lcdCrystalEnabled.get(); }
     /**
      * Defines if the crystal effect of the LCD display will be drawn.
      * This feature could decrease the performance if you run it on
@@ -4788,22 +5418,22 @@ public class Gauge extends Control {
      * @param ENABLED
      */
     public void setLcdCrystalEnabled(final boolean ENABLED) {
-        if (null == lcdCrystalEnabled) {
-            _lcdCrystalEnabled = ENABLED;
+        if (null == lcdLedStyle.lcdCrystalEnabled) {
+            if (ENABLED != lcdLedStyle._lcdCrystalEnabled) { mutableLcdLedStyle()._lcdCrystalEnabled = ENABLED; }
             fireUpdateEvent(VISIBILITY_EVENT);
         } else {
-            lcdCrystalEnabled.set(ENABLED);
+            lcdLedStyle.lcdCrystalEnabled.set(ENABLED);
         }
     }
     public BooleanProperty lcdCrystalEnabledProperty() {
-        if (null == lcdCrystalEnabled) {
-            lcdCrystalEnabled = new BooleanPropertyBase(_lcdCrystalEnabled) {
+        if (null == lcdLedStyle.lcdCrystalEnabled) {
+            mutableLcdLedStyle().lcdCrystalEnabled = new BooleanPropertyBase(lcdLedStyle._lcdCrystalEnabled) {
                 @Override protected void invalidated() { fireUpdateEvent(VISIBILITY_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "lcdCrystalEnabled"; }
             };
         }
-        return lcdCrystalEnabled;
+        return lcdLedStyle.lcdCrystalEnabled;
     }
 
     /**
@@ -4811,29 +5441,29 @@ public class Gauge extends Control {
      *
      * @return true if the LED will be drawn
      */
-    public boolean isLedVisible() { return null == ledVisible ? _ledVisible : ledVisible.get(); }
+    public boolean isLedVisible() { return null == lcdLedStyle.ledVisible ? lcdLedStyle._ledVisible : lcdLedStyle.ledVisible.get(); }
     /**
      * Defines if the LED will be drawn (if available)
      *
      * @param VISIBLE
      */
     public void setLedVisible(final boolean VISIBLE) {
-        if (null == ledVisible) {
-            _ledVisible = VISIBLE;
+        if (null == lcdLedStyle.ledVisible) {
+            if (VISIBLE != lcdLedStyle._ledVisible) { mutableLcdLedStyle()._ledVisible = VISIBLE; }
             fireUpdateEvent(VISIBILITY_EVENT);
         } else {
-            ledVisible.set(VISIBLE);
+            lcdLedStyle.ledVisible.set(VISIBLE);
         }
     }
     public BooleanProperty ledVisibleProperty() {
-        if (null == ledVisible) {
-            ledVisible = new BooleanPropertyBase(_ledVisible) {
+        if (null == lcdLedStyle.ledVisible) {
+            mutableLcdLedStyle().ledVisible = new BooleanPropertyBase(lcdLedStyle._ledVisible) {
                 @Override protected void invalidated() { fireUpdateEvent(VISIBILITY_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "ledVisible"; }
             };
         }
-        return ledVisible;
+        return lcdLedStyle.ledVisible;
     }
 
     /**
@@ -5090,7 +5720,10 @@ public class Gauge extends Control {
      *
      * @return a list of Strings that represent the ticklabels
      */
-    public List<String> getCustomTickLabels() { return customTickLabels; }
+    public List<String> getCustomTickLabels() {
+        if (null == customTickLabels) { customTickLabels = FXCollections.observableArrayList(); }
+        return customTickLabels;
+    }
     /**
      * Defines a list of Strings that represent the ticklabels that
      * will be used for the scale.
@@ -5098,6 +5731,7 @@ public class Gauge extends Control {
      * @param TICK_LABELS
      */
     public void setCustomTickLabels(final List<String> TICK_LABELS) {
+        if (null == customTickLabels) { customTickLabels = FXCollections.observableArrayList(); }
         customTickLabels.setAll(TICK_LABELS);
         fireUpdateEvent(REDRAW_EVENT);
     }
@@ -5115,7 +5749,7 @@ public class Gauge extends Control {
      */
     public void addCustomTickLabel(final String TICK_LABEL) {
         if (null == TICK_LABEL) return;
-        if (!customTickLabels.contains(TICK_LABEL)) customTickLabels.add(TICK_LABEL);
+        if (!getCustomTickLabels().contains(TICK_LABEL)) getCustomTickLabels().add(TICK_LABEL);
         fireUpdateEvent(REDRAW_EVENT);
     }
     /**
@@ -5125,14 +5759,14 @@ public class Gauge extends Control {
      */
     public void removeCustomTickLabel(final String TICK_LABEL) {
         if (null == TICK_LABEL) return;
-        if (customTickLabels.contains(TICK_LABEL)) customTickLabels.remove(TICK_LABEL);
+        if (getCustomTickLabels().contains(TICK_LABEL)) getCustomTickLabels().remove(TICK_LABEL);
         fireUpdateEvent(REDRAW_EVENT);
     }
     /**
      * Clears the list of custom ticklabels
      */
     public void clearCustomTickLabels() {
-        customTickLabels.clear();
+        getCustomTickLabels().clear();
         fireUpdateEvent(REDRAW_EVENT);
     }
 
@@ -5181,7 +5815,7 @@ public class Gauge extends Control {
      *
      * @return true if the gauge is in interactive mode
      */
-    public boolean isInteractive() { return null == interactive ? _interactive : interactive.get(); }
+    public boolean isInteractive() { return null == interactionStyle.interactive ? interactionStyle._interactive : interactionStyle.interactive.get(); }
     /**
      * Defines if the gauge is in interactive mode. This is currently
      * implemented in the radial gauges that have a knob. If interactive == true
@@ -5190,22 +5824,22 @@ public class Gauge extends Control {
      * @param INTERACTIVE
      */
     public void setInteractive(final boolean INTERACTIVE) {
-        if (null == interactive) {
-            _interactive = INTERACTIVE;
+        if (null == interactionStyle.interactive) {
+            if (INTERACTIVE != interactionStyle._interactive) { mutableInteractionStyle()._interactive = INTERACTIVE; }
             fireUpdateEvent(INTERACTIVITY_EVENT);
         } else {
-            interactive.set(INTERACTIVE);
+            interactionStyle.interactive.set(INTERACTIVE);
         }
     }
     public BooleanProperty interactiveProperty() {
-        if (null == interactive) {
-            interactive = new BooleanPropertyBase(_interactive) {
+        if (null == interactionStyle.interactive) {
+            mutableInteractionStyle().interactive = new BooleanPropertyBase(interactionStyle._interactive) {
                 @Override protected void invalidated() { fireUpdateEvent(INTERACTIVITY_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "interactive"; }
             };
         }
-        return interactive;
+        return interactionStyle.interactive;
     }
 
     /**
@@ -5214,7 +5848,7 @@ public class Gauge extends Control {
      *
      * @return the text that will be shown in the button tooltip
      */
-    public String getButtonTooltipText() { return null == buttonTooltipText ? _buttonTooltipText : buttonTooltipText.get(); }
+    public String getButtonTooltipText() { return null == interactionStyle.buttonTooltipText ? interactionStyle._buttonTooltipText : interactionStyle.buttonTooltipText.get(); }
     /**
      * Defines the text that will be shown in the button tooltip. The
      * knob in the radial gauges acts as button if interactive == true.
@@ -5222,23 +5856,23 @@ public class Gauge extends Control {
      * @param TEXT
      */
     public void setButtonTooltipText(final String TEXT) {
-        if (null == buttonTooltipText) {
-            _buttonTooltipText = TEXT;
+        if (null == interactionStyle.buttonTooltipText) {
+            if (!Objects.equals(TEXT, interactionStyle._buttonTooltipText)) { mutableInteractionStyle()._buttonTooltipText = TEXT; }
             fireUpdateEvent(REDRAW_EVENT);
         } else {
-            buttonTooltipText.set(TEXT);
+            interactionStyle.buttonTooltipText.set(TEXT);
         }
     }
     public StringProperty buttonTooltipTextProperty() {
-        if (null == buttonTooltipText) {
-            buttonTooltipText  = new StringPropertyBase(_buttonTooltipText) {
+        if (null == interactionStyle.buttonTooltipText) {
+            mutableInteractionStyle().buttonTooltipText  = new StringPropertyBase(interactionStyle._buttonTooltipText) {
                 @Override protected  void invalidated() { fireUpdateEvent(REDRAW_EVENT); }
                 @Override public Object getBean() { return Gauge.this; }
                 @Override public String getName() { return "buttonTooltipText"; }
             };
-            _buttonTooltipText = null;
+            interactionStyle._buttonTooltipText = null;
         }
-        return buttonTooltipText;
+        return interactionStyle.buttonTooltipText;
     }
 
     /**
@@ -5492,6 +6126,28 @@ public class Gauge extends Control {
 
     private void createShutdownHook() { Runtime.getRuntime().addShutdownHook(new Thread(() -> stop())); }
 
+    /**
+     * Returns true if the gauge and all of its parents are visible and the
+     * gauge is not scrolled or clipped out of view (e.g. in a ScrollPane,
+     * on an unselected Tab or in a collapsed TitledPane). While the gauge
+     * is not effectively visible the skin will not be updated, it will be
+     * refreshed once with the latest state when the gauge becomes visible again.
+     * @return true if the gauge is effectively visible
+     */
+    public boolean isEffectivelyVisible() { return null == visibilityTracker || visibilityTracker.isVisible(); }
+    public ReadOnlyBooleanProperty effectivelyVisibleProperty() { return visibilityTracker.visibleProperty(); }
+
+    /**
+     * Returns the runtime metrics of this gauge. The metrics will only be
+     * recorded if Metrics.isEnabled() returns true.
+     *
+     * @return the runtime metrics of this gauge
+     */
+    public Metrics getMetrics() {
+        if (null == metrics) { metrics = new Metrics(Gauge.this); }
+        return metrics;
+    }
+
     @Override public String toString() {
         return new StringBuilder("{")
             .append("\"title\":").append("\"").append(getTitle()).append("\",")
@@ -5509,31 +6165,64 @@ public class Gauge extends Control {
     private void setupBinding() {
         showing = Bindings.createBooleanBinding(() -> {
             if (getScene() != null && getScene().getWindow() != null) {
-                if (getScene().getWindow().isShowing()) {
-                    while(updateEventQueue.peek() != null) {
-                        UpdateEvent event = updateEventQueue.poll();
-                        for (UpdateEventListener listener : listenerList) { listener.onUpdateEvent(event); }
-                    }
-                }
+                if (getScene().getWindow().isShowing() && isEffectivelyVisible()) { flushUpdateEvents(); }
                 return getScene().getWindow().isShowing();
             } else {
                 return false;
             }
         }, sceneProperty(), getScene().windowProperty(), getScene().getWindow().showingProperty());
         showing.addListener((o, ov, nv) -> {
-            if (nv) {
-                while(updateEventQueue.peek() != null) {
-                    UpdateEvent event = updateEventQueue.poll();
-                    for (UpdateEventListener listener : listenerList) { listener.onUpdateEvent(event); }
-                }
-            }
+            if (nv && isEffectivelyVisible()) { flushUpdateEvents(); }
         });
     }
 
 
+    // Copy on write, the shared default block will be copied before the first modification
+    private ColorStyle mutableColorStyle() {
+        if (ColorStyle.DEFAULT == colorStyle) { colorStyle = new ColorStyle(ColorStyle.DEFAULT); }
+        return colorStyle;
+    }
+
+    private TickMarkStyle mutableTickMarkStyle() {
+        if (TickMarkStyle.DEFAULT == tickMarkStyle) { tickMarkStyle = new TickMarkStyle(TickMarkStyle.DEFAULT); }
+        return tickMarkStyle;
+    }
+
+    private LcdLedStyle mutableLcdLedStyle() {
+        if (LcdLedStyle.DEFAULT == lcdLedStyle) { lcdLedStyle = new LcdLedStyle(LcdLedStyle.DEFAULT); }
+        return lcdLedStyle;
+    }
+
+    private InteractionStyle mutableInteractionStyle() {
+        if (InteractionStyle.DEFAULT == interactionStyle) { interactionStyle = new InteractionStyle(InteractionStyle.DEFAULT); }
+        return interactionStyle;
+    }
+
+    private ValueFilter mutableValueFilter() {
+        if (ValueFilter.DEFAULT == valueFilter) { valueFilter = new ValueFilter(ValueFilter.DEFAULT); }
+        return valueFilter;
+    }
+
+
     // ******************** Style related *************************************
+    /**
+     * Will be called by JavaFX when the gauge is shown for the first time
+     * (when the CSS of its scene is applied), so gauges that are created and
+     * configured but never shown don't create a skin at all.
+     */
     @Override protected Skin createDefaultSkin() {
-        switch (skinType) {
+        Skin<?> skin = getCachedSkin(skinType);
+        if (skin instanceof GaugeSkinBase) { ((GaugeSkinBase) skin).reinstall(); }
+        return skin;
+    }
+
+    private Skin<?> getCachedSkin(final SkinType SKIN_TYPE) {
+        if (null == skins) { skins = new EnumMap<>(SkinType.class); }
+        return skins.computeIfAbsent(SKIN_TYPE, this::createSkin);
+    }
+
+    private Skin<?> createSkin(final SkinType SKIN_TYPE) {
+        switch (SKIN_TYPE) {
             case AMP            : return new AmpSkin(Gauge.this);
             case PLAIN_AMP      : return new PlainAmpSkin(Gauge.this);
             case BULLET_CHART   : return new BulletChartSkin(Gauge.this);
@@ -5575,46 +6264,36 @@ public class Gauge extends Control {
     }
 
     public SkinType getSkinType() { return skinType; }
+    /**
+     * Sets the skin type of the gauge. As long as the gauge has not been
+     * shown only the parameters of the skin type will be applied, the skin
+     * itself will be created when the gauge is shown for the first time.
+     * Skins are cached per skin type, switching back to a skin type that
+     * has been used before will reuse the skin instead of creating a new one.
+     *
+     * @param SKIN_TYPE
+     */
     public void setSkinType(final SkinType SKIN_TYPE) {
         skinType = SKIN_TYPE;
         presetGaugeParameters(skinType);
-        switch (SKIN_TYPE) {
-            case AMP            : super.setSkin(new AmpSkin(Gauge.this)); break;
-            case PLAIN_AMP      : super.setSkin(new PlainAmpSkin(Gauge.this)); break;
-            case BULLET_CHART   : super.setSkin(new BulletChartSkin(Gauge.this)); break;
-            case DASHBOARD      : super.setSkin(new DashboardSkin(Gauge.this)); break;
-            case FLAT           : super.setSkin(new FlatSkin(Gauge.this)); break;
-            case INDICATOR      : super.setSkin(new IndicatorSkin(Gauge.this)); break;
-            case KPI            : super.setSkin(new KpiSkin(Gauge.this)); break;
-            case MODERN         : super.setSkin(new ModernSkin(Gauge.this)); break;
-            case SIMPLE         : super.setSkin(new SimpleSkin(Gauge.this)); break;
-            case SLIM           : super.setSkin(new SlimSkin(Gauge.this)); break;
-            case SPACE_X        : super.setSkin(new SpaceXSkin(Gauge.this)); break;
-            case QUARTER        : super.setSkin(new QuarterSkin(Gauge.this)); break;
-            case HORIZONTAL     : super.setSkin(new HSkin(Gauge.this)); break;
-            case VERTICAL       : super.setSkin(new VSkin(Gauge.this)); break;
-            case LCD            : super.setSkin(new LcdSkin(Gauge.this)); break;
-            case TINY           : super.setSkin(new TinySkin(Gauge.this)); break;
-            case BATTERY        : super.setSkin(new BatterySkin(Gauge.this)); break;
-            case LEVEL          : super.setSkin(new LevelSkin(Gauge.this)); break;
-            case LINEAR         : super.setSkin(new LinearSkin(Gauge.this)); break;
-            case DIGITAL        : super.setSkin(new DigitalSkin(Gauge.this)); break;
-            case SIMPLE_DIGITAL : super.setSkin(new SimpleDigitalSkin(Gauge.this)); break;
-            case SECTION        : super.setSkin(new SectionSkin(Gauge.this)); break;
-            case BAR            : super.setSkin(new BarSkin(Gauge.this)); break;
-            case WHITE          : super.setSkin(new WhiteSkin(Gauge.this)); break;
-            case CHARGE         : super.setSkin(new ChargeSkin(Gauge.this)); break;
-            case SIMPLE_SECTION : super.setSkin(new SimpleSectionSkin(Gauge.this)); break;
-            case TILE_KPI       : super.setSkin(new TileKpiSkin(Gauge.this)); break;
-            case TILE_TEXT_KPI  : super.setSkin(new TileTextKpiSkin(Gauge.this)); break;
-            case TILE_SPARK_LINE: super.setSkin(new TileSparklineSkin(Gauge.this)); break;
-            case NASA           : super.setSkin(new NasaSkin(Gauge.this)); break;
-            case GAUGE          :
-            default             : super.setSkin(new GaugeSkin(Gauge.this)); break;
+        if (null == getSkin()) { return; }
+        final Skin<?> SKIN = getCachedSkin(SKIN_TYPE);
+        // JavaFX ignores a new skin of the same class as the current one
+        if (SKIN.getClass() != getSkin().getClass()) {
+            if (SKIN instanceof GaugeSkinBase) { ((GaugeSkinBase) SKIN).reinstall(); }
+            super.setSkin(SKIN);
         }
         fireUpdateEvent(RESIZE_EVENT);
     }
 
+    /**
+     * Removes all cached skins except the current one.
+     */
+    public void clearSkinCache() {
+        if (null == skins) { return; }
+        skins.values().removeIf(skin -> skin != getSkin());
+    }
+
     public void presetGaugeParameters(final SkinType SKIN_TYPE) {
         reInit();
         switch (SKIN_TYPE) {
@@ -5882,11 +6561,80 @@ public class Gauge extends Control {
     public void addUpdateEventListener(final UpdateEventListener LISTENER) { if (!listenerList.contains(LISTENER)) listenerList.add(LISTENER); }
     public void removeUpdateEventListener(final UpdateEventListener LISTENER) { if (listenerList.contains(LISTENER)) listenerList.remove(LISTENER); }
 
+    /**
+     * Adds a listener that will be called directly if the value crosses
+     * the threshold, a section, an area or a marker. In contrast to the
+     * ThresholdEvent, SectionEvent and MarkerEvent handlers no JavaFX event
+     * will be dispatched, the event object will be reused and by default
+     * every value is checked once instead of every frame of the animation
+     * (see setCrossingMode()). The crossings are reported independent of
+     * checkThreshold, checkSectionsForValue and checkAreasForValue.
+     * The listeners will be called on the thread that sets the value.
+     *
+     * @param LISTENER
+     */
+    public void addCrossingEventListener(final CrossingEventListener LISTENER) {
+        if (null == LISTENER || Arrays.asList(crossingListeners).contains(LISTENER)) { return; }
+        if (null == crossingEvent) { crossingEvent = new CrossingEvent(Gauge.this); }
+        final CrossingEventListener[] LISTENERS = Arrays.copyOf(crossingListeners, crossingListeners.length + 1);
+        LISTENERS[LISTENERS.length - 1] = LISTENER;
+        crossingListeners = LISTENERS;
+    }
+    public void removeCrossingEventListener(final CrossingEventListener LISTENER) {
+        final List<CrossingEventListener> LISTENERS = new ArrayList<>(Arrays.asList(crossingListeners));
+        if (!LISTENERS.remove(LISTENER)) { return; }
+        crossingListeners = LISTENERS.isEmpty() ? NO_CROSSING_LISTENERS : LISTENERS.toArray(NO_CROSSING_LISTENERS);
+    }
+
     public void fireUpdateEvent(final UpdateEvent EVENT) {
-        if (null != showing && showing.get()) {
+        if (null != showing && showing.get() && isEffectivelyVisible()) {
+            final long START = Metrics.start();
             for (UpdateEventListener listener : listenerList) { listener.onUpdateEvent(EVENT); }
+            if (0 != START) { getMetrics().record(Metrics.Type.UPDATE_DISPATCH, START); }
         } else {
-            updateEventQueue.add(EVENT);
+            // update events carry no state, so only the type is kept (once, in the order it was first fired) until the gauge is shown
+            final int ORDINAL = EVENT.eventType.ordinal();
+            if (0 == (pendingUpdateEvents & (1 << ORDINAL))) {
+                if (null == pendingUpdateOrder) { pendingUpdateOrder = new byte[UPDATE_EVENT_TYPES.length]; }
+                pendingUpdateEvents |= 1 << ORDINAL;
+                pendingUpdateOrder[pendingUpdateCount++] = (byte) ORDINAL;
+            }
+            if (Metrics.isEnabled()) { getMetrics().increment(Metrics.Type.UPDATE_DEFERRED); }
+        }
+    }
+
+    /**
+     * Dispatches all update events that have been queued while the gauge
+     * was not showing or not effectively visible. This is needed when rendering a gauge offscreen
+     * (e.g. in a Scene without a Window) where the showing binding will
+     * never be set up.
+     */
+    public void flushUpdateEvents() {
+        while (0 != pendingUpdateCount) {
+            // listeners might queue new events, they will be dispatched in the next round
+            final byte[] ORDER = Arrays.copyOf(pendingUpdateOrder, pendingUpdateCount);
+            pendingUpdateEvents = 0;
+            pendingUpdateCount  = 0;
+            for (byte ordinal : ORDER) {
+                final UpdateEvent EVENT = getUpdateEvent(UPDATE_EVENT_TYPES[ordinal]);
+                for (UpdateEventListener listener : listenerList) { listener.onUpdateEvent(EVENT); }
+            }
+        }
+    }
+
+    private UpdateEvent getUpdateEvent(final UpdateEvent.EventType TYPE) {
+        switch (TYPE) {
+            case RECALC       : return RECALC_EVENT;
+            case REDRAW       : return REDRAW_EVENT;
+            case RESIZE       : return RESIZE_EVENT;
+            case LED          : return LED_EVENT;
+            case LCD          : return LCD_EVENT;
+            case VISIBILITY   : return VISIBILITY_EVENT;
+            case INTERACTIVITY: return INTERACTIVITY_EVENT;
+            case FINISHED     : return FINISHED_EVENT;
+            case SECTION      : return SECTION_EVENT;
+            case ALERT        : return ALERT_EVENT;
+            default           : return VALUE_EVENT;
         }
     }
 
@@ -5925,4 +6673,236 @@ public class Gauge extends Control {
         public ThresholdEvent(final EventType<ThresholdEvent> TYPE) { super(TYPE); }
         public ThresholdEvent(final Object SOURCE, final EventTarget TARGET, EventType<ThresholdEvent> TYPE) { super(SOURCE, TARGET, TYPE); }
     }
+
+    /**
+     * The style blocks below hold state that is rarely changed (e.g. the
+     * colors, the tick mark factors or the LCD and LED configuration). All gauges
+     * reference the shared DEFAULT block until one of its values is changed
+     * or one of its properties is requested, in this case the gauge gets its
+     * own copy of the block (copy on write). Setting a value that is equal to
+     * the current value does not create a copy.
+     */
+    // Colors of the needle, bar, texts and scale
+    private static final class ColorStyle {
+        private static final ColorStyle DEFAULT = new ColorStyle();
+        private Color                 _zeroColor;
+        private ObjectProperty<Color> zeroColor;
+        private Color                 _knobColor;
+        private ObjectProperty<Color> knobColor;
+        private Color                 _tickLabelColor;
+        private ObjectProperty<Color> tickLabelColor;
+        private Color                 _tickMarkColor;
+        private ObjectProperty<Color> tickMarkColor;
+        private Color                 _needleColor;
+        private ObjectProperty<Color> needleColor;
+        private Color                 _needleBorderColor;
+        private ObjectProperty<Color> needleBorderColor;
+        private Color                 _barColor;
+        private ObjectProperty<Color> barColor;
+        private Color                 _barBorderColor;
+        private ObjectProperty<Color> barBorderColor;
+        private Color                 _barBackgroundColor;
+        private ObjectProperty<Color> barBackgroundColor;
+        private Color                 _titleColor;
+        private ObjectProperty<Color> titleColor;
+        private Color                 _subTitleColor;
+        private ObjectProperty<Color> subTitleColor;
+        private Color                 _unitColor;
+        private ObjectProperty<Color> unitColor;
+        private Color                 _valueColor;
+        private ObjectProperty<Color> valueColor;
+        private Color                 _thresholdColor;
+        private ObjectProperty<Color> thresholdColor;
+        private Color                 _averageColor;
+        private ObjectProperty<Color> averageColor;
+
+
+        // ******************** Constructors **********************************
+        ColorStyle() {
+            _zeroColor          = DARK_COLOR;
+            _knobColor          = Color.rgb(204, 204, 204);
+            _tickLabelColor     = DARK_COLOR;
+            _tickMarkColor      = DARK_COLOR;
+            _needleColor        = Color.rgb(200, 0, 0);
+            _needleBorderColor  = Color.TRANSPARENT;
+            _barColor           = BRIGHT_COLOR;
+            _barBorderColor     = Color.TRANSPARENT;
+            _barBackgroundColor = DARK_COLOR;
+            _titleColor         = DARK_COLOR;
+            _subTitleColor      = DARK_COLOR;
+            _unitColor          = DARK_COLOR;
+            _valueColor         = DARK_COLOR;
+            _thresholdColor     = Color.CRIMSON;
+            _averageColor       = Color.MAGENTA;
+        }
+        ColorStyle(final ColorStyle STYLE) {
+            _zeroColor          = STYLE._zeroColor;
+            _knobColor          = STYLE._knobColor;
+            _tickLabelColor     = STYLE._tickLabelColor;
+            _tickMarkColor      = STYLE._tickMarkColor;
+            _needleColor        = STYLE._needleColor;
+            _needleBorderColor  = STYLE._needleBorderColor;
+            _barColor           = STYLE._barColor;
+            _barBorderColor     = STYLE._barBorderColor;
+            _barBackgroundColor = STYLE._barBackgroundColor;
+            _titleColor         = STYLE._titleColor;
+            _subTitleColor      = STYLE._subTitleColor;
+            _unitColor          = STYLE._unitColor;
+            _valueColor         = STYLE._valueColor;
+            _thresholdColor     = STYLE._thresholdColor;
+            _averageColor       = STYLE._averageColor;
+        }
+    }
+
+    // Tick mark lengths, widths, colors and types
+    private static final class TickMarkStyle {
+        private static final TickMarkStyle DEFAULT = new TickMarkStyle();
+        private Color                        _majorTickMarkColor;
+        private ObjectProperty<Color>        majorTickMarkColor;
+        private double                       _majorTickMarkLengthFactor;
+        private DoubleProperty               majorTickMarkLengthFactor;
+        private double                       _majorTickMarkWidthFactor;
+        private DoubleProperty               majorTickMarkWidthFactor;
+        private Color                        _mediumTickMarkColor;
+        private ObjectProperty<Color>        mediumTickMarkColor;
+        private double                       _mediumTickMarkLengthFactor;
+        private DoubleProperty               mediumTickMarkLengthFactor;
+        private double                       _mediumTickMarkWidthFactor;
+        private DoubleProperty               mediumTickMarkWidthFactor;
+        private Color                        _minorTickMarkColor;
+        private ObjectProperty<Color>        minorTickMarkColor;
+        private double                       _minorTickMarkLengthFactor;
+        private DoubleProperty               minorTickMarkLengthFactor;
+        private double                       _minorTickMarkWidthFactor;
+        private DoubleProperty               minorTickMarkWidthFactor;
+        private TickMarkType                 _majorTickMarkType;
+        private ObjectProperty<TickMarkType> majorTickMarkType;
+        private TickMarkType                 _mediumTickMarkType;
+        private ObjectProperty<TickMarkType> mediumTickMarkType;
+        private TickMarkType                 _minorTickMarkType;
+        private ObjectProperty<TickMarkType> minorTickMarkType;
+
+
+        // ******************** Constructors **********************************
+        TickMarkStyle() {
+            _majorTickMarkColor         = DARK_COLOR;
+            _majorTickMarkLengthFactor  = 0.42;
+            _majorTickMarkWidthFactor   = 0.275;
+            _mediumTickMarkColor        = DARK_COLOR;
+            _mediumTickMarkLengthFactor = 0.41;
+            _mediumTickMarkWidthFactor  = 0.175;
+            _minorTickMarkColor         = DARK_COLOR;
+            _minorTickMarkLengthFactor  = 0.40;
+            _minorTickMarkWidthFactor   = 0.1125;
+            _majorTickMarkType          = TickMarkType.LINE;
+            _mediumTickMarkType         = TickMarkType.LINE;
+            _minorTickMarkType          = TickMarkType.LINE;
+        }
+        TickMarkStyle(final TickMarkStyle STYLE) {
+            _majorTickMarkColor         = STYLE._majorTickMarkColor;
+            _majorTickMarkLengthFactor  = STYLE._majorTickMarkLengthFactor;
+            _majorTickMarkWidthFactor   = STYLE._majorTickMarkWidthFactor;
+            _mediumTickMarkColor        = STYLE._mediumTickMarkColor;
+            _mediumTickMarkLengthFactor = STYLE._mediumTickMarkLengthFactor;
+            _mediumTickMarkWidthFactor  = STYLE._mediumTickMarkWidthFactor;
+            _minorTickMarkColor         = STYLE._minorTickMarkColor;
+            _minorTickMarkLengthFactor  = STYLE._minorTickMarkLengthFactor;
+            _minorTickMarkWidthFactor   = STYLE._minorTickMarkWidthFactor;
+            _majorTickMarkType          = STYLE._majorTickMarkType;
+            _mediumTickMarkType         = STYLE._mediumTickMarkType;
+            _minorTickMarkType          = STYLE._minorTickMarkType;
+        }
+    }
+
+    // Configuration of the LCD display and the LED
+    private static final class LcdLedStyle {
+        private static final LcdLedStyle DEFAULT = new LcdLedStyle();
+        private LcdDesign                 _lcdDesign;
+        private ObjectProperty<LcdDesign> lcdDesign;
+        private LcdFont                   _lcdFont;
+        private ObjectProperty<LcdFont>   lcdFont;
+        private boolean                   _lcdVisible;
+        private BooleanProperty           lcdVisible;
+        private boolean                   _lcdCrystalEnabled;
+        private BooleanProperty           lcdCrystalEnabled;
+        private Color                     _ledColor;
+        private ObjectProperty<Color>     ledColor;
+        private LedType                   _ledType;
+        private ObjectProperty<LedType>   ledType;
+        private boolean                   _ledVisible;
+        private BooleanProperty           ledVisible;
+
+
+        // ******************** Constructors **********************************
+        LcdLedStyle() {
+            _lcdDesign         = LcdDesign.STANDARD;
+            _lcdFont           = LcdFont.DIGITAL_BOLD;
+            _lcdVisible        = false;
+            _lcdCrystalEnabled = false;
+            _ledColor          = Color.RED;
+            _ledType           = LedType.STANDARD;
+            _ledVisible        = false;
+        }
+        LcdLedStyle(final LcdLedStyle STYLE) {
+            _lcdDesign         = STYLE._lcdDesign;
+            _lcdFont           = STYLE._lcdFont;
+            _lcdVisible        = STYLE._lcdVisible;
+            _lcdCrystalEnabled = STYLE._lcdCrystalEnabled;
+            _ledColor          = STYLE._ledColor;
+            _ledType           = STYLE._ledType;
+            _ledVisible        = STYLE._ledVisible;
+        }
+    }
+
+    // Settings of the interactive mode (knob acts as button)
+    private static final class InteractionStyle {
+        private static final InteractionStyle DEFAULT = new InteractionStyle();
+        private boolean         _interactive;
+        private BooleanProperty interactive;
+        private String          _buttonTooltipText;
+        private StringProperty  buttonTooltipText;
+
+
+        // ******************** Constructors **********************************
+        InteractionStyle() {
+            _interactive       = false;
+            _buttonTooltipText = "";
+        }
+        InteractionStyle(final InteractionStyle STYLE) {
+            _interactive       = STYLE._interactive;
+            _buttonTooltipText = STYLE._buttonTooltipText;
+        }
+    }
+
+    // Dead-bands and rate limit for new values, the state is only kept in the copy of a gauge
+    private static final class ValueFilter {
+        private static final ValueFilter DEFAULT = new ValueFilter();
+        private double          _deadBand;
+        private double          _relativeDeadBand;
+        private boolean         _visualDeadBand;
+        private double          _maxUpdateRate;
+        private boolean         _trackSuppressed;
+        private long            lastUpdate;
+        private long            suppressed;
+        private double          pendingValue;
+        private PauseTransition trailingUpdate;
+
+
+        // ******************** Constructors **********************************
+        ValueFilter() {
+            _deadBand         = 0;
+            _relativeDeadBand = 0;
+            _visualDeadBand   = false;
+            _maxUpdateRate    = 0;
+            _trackSuppressed  = false;
+        }
+        ValueFilter(final ValueFilter FILTER) {
+            _deadBand         = FILTER._deadBand;
+            _relativeDeadBand = FILTER._relativeDeadBand;
+            _visualDeadBand   = FILTER._visualDeadBand;
+            _maxUpdateRate    = FILTER._maxUpdateRate;
+            _trackSuppressed  = FILTER._trackSuppressed;
+            lastUpdate        = System.nanoTime() - 1_000_000_000L;
+        }
+    }
 }
@@ -17,6 +17,8 @@
  */
 package eu.hansolo.medusa;
 
+import eu.hansolo.medusa.Gauge.AveragingType;
+import eu.hansolo.medusa.Gauge.CrossingMode;
 import eu.hansolo.medusa.Gauge.KnobType;
 import eu.hansolo.medusa.Gauge.LedType;
 import eu.hansolo.medusa.Gauge.NeedleBehavior;
@@ -133,6 +135,31 @@ public class GaugeBuilder<B extends GaugeBuilder<B>> {
         return (B)this;
     }
 
+    public final B averagingType(final AveragingType TYPE) {
+        properties.put("averagingType", new SimpleObjectProperty<>(TYPE));
+        return (B)this;
+    }
+
+    public final B averagingAlpha(final double ALPHA) {
+        properties.put("averagingAlpha", new SimpleDoubleProperty(ALPHA));
+        return (B)this;
+    }
+
+    public final B averagingHalfLife(final java.time.Duration HALF_LIFE) {
+        properties.put("averagingHalfLife", new SimpleObjectProperty<>(HALF_LIFE));
+        return (B)this;
+    }
+
+    public final B measuredValueHalfLife(final java.time.Duration HALF_LIFE) {
+        properties.put("measuredValueHalfLife", new SimpleObjectProperty<>(HALF_LIFE));
+        return (B)this;
+    }
+
+    public final B crossingMode(final CrossingMode MODE) {
+        properties.put("crossingMode", new SimpleObjectProperty<>(MODE));
+        return (B)this;
+    }
+
     public final B foregroundBaseColor(final Color COLOR) {
         properties.put("foregroundBaseColor", new SimpleObjectProperty<>(COLOR));
         return (B)this;
@@ -223,6 +250,31 @@ public class GaugeBuilder<B extends GaugeBuilder<B>> {
         return (B)this;
     }
 
+    public final B valueDeadBand(final double DEAD_BAND) {
+        properties.put("valueDeadBand", new SimpleDoubleProperty(DEAD_BAND));
+        return (B)this;
+    }
+
+    public final B relativeValueDeadBand(final double RELATIVE_DEAD_BAND) {
+        properties.put("relativeValueDeadBand", new SimpleDoubleProperty(RELATIVE_DEAD_BAND));
+        return (B)this;
+    }
+
+    public final B visualDeadBandEnabled(final boolean ENABLED) {
+        properties.put("visualDeadBandEnabled", new SimpleBooleanProperty(ENABLED));
+        return (B)this;
+    }
+
+    public final B maxUpdateRate(final double RATE) {
+        properties.put("maxUpdateRate", new SimpleDoubleProperty(RATE));
+        return (B)this;
+    }
+
+    public final B trackingSuppressedValues(final boolean TRACKING) {
+        properties.put("trackingSuppressedValues", new SimpleBooleanProperty(TRACKING));
+        return (B)this;
+    }
+
     public final B startAngle(final double ANGLE) {
         properties.put("startAngle", new SimpleDoubleProperty(ANGLE));
         return (B)this;
@@ -318,6 +370,11 @@ public class GaugeBuilder<B extends GaugeBuilder<B>> {
         return (B)this;
     }
 
+    public final B renderingProfile(final RenderingProfile PROFILE) {
+        properties.put("renderingProfile", new SimpleObjectProperty<>(PROFILE));
+        return (B)this;
+    }
+
     public final B barEffectEnabled(final boolean ENABLED) {
         properties.put("barEffectEnabled", new SimpleBooleanProperty(ENABLED));
         return (B)this;
@@ -1217,6 +1274,16 @@ public class GaugeBuilder<B extends GaugeBuilder<B>> {
                 CONTROL.setAveragingEnabled(((BooleanProperty) properties.get(key)).get());
             } else if("averagingPeriod".equals(key)) {
                 CONTROL.setAveragingPeriod(((IntegerProperty) properties.get(key)).get());
+            } else if("averagingType".equals(key)) {
+                CONTROL.setAveragingType(((ObjectProperty<AveragingType>) properties.get(key)).get());
+            } else if("averagingAlpha".equals(key)) {
+                CONTROL.setAveragingAlpha(((DoubleProperty) properties.get(key)).get());
+            } else if("averagingHalfLife".equals(key)) {
+                CONTROL.setAveragingHalfLife(((ObjectProperty<java.time.Duration>) properties.get(key)).get());
+            } else if("measuredValueHalfLife".equals(key)) {
+                CONTROL.setMeasuredValueHalfLife(((ObjectProperty<java.time.Duration>) properties.get(key)).get());
+            } else if("crossingMode".equals(key)) {
+                CONTROL.setCrossingMode(((ObjectProperty<CrossingMode>) properties.get(key)).get());
             } else if("startFromZero".equals(key)) {
                 CONTROL.setStartFromZero(((BooleanProperty) properties.get(key)).get());
             } else if("returnToZero".equals(key)) {
@@ -1287,6 +1354,8 @@ public class GaugeBuilder<B extends GaugeBuilder<B>> {
                 CONTROL.setMinorTickSpace(((DoubleProperty) properties.get(key)).get());
             } else if("shadowsEnabled".equals(key)) {
                 CONTROL.setShadowsEnabled(((BooleanProperty) properties.get(key)).get());
+            } else if ("renderingProfile".equals(key)) {
+                CONTROL.setRenderingProfile(((ObjectProperty<RenderingProfile>) properties.get(key)).get());
             } else if ("barEffectEnabled".equals(key)) {
                 CONTROL.setBarEffectEnabled(((BooleanProperty) properties.get(key)).get());
             } else if ("scaleDirection".equals(key)) {
@@ -1442,6 +1511,23 @@ public class GaugeBuilder<B extends GaugeBuilder<B>> {
             }
         }
 
+        // Value filters, set after the value so that the initial value will not be suppressed
+        if (properties.containsKey("valueDeadBand")) {
+            CONTROL.setValueDeadBand(((DoubleProperty) properties.get("valueDeadBand")).get());
+        }
+        if (properties.containsKey("relativeValueDeadBand")) {
+            CONTROL.setRelativeValueDeadBand(((DoubleProperty) properties.get("relativeValueDeadBand")).get());
+        }
+        if (properties.containsKey("visualDeadBandEnabled")) {
+            CONTROL.setVisualDeadBandEnabled(((BooleanProperty) properties.get("visualDeadBandEnabled")).get());
+        }
+        if (properties.containsKey("maxUpdateRate")) {
+            CONTROL.setMaxUpdateRate(((DoubleProperty) properties.get("maxUpdateRate")).get());
+        }
+        if (properties.containsKey("trackingSuppressedValues")) {
+            CONTROL.setTrackingSuppressedValues(((BooleanProperty) properties.get("trackingSuppressedValues")).get());
+        }
+
         // Adjust tick mark colors
         if (properties.containsKey("tickMarkColor")) {
             Color tickMarkColor = ((ObjectProperty<Color>) properties.get("tickMarkColor")).get();
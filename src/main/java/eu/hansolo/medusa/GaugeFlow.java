@@ -0,0 +1,269 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa;
+
+import eu.hansolo.medusa.Gauge.SkinType;
+import eu.hansolo.medusa.tools.Helper;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.geometry.Orientation;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Region;
+import javafx.scene.shape.Rectangle;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+
+/**
+ * A scrollable grid of GaugeModels in which only the visible models are
+ * shown by a Gauge. Gauges that are scrolled out of the viewport will be
+ * hidden and reused for the models that are scrolled into it, so the
+ * number of Gauges (and skins) only depends on the size of the viewport
+ * and not on the number of models.
+ * Models that are not visible keep track of their value, average,
+ * min- and maxMeasuredValue and current section without touching the
+ * scene graph. The Gauges are created by the gauge factory, which
+ * defines the style of all cells.
+ */
+public class GaugeFlow extends Region {
+    private static final double PREFERRED_WIDTH     = 400;
+    private static final double PREFERRED_HEIGHT    = 400;
+    private static final double PREFERRED_CELL_SIZE = 100;
+    private        final ObservableList<GaugeModel>     models;
+    private        final Map<GaugeModel, Gauge>         realized;
+    private        final Deque<Gauge>                   pool;
+    private        final ScrollBar                      scrollBar;
+    private        final Rectangle                      clip;
+    private        final Consumer<GaugeModel>           observer;
+    private        final ListChangeListener<GaugeModel> modelsListener;
+    private              Supplier<Gauge>                gaugeFactory;
+    private              double                         cellWidth;
+    private              double                         cellHeight;
+    private              int                            columns;
+
+
+    // ******************** Constructors **************************************
+    public GaugeFlow(final GaugeModel... MODELS) {
+        this(List.of(MODELS));
+    }
+    public GaugeFlow(final List<GaugeModel> MODELS) {
+        models         = FXCollections.observableArrayList(MODELS);
+        realized       = new IdentityHashMap<>();
+        pool           = new ArrayDeque<>();
+        scrollBar      = new ScrollBar();
+        clip           = new Rectangle();
+        observer       = MODEL -> {
+            final Gauge GAUGE = realized.get(MODEL);
+            if (null != GAUGE) { GAUGE.setValue(MODEL.getValue()); }
+        };
+        modelsListener = c -> {
+            while (c.next()) {
+                if (c.wasRemoved()) { c.getRemoved().forEach(this::release); }
+            }
+            requestLayout();
+        };
+        gaugeFactory   = () -> new Gauge(SkinType.SIMPLE_SECTION);
+        cellWidth      = PREFERRED_CELL_SIZE;
+        cellHeight     = PREFERRED_CELL_SIZE;
+
+        initGraphics();
+        registerListeners();
+    }
+
+
+    // ******************** Initialization ************************************
+    private void initGraphics() {
+        getStyleClass().add("gauge-flow");
+        scrollBar.setOrientation(Orientation.VERTICAL);
+        scrollBar.setManaged(false);
+        setClip(clip);
+        getChildren().setAll(scrollBar);
+    }
+
+    private void registerListeners() {
+        models.addListener(modelsListener);
+        scrollBar.valueProperty().addListener(o -> requestLayout());
+        addEventHandler(ScrollEvent.SCROLL, e -> {
+            scrollBar.setValue(Helper.clamp(scrollBar.getMin(), scrollBar.getMax(), scrollBar.getValue() - e.getDeltaY()));
+            e.consume();
+        });
+    }
+
+
+    // ******************** Methods *******************************************
+    @Override protected double computePrefWidth(final double HEIGHT) { return snappedLeftInset() + PREFERRED_WIDTH + snappedRightInset(); }
+    @Override protected double computePrefHeight(final double WIDTH) { return snappedTopInset() + PREFERRED_HEIGHT + snappedBottomInset(); }
+
+    /**
+     * Returns the models of the flow.
+     * @return the models of the flow
+     */
+    public ObservableList<GaugeModel> getModels() { return models; }
+
+    /**
+     * Defines the factory that creates the Gauges that show the visible
+     * models. The Gauges will be reused for other models while scrolling,
+     * so they should not be animated. Existing Gauges will be disposed
+     * and replaced.
+     * @param FACTORY
+     */
+    public void setGaugeFactory(final Supplier<Gauge> FACTORY) {
+        gaugeFactory = FACTORY;
+        disposeGauges();
+        requestLayout();
+    }
+
+    public double getCellWidth() { return cellWidth; }
+    public double getCellHeight() { return cellHeight; }
+    public void setCellSize(final double WIDTH, final double HEIGHT) {
+        cellWidth  = Math.max(1, WIDTH);
+        cellHeight = Math.max(1, HEIGHT);
+        requestLayout();
+    }
+
+    /**
+     * Returns the Gauge that shows the given model or null if the model
+     * is not visible.
+     * @param MODEL
+     * @return the Gauge that shows the given model or null
+     */
+    public Gauge getGauge(final GaugeModel MODEL) { return realized.get(MODEL); }
+
+    /**
+     * Scrolls the flow so that the given model is visible.
+     * @param MODEL
+     */
+    public void scrollTo(final GaugeModel MODEL) {
+        final int INDEX = models.indexOf(MODEL);
+        if (INDEX < 0 || 0 == columns) { return; }
+        final double Y = (INDEX / columns) * cellHeight;
+        if (Y < scrollBar.getValue()) {
+            scrollBar.setValue(Y);
+        } else if (Y + cellHeight > scrollBar.getValue() + scrollBar.getVisibleAmount()) {
+            scrollBar.setValue(Math.min(scrollBar.getMax(), Y + cellHeight - scrollBar.getVisibleAmount()));
+        }
+    }
+
+    /**
+     * Disposes all Gauges of the flow. Call this method if the flow will
+     * not be used anymore.
+     */
+    public void dispose() {
+        models.removeListener(modelsListener);
+        disposeGauges();
+    }
+
+    private void disposeGauges() {
+        realized.keySet().forEach(model -> model.observer = null);
+        realized.values().forEach(Gauge::dispose);
+        realized.clear();
+        pool.forEach(Gauge::dispose);
+        pool.clear();
+        getChildren().setAll(scrollBar);
+    }
+
+    private void release(final GaugeModel MODEL) {
+        final Gauge GAUGE = realized.remove(MODEL);
+        if (null == GAUGE) { return; }
+        MODEL.observer = null;
+        GAUGE.setVisible(false);
+        pool.push(GAUGE);
+    }
+
+    private Gauge acquire(final GaugeModel MODEL) {
+        Gauge gauge = pool.poll();
+        if (null == gauge) {
+            gauge = gaugeFactory.get();
+            gauge.setManaged(false);
+            getChildren().add(gauge);
+        }
+        MODEL.applyTo(gauge);
+        MODEL.observer = observer;
+        realized.put(MODEL, gauge);
+        gauge.setVisible(true);
+        return gauge;
+    }
+
+
+    // ******************** Layout ********************************************
+    @Override protected void layoutChildren() {
+        final double LEFT   = snappedLeftInset();
+        final double TOP    = snappedTopInset();
+        final double HEIGHT = getHeight() - TOP - snappedBottomInset();
+        double       width  = getWidth() - LEFT - snappedRightInset();
+
+        clip.setWidth(getWidth());
+        clip.setHeight(getHeight());
+
+        final int    SIZE           = models.size();
+        final double SCROLL_WIDTH   = scrollBar.prefWidth(-1);
+        double       contentHeight  = Math.ceil(SIZE / (double) Math.max(1, (int) (width / cellWidth))) * cellHeight;
+        if (contentHeight > HEIGHT) { width -= SCROLL_WIDTH; }
+        columns       = Math.max(1, (int) (width / cellWidth));
+        contentHeight = Math.ceil(SIZE / (double) columns) * cellHeight;
+
+        scrollBar.setVisible(contentHeight > HEIGHT);
+        scrollBar.setMax(Math.max(0, contentHeight - HEIGHT));
+        scrollBar.setVisibleAmount(HEIGHT);
+        scrollBar.setUnitIncrement(cellHeight * 0.25);
+        scrollBar.setBlockIncrement(HEIGHT);
+        if (scrollBar.getValue() > scrollBar.getMax()) { scrollBar.setValue(scrollBar.getMax()); }
+        scrollBar.resizeRelocate(getWidth() - snappedRightInset() - SCROLL_WIDTH, TOP, SCROLL_WIDTH, HEIGHT);
+
+        final double OFFSET = scrollBar.getValue();
+        final int    FIRST  = Math.min(SIZE, (int) (OFFSET / cellHeight) * columns);
+        final int    LAST   = Math.min(SIZE, (int) Math.ceil((OFFSET + HEIGHT) / cellHeight) * columns);
+
+        // release the gauges of the models that are no longer visible before reusing them
+        final Map<GaugeModel, Integer> VISIBLE = new IdentityHashMap<>(LAST - FIRST);
+        for (int i = FIRST ; i < LAST ; i++) { VISIBLE.put(models.get(i), i); }
+        for (Iterator<Entry<GaugeModel, Gauge>> iterator = realized.entrySet().iterator() ; iterator.hasNext() ; ) {
+            final Entry<GaugeModel, Gauge> ENTRY = iterator.next();
+            if (VISIBLE.containsKey(ENTRY.getKey())) { continue; }
+            iterator.remove();
+            ENTRY.getKey().observer = null;
+            ENTRY.getValue().setVisible(false);
+            pool.push(ENTRY.getValue());
+        }
+
+        for (int i = FIRST ; i < LAST ; i++) {
+            final GaugeModel MODEL = models.get(i);
+            Gauge gauge = realized.get(MODEL);
+            if (null == gauge) { gauge = acquire(MODEL); }
+            gauge.resizeRelocate(LEFT + (i % columns) * cellWidth, TOP + (i / columns) * cellHeight - OFFSET, cellWidth, cellHeight);
+        }
+
+        // keep at most one row of spare gauges
+        while (pool.size() > columns) {
+            final Gauge GAUGE = pool.pop();
+            getChildren().remove(GAUGE);
+            GAUGE.dispose();
+        }
+        scrollBar.toFront();
+    }
+}
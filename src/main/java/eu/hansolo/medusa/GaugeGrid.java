@@ -0,0 +1,313 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa;
+
+import eu.hansolo.medusa.skins.CellRenderer;
+import eu.hansolo.medusa.skins.CellRenderers;
+import eu.hansolo.medusa.tools.Helper;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.geometry.Orientation;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Tooltip;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Region;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Consumer;
+
+
+/**
+ * Shows a large number of small gauges (e.g. 1,000+ gauges on an
+ * overview page) in a grid without creating a skin and a scene graph
+ * per gauge. The gauges are only used as models, all cells are painted
+ * by stateless CellRenderers onto a few canvases (one canvas per
+ * {@value #MAX_CANVAS_HEIGHT} pixels of height). A change of the current
+ * value of a gauge only repaints its own cell, all changes within one
+ * pulse are painted together.
+ * The gauges must not be added to the scene graph themselves. Changes
+ * of style properties (colors, sections, title) are not tracked, call
+ * refresh() to repaint all cells after changing them.
+ * The mouse position is mapped to the gauge of the cell for the tooltip
+ * and for clicks (see setOnGaugeClicked()).
+ */
+public class GaugeGrid extends Region {
+    private static final double          PREFERRED_CELL_SIZE = 64;
+    private static final double          MAX_CANVAS_HEIGHT   = 4096;
+    private static final int             MAX_HISTORY         = 1_000;
+    private        final ObservableList<Gauge>     gauges;
+    private        final List<Cell>                cells;
+    private        final List<Canvas>              canvases;
+    private        final BitSet                    dirty;
+    private        final Tooltip                   tooltip;
+    private        final ListChangeListener<Gauge> gaugesListener;
+    private              double                    cellWidth;
+    private              double                    cellHeight;
+    private              int                       columns;
+    private              int                       rowsPerCanvas;
+    private              CellRenderer              cellRenderer;
+    private              Consumer<Gauge>           onGaugeClicked;
+    private              boolean                   repaintScheduled;
+    private              long                      repaintCount;
+
+
+    // ******************** Constructors **************************************
+    public GaugeGrid(final Gauge... GAUGES) {
+        this(Arrays.asList(GAUGES));
+    }
+    public GaugeGrid(final List<Gauge> GAUGES) {
+        gauges         = FXCollections.observableArrayList(GAUGES);
+        cells          = new ArrayList<>(GAUGES.size());
+        canvases       = new ArrayList<>(1);
+        dirty          = new BitSet(GAUGES.size());
+        tooltip        = new Tooltip();
+        gaugesListener = c -> {
+            createCells();
+            resize();
+        };
+        cellWidth      = PREFERRED_CELL_SIZE;
+        cellHeight     = PREFERRED_CELL_SIZE;
+
+        getStyleClass().add("gauge-grid");
+        createCells();
+        registerListeners();
+    }
+
+
+    // ******************** Initialization ************************************
+    private void registerListeners() {
+        widthProperty().addListener(o -> resize());
+        heightProperty().addListener(o -> resize());
+        gauges.addListener(gaugesListener);
+        Tooltip.install(this, tooltip);
+        addEventHandler(MouseEvent.MOUSE_MOVED, e -> {
+            Gauge gauge = getGaugeAt(e.getX(), e.getY());
+            tooltip.setText(null == gauge ? "" : (gauge.getTitle().isEmpty() ? "" : gauge.getTitle() + "\n") + Helper.formatNumber(gauge, gauge.getCurrentValue()) + " " + gauge.getUnit());
+        });
+        addEventHandler(MouseEvent.MOUSE_CLICKED, e -> {
+            Gauge gauge = getGaugeAt(e.getX(), e.getY());
+            if (null != gauge && null != onGaugeClicked) { onGaugeClicked.accept(gauge); }
+        });
+    }
+
+    private void createCells() {
+        cells.forEach(Cell::dispose);
+        cells.clear();
+        dirty.clear();
+        for (int i = 0, n = gauges.size() ; i < n ; i++) { cells.add(new Cell(this, gauges.get(i), i)); }
+    }
+
+
+    // ******************** Methods *******************************************
+    @Override public Orientation getContentBias() { return Orientation.HORIZONTAL; }
+
+    @Override protected double computePrefWidth(final double HEIGHT) {
+        final int COLUMNS = Math.max(1, (int) Math.ceil(Math.sqrt(cells.size())));
+        return snappedLeftInset() + COLUMNS * cellWidth + snappedRightInset();
+    }
+    @Override protected double computePrefHeight(final double WIDTH) {
+        final int COLUMNS = WIDTH < 0 ? Math.max(1, (int) Math.ceil(Math.sqrt(cells.size()))) : getColumns(WIDTH - snappedLeftInset() - snappedRightInset());
+        return snappedTopInset() + Math.ceil(cells.size() / (double) COLUMNS) * cellHeight + snappedBottomInset();
+    }
+
+    /**
+     * Returns the gauges of the grid. Adding or removing gauges will
+     * rebuild the cells.
+     * @return the gauges of the grid
+     */
+    public ObservableList<Gauge> getGauges() { return gauges; }
+
+    public double getCellWidth() { return cellWidth; }
+    public double getCellHeight() { return cellHeight; }
+    public void setCellSize(final double WIDTH, final double HEIGHT) {
+        cellWidth  = Helper.clamp(8, MAX_CANVAS_HEIGHT, WIDTH);
+        cellHeight = Helper.clamp(8, MAX_CANVAS_HEIGHT, HEIGHT);
+        requestLayout();
+        resize();
+    }
+
+    /**
+     * Returns the renderer that is used for all cells. If null (default)
+     * each cell will be rendered by the renderer of the skin type of its
+     * gauge (see CellRenderers.forSkinType()).
+     * @return the renderer that is used for all cells
+     */
+    public CellRenderer getCellRenderer() { return cellRenderer; }
+    public void setCellRenderer(final CellRenderer RENDERER) {
+        cellRenderer = RENDERER;
+        refresh();
+    }
+
+    public void setOnGaugeClicked(final Consumer<Gauge> HANDLER) { onGaugeClicked = HANDLER; }
+
+    /**
+     * Returns the gauge of the cell at the given position (in the
+     * coordinates of the grid) or null if there is no cell.
+     * @param X
+     * @param Y
+     * @return the gauge of the cell at the given position or null
+     */
+    public Gauge getGaugeAt(final double X, final double Y) {
+        final double LOCAL_X = X - snappedLeftInset();
+        final double LOCAL_Y = Y - snappedTopInset();
+        if (0 == columns || LOCAL_X < 0 || LOCAL_Y < 0 || LOCAL_X >= columns * cellWidth) { return null; }
+        final int INDEX = (int) (LOCAL_Y / cellHeight) * columns + (int) (LOCAL_X / cellWidth);
+        return INDEX < cells.size() ? cells.get(INDEX).gauge : null;
+    }
+
+    /**
+     * Repaints all cells, e.g. after style properties of the gauges have
+     * been changed.
+     */
+    public void refresh() {
+        dirty.set(0, cells.size());
+        repaint();
+    }
+
+    /**
+     * Returns the number of cells that have been painted since the grid
+     * was created.
+     * @return the number of cells that have been painted
+     */
+    public long getRepaintCount() { return repaintCount; }
+
+    /**
+     * Removes the listeners from all gauges.
+     */
+    public void dispose() {
+        gauges.removeListener(gaugesListener);
+        cells.forEach(Cell::dispose);
+        cells.clear();
+        dirty.clear();
+    }
+
+    private int getColumns(final double WIDTH) { return Math.max(1, (int) (WIDTH / cellWidth)); }
+
+    private void invalidate(final int INDEX) {
+        dirty.set(INDEX);
+        if (repaintScheduled) { return; }
+        repaintScheduled = true;
+        // all value changes within one pulse will be painted together
+        Platform.runLater(this::repaint);
+    }
+
+    private void repaint() {
+        repaintScheduled = false;
+        if (0 == columns) { return; }
+        for (int i = dirty.nextSetBit(0) ; i >= 0 && i < cells.size() ; i = dirty.nextSetBit(i + 1)) { paint(i); }
+        dirty.clear();
+    }
+
+    private void paint(final int INDEX) {
+        final int             ROW      = INDEX / columns;
+        final double          X        = (INDEX % columns) * cellWidth;
+        final double          Y        = (ROW % rowsPerCanvas) * cellHeight;
+        final Cell            CELL     = cells.get(INDEX);
+        final GraphicsContext CTX      = canvases.get(ROW / rowsPerCanvas).getGraphicsContext2D();
+        final CellRenderer    RENDERER = null == cellRenderer ? CellRenderers.forSkinType(CELL.gauge.getSkinType()) : cellRenderer;
+        CTX.clearRect(X, Y, cellWidth, cellHeight);
+        CTX.save();
+        CTX.translate(X, Y);
+        RENDERER.draw(CTX, CELL, cellWidth, cellHeight);
+        CTX.restore();
+        repaintCount++;
+    }
+
+
+    // ******************** Resizing ******************************************
+    private void resize() {
+        final double WIDTH = getWidth() - snappedLeftInset() - snappedRightInset();
+        if (WIDTH <= 0) { return; }
+        columns       = getColumns(WIDTH);
+        rowsPerCanvas = Math.max(1, (int) (MAX_CANVAS_HEIGHT / cellHeight));
+
+        final int ROWS         = (int) Math.ceil(cells.size() / (double) columns);
+        final int CANVAS_COUNT  = (int) Math.ceil(ROWS / (double) rowsPerCanvas);
+        while (canvases.size() > CANVAS_COUNT) { canvases.remove(canvases.size() - 1); }
+        while (canvases.size() < CANVAS_COUNT) { canvases.add(new Canvas()); }
+        for (int i = 0 ; i < CANVAS_COUNT ; i++) {
+            final Canvas CANVAS = canvases.get(i);
+            CANVAS.setWidth(columns * cellWidth);
+            CANVAS.setHeight(Math.min(rowsPerCanvas, ROWS - i * rowsPerCanvas) * cellHeight);
+            CANVAS.relocate(snappedLeftInset(), snappedTopInset() + i * rowsPerCanvas * cellHeight);
+            CANVAS.getGraphicsContext2D().clearRect(0, 0, CANVAS.getWidth(), CANVAS.getHeight());
+        }
+        getChildren().setAll(canvases);
+        refresh();
+    }
+
+
+    // ******************** Inner Classes *************************************
+    /**
+     * One cell of the grid. Holds the gauge and the history of its values
+     * (used e.g. for the sparkline), the oldest value first.
+     */
+    public static final class Cell {
+        private final GaugeGrid            grid;
+        private final Gauge                gauge;
+        private final int                  index;
+        private final InvalidationListener valueListener;
+        private       double[]             history;
+        private       int                  historyStart;
+        private       int                  historySize;
+
+
+        // ******************** Constructors **********************************
+        private Cell(final GaugeGrid GRID, final Gauge GAUGE, final int INDEX) {
+            grid          = GRID;
+            gauge         = GAUGE;
+            index         = INDEX;
+            valueListener = o -> {
+                addToHistory(gauge.getCurrentValue());
+                grid.invalidate(index);
+            };
+            addToHistory(gauge.getCurrentValue());
+            gauge.currentValueProperty().addListener(valueListener);
+        }
+
+
+        // ******************** Methods ***************************************
+        public Gauge getGauge() { return gauge; }
+
+        public int getIndex() { return index; }
+
+        public int getHistorySize() { return historySize; }
+
+        public double getHistoryValue(final int INDEX) { return history[(historyStart + INDEX) % history.length]; }
+
+        private void addToHistory(final double VALUE) {
+            if (null == history) { history = new double[Helper.clamp(2, MAX_HISTORY, gauge.getAveragingPeriod())]; }
+            if (historySize < history.length) {
+                history[(historyStart + historySize) % history.length] = VALUE;
+                historySize++;
+            } else {
+                history[historyStart] = VALUE;
+                historyStart = (historyStart + 1) % history.length;
+            }
+        }
+
+        private void dispose() { gauge.currentValueProperty().removeListener(valueListener); }
+    }
+}
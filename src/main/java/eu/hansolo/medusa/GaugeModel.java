@@ -0,0 +1,167 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa;
+
+import eu.hansolo.medusa.tools.Data;
+import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.MovingAverage;
+import eu.hansolo.medusa.tools.SectionComparator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+
+/**
+ * A lightweight model of a gauge that is used in a GaugeFlow. It has no
+ * JavaFX properties and no skin, setting a value only updates the value,
+ * the min- and maxMeasuredValue, the moving average (if averaging is
+ * enabled) and the current section. While the model is visible in a
+ * GaugeFlow its state will be transferred to the Gauge that shows it.
+ * Like the Gauge it should only be used on the FX application thread.
+ */
+public class GaugeModel {
+    private final double               minValue;
+    private final double               maxValue;
+    private       String               title;
+    private       String               unit;
+    private       List<Section>        sections;
+    private       MovingAverage        movingAverage;
+    private       double               value;
+    private       double               minMeasuredValue;
+    private       double               maxMeasuredValue;
+    private       Section              currentSection;
+    Consumer<GaugeModel>               observer; // set by the GaugeFlow while the model is visible
+
+
+    // ******************** Constructors **************************************
+    public GaugeModel() {
+        this(0, 100);
+    }
+    public GaugeModel(final double MIN_VALUE, final double MAX_VALUE) {
+        if (MAX_VALUE <= MIN_VALUE) { throw new IllegalArgumentException("maxValue must be bigger than minValue"); }
+        minValue         = MIN_VALUE;
+        maxValue         = MAX_VALUE;
+        title            = "";
+        unit             = "";
+        sections         = Collections.emptyList();
+        value            = MIN_VALUE;
+        minMeasuredValue = MAX_VALUE;
+        maxMeasuredValue = MIN_VALUE;
+    }
+
+
+    // ******************** Methods *******************************************
+    public double getMinValue() { return minValue; }
+
+    public double getMaxValue() { return maxValue; }
+
+    public String getTitle() { return title; }
+    public void setTitle(final String TITLE) { title = null == TITLE ? "" : TITLE; }
+
+    public String getUnit() { return unit; }
+    public void setUnit(final String UNIT) { unit = null == UNIT ? "" : UNIT; }
+
+    public List<Section> getSections() { return Collections.unmodifiableList(sections); }
+    public void setSections(final List<Section> SECTIONS) {
+        sections = new ArrayList<>(SECTIONS);
+        sections.sort(new SectionComparator());
+        currentSection = findSection(value);
+    }
+    public void setSections(final Section... SECTIONS) { setSections(List.of(SECTIONS)); }
+
+    /**
+     * Returns the section that contains the current value or null if the
+     * value is not in one of the sections.
+     * @return the section that contains the current value or null
+     */
+    public Section getCurrentSection() { return currentSection; }
+
+    public boolean isAveragingEnabled() { return null != movingAverage; }
+    /**
+     * Enables the moving average over the given number of values, a
+     * period of 0 disables averaging.
+     * @param PERIOD
+     */
+    public void setAveragingPeriod(final int PERIOD) {
+        if (PERIOD <= 0) {
+            movingAverage = null;
+        } else if (null == movingAverage) {
+            movingAverage = new MovingAverage(PERIOD);
+        } else {
+            movingAverage.setPeriod(PERIOD);
+        }
+    }
+    public double getAverage() { return null == movingAverage ? value : movingAverage.getAverage(); }
+
+    public double getValue() { return value; }
+    public void setValue(final double VALUE) {
+        value = Helper.clamp(minValue, maxValue, VALUE);
+        if (value < minMeasuredValue) { minMeasuredValue = value; }
+        if (value > maxMeasuredValue) { maxMeasuredValue = value; }
+        if (null != movingAverage) { movingAverage.addData(new Data(value)); }
+        if (null == currentSection || !currentSection.contains(value)) { currentSection = findSection(value); }
+        if (null != observer) { observer.accept(this); }
+    }
+
+    public double getMinMeasuredValue() { return minMeasuredValue; }
+
+    public double getMaxMeasuredValue() { return maxMeasuredValue; }
+
+    public void resetMeasuredValues() {
+        minMeasuredValue = value;
+        maxMeasuredValue = value;
+    }
+
+    /**
+     * Transfers the state of the model to the given Gauge, the style of
+     * the Gauge will not be changed. The Gauge should not be animated,
+     * otherwise it will animate from the value of its former model.
+     * @param GAUGE
+     */
+    public void applyTo(final Gauge GAUGE) {
+        if (minValue >= GAUGE.getMaxValue()) {
+            GAUGE.setMaxValue(maxValue);
+            GAUGE.setMinValue(minValue);
+        } else {
+            GAUGE.setMinValue(minValue);
+            GAUGE.setMaxValue(maxValue);
+        }
+        if (!title.equals(GAUGE.getTitle())) { GAUGE.setTitle(title); }
+        if (!unit.equals(GAUGE.getUnit())) { GAUGE.setUnit(unit); }
+        if (!sections.equals(GAUGE.getSections())) { GAUGE.setSections(sections); }
+        GAUGE.setValue(value);
+        GAUGE.setMinMeasuredValue(minMeasuredValue);
+        GAUGE.setMaxMeasuredValue(maxMeasuredValue);
+        if (null != movingAverage) {
+            final MovingAverage AVERAGE = GAUGE.getMovingAverage();
+            AVERAGE.setPeriod(movingAverage.getPeriod());
+            movingAverage.getWindow().forEach(AVERAGE::addData);
+        }
+        GAUGE.setAveragingEnabled(null != movingAverage);
+    }
+
+    private Section findSection(final double VALUE) {
+        for (int i = 0, n = sections.size() ; i < n ; i++) {
+            final Section SECTION = sections.get(i);
+            if (SECTION.contains(VALUE)) { return SECTION; }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa;
+
+/**
+ * Defines how effects will be rendered by the skins.
+ * QUALITY: effects like inner and drop shadows or glows will be applied
+ * to the nodes as they are (default).
+ * PERFORMANCE: no effect will be applied to nodes that change with the
+ * value (e.g. needles, bars, value texts or containers of these). Effects
+ * on static nodes will be rendered once into a cached bitmap. This is
+ * meant for software pipelines (e.g. without GPU acceleration) where
+ * each effect pass is expensive.
+ * The default profile for new gauges and clocks can be set with
+ * -Dmedusa.renderingProfile=PERFORMANCE or with setDefault().
+ */
+public enum RenderingProfile {
+    QUALITY, PERFORMANCE;
+
+    private static volatile RenderingProfile defaultProfile = fromString(System.getProperty("medusa.renderingProfile"));
+
+
+    /**
+     * Returns the profile that will be used for new gauges and clocks.
+     * @return the profile that will be used for new gauges and clocks
+     */
+    public static RenderingProfile getDefault() { return defaultProfile; }
+    /**
+     * Defines the profile that will be used for new gauges and clocks.
+     * Existing gauges and clocks keep their profile.
+     * @param PROFILE
+     */
+    public static void setDefault(final RenderingProfile PROFILE) { defaultProfile = null == PROFILE ? QUALITY : PROFILE; }
+
+    private static RenderingProfile fromString(final String NAME) {
+        if (null == NAME) { return QUALITY; }
+        try {
+            return valueOf(NAME.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return QUALITY;
+        }
+    }
+}
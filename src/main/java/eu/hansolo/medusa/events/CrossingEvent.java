@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.events;
+
+import eu.hansolo.medusa.Marker;
+import eu.hansolo.medusa.Section;
+
+
+/**
+ * A crossing of the threshold, a section, an area or a marker by the
+ * value of a Gauge. Each Gauge reuses one instance for all crossings, so
+ * firing a crossing does not allocate and a listener must not keep a
+ * reference to the event. Because the event is mutable it is not an
+ * EventObject and not serializable.
+ */
+public class CrossingEvent {
+    public enum Type {
+        THRESHOLD_EXCEEDED, THRESHOLD_UNDERRUN,
+        SECTION_ENTERED, SECTION_LEFT,
+        AREA_ENTERED, AREA_LEFT,
+        MARKER_EXCEEDED, MARKER_UNDERRUN
+    }
+    private final Object  source;
+    private       Type    type;
+    private       double  formerValue;
+    private       double  value;
+    private       double  crossedValue;
+    private       Section section;
+    private       Marker  marker;
+
+
+    // ******************** Constructors **************************************
+    public CrossingEvent(final Object SRC) {
+        if (null == SRC) { throw new IllegalArgumentException("null source"); }
+        source = SRC;
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Sets the state of the event, used by the Gauge to reuse the event.
+     * @param TYPE
+     * @param FORMER_VALUE the value before the crossing
+     * @param VALUE the value after the crossing
+     * @param CROSSED_VALUE the threshold, the value of the marker or the start/stop of the section
+     * @param SECTION the section or area, null for the threshold and markers
+     * @param MARKER the marker, null for the threshold, sections and areas
+     * @return this event
+     */
+    public CrossingEvent set(final Type TYPE, final double FORMER_VALUE, final double VALUE, final double CROSSED_VALUE, final Section SECTION, final Marker MARKER) {
+        type         = TYPE;
+        formerValue  = FORMER_VALUE;
+        value        = VALUE;
+        crossedValue = CROSSED_VALUE;
+        section      = SECTION;
+        marker       = MARKER;
+        return this;
+    }
+
+    /**
+     * Returns the Gauge on which the crossing occurred.
+     * @return the Gauge on which the crossing occurred
+     */
+    public Object getSource() { return source; }
+
+    public Type getType() { return type; }
+
+    public double getFormerValue() { return formerValue; }
+
+    public double getValue() { return value; }
+
+    /**
+     * Returns the threshold, the value of the marker or the start or stop
+     * of the section that was crossed.
+     * @return the value that was crossed
+     */
+    public double getCrossedValue() { return crossedValue; }
+
+    public Section getSection() { return section; }
+
+    public Marker getMarker() { return marker; }
+
+    @Override public String toString() {
+        return "CrossingEvent[type=" + type + ", formerValue=" + formerValue + ", value=" + value + ", crossedValue=" + crossedValue + "]";
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.events;
+
+import java.util.EventListener;
+
+
+/**
+ * Will be called directly by the Gauge (without JavaFX event dispatch)
+ * if the value crossed the threshold, a section, an area or a marker.
+ * The event will be reused for the next crossing, so it must not be
+ * stored, copy the values that are needed later.
+ */
+@FunctionalInterface
+public interface CrossingEventListener extends EventListener {
+    public void onCrossingEvent(final CrossingEvent EVENT);
+}
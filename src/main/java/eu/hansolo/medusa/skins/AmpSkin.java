@@ -139,7 +139,7 @@ public class AmpSkin extends GaugeSkinBase {
         formatString         = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f").toString();
         locale               = gauge.getLocale();
         sectionListener      = c -> redraw();
-        currentValueListener = o -> rotateNeedle();
+        currentValueListener = scheduledListener(this::rotateNeedle);
         needleRotateListener = o -> handleEvents("ANGLE");
         markerListener       = c -> {
             updateMarkers();
@@ -204,7 +204,7 @@ public class AmpSkin extends GaugeSkinBase {
         dropShadow.setOffsetY(0.015 * PREFERRED_WIDTH);
 
         shadowGroup = new Group(needle);
-        shadowGroup.setEffect(gauge.isShadowsEnabled() ? dropShadow : null);
+        shadowGroup.setEffect(gauge.isShadowsEnabled() && !isPerformanceProfile() ? dropShadow : null);
 
         titleText = new Text(gauge.getTitle());
         titleText.setTextOrigin(VPos.CENTER);
@@ -235,7 +235,6 @@ public class AmpSkin extends GaugeSkinBase {
 
         foreground = new SVGPath();
         foreground.setContent("M 26 26.5 C 26 20.2432 26.2432 20 32.5 20 L 277.5 20 C 283.7568 20 284 20.2432 284 26.5 L 284 143.5 C 284 149.7568 283.7568 150 277.5 150 L 32.5 150 C 26.2432 150 26 149.7568 26 143.5 L 26 26.5 ZM 0 6.7241 L 0 253.2758 C 0 260 0 260 6.75 260 L 303.25 260 C 310 260 310 260 310 253.2758 L 310 6.7241 C 310 0 310 0 303.25 0 L 6.75 0 C 0 0 0 0 0 6.7241 Z");
-        foreground.setEffect(lightEffect);
 
         // Add all nodes
         pane = new Pane();
@@ -843,9 +842,10 @@ public class AmpSkin extends GaugeSkinBase {
 
         if (gauge.isLedVisible()) drawLed(led);
 
-        shadowGroup.setEffect(gauge.isShadowsEnabled() ? dropShadow : null);
+        shadowGroup.setEffect(gauge.isShadowsEnabled() && !isPerformanceProfile() ? dropShadow : null);
 
         foreground.setFill(gauge.getForegroundPaint());
+        Helper.applyEffect(foreground, lightEffect, false, gauge.getRenderingProfile());
 
         // Markers
         drawMarkers();
@@ -22,6 +22,8 @@ import eu.hansolo.medusa.Gauge;
 import eu.hansolo.medusa.Gauge.ScaleDirection;
 import eu.hansolo.medusa.tools.ConicalGradient;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.TextMeasurer;
+import eu.hansolo.medusa.tools.Trig;
 import javafx.beans.InvalidationListener;
 import javafx.scene.effect.BlurType;
 import javafx.scene.effect.DropShadow;
@@ -33,6 +35,7 @@ import javafx.scene.shape.Circle;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.shape.StrokeLineCap;
 import javafx.scene.shape.StrokeType;
+import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 
 import java.util.List;
@@ -72,7 +75,7 @@ public class BarSkin extends GaugeSkinBase {
         if (gauge.isAutoScale()) gauge.calcAutoScale();
         range                = gauge.getRange();
         angleStep            = -ANGLE_RANGE / range;
-        currentValueListener = o -> redraw();
+        currentValueListener = scheduledListener(this::redraw);
         barColorListener     = o -> {
             Color barColor = gauge.getBarColor();
             gauge.setGradientBarStops(new Stop(0.0, barColor),
@@ -193,9 +196,14 @@ public class BarSkin extends GaugeSkinBase {
     private void resizeValueText() {
         double maxWidth = 0.5 * size;
         double fontSize = 0.3 * size;
-        valueText.setFont(Fonts.robotoRegular(fontSize));
-        if (valueText.getLayoutBounds().getWidth() > maxWidth) { Helper.adjustTextSize(valueText, maxWidth, fontSize); }
-        valueText.relocate((size - valueText.getLayoutBounds().getWidth()) * 0.5, (size - valueText.getLayoutBounds().getHeight()) * 0.5);
+        String text     = valueText.getText();
+        Font   font     = Fonts.robotoRegular(fontSize);
+        double fitSize  = TextMeasurer.fitFontSize(font, text, maxWidth);
+        if (fitSize < fontSize) { font = Fonts.robotoRegular(fitSize); }
+        // avoid a new layout of the text node if the font did not change
+        if (!font.equals(valueText.getFont())) { valueText.setFont(font); }
+        valueText.setLayoutX((size - TextMeasurer.getWidth(font, text)) * 0.5);
+        valueText.setLayoutY((size - TextMeasurer.getHeight(font)) * 0.5 + TextMeasurer.getAscent(font));
     }
     private void resizeUnitText() {
         double maxWidth = 0.56667 * size;
@@ -249,8 +257,8 @@ public class BarSkin extends GaugeSkinBase {
             dot.setRadius(size * 0.055);
             dot.setFill(gradientBarStops.get(3).getColor());
 
-            dot.setCenterX(center + arc.getRadiusX() * Math.sin(Math.toRadians(180 - currentValue * angleStep)));
-            dot.setCenterY(center + arc.getRadiusY() * Math.cos(Math.toRadians(180 - currentValue * angleStep)));
+            dot.setCenterX(center + arc.getRadiusX() * Trig.sinDeg(180 - currentValue * angleStep));
+            dot.setCenterY(center + arc.getRadiusY() * Trig.cosDeg(180 - currentValue * angleStep));
 
             titleText.setFill(barColor);
 
@@ -274,15 +282,15 @@ public class BarSkin extends GaugeSkinBase {
         dot.setVisible(angle   < -345 ? true : false);
 
         if (angle < -360) {
-            fakeDot.setCenterX(center + arc.getRadiusX() * Math.sin(Math.toRadians(180 + angle)));
-            fakeDot.setCenterY(center + arc.getRadiusY() * Math.cos(Math.toRadians(180 + angle)));
+            fakeDot.setCenterX(center + arc.getRadiusX() * Trig.sinDeg(180 + angle));
+            fakeDot.setCenterY(center + arc.getRadiusY() * Trig.cosDeg(180 + angle));
         } else {
-            fakeDot.setCenterX(center + arc.getRadiusX() * Math.sin(Math.toRadians(180)));
-            fakeDot.setCenterY(center + arc.getRadiusY() * Math.cos(Math.toRadians(180)));
+            fakeDot.setCenterX(center + arc.getRadiusX() * Trig.sinDeg(180));
+            fakeDot.setCenterY(center + arc.getRadiusY() * Trig.cosDeg(180));
         }
 
-        dot.setCenterX(center + arc.getRadiusX() * Math.sin(Math.toRadians(180 + angle)));
-        dot.setCenterY(center + arc.getRadiusY() * Math.cos(Math.toRadians(180 + angle)));
+        dot.setCenterX(center + arc.getRadiusX() * Trig.sinDeg(180 + angle));
+        dot.setCenterY(center + arc.getRadiusY() * Trig.cosDeg(180 + angle));
 
         titleText.setFill(gauge.getTitleColor());
         valueText.setFill(gauge.getValueColor());
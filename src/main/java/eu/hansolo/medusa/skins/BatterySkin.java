@@ -76,7 +76,7 @@ public class BatterySkin extends GaugeSkinBase {
         orientation          = gauge.getOrientation();
         sections             = gauge.getSections();
         locale               = gauge.getLocale();
-        currentValueListener = o -> setBar(gauge.getCurrentValue());
+        currentValueListener = scheduledListener(() -> setBar(gauge.getCurrentValue()));
 
         initGraphics();
         registerListeners();
@@ -92,7 +92,7 @@ public class BulletChartSkin extends GaugeSkinBase {
         thresholdTooltip         = new Tooltip();
         sectionListener          = c -> redraw();
         markerListener           = c -> redraw();
-        currentValueListener     = o -> updateBar();
+        currentValueListener     = scheduledListener(this::updateBar);
         paneSizeListener         = o -> handleEvents("RESIZE");
 
         if (Orientation.VERTICAL == orientation) {
@@ -198,6 +198,8 @@ public class BulletChartSkin extends GaugeSkinBase {
         }
     }
 
+    @Override public double getPixelsPerUnit() { return stepSize; }
+
     @Override public void dispose() {
         gauge.getSections().removeListener(sectionListener);
         gauge.getTickMarkSections().removeListener(sectionListener);
@@ -0,0 +1,34 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.skins;
+
+import eu.hansolo.medusa.GaugeGrid.Cell;
+import javafx.scene.canvas.GraphicsContext;
+
+
+/**
+ * Paints one cell of a GaugeGrid. Renderers are stateless, everything
+ * they need comes from the gauge of the cell (and the value history of
+ * the cell), so one renderer can be shared by all cells of all grids.
+ * The graphics context is translated to the upper left corner of the
+ * cell and the cell has already been cleared.
+ */
+@FunctionalInterface
+public interface CellRenderer {
+    void draw(final GraphicsContext CTX, final Cell CELL, final double WIDTH, final double HEIGHT);
+}
@@ -0,0 +1,310 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.skins;
+
+import eu.hansolo.medusa.Fonts;
+import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.Gauge.SkinType;
+import eu.hansolo.medusa.GaugeGrid.Cell;
+import eu.hansolo.medusa.Section;
+import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.TextMeasurer;
+import eu.hansolo.medusa.tools.Trig;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.ArcType;
+import javafx.scene.shape.StrokeLineCap;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+import java.util.List;
+
+
+/**
+ * Stateless canvas versions of the skins that are used for dense
+ * overviews (TinySkin, BulletChartSkin, SimpleSectionSkin and
+ * TileSparklineSkin) to paint the cells of a GaugeGrid. The proportions
+ * are taken from the skins, details that are not visible at cell size
+ * (tick marks, tick labels, shadows) are left out.
+ */
+public final class CellRenderers {
+    private static final double PREFERRED_SIZE = 250;
+    private static final double TINY_RANGE     = 270;
+    private static final String ROBOTO_REGULAR = Fonts.robotoRegular(10).getName();
+    private static final String LATO_LIGHT     = Fonts.latoLight(10).getName();
+    private static final String LATO_BOLD      = Fonts.latoBold(10).getName();
+
+    public static final CellRenderer TINY            = CellRenderers::drawTiny;
+    public static final CellRenderer BULLET_CHART    = CellRenderers::drawBulletChart;
+    public static final CellRenderer SIMPLE_SECTION  = CellRenderers::drawSimpleSection;
+    public static final CellRenderer TILE_SPARK_LINE = CellRenderers::drawSparkLine;
+
+
+    // ******************** Constructors **************************************
+    private CellRenderers() {}
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns the renderer for the given skin type. Skin types without a
+     * cell renderer will be rendered like TINY.
+     * @param SKIN_TYPE
+     * @return the renderer for the given skin type
+     */
+    public static CellRenderer forSkinType(final SkinType SKIN_TYPE) {
+        if (null == SKIN_TYPE) { return TINY; }
+        switch (SKIN_TYPE) {
+            case BULLET_CHART   : return BULLET_CHART;
+            case SIMPLE_SECTION : return SIMPLE_SECTION;
+            case TILE_SPARK_LINE: return TILE_SPARK_LINE;
+            case TINY           :
+            default             : return TINY;
+        }
+    }
+
+
+    // ******************** Drawing *******************************************
+    private static void drawTiny(final GraphicsContext CTX, final Cell CELL, final double WIDTH, final double HEIGHT) {
+        final Gauge  GAUGE      = CELL.getGauge();
+        final double SIZE       = Math.min(WIDTH, HEIGHT);
+        final double CENTER     = SIZE * 0.5;
+        final double MIN_VALUE  = GAUGE.getMinValue();
+        final double MAX_VALUE  = GAUGE.getMaxValue();
+        final double ANGLE_STEP = TINY_RANGE / GAUGE.getRange();
+        final double XY         = SIZE * 0.1875;
+        final double WH         = SIZE * 0.625;
+        final double BAR_WIDTH  = SIZE * 0.18382353;
+        final double BORDER     = GAUGE.getBorderWidth() * SIZE / PREFERRED_SIZE;
+
+        CTX.save();
+        CTX.translate((WIDTH - SIZE) * 0.5, (HEIGHT - SIZE) * 0.5);
+
+        CTX.setFill(GAUGE.getBackgroundPaint());
+        CTX.fillOval(0, 0, SIZE, SIZE);
+        if (BORDER > 0) {
+            CTX.setStroke(GAUGE.getBorderPaint());
+            CTX.setLineWidth(BORDER);
+            CTX.strokeOval(BORDER * 0.5, BORDER * 0.5, SIZE - BORDER, SIZE - BORDER);
+        }
+
+        CTX.setLineCap(StrokeLineCap.BUTT);
+        CTX.setLineWidth(BAR_WIDTH);
+        CTX.setStroke(GAUGE.getBarBackgroundColor());
+        CTX.strokeArc(XY, XY, WH, WH, TINY_RANGE * 0.5 + 90, -TINY_RANGE, ArcType.OPEN);
+
+        if (GAUGE.getSectionsVisible()) {
+            final List<Section> SECTIONS = GAUGE.getSections();
+            for (int i = 0, n = SECTIONS.size() ; i < n ; i++) {
+                final Section SECTION = SECTIONS.get(i);
+                if (SECTION.getStart() > MAX_VALUE || SECTION.getStop() < MIN_VALUE) { continue; }
+                final double START = Helper.clamp(MIN_VALUE, MAX_VALUE, SECTION.getStart());
+                final double STOP  = Helper.clamp(MIN_VALUE, MAX_VALUE, SECTION.getStop());
+                CTX.setStroke(SECTION.getColor());
+                CTX.strokeArc(XY, XY, WH, WH, TINY_RANGE * 0.5 + 90 - (START - MIN_VALUE) * ANGLE_STEP, -(STOP - START) * ANGLE_STEP, ArcType.OPEN);
+            }
+        }
+
+        // needle as a triangle from the knob to the bar, the angle is measured clockwise from 12 o'clock
+        final double ANGLE      = Helper.clamp(-TINY_RANGE * 0.5, TINY_RANGE * 0.5, (GAUGE.getCurrentValue() - MIN_VALUE) * ANGLE_STEP - TINY_RANGE * 0.5);
+        final double SIN        = Trig.sinDeg(ANGLE);
+        final double COS        = Trig.cosDeg(ANGLE);
+        final double TIP        = SIZE * 0.36;
+        final double HALF_WIDTH = SIZE * 0.05;
+        final double KNOB       = SIZE * 0.12;
+        CTX.setFill(GAUGE.getNeedleColor());
+        CTX.beginPath();
+        CTX.moveTo(CENTER + TIP * SIN, CENTER - TIP * COS);
+        CTX.lineTo(CENTER + HALF_WIDTH * COS, CENTER + HALF_WIDTH * SIN);
+        CTX.lineTo(CENTER - HALF_WIDTH * COS, CENTER - HALF_WIDTH * SIN);
+        CTX.closePath();
+        CTX.fill();
+        CTX.fillOval(CENTER - KNOB * 0.5, CENTER - KNOB * 0.5, KNOB, KNOB);
+        CTX.restore();
+    }
+
+    private static void drawBulletChart(final GraphicsContext CTX, final Cell CELL, final double WIDTH, final double HEIGHT) {
+        final Gauge  GAUGE      = CELL.getGauge();
+        final double MIN_VALUE  = GAUGE.getMinValue();
+        final double MAX_VALUE  = GAUGE.getMaxValue();
+        final double AREA_X     = 0.18345865 * WIDTH;
+        final double AREA_Y     = 0.10416667 * HEIGHT;
+        final double AREA_W     = 0.79699248 * WIDTH;
+        final double AREA_H     = 0.5 * HEIGHT;
+        final double STEP_SIZE  = AREA_W / GAUGE.getRange();
+        final double BAR_HEIGHT = 0.16666667 * HEIGHT;
+
+        if (GAUGE.getSectionsVisible()) {
+            final List<Section> SECTIONS = GAUGE.getSections();
+            for (int i = 0, n = SECTIONS.size() ; i < n ; i++) {
+                final Section SECTION = SECTIONS.get(i);
+                if (SECTION.getStart() > MAX_VALUE || SECTION.getStop() < MIN_VALUE) { continue; }
+                final double START = Helper.clamp(MIN_VALUE, MAX_VALUE, SECTION.getStart());
+                final double STOP  = Helper.clamp(MIN_VALUE, MAX_VALUE, SECTION.getStop());
+                CTX.setFill(SECTION.getColor());
+                CTX.fillRect(AREA_X + (START - MIN_VALUE) * STEP_SIZE, AREA_Y, (STOP - START) * STEP_SIZE, AREA_H);
+            }
+        }
+
+        CTX.setFill(GAUGE.getBarColor());
+        CTX.fillRect(AREA_X, AREA_Y + (AREA_H - BAR_HEIGHT) * 0.5, (Helper.clamp(MIN_VALUE, MAX_VALUE, GAUGE.getCurrentValue()) - MIN_VALUE) * STEP_SIZE, BAR_HEIGHT);
+
+        if (GAUGE.getThreshold() >= MIN_VALUE && GAUGE.getThreshold() <= MAX_VALUE) {
+            CTX.setFill(GAUGE.getThresholdColor());
+            CTX.fillRect(AREA_X + (GAUGE.getThreshold() - MIN_VALUE) * STEP_SIZE - 0.03125 * HEIGHT, 0.1875 * HEIGHT, 0.0625 * HEIGHT, 0.33333333 * HEIGHT);
+        }
+
+        if (!GAUGE.getTitle().isEmpty()) {
+            CTX.setFill(GAUGE.getTitleColor());
+            CTX.setTextAlign(TextAlignment.RIGHT);
+            CTX.setTextBaseline(VPos.CENTER);
+            CTX.setFont(fitFont(ROBOTO_REGULAR, GAUGE.getTitle(), 0.16 * WIDTH, 0.24 * HEIGHT));
+            CTX.fillText(GAUGE.getTitle(), 0.16 * WIDTH, AREA_Y + AREA_H * 0.5);
+        }
+    }
+
+    private static void drawSimpleSection(final GraphicsContext CTX, final Cell CELL, final double WIDTH, final double HEIGHT) {
+        final Gauge  GAUGE       = CELL.getGauge();
+        final double SIZE        = Math.min(WIDTH, HEIGHT);
+        final double CENTER      = SIZE * 0.5;
+        final double MIN_VALUE   = GAUGE.getMinValue();
+        final double MAX_VALUE   = GAUGE.getMaxValue();
+        final double ANGLE_STEP  = GAUGE.getAngleStep();
+        final double START_ANGLE = GAUGE.getStartAngle() + 90;
+        final double VALUE       = GAUGE.getCurrentValue();
+        final double BAR_XY      = SIZE * 0.1;
+        final double BAR_WH      = SIZE * 0.8;
+
+        CTX.save();
+        CTX.translate((WIDTH - SIZE) * 0.5, (HEIGHT - SIZE) * 0.5);
+        CTX.setLineCap(StrokeLineCap.BUTT);
+
+        CTX.setLineWidth(SIZE * 0.125);
+        CTX.setStroke(GAUGE.getBarBackgroundColor());
+        CTX.strokeArc(BAR_XY, BAR_XY, BAR_WH, BAR_WH, START_ANGLE, -GAUGE.getAngleRange(), ArcType.OPEN);
+
+        Color barColor = GAUGE.getBarColor();
+        if (GAUGE.getSectionsVisible()) {
+            final List<Section> SECTIONS = GAUGE.getSections();
+            CTX.setLineWidth(SIZE * 0.025);
+            for (int i = 0, n = SECTIONS.size() ; i < n ; i++) {
+                final Section SECTION = SECTIONS.get(i);
+                if (SECTION.contains(VALUE) && barColor == GAUGE.getBarColor()) { barColor = SECTION.getColor(); }
+                if (SECTION.getStart() > MAX_VALUE || SECTION.getStop() < MIN_VALUE) { continue; }
+                final double START = Helper.clamp(MIN_VALUE, MAX_VALUE, SECTION.getStart());
+                final double STOP  = Helper.clamp(MIN_VALUE, MAX_VALUE, SECTION.getStop());
+                CTX.setStroke(SECTION.getColor());
+                CTX.strokeArc(SIZE * 0.012, SIZE * 0.012, SIZE * 0.976, SIZE * 0.976, START_ANGLE - (START - MIN_VALUE) * ANGLE_STEP, -(STOP - START) * ANGLE_STEP, ArcType.OPEN);
+            }
+        }
+
+        CTX.setLineWidth(SIZE * 0.125);
+        CTX.setStroke(barColor);
+        CTX.strokeArc(BAR_XY, BAR_XY, BAR_WH, BAR_WH, START_ANGLE, (MIN_VALUE - Helper.clamp(MIN_VALUE, MAX_VALUE, VALUE)) * ANGLE_STEP, ArcType.OPEN);
+
+        CTX.setTextAlign(TextAlignment.CENTER);
+        CTX.setTextBaseline(VPos.CENTER);
+        if (GAUGE.isValueVisible()) {
+            final String TEXT = Helper.formatNumber(GAUGE, VALUE);
+            CTX.setFill(GAUGE.getValueColor());
+            CTX.setFont(fitFont(LATO_LIGHT, TEXT, SIZE * 0.6, SIZE * (-0.035 * (Math.max(1, GAUGE.getDecimals()) - 1) + 0.2556391)));
+            CTX.fillText(TEXT, CENTER, CENTER);
+        }
+        if (!GAUGE.getTitle().isEmpty()) {
+            CTX.setFill(GAUGE.getTitleColor());
+            CTX.setFont(fitFont(LATO_BOLD, GAUGE.getTitle(), SIZE * 0.35, SIZE * 0.08082707));
+            CTX.fillText(GAUGE.getTitle(), CENTER, SIZE * 0.27);
+        }
+        if (!GAUGE.getUnit().isEmpty()) {
+            CTX.setFill(GAUGE.getUnitColor());
+            CTX.setFont(fitFont(LATO_LIGHT, GAUGE.getUnit(), SIZE * 0.35, SIZE * 0.08082707));
+            CTX.fillText(GAUGE.getUnit(), CENTER, SIZE * 0.73);
+        }
+        CTX.restore();
+    }
+
+    private static void drawSparkLine(final GraphicsContext CTX, final Cell CELL, final double WIDTH, final double HEIGHT) {
+        final Gauge  GAUGE  = CELL.getGauge();
+        final double SIZE   = Math.min(WIDTH, HEIGHT);
+        final double MIN_X  = WIDTH * 0.05;
+        final double MAX_X  = WIDTH * 0.95;
+        final double MIN_Y  = HEIGHT * 0.45;
+        final double MAX_Y  = HEIGHT * 0.95;
+        final int    POINTS = CELL.getHistorySize();
+
+        CTX.setFill(GAUGE.getBackgroundPaint());
+        CTX.fillRoundRect(0, 0, WIDTH, HEIGHT, SIZE * 0.05, SIZE * 0.05);
+
+        CTX.setTextBaseline(VPos.TOP);
+        if (!GAUGE.getTitle().isEmpty()) {
+            CTX.setFill(GAUGE.getTitleColor());
+            CTX.setTextAlign(TextAlignment.LEFT);
+            CTX.setFont(fitFont(ROBOTO_REGULAR, GAUGE.getTitle(), WIDTH * 0.5, SIZE * 0.15));
+            CTX.fillText(GAUGE.getTitle(), MIN_X, HEIGHT * 0.05);
+        }
+        if (GAUGE.isValueVisible()) {
+            final String TEXT = Helper.formatNumber(GAUGE, GAUGE.getCurrentValue());
+            CTX.setFill(GAUGE.getValueColor());
+            CTX.setTextAlign(TextAlignment.RIGHT);
+            CTX.setFont(fitFont(ROBOTO_REGULAR, TEXT, WIDTH * 0.4, SIZE * 0.24));
+            CTX.fillText(TEXT, MAX_X, HEIGHT * 0.05);
+        }
+
+        if (POINTS < 2) { return; }
+        double low  = Double.MAX_VALUE;
+        double high = -Double.MAX_VALUE;
+        double sum  = 0;
+        for (int i = 0 ; i < POINTS ; i++) {
+            final double VALUE = CELL.getHistoryValue(i);
+            low   = Math.min(low, VALUE);
+            high  = Math.max(high, VALUE);
+            sum  += VALUE;
+        }
+        if (Double.compare(low, high) == 0) {
+            low  = GAUGE.getMinValue();
+            high = GAUGE.getMaxValue();
+        }
+        final double STEP_X = (MAX_X - MIN_X) / (POINTS - 1);
+        final double STEP_Y = (MAX_Y - MIN_Y) / (high - low);
+
+        if (GAUGE.isAverageVisible()) {
+            final double AVERAGE_Y = Helper.clamp(MIN_Y, MAX_Y, MAX_Y - (sum / POINTS - low) * STEP_Y);
+            CTX.setStroke(GAUGE.getAverageColor());
+            CTX.setLineWidth(1);
+            CTX.strokeLine(MIN_X, AVERAGE_Y, MAX_X, AVERAGE_Y);
+        }
+
+        CTX.setStroke(GAUGE.getBarColor());
+        CTX.setLineWidth(Math.max(1, SIZE * 0.01));
+        CTX.beginPath();
+        CTX.moveTo(MIN_X, MAX_Y - (CELL.getHistoryValue(0) - low) * STEP_Y);
+        for (int i = 1 ; i < POINTS ; i++) { CTX.lineTo(MIN_X + i * STEP_X, MAX_Y - (CELL.getHistoryValue(i) - low) * STEP_Y); }
+        CTX.stroke();
+
+        final double DOT  = Math.max(2, SIZE * 0.04);
+        final double LAST = MAX_Y - (CELL.getHistoryValue(POINTS - 1) - low) * STEP_Y;
+        CTX.setFill(GAUGE.getBarColor());
+        CTX.fillOval(MAX_X - DOT * 0.5, LAST - DOT * 0.5, DOT, DOT);
+    }
+
+    private static Font fitFont(final String FONT_NAME, final String TEXT, final double MAX_WIDTH, final double FONT_SIZE) {
+        final Font   FONT     = TextMeasurer.getFont(FONT_NAME, FONT_SIZE);
+        final double FIT_SIZE = TextMeasurer.fitFontSize(FONT, TEXT, MAX_WIDTH);
+        return FIT_SIZE < FONT_SIZE ? TextMeasurer.getFont(FONT_NAME, FIT_SIZE) : FONT;
+    }
+}
@@ -21,7 +21,10 @@ import eu.hansolo.medusa.Alarm;
 import eu.hansolo.medusa.Clock;
 import eu.hansolo.medusa.Fonts;
 import eu.hansolo.medusa.TimeSection;
+import eu.hansolo.medusa.tools.CanvasLayers.Kind;
+import eu.hansolo.medusa.tools.CanvasLayers.Trigger;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.Trig;
 import javafx.geometry.Insets;
 import javafx.geometry.Point2D;
 import javafx.scene.CacheHint;
@@ -46,9 +49,12 @@ import javafx.scene.shape.StrokeLineCap;
 import javafx.scene.text.Text;
 import javafx.scene.transform.Rotate;
 
+import java.time.LocalTime;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoField;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -64,7 +70,6 @@ public class ClockSkin extends ClockSkinBase {
     private              DateTimeFormatter  dateFormatter;
     private              double             size;
     private              Canvas             sectionsAndAreasCanvas;
-    private              GraphicsContext    sectionsAndAreasCtx;
     private              Canvas             tickCanvas;
     private              GraphicsContext    tickCtx;
     private              Rectangle          hour;
@@ -129,11 +134,18 @@ public class ClockSkin extends ClockSkinBase {
         }
 
         sectionsAndAreasCanvas = new Canvas(PREFERRED_WIDTH, PREFERRED_HEIGHT);
-        sectionsAndAreasCtx    = sectionsAndAreasCanvas.getGraphicsContext2D();
 
         tickCanvas = new Canvas(PREFERRED_WIDTH, PREFERRED_HEIGHT);
         tickCtx    = tickCanvas.getGraphicsContext2D();
 
+        // Sections and areas are repainted on time updates only if the set of highlighted sections/areas changed
+        layers.add("sectionsAndAreas", sectionsAndAreasCanvas, Kind.DYNAMIC, this::drawSectionsAndAreas, Trigger.RESIZE, Trigger.SECTION, Trigger.STYLE, Trigger.VALUE)
+              .setKey(Trigger.STYLE, this::getSectionsAndAreasKey)
+              .setKey(Trigger.VALUE, this::getHighlightKey);
+        layers.add("ticks", tickCanvas, Kind.STATIC, ctx -> drawTicks(), Trigger.RESIZE, Trigger.STYLE)
+              .setKey(Trigger.STYLE, () -> Arrays.asList(getSkinnable().getHourTickMarkColor(), getSkinnable().getMinuteTickMarkColor(),
+                                                         getSkinnable().isHourTickMarksVisible(), getSkinnable().isMinuteTickMarksVisible()));
+
         alarmPane = new Pane();
 
         hour = new Rectangle(3, 60);
@@ -233,6 +245,28 @@ public class ClockSkin extends ClockSkinBase {
 
 
     // ******************** Canvas ********************************************
+    private List<Object> getSectionsAndAreasKey() {
+        return Arrays.asList(areasVisible, sectionsVisible, getSkinnable().isHighlightAreas(), getSkinnable().isHighlightSections(),
+                             getSkinnable().getTickLabelLocation(), Helper.getTimeSectionsKey(areas), Helper.getTimeSectionsKey(sections));
+    }
+
+    private BitSet getHighlightKey() {
+        LocalTime time      = getSkinnable().getTime().toLocalTime();
+        BitSet    highlight = new BitSet();
+        if (getSkinnable().isHighlightAreas()) {
+            for (int i = 0 ; i < areas.size() ; i++) { if (areas.get(i).contains(time)) { highlight.set(i); } }
+        }
+        if (getSkinnable().isHighlightSections()) {
+            for (int i = 0 ; i < sections.size() ; i++) { if (sections.get(i).contains(time)) { highlight.set(areas.size() + i); } }
+        }
+        return highlight;
+    }
+
+    private void drawSectionsAndAreas(final GraphicsContext CTX) {
+        if (areasVisible)    Helper.drawTimeAreas(getSkinnable(), CTX, areas, size, 0.03, 0.03, 0.94, 0.94);
+        if (sectionsVisible) Helper.drawTimeSections(getSkinnable(), CTX, sections, size, 0.065, 0.065, 0.87, 0.87, 0.07);
+    }
+
     private void drawTicks() {
         double  sinValue;
         double  cosValue;
@@ -246,8 +280,8 @@ public class ClockSkin extends ClockSkinBase {
         tickCtx.clearRect(0, 0, size, size);
         tickCtx.setLineCap(StrokeLineCap.ROUND);
         for (double angle = 0, counter = 0 ; Double.compare(counter, 59) <= 0 ; angle -= angleStep, counter++) {
-            sinValue = Math.sin(Math.toRadians(angle + startAngle));
-            cosValue = Math.cos(Math.toRadians(angle + startAngle));
+            sinValue = Trig.sinDeg(angle + startAngle);
+            cosValue = Trig.cosDeg(angle + startAngle);
 
             Point2D innerPoint       = new Point2D(center.getX() + size * 0.405 * sinValue, center.getY() + size * 0.405 * cosValue);
             Point2D innerMinutePoint = new Point2D(center.getX() + size * 0.435 * sinValue, center.getY() + size * 0.435 * cosValue);
@@ -311,11 +345,7 @@ public class ClockSkin extends ClockSkinBase {
         if (TIME.getMinute() == 0 && TIME.getSecond() == 0) Helper.drawAlarms(getSkinnable(), size, 0.02, 0.45, alarmMap, dateTimeFormatter, TIME);
 
         // Highlight Areas and Sections
-        if (highlightAreas | highlightSections) {
-            sectionsAndAreasCtx.clearRect(0, 0, size, size);
-            if (areasVisible) Helper.drawTimeAreas(getSkinnable(), sectionsAndAreasCtx, areas, size, 0.03, 0.03, 0.94, 0.94);
-            if (sectionsVisible) Helper.drawTimeSections(getSkinnable(), sectionsAndAreasCtx, sections, size, 0.065, 0.065, 0.87, 0.87, 0.07);
-        }
+        if (highlightAreas | highlightSections) { layers.update(Trigger.VALUE); }
     }
 
     @Override public void updateAlarms() {
@@ -419,16 +449,8 @@ public class ClockSkin extends ClockSkinBase {
         shadowGroupMinute.setEffect(getSkinnable().getShadowsEnabled() ? dropShadow : null);
         shadowGroupSecond.setEffect(getSkinnable().getShadowsEnabled() ? dropShadow : null);
 
-        // Areas, Sections
-        sectionsAndAreasCtx.clearRect(0, 0, size, size);
-        if (areasVisible)    Helper.drawTimeAreas(getSkinnable(), sectionsAndAreasCtx, areas, size, 0.03, 0.03, 0.94, 0.94);
-        if (sectionsVisible) Helper.drawTimeSections(getSkinnable(), sectionsAndAreasCtx, sections, size, 0.065, 0.065, 0.87, 0.87, 0.07);
-
-        // Tick Marks
-        tickCanvas.setCache(false);
-        drawTicks();
-        tickCanvas.setCache(true);
-        tickCanvas.setCacheHint(CacheHint.QUALITY);
+        // Areas, Sections and Tick Marks
+        layers.render();
 
         ZonedDateTime time = getSkinnable().getTime();
 
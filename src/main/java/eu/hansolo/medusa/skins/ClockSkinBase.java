@@ -19,7 +19,11 @@ package eu.hansolo.medusa.skins;
 
 import eu.hansolo.medusa.Alarm;
 import eu.hansolo.medusa.Clock;
+import eu.hansolo.medusa.RenderingProfile;
 import eu.hansolo.medusa.events.UpdateEventListener;
+import eu.hansolo.medusa.tools.CanvasLayers;
+import eu.hansolo.medusa.tools.CanvasLayers.Trigger;
+import eu.hansolo.medusa.tools.Metrics;
 import javafx.beans.InvalidationListener;
 import javafx.collections.ListChangeListener;
 import javafx.scene.control.Skin;
@@ -47,6 +51,7 @@ public abstract class ClockSkinBase extends SkinBase<Clock> implements Skin<Cloc
     protected InvalidationListener      currentTimeListener;
     protected InvalidationListener      timeListener;
     protected ListChangeListener<Alarm> alarmListener;
+    protected CanvasLayers              layers;
 
 
     // ******************** Constructors **************************************
@@ -54,6 +59,7 @@ public abstract class ClockSkinBase extends SkinBase<Clock> implements Skin<Cloc
         super(CLOCK);
 
         clock               = CLOCK;
+        layers              = new CanvasLayers(CLOCK::getMetrics);
         sizeListener        = o -> handleEvents("RESIZE");
         updateEventListener = e -> handleEvents(e.eventType.name());
         currentTimeListener = o -> updateTime(ZonedDateTime.ofInstant(Instant.ofEpochSecond(clock.getCurrentTime()), ZoneId.of(ZoneId.systemDefault().getId())));
@@ -90,14 +96,55 @@ public abstract class ClockSkinBase extends SkinBase<Clock> implements Skin<Cloc
     @Override protected double computeMaxHeight(final double WIDTH, final double TOP, final double RIGHT, final double BOTTOM, final double LEFT)  { return MAXIMUM_HEIGHT; }
 
     protected void handleEvents(final String EVENT_TYPE) {
+        invalidateLayers(EVENT_TYPE);
         if ("RESIZE".equals(EVENT_TYPE)) {
+            long start = Metrics.start();
             resize();
+            record(Metrics.Type.SKIN_RESIZE, start);
+            start = Metrics.start();
             redraw();
+            record(Metrics.Type.SKIN_REDRAW, start);
         } else if ("REDRAW".equals(EVENT_TYPE)) {
+            long start = Metrics.start();
             redraw();
+            record(Metrics.Type.SKIN_REDRAW, start);
         }
     }
 
+    /**
+     * Marks the canvas layers that depend on the given event as dirty. The
+     * layers will be repainted on the next layers.render() which should be
+     * called by the skin in redraw() and on time updates.
+     * @param EVENT_TYPE
+     */
+    protected void invalidateLayers(final String EVENT_TYPE) {
+        if (layers.isEmpty()) { return; }
+        switch (EVENT_TYPE) {
+            case "RESIZE"    : layers.invalidate(Trigger.RESIZE); break;
+            case "SECTION"   : layers.invalidate(Trigger.SECTION); break;
+            case "REDRAW"    :
+            case "VISIBILITY": layers.invalidate(Trigger.STYLE); break;
+        }
+    }
+
+    /**
+     * Records the time since START_NANOS (taken from Metrics.start()) for
+     * the given type in the metrics of the clock. Does nothing if metrics
+     * were disabled when START_NANOS was taken.
+     */
+    protected void record(final Metrics.Type TYPE, final long START_NANOS) {
+        if (0 == START_NANOS || null == clock) { return; }
+        clock.getMetrics().record(TYPE, START_NANOS);
+    }
+
+    /**
+     * Returns true if the clock uses the PERFORMANCE rendering profile. In
+     * this case no effect should be applied to nodes that change with the
+     * time (see Helper.applyEffect()).
+     * @return true if the clock uses the PERFORMANCE rendering profile
+     */
+    protected boolean isPerformanceProfile() { return RenderingProfile.PERFORMANCE == clock.getRenderingProfile(); }
+
     @Override public void dispose() {
         clock.widthProperty().removeListener(sizeListener);
         clock.heightProperty().removeListener(sizeListener);
@@ -108,6 +155,7 @@ public abstract class ClockSkinBase extends SkinBase<Clock> implements Skin<Cloc
             clock.timeProperty().removeListener(timeListener);
         }
         clock.getAlarms().removeListener(alarmListener);
+        layers.dispose();
         clock = null;
     }
 
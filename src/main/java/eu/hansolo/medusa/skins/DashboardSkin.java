@@ -118,7 +118,7 @@ public class DashboardSkin extends GaugeSkinBase {
         formatString         = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f").toString();
         otherFormatString    = new StringBuilder("%.").append(Integer.toString(gauge.getTickLabelDecimals())).append("f").toString();
         locale               = gauge.getLocale();
-        currentValueListener = o -> setBar(gauge.getCurrentValue());
+        currentValueListener = scheduledListener(() -> setBar(gauge.getCurrentValue()));
 
         initGraphics();
         registerListeners();
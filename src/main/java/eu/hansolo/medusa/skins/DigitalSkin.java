@@ -22,6 +22,8 @@ import eu.hansolo.medusa.Gauge;
 import eu.hansolo.medusa.Section;
 import eu.hansolo.medusa.TickLabelOrientation;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.Metrics;
+import eu.hansolo.medusa.tools.SegmentedBar;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
@@ -41,6 +43,7 @@ import javafx.scene.layout.BorderWidths;
 import javafx.scene.layout.CornerRadii;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
 import javafx.scene.shape.ArcType;
 import javafx.scene.shape.StrokeLineCap;
 import javafx.scene.text.Font;
@@ -62,7 +65,7 @@ public class DigitalSkin extends GaugeSkinBase {
     private Canvas               backgroundCanvas;
     private GraphicsContext      backgroundCtx;
     private Canvas               barCanvas;
-    private GraphicsContext      barCtx;
+    private SegmentedBar         bar;
     private Text                 valueBkgText;
     private Text                 valueText;
     private Color                barColor;
@@ -103,7 +106,7 @@ public class DigitalSkin extends GaugeSkinBase {
         sections             = gauge.getSections();
         thresholdVisible     = gauge.isThresholdVisible();
         thresholdColor       = gauge.getThresholdColor();
-        currentValueListener = o -> setBar(gauge.getCurrentValue());
+        currentValueListener = scheduledListener(() -> setBar(gauge.getCurrentValue()));
 
         initGraphics();
         registerListeners();
@@ -128,7 +131,7 @@ public class DigitalSkin extends GaugeSkinBase {
         backgroundCtx    = backgroundCanvas.getGraphicsContext2D();
         
         barCanvas = new Canvas(PREFERRED_WIDTH, PREFERRED_HEIGHT);
-        barCtx    = barCanvas.getGraphicsContext2D();
+        bar       = new SegmentedBar(barCanvas, 50, 6);
 
         valueBkgText = new Text();
         valueBkgText.setStroke(null);
@@ -179,51 +182,25 @@ public class DigitalSkin extends GaugeSkinBase {
 
     // ******************** Canvas ********************************************
     private void setBar(final double VALUE) {
-        barCtx.clearRect(0, 0, size, size);
-        barCtx.setLineCap(StrokeLineCap.BUTT);
-        barCtx.setStroke(barColor);
-        barCtx.setLineWidth(barWidth);
-
+        Paint barPaint = barColor;
         if (sectionsVisible) {
             int listSize = sections.size();
             for (int i = 0 ; i < listSize ;i++) {
                 Section section = sections.get(i);
                 if (section.contains(VALUE)) {
-                    barCtx.setStroke(section.getColor());
+                    barPaint = section.getColor();
                     break;
                 }
             }
         }
 
         if (thresholdVisible && VALUE > gauge.getThreshold()) {
-            barCtx.setStroke(thresholdColor);
+            barPaint = thresholdColor;
         }
 
-        double v             = (VALUE - minValue) * angleStep;
-        int    minValueAngle = (int) (-minValue * angleStep);
-        if (!isStartFromZero) {
-            for (int i = 0; i < 300; i++) {
-                if (i % 6 == 0 && i < v) {
-                    barCtx.strokeArc(barWidth * 0.5 + barWidth * 0.3, barWidth * 0.5 + barWidth * 0.3, size - barWidth - barWidth * 0.6, size - barWidth - barWidth * 0.6, (-i - 125), 4.6, ArcType.OPEN);
-                }
-            }
-        } else {
-            if (Double.compare(VALUE, 0) != 0) {
-                if (VALUE < 0) {
-                    for (int i = Math.min(minValueAngle, 300) - 1; i >= 0; i--) {
-                        if (i % 6 == 0 && i > v - 6) {
-                            barCtx.strokeArc(barWidth * 0.5 + barWidth * 0.3, barWidth * 0.5 + barWidth * 0.3, size - barWidth - barWidth * 0.6, size - barWidth - barWidth * 0.6, (-i - 125), 4.6, ArcType.OPEN);
-                        }
-                    }
-                } else {
-                    for (int i = Math.max(minValueAngle, 0) - 3; i < 300; i++) {
-                        if (i % 6 == 0 && i < v) {
-                            barCtx.strokeArc(barWidth * 0.5 + barWidth * 0.3, barWidth * 0.5 + barWidth * 0.3, size - barWidth - barWidth * 0.6, size - barWidth - barWidth * 0.6, (-i - 125), 4.6, ArcType.OPEN);
-                        }
-                    }
-                }
-            }
-        }
+        bar.setGeometry(barWidth * 0.5 + barWidth * 0.3, barWidth * 0.5 + barWidth * 0.3, size - barWidth - barWidth * 0.6, barWidth, -125, 4.6);
+        final long START = Metrics.start();
+        if (bar.setValue(VALUE, (VALUE - minValue) * angleStep, (int) (-minValue * angleStep), isStartFromZero, barPaint)) { record(Metrics.Type.CANVAS_REDRAW, START); }
         valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), VALUE));
         valueText.setLayoutX(valueBkgText.getLayoutBounds().getMaxX() - valueText.getLayoutBounds().getWidth());
     }
@@ -79,7 +79,7 @@ public class FlatSkin extends GaugeSkinBase {
         noOfGradientStops    = gauge.getGradientBarStops().size();
         sectionsVisible      = gauge.getSectionsVisible();
         sections             = gauge.getSections();
-        currentValueListener = o -> setBar(gauge.getCurrentValue());
+        currentValueListener = scheduledListener(() -> setBar(gauge.getCurrentValue()));
 
         initGraphics();
         registerListeners();
@@ -18,11 +18,22 @@
 package eu.hansolo.medusa.skins;
 
 import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.RenderingProfile;
 import eu.hansolo.medusa.events.UpdateEventListener;
+import eu.hansolo.medusa.tools.CanvasLayers;
+import eu.hansolo.medusa.tools.CanvasLayers.Trigger;
+import eu.hansolo.medusa.tools.Metrics;
+import eu.hansolo.medusa.tools.UpdateScheduler;
 import javafx.beans.InvalidationListener;
+import javafx.scene.Node;
 import javafx.scene.control.Skin;
 import javafx.scene.control.SkinBase;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 
 /**
  * Created by hansolo on 20.01.17.
@@ -34,33 +45,113 @@ public abstract class GaugeSkinBase extends SkinBase<Gauge> implements Skin<Gaug
     protected static final double             MINIMUM_HEIGHT   = 50;
     protected static final double             MAXIMUM_WIDTH    = 1024;
     protected static final double             MAXIMUM_HEIGHT   = 1024;
-    protected Gauge                gauge;
-    protected InvalidationListener sizeListener;
-    protected UpdateEventListener  updateEventListener;
+    protected Gauge                      gauge;
+    protected InvalidationListener       sizeListener;
+    protected UpdateEventListener        updateEventListener;
+    protected CanvasLayers               layers;
+    private   List<UpdateScheduler.Task> scheduledTasks;
+    private   Set<UpdateScheduler.Task>  suspendedTasks;
+    private   InvalidationListener       effectiveVisibilityListener;
+    private   List<Node>                 nodes;
+    private   boolean                    disposed;
 
 
     protected GaugeSkinBase(final Gauge GAUGE) {
         super(GAUGE);
-        gauge               = GAUGE;
-        sizeListener        = o -> handleEvents("RESIZE");
-        updateEventListener = e -> handleEvents(e.eventType.name());
+        gauge                       = GAUGE;
+        layers                      = new CanvasLayers(GAUGE::getMetrics);
+        scheduledTasks              = new ArrayList<>(2);
+        suspendedTasks              = new LinkedHashSet<>(2);
+        effectiveVisibilityListener = o -> {
+            if (!gauge.isEffectivelyVisible() || suspendedTasks.isEmpty()) { return; }
+            // refresh once with the latest state of the gauge
+            List<UpdateScheduler.Task> tasks = new ArrayList<>(suspendedTasks);
+            suspendedTasks.clear();
+            tasks.forEach(UpdateScheduler::submit);
+        };
+        gauge.effectivelyVisibleProperty().addListener(effectiveVisibilityListener);
+        sizeListener                = o -> handleEvents("RESIZE");
+        updateEventListener         = e -> handleEvents(e.eventType.name());
     }
 
     protected void registerListeners() {
+        // initGraphics() has been called before, remember the nodes for reinstall()
+        if (null == nodes) { nodes = new ArrayList<>(getChildren()); }
         getSkinnable().widthProperty().addListener(sizeListener);
         getSkinnable().heightProperty().addListener(sizeListener);
         getSkinnable().setOnUpdate(updateEventListener);
     }
 
     protected void handleEvents(final String EVENT_TYPE) {
+        invalidateLayers(EVENT_TYPE);
         if ("RESIZE".equals(EVENT_TYPE)) {
+            long start = Metrics.start();
             resize();
+            record(Metrics.Type.SKIN_RESIZE, start);
+            start = Metrics.start();
             redraw();
+            record(Metrics.Type.SKIN_REDRAW, start);
         } else if ("REDRAW".equals(EVENT_TYPE)) {
+            long start = Metrics.start();
             redraw();
+            record(Metrics.Type.SKIN_REDRAW, start);
+        }
+    }
+
+    /**
+     * Marks the canvas layers that depend on the given event as dirty. The
+     * layers will be repainted on the next layers.render() which should be
+     * called by the skin in redraw() (after the state of the skin has been
+     * updated) and after value changes. The events don't tell which
+     * property changed, so REDRAW, RECALC and VISIBILITY all map to STYLE.
+     * Layers that set a STYLE key (see CanvasLayers.Layer.setKey()) are
+     * only repainted if the properties they draw really changed.
+     * @param EVENT_TYPE
+     */
+    protected void invalidateLayers(final String EVENT_TYPE) {
+        if (layers.isEmpty()) { return; }
+        switch (EVENT_TYPE) {
+            case "RESIZE"    : layers.invalidate(Trigger.RESIZE); break;
+            case "SECTION"   : layers.invalidate(Trigger.SECTION); break;
+            case "REDRAW"    :
+            case "RECALC"    :
+            case "VISIBILITY": layers.invalidate(Trigger.STYLE); break;
         }
     }
 
+    /**
+     * Records the time since START_NANOS (taken from Metrics.start()) for
+     * the given type in the metrics of the gauge. Does nothing if metrics
+     * were disabled when START_NANOS was taken.
+     */
+    protected void record(final Metrics.Type TYPE, final long START_NANOS) {
+        if (0 == START_NANOS) { return; }
+        gauge.getMetrics().record(TYPE, START_NANOS);
+    }
+
+
+    /**
+     * Returns a listener that submits the given update to the UpdateScheduler
+     * instead of executing it directly. Multiple invalidations before the
+     * update was executed will lead to only one execution. If the scheduler
+     * is disabled the update will be executed immediately.
+     * While the gauge is not effectively visible the update will be
+     * suspended and executed once when the gauge becomes visible again.
+     * @param UPDATE
+     * @return a listener that submits the given update to the UpdateScheduler
+     */
+    protected InvalidationListener scheduledListener(final Runnable UPDATE) {
+        final UpdateScheduler.Task TASK = new UpdateScheduler.Task(gauge, UPDATE);
+        scheduledTasks.add(TASK);
+        return o -> {
+            if (gauge.isEffectivelyVisible()) {
+                UpdateScheduler.submit(TASK);
+            } else if (suspendedTasks.add(TASK) && Metrics.isEnabled()) {
+                gauge.getMetrics().increment(Metrics.Type.UPDATE_DEFERRED);
+            }
+        };
+    }
+
 
     // ******************** Methods *******************************************
     @Override protected double computeMinWidth(final double HEIGHT, final double TOP, final double RIGHT, final double BOTTOM, final double LEFT)  { return MINIMUM_WIDTH; }
@@ -74,8 +165,55 @@ public abstract class GaugeSkinBase extends SkinBase<Gauge> implements Skin<Gaug
         gauge.widthProperty().removeListener(sizeListener);
         gauge.heightProperty().removeListener(sizeListener);
         gauge.removeUpdateEventListener(updateEventListener);
+        gauge.effectivelyVisibleProperty().removeListener(effectiveVisibilityListener);
+        // the layers and tasks only belong to this skin, they will be reused by reinstall()
+        scheduledTasks.forEach(UpdateScheduler::cancel);
+        suspendedTasks.clear();
+        disposed = true;
+    }
+
+    /**
+     * Attaches a skin that has been disposed to its gauge again. This is
+     * used by the gauge to reuse cached skins when switching the skin type.
+     * The nodes of the skin will be added to the gauge, the listeners that
+     * have been removed in dispose() will be registered again and the skin
+     * will be updated with the current state of the gauge.
+     * Does nothing if the skin has not been disposed.
+     */
+    public void reinstall() {
+        if (!disposed) { return; }
+        disposed = false;
+        getChildren().setAll(nodes);
+        gauge.effectivelyVisibleProperty().addListener(effectiveVisibilityListener);
+        registerListeners();
+        layers.invalidateAll();
+        handleEvents("VISIBILITY");
+        handleEvents("SECTION");
+        handleEvents("RECALC");
     }
 
+    public boolean isDisposed() { return disposed; }
+
+    /**
+     * Returns the distance in pixels the indicator (e.g. the needle tip or
+     * the end of the bar) moves if the value changes by 1. It is used for
+     * the visual dead band of the gauge (see Gauge.setVisualDeadBandEnabled()).
+     * The default is the arc length on a radial scale with a radius of half
+     * the size of the gauge, skins with a linear scale override it.
+     * @return the distance in pixels the indicator moves per unit
+     */
+    public double getPixelsPerUnit() {
+        return Math.toRadians(Math.abs(gauge.getAngleStep())) * Math.min(gauge.getWidth(), gauge.getHeight()) * 0.5;
+    }
+
+    /**
+     * Returns true if the gauge uses the PERFORMANCE rendering profile. In
+     * this case no effect should be applied to nodes that change with the
+     * value (see Helper.applyEffect()).
+     * @return true if the gauge uses the PERFORMANCE rendering profile
+     */
+    protected boolean isPerformanceProfile() { return RenderingProfile.PERFORMANCE == gauge.getRenderingProfile(); }
+
     protected void resize() {}
 
     protected void redraw() {}
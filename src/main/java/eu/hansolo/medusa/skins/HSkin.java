@@ -29,6 +29,8 @@ import eu.hansolo.medusa.Section;
 import eu.hansolo.medusa.TickLabelLocation;
 import eu.hansolo.medusa.tools.AngleConicalGradient;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.Metrics;
+import eu.hansolo.medusa.tools.RasterCache;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -49,6 +51,7 @@ import javafx.scene.control.Tooltip;
 import javafx.scene.effect.BlurType;
 import javafx.scene.effect.DropShadow;
 import javafx.scene.effect.InnerShadow;
+import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.Background;
 import javafx.scene.layout.BackgroundFill;
@@ -117,12 +120,13 @@ public class HSkin extends GaugeSkinBase {
     private Path                       average;
     private Rectangle                  lcd;
     private Path                       needle;
+    private ImageView                  needleView;
     private Rotate                     needleRotate;
     private Paint                      needlePaint;
-    private Canvas                     knobCanvas;
-    private GraphicsContext            knob;
+    private ImageView                  knobView;
     private Group                      shadowGroup;
     private DropShadow                 dropShadow;
+    private DropShadow                 needleShadow;
     private Text                       titleText;
     private Text                       subTitleText;
     private Text                       unitText;
@@ -170,7 +174,7 @@ public class HSkin extends GaugeSkinBase {
         tickLabelLocation    = gauge.getTickLabelLocation();
         scaleDirection       = gauge.getScaleDirection();
         mouseHandler         = e -> handleMouseEvent(e);
-        currentValueListener = o -> rotateNeedle(gauge.getCurrentValue());
+        currentValueListener = scheduledListener(() -> rotateNeedle(gauge.getCurrentValue()));
         markerListener       = c -> {
             updateMarkers();
             redraw();
@@ -229,25 +233,27 @@ public class HSkin extends GaugeSkinBase {
         needleRotate.setAngle(needleRotate.getAngle() + (gauge.getValue() - oldValue - minValue) * angleStep);
         needle = new Path();
         needle.setFillRule(FillRule.EVEN_ODD);
-        needle.getTransforms().setAll(needleRotate);
         needle.setStrokeType(StrokeType.INSIDE);
         needle.setStroke(Color.TRANSPARENT);
 
+        needleView = new ImageView();
+        needleView.getTransforms().setAll(needleRotate);
+
         buttonTooltip    = new Tooltip();
         buttonTooltip.setTextAlignment(TextAlignment.CENTER);
 
-        knobCanvas = new Canvas();
-        knob = knobCanvas.getGraphicsContext2D();
-        knobCanvas.setPickOnBounds(false);
-        Helper.enableNode(knobCanvas, gauge.isKnobVisible());
+        knobView = new ImageView();
+        knobView.setPickOnBounds(false);
+        Helper.enableNode(knobView, gauge.isKnobVisible());
 
         dropShadow = new DropShadow();
         dropShadow.setColor(Color.rgb(0, 0, 0, 0.25));
         dropShadow.setBlurType(BlurType.TWO_PASS_BOX);
         dropShadow.setRadius(0.015 * PREFERRED_WIDTH);
         dropShadow.setOffsetY(0.015 * PREFERRED_WIDTH);
+        needleShadow = new DropShadow(BlurType.TWO_PASS_BOX, Color.rgb(0, 0, 0, 0.25), 0.015 * PREFERRED_WIDTH, 0, 0, 0);
 
-        shadowGroup = new Group(needle, knobCanvas);
+        shadowGroup = new Group(needleView, knobView);
         shadowGroup.setEffect(gauge.isShadowsEnabled() ? dropShadow : null);
 
         titleText = new Text(gauge.getTitle());
@@ -333,7 +339,7 @@ public class HSkin extends GaugeSkinBase {
             Helper.enableNode(unitText, !gauge.getUnit().isEmpty());
             Helper.enableNode(valueText, gauge.isValueVisible());
             Helper.enableNode(lcd, gauge.isLcdVisible() && gauge.isValueVisible());
-            Helper.enableNode(knobCanvas, gauge.isKnobVisible());
+            Helper.enableNode(knobView, gauge.isKnobVisible());
             Helper.enableNode(threshold, gauge.isThresholdVisible());
             Helper.enableNode(average, gauge.isAverageVisible());
             boolean markersVisible = gauge.getMarkersVisible();
@@ -366,16 +372,16 @@ public class HSkin extends GaugeSkinBase {
             redraw();
         } else if ("INTERACTIVITY".equals(EVENT_TYPE)) {
             if (gauge.isInteractive()) {
-                knobCanvas.addEventHandler(MouseEvent.MOUSE_PRESSED, mouseHandler);
-                knobCanvas.addEventHandler(MouseEvent.MOUSE_RELEASED, mouseHandler);
+                knobView.addEventHandler(MouseEvent.MOUSE_PRESSED, mouseHandler);
+                knobView.addEventHandler(MouseEvent.MOUSE_RELEASED, mouseHandler);
                 if (!gauge.getButtonTooltipText().isEmpty()) {
                     buttonTooltip.setText(gauge.getButtonTooltipText());
-                    Tooltip.install(knobCanvas, buttonTooltip);
+                    Tooltip.install(knobView, buttonTooltip);
                 }
             } else {
-                knobCanvas.removeEventHandler(MouseEvent.MOUSE_PRESSED, mouseHandler);
-                knobCanvas.removeEventHandler(MouseEvent.MOUSE_RELEASED, mouseHandler);
-                Tooltip.uninstall(knobCanvas, buttonTooltip);
+                knobView.removeEventHandler(MouseEvent.MOUSE_PRESSED, mouseHandler);
+                knobView.removeEventHandler(MouseEvent.MOUSE_RELEASED, mouseHandler);
+                Tooltip.uninstall(knobView, buttonTooltip);
             }
         }
     }
@@ -396,8 +402,8 @@ public class HSkin extends GaugeSkinBase {
         gauge.getMarkers().removeListener(markerListener);
         gauge.currentValueProperty().removeListener(currentValueListener);
         if (gauge.isInteractive()) {
-            knobCanvas.removeEventHandler(MouseEvent.MOUSE_PRESSED, mouseHandler);
-            knobCanvas.removeEventHandler(MouseEvent.MOUSE_RELEASED, mouseHandler);
+            knobView.removeEventHandler(MouseEvent.MOUSE_PRESSED, mouseHandler);
+            knobView.removeEventHandler(MouseEvent.MOUSE_RELEASED, mouseHandler);
         }
         super.dispose();
     }
@@ -779,128 +785,7 @@ public class HSkin extends GaugeSkinBase {
     }
 
     private void drawKnob(final boolean PRESSED) {
-        knobCanvas.setCache(false);
-        double w = knobCanvas.getWidth();
-        double h = knobCanvas.getHeight();
-        knob.clearRect(0, 0, w, h);
-
-        Color  knobColor = gauge.getKnobColor();
-        double hue       = knobColor.getHue();
-        double sat       = knobColor.getSaturation();
-        double alp       = knobColor.getOpacity();
-        double brg       = Color.BLACK.equals(knobColor) ? 0.2 : knobColor.getBrightness();
-        double gradTop;
-        double gradBot;
-
-        switch (gauge.getKnobType()) {
-            case PLAIN:
-                knob.setFill(new LinearGradient(0, 0, 0, h, false, CycleMethod.NO_CYCLE,
-                                                new Stop(0.0, Color.rgb(180,180,180)),
-                                                new Stop(0.46, Color.rgb(63,63,63)),
-                                                new Stop(1.0, Color.rgb(40,40,40))));
-                knob.fillOval(0, 0, w, h);
-
-                knob.setFill(new LinearGradient(0, 0.11764706 * h, 0, 0.76470588 * h, false, CycleMethod.NO_CYCLE,
-                                                new Stop(0.0, Color.hsb(hue, sat, PRESSED ? brg * 0.9 : brg * 1.0, alp)),
-                                                new Stop(0.01, Color.hsb(hue, sat, PRESSED ? brg * 0.75 : brg * 0.85, alp)),
-                                                new Stop(0.5, Color.hsb(hue, sat, PRESSED ? brg * 0.4 : brg * 0.5, alp)),
-                                                new Stop(0.51, Color.hsb(hue, sat, PRESSED ? brg * 0.35 : brg * 0.45, alp)),
-                                                new Stop(1.0, Color.hsb(hue, sat, PRESSED ? brg * 0.7 : brg * 0.8, alp))));
-                knob.fillOval(w * 0.11764706, h * 0.11764706, w - w * 0.23529412, h - h * 0.23529412);
-
-                knob.setFill(new RadialGradient(0, 0, 0.5 * w, 0.47 * h, w * 0.38, false, CycleMethod.NO_CYCLE,
-                                                new Stop(0, Color.TRANSPARENT),
-                                                new Stop(0.76, Color.TRANSPARENT),
-                                                new Stop(1.0, Color.rgb(0, 0, 0, PRESSED ? 0.5 : 0.2))));
-                knob.fillOval(w * 0.11764706, h * 0.11764706, w - w * 0.23529412, h - h * 0.23529412);
-                break;
-            case METAL:
-                knob.setFill(new LinearGradient(0, 0, 0, h,
-                                                false, CycleMethod.NO_CYCLE,
-                                                new Stop(0.0, Color.rgb(92,95,101)),
-                                                new Stop(0.47, Color.rgb(46,49,53)),
-                                                new Stop(1.0, Color.rgb(22,23,26))));
-                knob.fillOval(0, 0, w, h);
-
-                knob.setFill(new LinearGradient(0, 0.058823529411764705 * h, 0, 0.9411764705882353 * h,
-                                                false, CycleMethod.NO_CYCLE,
-                                                new Stop(0.0, Color.hsb(hue, sat, PRESSED ? brg * 0.7 : brg * 0.9, alp)),
-                                                new Stop(0.0, Color.hsb(hue, sat, PRESSED ? brg * 0.3 : brg * 0.5, alp))));
-                knob.fillOval(0.05882353 * w, 0.05882353 * h, w * 0.88235294, h * 0.88235294);
-
-                knob.beginPath();
-                knob.moveTo(0.17647058823529413 * w, 0.8235294117647058 * h);
-                knob.bezierCurveTo(0.29411764705882354 * w, 0.8823529411764706 * h, 0.35294117647058826 * w, 0.9411764705882353 * h, 0.5294117647058824 * w, 0.9411764705882353 * h);
-                knob.bezierCurveTo(0.6470588235294118 * w, 0.9411764705882353 * h, 0.7058823529411765 * w, 0.8823529411764706 * h, 0.8235294117647058 * w, 0.8235294117647058 * h);
-                knob.bezierCurveTo(0.7647058823529411 * w, 0.7058823529411765 * h, 0.6470588235294118 * w, 0.5882352941176471 * h, 0.5294117647058824 * w, 0.5882352941176471 * h);
-                knob.bezierCurveTo(0.35294117647058826 * w, 0.5882352941176471 * h, 0.23529411764705882 * w, 0.7058823529411765 * h, 0.17647058823529413 * w, 0.8235294117647058 * h);
-                knob.closePath();
-                knob.setFill(new RadialGradient(0, 0,
-                                                0.47058823529411764 * w, 0.8823529411764706 * h,
-                                                0.3235294117647059 * w,
-                                                false, CycleMethod.NO_CYCLE,
-                                                new Stop(0.0, Color.rgb(255, 255, 255, PRESSED ? 0.3 : 0.6)),
-                                                new Stop(1.0, Color.TRANSPARENT)));
-                knob.fill();
-
-                knob.beginPath();
-                knob.moveTo(0.058823529411764705 * w, 0.29411764705882354 * h);
-                knob.bezierCurveTo(0.17647058823529413 * w, 0.35294117647058826 * h, 0.35294117647058826 * w, 0.35294117647058826 * h, 0.5294117647058824 * w, 0.35294117647058826 * h);
-                knob.bezierCurveTo(0.6470588235294118 * w, 0.35294117647058826 * h, 0.8235294117647058 * w, 0.35294117647058826 * h, 0.9411764705882353 * w, 0.29411764705882354 * h);
-                knob.bezierCurveTo(0.8823529411764706 * w, 0.11764705882352941 * h, 0.7058823529411765 * w, 0.0 * h, 0.5294117647058824 * w, 0.0 * h);
-                knob.bezierCurveTo(0.29411764705882354 * w, 0.0 * h, 0.11764705882352941 * w, 0.11764705882352941 * h, 0.058823529411764705 * w, 0.29411764705882354 * h);
-                knob.closePath();
-                knob.setFill(new RadialGradient(0, 0,
-                                                0.47058823529411764 * w, 0.0,
-                                                0.4411764705882353 * w,
-                                                false, CycleMethod.NO_CYCLE,
-                                                new Stop(0.0, Color.rgb(255, 255, 255, PRESSED ? 0.45 : 0.75)),
-                                                new Stop(1.0, Color.TRANSPARENT)));
-                knob.fill();
-
-                knob.setFill(new LinearGradient(0.5294117647058824 * w, 0.23529411764705882 * h,
-                                                0.5294117647058824 * w, 0.7647058823529411 * h,
-                                                false, CycleMethod.NO_CYCLE,
-                                                new Stop(0.0, Color.BLACK),
-                                                new Stop(1.0, Color.rgb(204, 204, 204))));
-                knob.fillOval(0.23529412 * w, 0.23529412 * h, 0.52941176 * w, 0.52941176 * h);
-
-                knob.setFill(new LinearGradient(0.5294117647058824 * w, 0.29411764705882354 * h,
-                                                0.5294117647058824 * w, 0.7058823529411765 * h,
-                                                false, CycleMethod.NO_CYCLE,
-                                                new Stop(0.0, Color.rgb(1,6,11)),
-                                                new Stop(1.0, Color.rgb(50,52,56))));
-                knob.fillOval(0.29411765 * w, 0.29411765 * h, 0.41176471 * w, 0.41176471 * h);
-                break;
-            case FLAT:
-                double lineWidth = 0.00740741 * width;
-                double knobSize  = w - 2 * lineWidth;
-                knob.setFill(PRESSED ? knobColor.darker() : knobColor);
-                knob.setStroke(PRESSED ? Color.WHITE.darker() : Color.WHITE);
-                knob.setLineWidth(lineWidth);
-                knob.fillOval(lineWidth, lineWidth, knobSize, knobSize);
-                knob.strokeOval(lineWidth, lineWidth, knobSize, knobSize);
-                break;
-            case STANDARD:
-            default:
-                knob.setFill(new LinearGradient(0, 0, 0, h,
-                                                false, CycleMethod.NO_CYCLE,
-                                                new Stop(0.0, Color.rgb(133, 133, 133).brighter().brighter()),
-                                                new Stop(0.52, Color.rgb(133, 133, 133)),
-                                                new Stop(1.0, Color.rgb(133, 133, 133).darker().darker())));
-                knob.fillOval(0, 0, w, h);
-                gradTop = PRESSED ? h - width * 0.01 : width * 0.005;
-                gradBot = PRESSED ? width * 0.005 : h - width * 0.01;
-                knob.setFill(new LinearGradient(0,gradTop, 0, gradBot,
-                                                false, CycleMethod.NO_CYCLE,
-                                                new Stop(0.0, Color.hsb(hue, sat, brg * 0.85, alp)),
-                                                new Stop(0.45, Color.hsb(hue, sat, brg * 0.65, alp)),
-                                                new Stop(1.0, Color.hsb(hue, sat, brg * 0.4, alp))));
-                knob.fillOval(width * 0.005, width * 0.005, w - width * 0.01, h - width * 0.01);
-                break;
-        }
-        knobCanvas.setCache(true);
-        knobCanvas.setCacheHint(CacheHint.QUALITY);
+        knobView.setImage(RasterCache.getKnob(gauge.getKnobType(), gauge.getKnobColor(), knobView.getFitWidth(), width, PRESSED));
     }
 
     private void resizeText() {
@@ -952,13 +837,12 @@ public class HSkin extends GaugeSkinBase {
 
             dropShadow.setRadius(0.008 * scaledWidth);
             dropShadow.setOffsetY(0.008 * scaledWidth);
+            needleShadow.setRadius(0.008 * scaledWidth);
 
             backgroundInnerShadow.setOffsetX(0);
             backgroundInnerShadow.setOffsetY(scaledWidth * 0.03);
             backgroundInnerShadow.setRadius(scaledWidth * 0.04);
 
-            pane.setEffect(gauge.isInnerShadowEnabled() ? backgroundInnerShadow : null);
-
             sectionsAndAreasCanvas.setWidth(width);
             sectionsAndAreasCanvas.setHeight(width);
             sectionsAndAreasCanvas.relocate(0, Pos.TOP_CENTER == gauge.getKnobPosition() ? -height * 0.8 : 0);
@@ -1019,7 +903,6 @@ public class HSkin extends GaugeSkinBase {
 
             double needleWidth;
             double needleHeight;
-            needle.setCache(false);
             switch(gauge.getNeedleType()) {
                 case BIG:
                     needleWidth  = 0.06 * scaledWidth;
@@ -1071,12 +954,10 @@ public class HSkin extends GaugeSkinBase {
                     needleRotate.setPivotY(needle.getLayoutBounds().getHeight());
                     break;
             }
-            needle.setCache(true);
-            needle.setCacheHint(CacheHint.ROTATE);
 
-            knobCanvas.setWidth(width * 0.1);
-            knobCanvas.setHeight(width * 0.1);
-            knobCanvas.relocate(centerX - width * 0.05, centerY - width * 0.05);
+            knobView.setFitWidth(width * 0.1);
+            knobView.setFitHeight(width * 0.1);
+            knobView.relocate(centerX - width * 0.05, centerY - width * 0.05);
 
             buttonTooltip.setText(gauge.getButtonTooltipText());
         }
@@ -1085,7 +966,13 @@ public class HSkin extends GaugeSkinBase {
     @Override protected void redraw() {
         locale       = gauge.getLocale();
         formatString = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f").toString();
-        shadowGroup.setEffect(gauge.isShadowsEnabled() ? dropShadow : null);
+
+        // Effects, with the PERFORMANCE profile the needle shadow will be rendered into the needle image and the knob will be cached with its shadow
+        final boolean PERFORMANCE = isPerformanceProfile();
+        final boolean SHADOWS     = gauge.isShadowsEnabled();
+        pane.setEffect(gauge.isInnerShadowEnabled() && !PERFORMANCE ? backgroundInnerShadow : null);
+        shadowGroup.setEffect(SHADOWS && !PERFORMANCE ? dropShadow : null);
+        Helper.applyEffect(knobView, SHADOWS && PERFORMANCE ? dropShadow : null, false, gauge.getRenderingProfile());
 
         // Background stroke and fill
         pane.setBorder(new Border(new BorderStroke(gauge.getBorderPaint(), BorderStrokeStyle.SOLID, CornerRadii.EMPTY, new BorderWidths(gauge.getBorderWidth() / PREFERRED_HEIGHT * height))));
@@ -1099,6 +986,7 @@ public class HSkin extends GaugeSkinBase {
         sectionsAndAreasCtx.clearRect(0, 0, width, width);
         drawAreasAndSections(sectionsAndAreasCtx);
 
+        final long START = Metrics.start();
         tickMarkCanvas.setCache(false);
         tickMarkCtx.clearRect(0, 0, width, width);
         if (gauge.isGradientBarEnabled() && gauge.getGradientLookup() != null) {
@@ -1107,6 +995,7 @@ public class HSkin extends GaugeSkinBase {
         Helper.drawRadialTickMarks(gauge, tickMarkCtx, minValue, maxValue, startAngle, angleRange, angleStep, width * 0.5, height * 0.9, width * 0.9);
         tickMarkCanvas.setCache(true);
         tickMarkCanvas.setCacheHint(CacheHint.QUALITY);
+        record(Metrics.Type.CANVAS_REDRAW, START);
 
         // LED
         if (gauge.isLedVisible()) {
@@ -1232,6 +1121,7 @@ public class HSkin extends GaugeSkinBase {
         }
         needle.setFill(needlePaint);
         needle.setStroke(gauge.getNeedleBorderColor());
+        RasterCache.setImage(needleView, needle, RasterCache.getNeedle(needle, gauge.getNeedleType(), gauge.getNeedleShape(), tickLabelLocation, needleColor, gauge.getNeedleBorderColor(), SHADOWS && PERFORMANCE ? needleShadow : null));
 
         // Knob
         drawKnob(false);
@@ -83,7 +83,7 @@ public class KpiSkin extends GaugeSkinBase {
         range                = gauge.getRange();
         angleStep            = angleRange / range;
         locale               = gauge.getLocale();
-        currentValueListener = o -> rotateNeedle(gauge.getCurrentValue());
+        currentValueListener = scheduledListener(() -> rotateNeedle(gauge.getCurrentValue()));
 
         initGraphics();
         registerListeners();
@@ -196,7 +196,7 @@ public class LcdClockSkin extends ClockSkinBase {
         alarm.setVisible(alarmVisible);
 
         shadowGroup = new Group();
-        shadowGroup.setEffect(clock.getShadowsEnabled() ? FOREGROUND_SHADOW : null);
+        shadowGroup.setEffect(clock.getShadowsEnabled() && !isPerformanceProfile() ? FOREGROUND_SHADOW : null);
         shadowGroup.getChildren().setAll(timeText,
                                          secondText,
                                          title,
@@ -205,7 +205,7 @@ public class LcdClockSkin extends ClockSkinBase {
                                          alarm);
 
         pane = new Pane();
-        pane.setEffect(clock.getShadowsEnabled() ? mainInnerShadow1 : null);
+        pane.setEffect(clock.getShadowsEnabled() && !isPerformanceProfile() ? mainInnerShadow1 : null);
         pane.getChildren().setAll(crystalOverlay,
                                   backgroundTimeText,
                                   backgroundSecondText,
@@ -221,8 +221,8 @@ public class LcdClockSkin extends ClockSkinBase {
     // ******************** Methods *******************************************
     protected void handleEvents(final String EVENT_TYPE) {
         if ("REDRAW".equals(EVENT_TYPE)) {
-            pane.setEffect(clock.getShadowsEnabled() ? mainInnerShadow1 : null);
-            shadowGroup.setEffect(clock.getShadowsEnabled() ? FOREGROUND_SHADOW : null);
+            pane.setEffect(clock.getShadowsEnabled() && !isPerformanceProfile() ? mainInnerShadow1 : null);
+            shadowGroup.setEffect(clock.getShadowsEnabled() && !isPerformanceProfile() ? FOREGROUND_SHADOW : null);
             updateLcdDesign(height);
             redraw();
         } else if ("RESIZE".equals(EVENT_TYPE)) {
@@ -23,6 +23,7 @@ import eu.hansolo.medusa.LcdDesign;
 import eu.hansolo.medusa.LcdFont;
 import eu.hansolo.medusa.Section;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.TextMeasurer;
 import javafx.beans.InvalidationListener;
 import javafx.geometry.Insets;
 import javafx.geometry.VPos;
@@ -136,7 +137,7 @@ public class LcdSkin extends GaugeSkinBase {
         locale                = gauge.getLocale();
         sections              = gauge.getSections();
         sectionColorMap       = new HashMap<>(sections.size());
-        currentValueListener  = o -> handleEvents("REDRAW");
+        currentValueListener  = scheduledListener(() -> handleEvents("REDRAW"));
         updateSectionColors();
         FOREGROUND_SHADOW.setOffsetX(0);
         FOREGROUND_SHADOW.setOffsetY(1);
@@ -226,7 +227,7 @@ public class LcdSkin extends GaugeSkinBase {
         Helper.enableNode(lowerCenterText, gauge.isOldValueVisible());
 
         shadowGroup = new Group();
-        shadowGroup.setEffect(gauge.isShadowsEnabled() ? FOREGROUND_SHADOW : null);
+        shadowGroup.setEffect(gauge.isShadowsEnabled() && !isPerformanceProfile() ? FOREGROUND_SHADOW : null);
         shadowGroup.getChildren().setAll(threshold,
                                          average,
                                          valueText,
@@ -238,7 +239,7 @@ public class LcdSkin extends GaugeSkinBase {
                                          lowerCenterText);
 
         pane = new Pane(crystalOverlay, backgroundText, shadowGroup);
-        pane.setEffect(gauge.isShadowsEnabled() ? mainInnerShadow1 : null);
+        pane.setEffect(gauge.isShadowsEnabled() && !isPerformanceProfile() ? mainInnerShadow1 : null);
         getChildren().setAll(pane);
     }
 
@@ -251,8 +252,8 @@ public class LcdSkin extends GaugeSkinBase {
     // ******************** Methods *******************************************
     @Override protected void handleEvents(final String EVENT_TYPE) {
         if ("REDRAW".equals(EVENT_TYPE)) {
-            pane.setEffect(gauge.isShadowsEnabled() ? mainInnerShadow1 : null);
-            shadowGroup.setEffect(gauge.isShadowsEnabled() ? FOREGROUND_SHADOW : null);
+            pane.setEffect(gauge.isShadowsEnabled() && !isPerformanceProfile() ? mainInnerShadow1 : null);
+            shadowGroup.setEffect(gauge.isShadowsEnabled() && !isPerformanceProfile() ? FOREGROUND_SHADOW : null);
             updateLcdDesign(height);
             redraw();
         } else if ("RESIZE".equals(EVENT_TYPE)) {
@@ -290,7 +291,7 @@ public class LcdSkin extends GaugeSkinBase {
     // ******************** Private Methods ***********************************
     private boolean isNoOfDigitsInvalid() {
         final double AVAILABLE_WIDTH = width - 2 - valueOffsetLeft - valueOffsetRight;
-        final double NEEDED_WIDTH    = valueText.getLayoutBounds().getWidth();
+        final double NEEDED_WIDTH    = TextMeasurer.getWidth(valueText.getFont(), valueText.getText());
         return Double.compare(AVAILABLE_WIDTH, NEEDED_WIDTH) < 0;
     }
 
@@ -706,10 +707,11 @@ public class LcdSkin extends GaugeSkinBase {
         }
         backgroundText.setY(height - (backgroundText.getLayoutBounds().getHeight() * digitalFontSizeFactor) * 0.5);
 
+        final double VALUE_WIDTH = TextMeasurer.getWidth(valueText.getFont(), valueText.getText());
         if (gauge.getUnit().isEmpty()) {
-            valueText.setX((width - valueText.getLayoutBounds().getWidth()) - valueOffsetRight);
+            valueText.setX((width - VALUE_WIDTH) - valueOffsetRight);
         } else {
-            valueText.setX((width - 2 - valueText.getLayoutBounds().getWidth()) - valueOffsetRight);
+            valueText.setX((width - 2 - VALUE_WIDTH) - valueOffsetRight);
         }
 
         // Update the title
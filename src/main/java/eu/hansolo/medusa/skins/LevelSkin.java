@@ -91,7 +91,7 @@ public class LevelSkin extends GaugeSkinBase {
         sections             = gauge.getSections();
         barTooltip           = new Tooltip();
         formatString         = new StringBuilder("%.").append(gauge.getDecimals()).append(gauge.getUnit().equals("%") ? "f%%" : "").toString();
-        currentValueListener = o -> setBar(gauge.getCurrentValue());
+        currentValueListener = scheduledListener(() -> setBar(gauge.getCurrentValue()));
         barTooltip.setTextAlignment(TextAlignment.CENTER);
 
         initGraphics();
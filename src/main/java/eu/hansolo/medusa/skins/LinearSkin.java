@@ -116,7 +116,7 @@ public class LinearSkin extends GaugeSkinBase {
         locale                = gauge.getLocale();
         sections              = gauge.getSections();
         areas                 = gauge.getAreas();
-        currentValueListener  = o -> setBar(gauge.getCurrentValue());
+        currentValueListener  = scheduledListener(() -> setBar(gauge.getCurrentValue()));
         paneSizeListener      = o -> handleEvents("RESIZE");
 
         if (Orientation.VERTICAL == orientation) {
@@ -245,6 +245,8 @@ public class LinearSkin extends GaugeSkinBase {
         }
     }
 
+    @Override public double getPixelsPerUnit() { return stepSize; }
+
     @Override public void dispose() {
         gauge.currentValueProperty().removeListener(currentValueListener);
         pane.widthProperty().removeListener(paneSizeListener);
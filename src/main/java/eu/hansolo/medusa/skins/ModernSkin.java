@@ -19,6 +19,7 @@ package eu.hansolo.medusa.skins;
 
 import eu.hansolo.medusa.Fonts;
 import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.RenderingProfile;
 import eu.hansolo.medusa.Section;
 import eu.hansolo.medusa.TickLabelOrientation;
 import eu.hansolo.medusa.tools.Helper;
@@ -130,7 +131,7 @@ public class ModernSkin extends GaugeSkinBase {
         thresholdColor       = gauge.getThresholdColor();
         animatedListener     = o -> handleEvents("ANIMATED");
         sectionListener      = c -> handleEvents("RESIZE");
-        currentValueListener = o -> rotateNeedle(gauge.getCurrentValue());
+        currentValueListener = scheduledListener(() -> rotateNeedle(gauge.getCurrentValue()));
         titleLength          = 0;
         subTitleLength       = 0;
         unitLength           = 0;
@@ -160,7 +161,6 @@ public class ModernSkin extends GaugeSkinBase {
         background = new Circle(PREFERRED_WIDTH * 0.5, PREFERRED_HEIGHT * 0.5, PREFERRED_WIDTH * 0.5);
         background.setFill(Color.rgb(32, 32, 32));
         background.setStroke(null);
-        background.setEffect(innerShadow1);
 
         innerShadow2 = new InnerShadow(BlurType.TWO_PASS_BOX, Color.rgb(255, 255, 255, 0.65), 1, 0, 0, 1);
 
@@ -177,7 +177,6 @@ public class ModernSkin extends GaugeSkinBase {
         mask.setFillRule(FillRule.EVEN_ODD);
         mask.setFill(Color.rgb(32, 32, 32));
         mask.setStroke(null);
-        mask.setEffect(dropShadow4);
 
         needleRotate = new Rotate(180 - START_ANGLE);
 
@@ -200,7 +199,6 @@ public class ModernSkin extends GaugeSkinBase {
         needle              = new Path(needleMoveTo1, needleCubicCurveTo2, needleCubicCurveTo3, needleCubicCurveTo4,
                                        needleLineTo5, needleLineTo6, needleLineTo7, needleLineTo8, needleClosePath9);
         needle.setFillRule(FillRule.EVEN_ODD);
-        needle.setEffect(glow1);
 
         needle.getTransforms().setAll(needleRotate);
         needle.setFill(gauge.getNeedleColor());
@@ -220,21 +218,18 @@ public class ModernSkin extends GaugeSkinBase {
         titleText = new Text(gauge.getTitle());
         titleText.setTextOrigin(VPos.CENTER);
         titleText.setFill(gauge.getTitleColor());
-        titleText.setEffect(glow1);
         titleText.setMouseTransparent(true);
         Helper.enableNode(titleText, !gauge.getTitle().isEmpty());
 
         subTitleText = new Text(gauge.getSubTitle());
         subTitleText.setTextOrigin(VPos.CENTER);
         subTitleText.setFill(gauge.getSubTitleColor());
-        subTitleText.setEffect(glow1);
         subTitleText.setMouseTransparent(true);
         Helper.enableNode(subTitleText, !gauge.getSubTitle().isEmpty());
 
         unitText = new Text(gauge.getUnit());
         unitText.setTextOrigin(VPos.CENTER);
         unitText.setFill(gauge.getUnitColor());
-        unitText.setEffect(glow1);
         unitText.setMouseTransparent(true);
         Helper.enableNode(unitText, !gauge.getUnit().isEmpty());
 
@@ -242,7 +237,6 @@ public class ModernSkin extends GaugeSkinBase {
         valueText.setMouseTransparent(true);
         valueText.setTextOrigin(VPos.CENTER);
         valueText.setFill(gauge.getValueColor());
-        valueText.setEffect(bigGlow);
         Helper.enableNode(valueText, gauge.isValueVisible());
 
         // Add all nodes
@@ -440,7 +434,7 @@ public class ModernSkin extends GaugeSkinBase {
         double barWH = size * 0.75;
 
         CTX.save();
-        CTX.setEffect(glow2);
+        CTX.setEffect(isPerformanceProfile() ? null : glow2);
         CTX.setStroke(highlightColor);
         CTX.setLineWidth(size * 0.01666667);
         CTX.setLineCap(StrokeLineCap.BUTT);
@@ -796,7 +790,6 @@ public class ModernSkin extends GaugeSkinBase {
                                                   false, CycleMethod.NO_CYCLE,
                                                   new Stop(0.0, Color.rgb(69,70,73)),
                                                   new Stop(1.0, Color.rgb(31,31,31))));
-            centerKnob.setEffect(dropShadow4);
 
             glow1.setRadius(0.085 * size);
             glow2.setRadius(0.085 * size);
@@ -824,6 +817,17 @@ public class ModernSkin extends GaugeSkinBase {
         valueText.setFill(gauge.getValueColor());
         buttonTooltip.setText(gauge.getButtonTooltipText());
 
+        // Effects, with the PERFORMANCE profile the needle and the value will have no glow
+        final RenderingProfile PROFILE = gauge.getRenderingProfile();
+        Helper.applyEffect(background, innerShadow1, false, PROFILE);
+        Helper.applyEffect(mask, dropShadow4, false, PROFILE);
+        Helper.applyEffect(centerKnob, dropShadow4, false, PROFILE);
+        Helper.applyEffect(titleText, glow1, false, PROFILE);
+        Helper.applyEffect(subTitleText, glow1, false, PROFILE);
+        Helper.applyEffect(unitText, glow1, false, PROFILE);
+        Helper.applyEffect(needle, glow1, true, PROFILE);
+        Helper.applyEffect(valueText, bigGlow, true, PROFILE);
+
         mainCanvas.setCache(false);
         mainCanvas.setWidth(size);
         mainCanvas.setHeight(size);
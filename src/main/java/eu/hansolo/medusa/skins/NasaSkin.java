@@ -21,11 +21,13 @@ import eu.hansolo.medusa.Fonts;
 import eu.hansolo.medusa.Gauge;
 import eu.hansolo.medusa.tools.AngleConicalGradient;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.Metrics;
 import javafx.beans.InvalidationListener;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
+import javafx.scene.paint.ImagePattern;
 import javafx.scene.paint.Stop;
 import javafx.scene.shape.Arc;
 import javafx.scene.shape.ArcType;
@@ -60,6 +62,7 @@ public class NasaSkin extends GaugeSkinBase {
     private Pane                 pane;
     private AngleConicalGradient gradient;
     private Rectangle            gradientRect;
+    private ImagePattern         gradientPattern;
     private boolean              gradientNeedsRefresh;
     private InvalidationListener decimalListener;
     private InvalidationListener currentValueListener;
@@ -70,7 +73,7 @@ public class NasaSkin extends GaugeSkinBase {
         super(gauge);
         if (gauge.isAutoScale()) gauge.calcAutoScale();
         decimalListener      = o -> handleEvents("DECIMALS");
-        currentValueListener = o -> setBar(gauge.getCurrentValue());
+        currentValueListener = scheduledListener(() -> setBar(gauge.getCurrentValue()));
         gradientNeedsRefresh = true;
 
         initGraphics();
@@ -206,8 +209,9 @@ public class NasaSkin extends GaugeSkinBase {
         bar.setLength(barLength);
 
         if (gauge.isGradientBarEnabled() && gauge.getGradientBarStops().size() > 1) {
-            bar.setStroke(gauge.getGradientLookup().getColorAt((VALUE - gauge.getMinValue()) / gauge.getRange()));
-            bar.setStroke(gradient.getImagePattern(gradientRect));
+            // the pattern only depends on the size and the stops, so it will be created once per setupGradient()
+            if (null == gradientPattern) { gradientPattern = gradient.getImagePattern(gradientRect); }
+            bar.setStroke(gradientPattern);
         } else {
             bar.setStroke(gauge.getBarColor());
         }
@@ -218,9 +222,11 @@ public class NasaSkin extends GaugeSkinBase {
     }
 
     private void drawTicks() {
+        final long START = Metrics.start();
         double stepSize = ANGLE_RANGE / 100;
         ctx.clearRect(0, 0, size, size);
         Helper.drawRadialTickMarks(gauge, ctx, gauge.getMinValue(), gauge.getMaxValue(), -72, ANGLE_RANGE, stepSize, size * 0.5, size * 0.5, size * 1.045);
+        record(Metrics.Type.CANVAS_REDRAW, START);
     }
 
     private void drawBackground() {
@@ -257,8 +263,9 @@ public class NasaSkin extends GaugeSkinBase {
         List<Stop>         stops        = gauge.getGradientBarStops();
         Map<Double, Color> stopAngleMap = new HashMap<>(stops.size());
         for (Stop stop : stops) { stopAngleMap.put(stop.getOffset() * 216, stop.getColor()); }
-        gradient     = new AngleConicalGradient(size * 0.5, size * 0.5, 252, stopAngleMap, gauge.getScaleDirection());
-        gradientRect = new Rectangle(0, 0, size, size);
+        gradient        = new AngleConicalGradient(size * 0.5, size * 0.5, 252, stopAngleMap, gauge.getScaleDirection());
+        gradientRect    = new Rectangle(0, 0, size, size);
+        gradientPattern = null;
 
         gradientNeedsRefresh = false;
     }
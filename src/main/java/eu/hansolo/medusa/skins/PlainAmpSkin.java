@@ -133,7 +133,7 @@ public class PlainAmpSkin extends GaugeSkinBase {
         formatString         = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f").toString();
         locale               = gauge.getLocale();
         sectionListener      = c -> redraw();
-        currentValueListener = o -> rotateNeedle();
+        currentValueListener = scheduledListener(this::rotateNeedle);
         needleRotateListener = o -> handleEvents("ANGLE");
         markerListener       = c -> {
             updateMarkers();
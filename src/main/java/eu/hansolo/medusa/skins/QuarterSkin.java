@@ -31,6 +31,7 @@ import eu.hansolo.medusa.TickLabelOrientation;
 import eu.hansolo.medusa.TickMarkType;
 import eu.hansolo.medusa.tools.AngleConicalGradient;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.RasterCache;
 import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.List;
@@ -52,6 +53,7 @@ import javafx.scene.control.Tooltip;
 import javafx.scene.effect.BlurType;
 import javafx.scene.effect.DropShadow;
 import javafx.scene.effect.InnerShadow;
+import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.Background;
 import javafx.scene.layout.BackgroundFill;
@@ -116,12 +118,13 @@ public class QuarterSkin extends GaugeSkinBase {
     private Path                       average;
     private Rectangle                  lcd;
     private Path                       needle;
+    private ImageView                  needleView;
     private Rotate                     needleRotate;
     private Paint                      needlePaint;
-    private Canvas                     knobCanvas;
-    private GraphicsContext            knobCtx;
+    private ImageView                  knobView;
     private Group                      shadowGroup;
     private DropShadow                 dropShadow;
+    private DropShadow                 needleShadow;
     private Text                       titleText;
     private Text                       subTitleText;
     private Text                       unitText;
@@ -171,7 +174,7 @@ public class QuarterSkin extends GaugeSkinBase {
             updateMarkers();
             redraw();
         };
-        currentValueListener = o -> rotateNeedle(gauge.getCurrentValue());
+        currentValueListener = scheduledListener(() -> rotateNeedle(gauge.getCurrentValue()));
         updateMarkers();
 
         initGraphics();
@@ -225,25 +228,27 @@ public class QuarterSkin extends GaugeSkinBase {
         needleRotate.setAngle(needleRotate.getAngle() + (gauge.getValue() - oldValue - minValue) * angleStep);
         needle = new Path();
         needle.setFillRule(FillRule.EVEN_ODD);
-        needle.getTransforms().setAll(needleRotate);
         needle.setStrokeType(StrokeType.INSIDE);
         needle.setStroke(Color.TRANSPARENT);
 
+        needleView = new ImageView();
+        needleView.getTransforms().setAll(needleRotate);
+
         buttonTooltip    = new Tooltip();
         buttonTooltip.setTextAlignment(TextAlignment.CENTER);
 
-        knobCanvas = new Canvas();
-        knobCtx = knobCanvas.getGraphicsContext2D();
-        knobCanvas.setPickOnBounds(false);
-        Helper.enableNode(knobCanvas, gauge.isKnobVisible());
+        knobView = new ImageView();
+        knobView.setPickOnBounds(false);
+        Helper.enableNode(knobView, gauge.isKnobVisible());
 
         dropShadow = new DropShadow();
         dropShadow.setColor(Color.rgb(0, 0, 0, 0.25));
         dropShadow.setBlurType(BlurType.TWO_PASS_BOX);
         dropShadow.setRadius(0.015 * PREFERRED_WIDTH);
         dropShadow.setOffsetY(0.015 * PREFERRED_WIDTH);
+        needleShadow = new DropShadow(BlurType.TWO_PASS_BOX, Color.rgb(0, 0, 0, 0.25), 0.015 * PREFERRED_WIDTH, 0, 0, 0);
 
-        shadowGroup = new Group(needle, knobCanvas);
+        shadowGroup = new Group(needleView, knobView);
         shadowGroup.setEffect(gauge.isShadowsEnabled() ? dropShadow : null);
 
         titleText = new Text(gauge.getTitle());
@@ -329,7 +334,7 @@ public class QuarterSkin extends GaugeSkinBase {
             Helper.enableNode(unitText, !gauge.getUnit().isEmpty());
             Helper.enableNode(valueText, gauge.isValueVisible());
             Helper.enableNode(lcd, gauge.isLcdVisible() && gauge.isValueVisible());
-            Helper.enableNode(knobCanvas, gauge.isKnobVisible());
+            Helper.enableNode(knobView, gauge.isKnobVisible());
             Helper.enableNode(threshold, gauge.isThresholdVisible());
             Helper.enableNode(average, gauge.isAverageVisible());
             boolean markersVisible = gauge.getMarkersVisible();
@@ -361,16 +366,16 @@ public class QuarterSkin extends GaugeSkinBase {
             redraw();
         } else if ("INTERACTIVITY".equals(EVENT_TYPE)) {
             if (gauge.isInteractive()) {
-                knobCanvas.addEventHandler(MouseEvent.MOUSE_PRESSED, mouseHandler);
-                knobCanvas.addEventHandler(MouseEvent.MOUSE_RELEASED, mouseHandler);
+                knobView.addEventHandler(MouseEvent.MOUSE_PRESSED, mouseHandler);
+                knobView.addEventHandler(MouseEvent.MOUSE_RELEASED, mouseHandler);
                 if (!gauge.getButtonTooltipText().isEmpty()) {
                     buttonTooltip.setText(gauge.getButtonTooltipText());
-                    Tooltip.install(knobCanvas, buttonTooltip);
+                    Tooltip.install(knobView, buttonTooltip);
                 }
             } else {
-                knobCanvas.removeEventHandler(MouseEvent.MOUSE_PRESSED, mouseHandler);
-                knobCanvas.removeEventHandler(MouseEvent.MOUSE_RELEASED, mouseHandler);
-                Tooltip.uninstall(knobCanvas, buttonTooltip);
+                knobView.removeEventHandler(MouseEvent.MOUSE_PRESSED, mouseHandler);
+                knobView.removeEventHandler(MouseEvent.MOUSE_RELEASED, mouseHandler);
+                Tooltip.uninstall(knobView, buttonTooltip);
             }
         }
     }
@@ -391,8 +396,8 @@ public class QuarterSkin extends GaugeSkinBase {
         gauge.getMarkers().removeListener(markerListener);
         gauge.currentValueProperty().removeListener(currentValueListener);
         if (gauge.isInteractive()) {
-            knobCanvas.removeEventHandler(MouseEvent.MOUSE_PRESSED, mouseHandler);
-            knobCanvas.removeEventHandler(MouseEvent.MOUSE_RELEASED, mouseHandler);
+            knobView.removeEventHandler(MouseEvent.MOUSE_PRESSED, mouseHandler);
+            knobView.removeEventHandler(MouseEvent.MOUSE_RELEASED, mouseHandler);
         }
         super.dispose();
     }
@@ -1342,128 +1347,7 @@ public class QuarterSkin extends GaugeSkinBase {
     }
 
     private void drawKnob(final boolean PRESSED) {
-        knobCanvas.setCache(false);
-        double w = knobCanvas.getWidth();
-        double h = knobCanvas.getHeight();
-        knobCtx.clearRect(0, 0, w, h);
-
-        Color  knobColor = gauge.getKnobColor();
-        double hue       = knobColor.getHue();
-        double sat       = knobColor.getSaturation();
-        double alp       = knobColor.getOpacity();
-        double brg       = Color.BLACK.equals(knobColor) ? 0.2 : knobColor.getBrightness();
-        double gradTop;
-        double gradBot;
-
-        switch (gauge.getKnobType()) {
-            case PLAIN:
-                knobCtx.setFill(new LinearGradient(0, 0, 0, h, false, CycleMethod.NO_CYCLE,
-                                                   new Stop(0.0, Color.rgb(180,180,180)),
-                                                   new Stop(0.46, Color.rgb(63,63,63)),
-                                                   new Stop(1.0, Color.rgb(40,40,40))));
-                knobCtx.fillOval(0, 0, w, h);
-
-                knobCtx.setFill(new LinearGradient(0, 0.11764706 * h, 0, 0.76470588 * h, false, CycleMethod.NO_CYCLE,
-                                                   new Stop(0.0, Color.hsb(hue, sat, PRESSED ? brg * 0.9 : brg * 1.0, alp)),
-                                                   new Stop(0.01, Color.hsb(hue, sat, PRESSED ? brg * 0.75 : brg * 0.85, alp)),
-                                                   new Stop(0.5, Color.hsb(hue, sat, PRESSED ? brg * 0.4 : brg * 0.5, alp)),
-                                                   new Stop(0.51, Color.hsb(hue, sat, PRESSED ? brg * 0.35 : brg * 0.45, alp)),
-                                                   new Stop(1.0, Color.hsb(hue, sat, PRESSED ? brg * 0.7 : brg * 0.8, alp))));
-                knobCtx.fillOval(w * 0.11764706, h * 0.11764706, w - w * 0.23529412, h - h * 0.23529412);
-
-                knobCtx.setFill(new RadialGradient(0, 0, 0.5 * w, 0.47 * h, w * 0.38, false, CycleMethod.NO_CYCLE,
-                                                   new Stop(0, Color.TRANSPARENT),
-                                                   new Stop(0.76, Color.TRANSPARENT),
-                                                   new Stop(1.0, Color.rgb(0, 0, 0, PRESSED ? 0.5 : 0.2))));
-                knobCtx.fillOval(w * 0.11764706, h * 0.11764706, w - w * 0.23529412, h - h * 0.23529412);
-                break;
-            case METAL:
-                knobCtx.setFill(new LinearGradient(0, 0, 0, h,
-                                                   false, CycleMethod.NO_CYCLE,
-                                                   new Stop(0.0, Color.rgb(92,95,101)),
-                                                   new Stop(0.47, Color.rgb(46,49,53)),
-                                                   new Stop(1.0, Color.rgb(22,23,26))));
-                knobCtx.fillOval(0, 0, w, h);
-
-                knobCtx.setFill(new LinearGradient(0, 0.058823529411764705 * h, 0, 0.9411764705882353 * h,
-                                                   false, CycleMethod.NO_CYCLE,
-                                                   new Stop(0.0, Color.hsb(hue, sat, PRESSED ? brg * 0.7 : brg * 0.9, alp)),
-                                                   new Stop(0.0, Color.hsb(hue, sat, PRESSED ? brg * 0.3 : brg * 0.5, alp))));
-                knobCtx.fillOval(0.05882353 * w, 0.05882353 * h, w * 0.88235294, h * 0.88235294);
-
-                knobCtx.beginPath();
-                knobCtx.moveTo(0.17647058823529413 * w, 0.8235294117647058 * h);
-                knobCtx.bezierCurveTo(0.29411764705882354 * w, 0.8823529411764706 * h, 0.35294117647058826 * w, 0.9411764705882353 * h, 0.5294117647058824 * w, 0.9411764705882353 * h);
-                knobCtx.bezierCurveTo(0.6470588235294118 * w, 0.9411764705882353 * h, 0.7058823529411765 * w, 0.8823529411764706 * h, 0.8235294117647058 * w, 0.8235294117647058 * h);
-                knobCtx.bezierCurveTo(0.7647058823529411 * w, 0.7058823529411765 * h, 0.6470588235294118 * w, 0.5882352941176471 * h, 0.5294117647058824 * w, 0.5882352941176471 * h);
-                knobCtx.bezierCurveTo(0.35294117647058826 * w, 0.5882352941176471 * h, 0.23529411764705882 * w, 0.7058823529411765 * h, 0.17647058823529413 * w, 0.8235294117647058 * h);
-                knobCtx.closePath();
-                knobCtx.setFill(new RadialGradient(0, 0,
-                                                0.47058823529411764 * w, 0.8823529411764706 * h,
-                                                0.3235294117647059 * w,
-                                                   false, CycleMethod.NO_CYCLE,
-                                                   new Stop(0.0, Color.rgb(255, 255, 255, PRESSED ? 0.3 : 0.6)),
-                                                   new Stop(1.0, Color.TRANSPARENT)));
-                knobCtx.fill();
-
-                knobCtx.beginPath();
-                knobCtx.moveTo(0.058823529411764705 * w, 0.29411764705882354 * h);
-                knobCtx.bezierCurveTo(0.17647058823529413 * w, 0.35294117647058826 * h, 0.35294117647058826 * w, 0.35294117647058826 * h, 0.5294117647058824 * w, 0.35294117647058826 * h);
-                knobCtx.bezierCurveTo(0.6470588235294118 * w, 0.35294117647058826 * h, 0.8235294117647058 * w, 0.35294117647058826 * h, 0.9411764705882353 * w, 0.29411764705882354 * h);
-                knobCtx.bezierCurveTo(0.8823529411764706 * w, 0.11764705882352941 * h, 0.7058823529411765 * w, 0.0 * h, 0.5294117647058824 * w, 0.0 * h);
-                knobCtx.bezierCurveTo(0.29411764705882354 * w, 0.0 * h, 0.11764705882352941 * w, 0.11764705882352941 * h, 0.058823529411764705 * w, 0.29411764705882354 * h);
-                knobCtx.closePath();
-                knobCtx.setFill(new RadialGradient(0, 0,
-                                                0.47058823529411764 * w, 0.0,
-                                                0.4411764705882353 * w,
-                                                   false, CycleMethod.NO_CYCLE,
-                                                   new Stop(0.0, Color.rgb(255, 255, 255, PRESSED ? 0.45 : 0.75)),
-                                                   new Stop(1.0, Color.TRANSPARENT)));
-                knobCtx.fill();
-
-                knobCtx.setFill(new LinearGradient(0.5294117647058824 * w, 0.23529411764705882 * h,
-                                                0.5294117647058824 * w, 0.7647058823529411 * h,
-                                                   false, CycleMethod.NO_CYCLE,
-                                                   new Stop(0.0, Color.BLACK),
-                                                   new Stop(1.0, Color.rgb(204, 204, 204))));
-                knobCtx.fillOval(0.23529412 * w, 0.23529412 * h, 0.52941176 * w, 0.52941176 * h);
-
-                knobCtx.setFill(new LinearGradient(0.5294117647058824 * w, 0.29411764705882354 * h,
-                                                0.5294117647058824 * w, 0.7058823529411765 * h,
-                                                   false, CycleMethod.NO_CYCLE,
-                                                   new Stop(0.0, Color.rgb(1,6,11)),
-                                                   new Stop(1.0, Color.rgb(50,52,56))));
-                knobCtx.fillOval(0.29411765 * w, 0.29411765 * h, 0.41176471 * w, 0.41176471 * h);
-                break;
-            case FLAT:
-                double lineWidth = 0.00740741 * size;
-                double knobSize  = w - 2 * lineWidth;
-                knobCtx.setFill(PRESSED ? knobColor.darker() : knobColor);
-                knobCtx.setStroke(PRESSED ? Color.WHITE.darker() : Color.WHITE);
-                knobCtx.setLineWidth(lineWidth);
-                knobCtx.fillOval(lineWidth, lineWidth, knobSize, knobSize);
-                knobCtx.strokeOval(lineWidth, lineWidth, knobSize, knobSize);
-                break;
-            case STANDARD:
-            default:
-                knobCtx.setFill(new LinearGradient(0, 0, 0, h,
-                                                   false, CycleMethod.NO_CYCLE,
-                                                   new Stop(0.0, Color.rgb(133, 133, 133).brighter().brighter()),
-                                                   new Stop(0.52, Color.rgb(133, 133, 133)),
-                                                   new Stop(1.0, Color.rgb(133, 133, 133).darker().darker())));
-                knobCtx.fillOval(0, 0, w, h);
-                gradTop = PRESSED ? h - size * 0.01 : size * 0.005;
-                gradBot = PRESSED ? size * 0.005 : h - size * 0.01;
-                knobCtx.setFill(new LinearGradient(0, gradTop, 0, gradBot,
-                                                   false, CycleMethod.NO_CYCLE,
-                                                   new Stop(0.0, Color.hsb(hue, sat, brg * 0.85, alp)),
-                                                   new Stop(0.45, Color.hsb(hue, sat, brg * 0.65, alp)),
-                                                   new Stop(1.0, Color.hsb(hue, sat, brg * 0.4, alp))));
-                knobCtx.fillOval(size * 0.005, size * 0.005, w - size * 0.01, h - size * 0.01);
-                break;
-        }
-        knobCanvas.setCache(true);
-        knobCanvas.setCacheHint(CacheHint.QUALITY);
+        knobView.setImage(RasterCache.getKnob(gauge.getKnobType(), gauge.getKnobColor(), knobView.getFitWidth(), size, PRESSED));
     }
 
     private void resizeText() {
@@ -1684,13 +1568,12 @@ public class QuarterSkin extends GaugeSkinBase {
 
             dropShadow.setRadius(0.008 * size);
             dropShadow.setOffsetY(0.008 * size);
+            needleShadow.setRadius(0.008 * size);
 
             backgroundInnerShadow.setOffsetX(0);
             backgroundInnerShadow.setOffsetY(size * 0.03);
             backgroundInnerShadow.setRadius(size * 0.04);
 
-            pane.setEffect(gauge.isInnerShadowEnabled() ? backgroundInnerShadow : null);
-
             sectionsAndAreasCanvas.setWidth(1.95 * size);
             sectionsAndAreasCanvas.setHeight(1.95 * size);
             
@@ -1718,7 +1601,6 @@ public class QuarterSkin extends GaugeSkinBase {
 
             double needleWidth;
             double needleHeight;
-            needle.setCache(false);
             switch(gauge.getNeedleType()) {
                 case BIG:
                     needleWidth  = 1.9 * 0.06 * size;
@@ -1770,33 +1652,31 @@ public class QuarterSkin extends GaugeSkinBase {
                     needleRotate.setPivotY(needle.getLayoutBounds().getHeight());
                     break;
             }
-            needle.setCache(true);
-            needle.setCacheHint(CacheHint.ROTATE);
 
-            knobCanvas.setWidth(size * 0.1);
-            knobCanvas.setHeight(size * 0.1);
+            knobView.setFitWidth(size * 0.1);
+            knobView.setFitHeight(size * 0.1);
 
             switch(knobPosition) {
                 case BOTTOM_LEFT :
                     ledCanvas.relocate(size * 0.22, size * 0.72);
                     lcd.relocate(size * 0.15, 0.81 * size);
-                    knobCanvas.relocate(0, size * 0.9);
+                    knobView.relocate(0, size * 0.9);
                     break;
                 case TOP_LEFT    :
                     ledCanvas.relocate(size * 0.22, size * 0.22);
                     lcd.relocate(size * 0.15, 0.07 * size);
-                    knobCanvas.relocate(0, 0);
+                    knobView.relocate(0, 0);
                     break;
                 case TOP_RIGHT   :
                     ledCanvas.relocate(size * 0.72, size * 0.22);
                     lcd.relocate(size * 0.45, 0.07 * size);
-                    knobCanvas.relocate(size * 0.9, 0);
+                    knobView.relocate(size * 0.9, 0);
                     break;
                 case BOTTOM_RIGHT:
                 default          :
                     ledCanvas.relocate(size * 0.72, size * 0.72);
                     lcd.relocate(size * 0.45, 0.81 * size);
-                    knobCanvas.relocate(size * 0.9, size * 0.9);
+                    knobView.relocate(size * 0.9, size * 0.9);
                     break;
             }
 
@@ -1807,7 +1687,13 @@ public class QuarterSkin extends GaugeSkinBase {
     @Override protected void redraw() {
         locale       = gauge.getLocale();
         formatString = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f").toString();
-        shadowGroup.setEffect(gauge.isShadowsEnabled() ? dropShadow : null);
+
+        // Effects, with the PERFORMANCE profile the needle shadow will be rendered into the needle image and the knob will be cached with its shadow
+        final boolean PERFORMANCE = isPerformanceProfile();
+        final boolean SHADOWS     = gauge.isShadowsEnabled();
+        pane.setEffect(gauge.isInnerShadowEnabled() && !PERFORMANCE ? backgroundInnerShadow : null);
+        shadowGroup.setEffect(SHADOWS && !PERFORMANCE ? dropShadow : null);
+        Helper.applyEffect(knobView, SHADOWS && PERFORMANCE ? dropShadow : null, false, gauge.getRenderingProfile());
 
         // Background stroke and fill
         pane.setBorder(new Border(new BorderStroke(gauge.getBorderPaint(), BorderStrokeStyle.SOLID, CornerRadii.EMPTY, new BorderWidths(gauge.getBorderWidth() / PREFERRED_WIDTH * size))));
@@ -1954,6 +1840,7 @@ public class QuarterSkin extends GaugeSkinBase {
         }
         needle.setFill(needlePaint);
         needle.setStroke(gauge.getNeedleBorderColor());
+        RasterCache.setImage(needleView, needle, RasterCache.getNeedle(needle, gauge.getNeedleType(), gauge.getNeedleShape(), tickLabelLocation, needleColor, gauge.getNeedleBorderColor(), SHADOWS && PERFORMANCE ? needleShadow : null));
 
         // Knob
         drawKnob(false);
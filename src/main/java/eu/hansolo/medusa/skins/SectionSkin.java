@@ -92,7 +92,7 @@ public class SectionSkin extends GaugeSkinBase {
         minValue             = gauge.getMinValue();
         maxValue             = gauge.getMaxValue();
         sectionListener      = c -> handleEvents("RESIZE");
-        currentValueListener = o -> rotateNeedle(gauge.getCurrentValue());
+        currentValueListener = scheduledListener(() -> rotateNeedle(gauge.getCurrentValue()));
 
         initGraphics();
         registerListeners();
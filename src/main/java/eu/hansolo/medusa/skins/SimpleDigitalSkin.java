@@ -22,6 +22,8 @@ import eu.hansolo.medusa.Gauge;
 import eu.hansolo.medusa.Section;
 import eu.hansolo.medusa.tools.AngleConicalGradient;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.Metrics;
+import eu.hansolo.medusa.tools.SegmentedBar;
 import javafx.beans.InvalidationListener;
 import javafx.geometry.Insets;
 import javafx.scene.CacheHint;
@@ -36,6 +38,8 @@ import javafx.scene.layout.BorderWidths;
 import javafx.scene.layout.CornerRadii;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
+import javafx.scene.paint.ImagePattern;
+import javafx.scene.paint.Paint;
 import javafx.scene.paint.Stop;
 import javafx.scene.shape.ArcType;
 import javafx.scene.shape.Rectangle;
@@ -62,12 +66,13 @@ public class SimpleDigitalSkin extends GaugeSkinBase {
     private Canvas               backgroundCanvas;
     private GraphicsContext      backgroundCtx;
     private Canvas               barCanvas;
-    private GraphicsContext      barCtx;
+    private SegmentedBar         bar;
     private Text                 titleText;
     private Text                 valueBkgText;
     private Text                 valueText;
     private AngleConicalGradient gradient;
     private Rectangle            gradientRect;
+    private ImagePattern         gradientPattern;
     private boolean              gradientNeedsRefresh;
     private Color                barBackgroundColor;
     private Color                barColor;
@@ -106,7 +111,7 @@ public class SimpleDigitalSkin extends GaugeSkinBase {
         thresholdVisible     = gauge.isThresholdVisible();
         thresholdColor       = gauge.getThresholdColor();
         decimalListener      = o -> handleEvents("DECIMALS");
-        currentValueListener = o -> setBar(gauge.getCurrentValue());
+        currentValueListener = scheduledListener(() -> setBar(gauge.getCurrentValue()));
         gradientNeedsRefresh = true;
 
         initGraphics();
@@ -134,7 +139,7 @@ public class SimpleDigitalSkin extends GaugeSkinBase {
         backgroundCtx    = backgroundCanvas.getGraphicsContext2D();
 
         barCanvas = new Canvas(PREFERRED_WIDTH, PREFERRED_HEIGHT);
-        barCtx    = barCanvas.getGraphicsContext2D();
+        bar       = new SegmentedBar(barCanvas, 28, 10);
 
         titleText = new Text(gauge.getTitle());
         titleText.setFill(gauge.getTitleColor());
@@ -201,55 +206,32 @@ public class SimpleDigitalSkin extends GaugeSkinBase {
 
     // ******************** Canvas ********************************************
     private void setBar(final double VALUE) {
-        barCtx.clearRect(0, 0, size, size);
-        barCtx.setLineCap(StrokeLineCap.BUTT);
+        Paint barPaint;
         if (gauge.isGradientBarEnabled()) {
-            barCtx.setStroke(gradient.getImagePattern(gradientRect));
+            if (null == gradientPattern) { gradientPattern = gradient.getImagePattern(gradientRect); }
+            barPaint = gradientPattern;
         } else {
-            barCtx.setStroke(barColor);
+            barPaint = barColor;
         }
-        barCtx.setLineWidth(barWidth);
 
         if (sectionsVisible) {
             int listSize = sections.size();
             for (int i = 0 ; i < listSize ;i++) {
                 Section section = sections.get(i);
                 if (section.contains(VALUE)) {
-                    barCtx.setStroke(section.getColor());
+                    barPaint = section.getColor();
                     break;
                 }
             }
         }
 
         if (thresholdVisible && VALUE > gauge.getThreshold()) {
-            barCtx.setStroke(thresholdColor);
+            barPaint = thresholdColor;
         }
 
-        double v             = (VALUE - minValue) * angleStep;
-        int    minValueAngle = (int) (-minValue * angleStep);
-        if (!isStartFromZero) {
-            for (int i = 0; i < 280; i++) {
-                if (i % 10 == 0 && i < v) {
-                    barCtx.strokeArc(barWidth * 0.5 + barWidth * 0.1, barWidth * 0.5 + barWidth * 0.1, size - barWidth - barWidth * 0.2, size - barWidth - barWidth * 0.2, (-i - 139), arcExtend, ArcType.OPEN);
-                }
-            }
-        } else {
-            if (Double.compare(VALUE, 0) != 0) {
-                if (VALUE < 0) {
-                    for (int i = Math.min(minValueAngle, 280) - 1; i >= 0; i--) {
-                        if (i % 10 == 0 && i > v - 10) {
-                            barCtx.strokeArc(barWidth * 0.5 + barWidth * 0.1, barWidth * 0.5 + barWidth * 0.1, size - barWidth - barWidth * 0.2, size - barWidth - barWidth * 0.2, (-i - 139), arcExtend, ArcType.OPEN);
-                        }
-                    }
-                } else {
-                    for (int i = Math.max(minValueAngle, 0) - 5; i < 280; i++) {
-                        if (i % 10 == 0 && i < v) {
-                            barCtx.strokeArc(barWidth * 0.5 + barWidth * 0.1, barWidth * 0.5 + barWidth * 0.1, size - barWidth - barWidth * 0.2, size - barWidth - barWidth * 0.2, (-i - 139), arcExtend, ArcType.OPEN);
-                        }
-                    }
-                }
-            }
-        }
+        bar.setGeometry(barWidth * 0.5 + barWidth * 0.1, barWidth * 0.5 + barWidth * 0.1, size - barWidth - barWidth * 0.2, barWidth, -139, arcExtend);
+        final long START = Metrics.start();
+        if (bar.setValue(VALUE, (VALUE - minValue) * angleStep, (int) (-minValue * angleStep), isStartFromZero, barPaint)) { record(Metrics.Type.CANVAS_REDRAW, START); }
         valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), VALUE));
         valueText.setLayoutX(valueBkgText.getLayoutBounds().getMaxX() - valueText.getLayoutBounds().getWidth());
     }
@@ -313,8 +295,9 @@ public class SimpleDigitalSkin extends GaugeSkinBase {
         List<Stop>         stops        = gauge.getGradientBarStops();
         Map<Double, Color> stopAngleMap = new HashMap<>(stops.size());
         for (Stop stop : stops) { stopAngleMap.put(stop.getOffset() * 300, stop.getColor()); }
-        gradient     = new AngleConicalGradient(size * 0.5, size * 0.5, 210, stopAngleMap, gauge.getScaleDirection());
-        gradientRect = new Rectangle(0, 0, size, size);
+        gradient        = new AngleConicalGradient(size * 0.5, size * 0.5, 210, stopAngleMap, gauge.getScaleDirection());
+        gradientRect    = new Rectangle(0, 0, size, size);
+        gradientPattern = null;
 
         gradientNeedsRefresh = false;
     }
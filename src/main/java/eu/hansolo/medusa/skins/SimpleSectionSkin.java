@@ -22,6 +22,7 @@ import eu.hansolo.medusa.Gauge;
 import eu.hansolo.medusa.Gauge.ScaleDirection;
 import eu.hansolo.medusa.Section;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.TextMeasurer;
 import java.util.List;
 import javafx.beans.InvalidationListener;
 import javafx.scene.CacheHint;
@@ -62,7 +63,7 @@ public class SimpleSectionSkin extends GaugeSkinBase {
         if (gauge.isAutoScale()) gauge.calcAutoScale();
         sections             = gauge.getSections();
         decimalListener      = o -> handleEvents("DECIMALS");
-        currentValueListener = o -> setBar(gauge.getCurrentValue());
+        currentValueListener = scheduledListener(() -> setBar(gauge.getCurrentValue()));
 
         initGraphics();
         registerListeners();
@@ -190,7 +191,7 @@ public class SimpleSectionSkin extends GaugeSkinBase {
         }
 
         valueText.setText(formatNumber(gauge.getLocale(), gauge.getFormatString(), gauge.getDecimals(), VALUE));
-        valueText.setLayoutX((size - valueText.getLayoutBounds().getWidth()) * 0.5);
+        valueText.setLayoutX((size - TextMeasurer.getWidth(valueText.getFont(), valueText.getText())) * 0.5);
 
     }
 
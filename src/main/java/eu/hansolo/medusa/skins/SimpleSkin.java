@@ -94,7 +94,7 @@ public class SimpleSkin extends GaugeSkinBase {
         minValue             = gauge.getMinValue();
         maxValue             = gauge.getMaxValue();
         sectionListener      = c -> handleEvents("RESIZE");
-        currentValueListener = o -> rotateNeedle(gauge.getCurrentValue());
+        currentValueListener = scheduledListener(() -> rotateNeedle(gauge.getCurrentValue()));
 
         initGraphics();
         registerListeners();
@@ -107,7 +107,7 @@ public class SpaceXSkin extends GaugeSkinBase {
         angleStep            = ANGLE_RANGE / range;
         minValue             = gauge.getMinValue();
         currentValueAngle    = 0;
-        currentValueListener = o -> setBar(gauge.getCurrentValue());
+        currentValueListener = scheduledListener(() -> setBar(gauge.getCurrentValue()));
 
         initGraphics();
         registerListeners();
@@ -115,7 +115,7 @@ public class TileKpiSkin extends GaugeSkinBase {
         highlightSections    = gauge.isHighlightSections();
         sections             = gauge.getSections();
         sectionMap           = new HashMap<>(sections.size());
-        currentValueListener = o -> rotateNeedle(gauge.getCurrentValue());
+        currentValueListener = scheduledListener(() -> rotateNeedle(gauge.getCurrentValue()));
         for(Section section : sections) { sectionMap.put(section, new Arc()); }
 
         initGraphics();
@@ -20,6 +20,8 @@ package eu.hansolo.medusa.skins;
 import eu.hansolo.medusa.Fonts;
 import eu.hansolo.medusa.Gauge;
 import eu.hansolo.medusa.tools.Helper;
+import eu.hansolo.medusa.tools.HistoryStore;
+import eu.hansolo.medusa.tools.MinMaxBuckets;
 import eu.hansolo.medusa.tools.Statistics;
 import javafx.beans.InvalidationListener;
 import javafx.geometry.Insets;
@@ -46,8 +48,7 @@ import javafx.scene.text.Text;
 import javafx.util.Pair;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.LinkedList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 
@@ -83,7 +84,11 @@ public class TileSparklineSkin extends GaugeSkinBase {
     private              String               formatString;
     private              Locale               locale;
     private              int                  noOfDatapoints;
-    private              List<Double>         dataList;
+    private              MinMaxBuckets        dataBuckets;
+    private              double[]             pointsX;
+    private              double[]             pointsY;
+    private              int                  shownPoints;
+    private              HistoryStore         historyStore;
     private              InvalidationListener currentValueListener;
     private              InvalidationListener averagingListener;
 
@@ -101,13 +106,17 @@ public class TileSparklineSkin extends GaugeSkinBase {
         formatString         = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f").toString();
         locale               = gauge.getLocale();
         noOfDatapoints       = gauge.getAveragingPeriod();
-        dataList             = new LinkedList<>();
+        dataBuckets          = new MinMaxBuckets(noOfDatapoints);
+        pointsX              = new double[0];
+        pointsY              = new double[0];
+        shownPoints          = 0;
         currentValueListener = o -> handleEvents("CURRENT_VALUE");
         averagingListener    = o -> handleEvents("AVERAGING_PERIOD");
-        for (int i = 0; i < noOfDatapoints; i++) { dataList.add(minValue); }
+        dataBuckets.add(minValue, noOfDatapoints);
 
         // To get smooth lines in the chart we need at least 4 values
         if (noOfDatapoints < 4) throw new IllegalArgumentException("Please increase the averaging period to a value larger than 3.");
+        fillFromHistory();
 
         initGraphics();
         registerListeners();
@@ -164,12 +173,10 @@ public class TileSparklineSkin extends GaugeSkinBase {
         averageLine.getStrokeDashArray().addAll(PREFERRED_WIDTH * 0.005, PREFERRED_WIDTH * 0.005);
         Helper.enableNode(averageLine, gauge.isAverageVisible());
 
-        pathElements = new ArrayList<>(noOfDatapoints);
+        pathElements = new ArrayList<>();
         pathElements.add(0, new MoveTo());
-        for (int i = 1 ; i < noOfDatapoints ; i++) { pathElements.add(i, new LineTo()); }
 
         sparkLine = new Path();
-        sparkLine.getElements().addAll(pathElements);
         sparkLine.setFill(null);
         sparkLine.setStroke(gauge.getBarColor());
         sparkLine.setStrokeWidth(PREFERRED_WIDTH * 0.0075);
@@ -200,6 +207,7 @@ public class TileSparklineSkin extends GaugeSkinBase {
             minValue = gauge.getMinValue();
             maxValue = gauge.getMaxValue();
             range    = gauge.getRange();
+            if (gauge.getHistoryStore() != historyStore) { fillFromHistory(); }
             redraw();
         } else if ("VISIBILITY".equals(EVENT_TYPE)) {
             Helper.enableNode(titleText, !gauge.getTitle().isEmpty());
@@ -224,31 +232,89 @@ public class TileSparklineSkin extends GaugeSkinBase {
             drawChart(value);
         } else if ("AVERAGING_PERIOD".equals(EVENT_TYPE)) {
             noOfDatapoints = gauge.getAveragingPeriod();
-            dataList.clear();
             // To get smooth lines in the chart we need at least 4 values
             if (noOfDatapoints < 4) throw new IllegalArgumentException("Please increase the averaging period to a value larger than 3.");
-            for (int i = 0; i < noOfDatapoints; i++) { dataList.add(minValue); }
-            pathElements.clear();
-            pathElements.add(0, new MoveTo());
-            for (int i = 1 ; i < noOfDatapoints ; i++) { pathElements.add(i, new LineTo()); }
-            sparkLine.getElements().setAll(pathElements);
+            dataBuckets = new MinMaxBuckets(noOfDatapoints);
+            dataBuckets.add(minValue, noOfDatapoints);
+            fillFromHistory();
             redraw();
         }
     }
 
+    // shows the latest values of the history store of the gauge (if any)
+    private void fillFromHistory() {
+        historyStore = gauge.getHistoryStore();
+        if (null == historyStore) { return; }
+        final int SIZE = historyStore.size();
+        for (int i = Math.max(0, SIZE - noOfDatapoints) ; i < SIZE ; i++) { dataBuckets.add(clamp(minValue, maxValue, historyStore.getValue(i))); }
+        stdDeviation = dataBuckets.getStdDev();
+    }
+
     private void addData(final double VALUE) {
-        if (dataList.size() <= noOfDatapoints) {
-            Collections.rotate(dataList, -1);
-            dataList.set((noOfDatapoints - 1), VALUE);
-        } else {
-            dataList.add(VALUE);
+        dataBuckets.add(VALUE);
+        stdDeviation = dataBuckets.getStdDev();
+    }
+
+    /**
+     * Reduces the data points to at most one min- and one max-point per
+     * pixel of the graph width (in the order they have been added), so the
+     * number of path elements depends on the width of the tile and not on
+     * the averaging period. As long as there are less data points than
+     * pixels every data point will be drawn.
+     * @return the number of points in pointsX and pointsY
+     */
+    private int downsample(final double MIN_X, final double WIDTH, final double MAX_Y, final double STEP_Y) {
+        final int    BUCKETS = dataBuckets.getBucketCount();
+        final int    GROUP   = Math.max(1, (int) Math.ceil(BUCKETS / Math.max(1, WIDTH)));
+        final long   FIRST   = dataBuckets.getStartSeq(0);
+        final long   LAST    = dataBuckets.getSeq() - 1;
+        final double STEP_X  = WIDTH / Math.max(1, LAST - FIRST);
+        final int    MAX     = 2 * ((BUCKETS + GROUP - 1) / GROUP) + 1;
+        if (pointsX.length < MAX) {
+            pointsX = new double[MAX];
+            pointsY = new double[MAX];
+        }
+        int  points  = 0;
+        long lastSeq = -1;
+        for (int b = 0 ; b < BUCKETS ; b += GROUP) {
+            double groupMin    = Double.MAX_VALUE;
+            double groupMax    = -Double.MAX_VALUE;
+            long   groupMinSeq = 0;
+            long   groupMaxSeq = 0;
+            for (int i = b, n = Math.min(BUCKETS, b + GROUP) ; i < n ; i++) {
+                if (dataBuckets.getMin(i) < groupMin) {
+                    groupMin    = dataBuckets.getMin(i);
+                    groupMinSeq = dataBuckets.getMinSeq(i);
+                }
+                if (dataBuckets.getMax(i) > groupMax) {
+                    groupMax    = dataBuckets.getMax(i);
+                    groupMaxSeq = dataBuckets.getMaxSeq(i);
+                }
+            }
+            if (Double.compare(groupMin, groupMax) == 0) {
+                lastSeq = groupMinSeq;
+                pointsX[points]   = MIN_X + (groupMinSeq - FIRST) * STEP_X;
+                pointsY[points++] = MAX_Y - Math.abs(low - groupMin) * STEP_Y;
+            } else {
+                final boolean MIN_FIRST = groupMinSeq < groupMaxSeq;
+                lastSeq = Math.max(groupMinSeq, groupMaxSeq);
+                pointsX[points]   = MIN_X + ((MIN_FIRST ? groupMinSeq : groupMaxSeq) - FIRST) * STEP_X;
+                pointsY[points++] = MAX_Y - Math.abs(low - (MIN_FIRST ? groupMin : groupMax)) * STEP_Y;
+                pointsX[points]   = MIN_X + ((MIN_FIRST ? groupMaxSeq : groupMinSeq) - FIRST) * STEP_X;
+                pointsY[points++] = MAX_Y - Math.abs(low - (MIN_FIRST ? groupMax : groupMin)) * STEP_Y;
+            }
         }
-        stdDeviation = Statistics.getStdDev(dataList);
+        // the line always ends with the latest value
+        if (lastSeq != LAST) {
+            pointsX[points]   = MIN_X + WIDTH;
+            pointsY[points++] = MAX_Y - Math.abs(low - dataBuckets.getLast()) * STEP_Y;
+        }
+        return points;
     }
 
     private void drawChart(final double VALUE) {
-        low  = Statistics.getMin(dataList);
-        high = Statistics.getMax(dataList);
+        low  = dataBuckets.getMin();
+        high = dataBuckets.getMax();
         if (Double.compare(low, high) == 0) {
             low  = minValue;
             high = maxValue;
@@ -259,26 +325,28 @@ public class TileSparklineSkin extends GaugeSkinBase {
         double maxX  = minX + graphBounds.getWidth();
         double minY  = graphBounds.getY();
         double maxY  = minY + graphBounds.getHeight();
-        double stepX = graphBounds.getWidth() / (noOfDatapoints - 1);
         double stepY = graphBounds.getHeight() / range;
 
-        if (gauge.isSmoothing()) {
-            smooth(dataList);
+        final int POINTS = downsample(minX, graphBounds.getWidth(), maxY, stepY);
+        if (gauge.isSmoothing() && POINTS > 2) {
+            smooth(pointsX, pointsY, POINTS);
+            shownPoints = 0;
         } else {
+            while (pathElements.size() < POINTS) { pathElements.add(new LineTo()); }
             MoveTo begin = (MoveTo) pathElements.get(0);
-            begin.setX(minX);
-            begin.setY(maxY - Math.abs(low - dataList.get(0)) * stepY);
-            for (int i = 1; i < (noOfDatapoints - 1); i++) {
+            begin.setX(pointsX[0]);
+            begin.setY(pointsY[0]);
+            for (int i = 1 ; i < POINTS ; i++) {
                 LineTo lineTo = (LineTo) pathElements.get(i);
-                lineTo.setX(minX + i * stepX);
-                lineTo.setY(maxY - Math.abs(low - dataList.get(i)) * stepY);
+                lineTo.setX(pointsX[i]);
+                lineTo.setY(pointsY[i]);
+            }
+            if (shownPoints != POINTS) {
+                sparkLine.getElements().setAll(pathElements.subList(0, POINTS));
+                shownPoints = POINTS;
             }
-            LineTo end = (LineTo) pathElements.get(noOfDatapoints - 1);
-            end.setX(maxX);
-            end.setY(maxY - Math.abs(low - dataList.get(noOfDatapoints - 1)) * stepY);
-
             dot.setCenterX(maxX);
-            dot.setCenterY(end.getY());
+            dot.setCenterY(pointsY[POINTS - 1]);
         }
 
         double average = gauge.getAverage();
@@ -322,27 +390,32 @@ public class TileSparklineSkin extends GaugeSkinBase {
         range = high - low;
 
         double minX  = graphBounds.getX();
-        double maxX  = minX + graphBounds.getWidth();
         double minY  = graphBounds.getY();
         double maxY  = minY + graphBounds.getHeight();
-        double stepX = graphBounds.getWidth() / (noOfDatapoints - 1);
+        double stepX = graphBounds.getWidth() / (size - 1);
         double stepY = graphBounds.getHeight() / range;
 
         for (int i = 0 ; i < size ; i++) {
             x[i] = minX + i * stepX;
             y[i] = maxY - Math.abs(low - DATA_LIST.get(i)) * stepY;
         }
+        smooth(x, y, size);
+    }
+    private void smooth(final double[] X, final double[] Y, final int SIZE) {
+        final double[] x = Arrays.copyOf(X, SIZE);
+        final double[] y = Arrays.copyOf(Y, SIZE);
 
         Pair<Double[], Double[]> px = computeControlPoints(x);
         Pair<Double[], Double[]> py = computeControlPoints(y);
 
-        sparkLine.getElements().clear();
-        for (int i = 0 ; i < size - 1 ; i++) {
-            sparkLine.getElements().add(new MoveTo(x[i], y[i]));
-            sparkLine.getElements().add(new CubicCurveTo(px.getKey()[i], py.getKey()[i], px.getValue()[i], py.getValue()[i], x[i + 1], y[i + 1]));
+        final List<PathElement> ELEMENTS = new ArrayList<>(2 * (SIZE - 1));
+        for (int i = 0 ; i < SIZE - 1 ; i++) {
+            ELEMENTS.add(new MoveTo(x[i], y[i]));
+            ELEMENTS.add(new CubicCurveTo(px.getKey()[i], py.getKey()[i], px.getValue()[i], py.getValue()[i], x[i + 1], y[i + 1]));
         }
-        dot.setCenterX(maxX);
-        dot.setCenterY(y[size - 1]);
+        sparkLine.getElements().setAll(ELEMENTS);
+        dot.setCenterX(graphBounds.getX() + graphBounds.getWidth());
+        dot.setCenterY(y[SIZE - 1]);
     }
     private Pair<Double[], Double[]> computeControlPoints(final double[] K) {
         int      n  = K.length - 1;
@@ -85,7 +85,7 @@ public class TileTextKpiSkin extends GaugeSkinBase {
         sections             = gauge.getSections();
         sectionsVisible      = gauge.getSectionsVisible();
         barColor             = gauge.getBarColor();
-        currentValueListener = o -> setBar(gauge.getCurrentValue());
+        currentValueListener = scheduledListener(() -> setBar(gauge.getCurrentValue()));
 
         initGraphics();
         registerListeners();
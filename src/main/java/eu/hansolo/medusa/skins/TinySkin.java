@@ -110,7 +110,7 @@ public class TinySkin extends GaugeSkinBase {
         sections             = gauge.getSections();
         formatString         = new StringBuilder("%.").append(Integer.toString(gauge.getDecimals())).append("f").toString();
         locale               = gauge.getLocale();
-        currentValueListener = o -> rotateNeedle(gauge.getCurrentValue());
+        currentValueListener = scheduledListener(() -> rotateNeedle(gauge.getCurrentValue()));
 
         initGraphics();
         registerListeners();
@@ -179,7 +179,7 @@ public class TinySkin extends GaugeSkinBase {
 
     @Override protected void registerListeners() {
         super.registerListeners();
-        gauge.currentValueProperty().addListener(o -> rotateNeedle(gauge.getCurrentValue()));
+        gauge.currentValueProperty().addListener(currentValueListener);
     }
 
 
@@ -207,7 +207,7 @@ public class TinySkin extends GaugeSkinBase {
     }
 
     @Override public void dispose() {
-        gauge.currentValueProperty().removeListener(o -> rotateNeedle(gauge.getCurrentValue()));
+        gauge.currentValueProperty().removeListener(currentValueListener);
         super.dispose();
     }
 
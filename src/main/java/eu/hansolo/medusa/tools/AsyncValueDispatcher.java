@@ -0,0 +1,155 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleConsumer;
+
+
+/**
+ * Transfers values from arbitrary threads to the FX application thread.
+ * Each target (e.g. a gauge) owns one Slot that holds only the latest
+ * value, writing to a slot never blocks. Only the first write after a
+ * drain queues the slot (which allocates one node in the global queue),
+ * further writes to a queued slot just replace the value without any
+ * allocation.
+ * The queued slots of all targets (multiple producers, one consumer)
+ * are drained by an AnimationTimer exactly once per pulse, so no matter
+ * how many values are written by how many threads every target will be
+ * updated at most once per frame. The timer stops itself after
+ * {@value #IDLE_PULSES} pulses without queued slots and will be started
+ * again by the next write.
+ *
+ * Memory model: the value is stored in a volatile field before the slot
+ * is queued, and the FX thread marks the slot as not queued before it
+ * reads the value. So everything a producer thread did before it wrote
+ * a value happens-before the consumer is called with that value (or a
+ * newer one), and a value that is written while the slot is drained
+ * will always lead to another drain. Intermediate values that have been
+ * overwritten before the slot was drained will be skipped, the latest
+ * value always wins.
+ */
+public final class AsyncValueDispatcher {
+    private static final int            IDLE_PULSES  = 60;
+    private static final Queue<Slot>    QUEUED       = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger  QUEUED_COUNT = new AtomicInteger();
+    private static final AtomicBoolean  SCHEDULED    = new AtomicBoolean(false);
+    private static       AnimationTimer timer;     // only accessed on the FX application thread
+    private static       int            idlePulses;
+
+
+    // ******************** Constructors **************************************
+    private AsyncValueDispatcher() {}
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns the number of slots that are waiting to be drained.
+     * @return the number of slots that are waiting to be drained
+     */
+    public static int getQueuedCount() { return QUEUED_COUNT.get(); }
+
+    private static void schedule(final Slot SLOT) {
+        // count first, so the count is never lower than the number of queued slots
+        QUEUED_COUNT.incrementAndGet();
+        QUEUED.add(SLOT);
+        if (SCHEDULED.compareAndSet(false, true)) {
+            if (Platform.isFxApplicationThread()) {
+                start();
+            } else {
+                Platform.runLater(AsyncValueDispatcher::start);
+            }
+        }
+    }
+
+    private static void start() {
+        if (null == timer) {
+            timer = new AnimationTimer() {
+                @Override public void handle(final long NOW) { pulse(); }
+            };
+        }
+        idlePulses = 0;
+        timer.start();
+    }
+
+    private static void pulse() {
+        if (drain() > 0) {
+            idlePulses = 0;
+            return;
+        }
+        if (++idlePulses < IDLE_PULSES) { return; }
+        // stop before the flag is reset, a slot that is queued in between will restart the timer
+        timer.stop();
+        SCHEDULED.set(false);
+        if (!QUEUED.isEmpty() && SCHEDULED.compareAndSet(false, true)) { start(); }
+    }
+
+    private static int drain() {
+        // only the slots that were queued before the drain started, a slot that is queued while draining will be drained on the next pulse
+        final int COUNT = QUEUED_COUNT.get();
+        int       drained;
+        Slot      slot;
+        for (drained = 0 ; drained < COUNT && null != (slot = QUEUED.poll()) ; drained++) {
+            QUEUED_COUNT.decrementAndGet();
+            slot.queued.set(false);
+            slot.consumer.accept(Double.longBitsToDouble(slot.bits.get()));
+        }
+        return drained;
+    }
+
+
+    // ******************** Inner Classes *************************************
+    /**
+     * Holds the latest value of one target. The consumer will be called on
+     * the FX application thread.
+     */
+    public static final class Slot {
+        private final DoubleConsumer consumer;
+        private final AtomicLong     bits;
+        private final AtomicBoolean  queued;
+
+
+        // ******************** Constructors **********************************
+        public Slot(final DoubleConsumer CONSUMER) {
+            consumer = CONSUMER;
+            bits     = new AtomicLong();
+            queued   = new AtomicBoolean(false);
+        }
+
+
+        // ******************** Methods ***************************************
+        /**
+         * Stores the given value and makes sure the slot will be drained on
+         * the FX application thread. Can be called from any thread.
+         * @param VALUE
+         */
+        public void set(final double VALUE) {
+            bits.set(Double.doubleToRawLongBits(VALUE));
+            if (queued.compareAndSet(false, true)) { schedule(this); }
+        }
+
+        public boolean isQueued() { return queued.get(); }
+    }
+}
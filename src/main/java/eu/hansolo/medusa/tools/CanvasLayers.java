@@ -0,0 +1,258 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import javafx.beans.InvalidationListener;
+import javafx.scene.CacheHint;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+
+/**
+ * Keeps track of the canvas layers of a skin and repaints only the layers
+ * that have been invalidated. Each layer declares the triggers it depends
+ * on (e.g. a tick mark layer depends on RESIZE and STYLE but not on VALUE),
+ * invalidate() marks all layers with the given trigger as dirty and
+ * render() repaints the dirty layers. A layer will also be marked as dirty
+ * if the size of its canvas changes.
+ * Because an event like REDRAW does not tell which property changed, a
+ * layer can define a key per trigger (see Layer.setKey()), e.g. the tick
+ * mark settings for STYLE. Such a trigger only repaints the layer if its
+ * key changed since the last repaint, so a title or LCD change does not
+ * repaint the tick marks.
+ * STATIC layers are cached as bitmaps (CacheHint.QUALITY) between two
+ * repaints, DYNAMIC layers are never cached.
+ * The number of repaints is counted per layer, the duration of each
+ * repaint is recorded as CANVAS_REDRAW in the metrics of the control.
+ */
+public final class CanvasLayers {
+    public enum Kind { STATIC, DYNAMIC }
+    public enum Trigger { RESIZE, SECTION, STYLE, VALUE }
+
+    private final Supplier<Metrics> metrics;
+    private final List<Layer>       layers;
+
+
+    // ******************** Constructors **************************************
+    public CanvasLayers(final Supplier<Metrics> METRICS) {
+        metrics = METRICS;
+        layers  = new ArrayList<>(4);
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Adds a layer that will be painted by the given painter. The canvas
+     * will be cleared before the painter is called.
+     * @param NAME the name of the layer (used for the redraw counts)
+     * @param CANVAS the canvas the layer will be painted on
+     * @param KIND STATIC layers will be cached as bitmap
+     * @param PAINTER paints the layer on the given graphics context
+     * @param TRIGGERS the triggers that invalidate the layer
+     * @return the added layer
+     */
+    public Layer add(final String NAME, final Canvas CANVAS, final Kind KIND, final Consumer<GraphicsContext> PAINTER, final Trigger... TRIGGERS) {
+        Layer layer = new Layer(NAME, CANVAS, KIND, PAINTER, TRIGGERS);
+        layers.add(layer);
+        return layer;
+    }
+
+    /**
+     * Marks all layers that depend on the given trigger as dirty.
+     * @param TRIGGER
+     */
+    public void invalidate(final Trigger TRIGGER) {
+        for (Layer layer : layers) { if (layer.triggers.contains(TRIGGER)) { layer.invalidate(TRIGGER); } }
+    }
+
+    public void invalidateAll() { layers.forEach(Layer::invalidate); }
+
+    /**
+     * Repaints all dirty layers. Layers with a canvas of size zero stay
+     * dirty until they have a size.
+     */
+    public void render() {
+        for (Layer layer : layers) { if (layer.dirty || !layer.keyChecks.isEmpty()) { layer.render(); } }
+    }
+
+    /**
+     * Marks all layers that depend on the given trigger as dirty and
+     * repaints all dirty layers.
+     * @param TRIGGER
+     */
+    public void update(final Trigger TRIGGER) {
+        invalidate(TRIGGER);
+        render();
+    }
+
+    public boolean isEmpty() { return layers.isEmpty(); }
+
+    public long getRedrawCount(final String NAME) {
+        for (Layer layer : layers) { if (layer.name.equals(NAME)) { return layer.redraws; } }
+        return 0;
+    }
+
+    /**
+     * Returns the number of repaints per layer in the order the layers
+     * have been added.
+     * @return the number of repaints per layer
+     */
+    public Map<String, Long> getRedrawCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>(layers.size());
+        for (Layer layer : layers) { counts.put(layer.name, layer.redraws); }
+        return counts;
+    }
+
+    public void resetRedrawCounts() { layers.forEach(layer -> layer.redraws = 0); }
+
+    /**
+     * Removes all layers and the listeners from their canvases.
+     */
+    public void dispose() {
+        layers.forEach(Layer::dispose);
+        layers.clear();
+    }
+
+    @Override public String toString() {
+        StringBuilder builder = new StringBuilder("CanvasLayers");
+        for (Layer layer : layers) {
+            builder.append("\n  ").append(layer.name).append(" (").append(layer.kind).append(", ").append(layer.triggers).append("): ").append(layer.redraws).append(" redraws");
+        }
+        return builder.toString();
+    }
+
+
+    // ******************** Inner Classes *************************************
+    public final class Layer {
+        private final String                    name;
+        private final Canvas                    canvas;
+        private final Kind                      kind;
+        private final Consumer<GraphicsContext> painter;
+        private final Set<Trigger>              triggers;
+        private final Map<Trigger, Supplier<?>> keys;
+        private final Map<Trigger, Object>      lastKeys;
+        private final Set<Trigger>              keyChecks;
+        private final InvalidationListener      sizeListener;
+        private       boolean                   dirty;
+        private       long                      redraws;
+
+
+        // ******************** Constructors **************************************
+        private Layer(final String NAME, final Canvas CANVAS, final Kind KIND, final Consumer<GraphicsContext> PAINTER, final Trigger... TRIGGERS) {
+            name         = NAME;
+            canvas       = CANVAS;
+            kind         = KIND;
+            painter      = PAINTER;
+            triggers     = TRIGGERS.length == 0 ? EnumSet.noneOf(Trigger.class) : EnumSet.of(TRIGGERS[0], TRIGGERS);
+            keys         = new EnumMap<>(Trigger.class);
+            lastKeys     = new EnumMap<>(Trigger.class);
+            keyChecks    = EnumSet.noneOf(Trigger.class);
+            sizeListener = o -> dirty = true;
+            dirty        = true;
+            canvas.widthProperty().addListener(sizeListener);
+            canvas.heightProperty().addListener(sizeListener);
+        }
+
+
+        // ******************** Methods *******************************************
+        public String getName() { return name; }
+
+        public Canvas getCanvas() { return canvas; }
+
+        public Kind getKind() { return kind; }
+
+        public boolean isDirty() { return dirty; }
+
+        public long getRedrawCount() { return redraws; }
+
+        /**
+         * Defines the state the layer depends on for the given trigger. If
+         * the trigger fires, the layer will only be repainted if the key
+         * (compared with equals()) differs from the key of the last repaint.
+         * The key is read in render(), so it may use the state of the skin
+         * that is updated in redraw(). Keys must not be live collections,
+         * copy them instead.
+         * @param TRIGGER
+         * @param KEY
+         * @return this layer
+         */
+        public Layer setKey(final Trigger TRIGGER, final Supplier<?> KEY) {
+            keys.put(TRIGGER, KEY);
+            return this;
+        }
+
+        public void invalidate() { dirty = true; }
+
+        private void invalidate(final Trigger TRIGGER) {
+            if (keys.containsKey(TRIGGER)) {
+                keyChecks.add(TRIGGER);
+            } else {
+                dirty = true;
+            }
+        }
+
+        private void render() {
+            if (!dirty) {
+                for (Trigger trigger : keyChecks) {
+                    if (!Objects.equals(keys.get(trigger).get(), lastKeys.get(trigger))) {
+                        dirty = true;
+                        break;
+                    }
+                }
+                keyChecks.clear();
+                if (!dirty) { return; }
+            }
+            final double WIDTH  = canvas.getWidth();
+            final double HEIGHT = canvas.getHeight();
+            if (WIDTH <= 0 || HEIGHT <= 0) { return; }
+            keyChecks.clear();
+            for (Map.Entry<Trigger, Supplier<?>> entry : keys.entrySet()) { lastKeys.put(entry.getKey(), entry.getValue().get()); }
+            final long START = Metrics.start();
+            if (Kind.STATIC == kind) { canvas.setCache(false); }
+            GraphicsContext ctx = canvas.getGraphicsContext2D();
+            ctx.clearRect(0, 0, WIDTH, HEIGHT);
+            painter.accept(ctx);
+            if (Kind.STATIC == kind) {
+                canvas.setCache(true);
+                canvas.setCacheHint(CacheHint.QUALITY);
+            }
+            dirty = false;
+            redraws++;
+            if (0 != START && null != metrics) {
+                Metrics m = metrics.get();
+                if (null != m) { m.record(Metrics.Type.CANVAS_REDRAW, START); }
+            }
+        }
+
+        private void dispose() {
+            canvas.widthProperty().removeListener(sizeListener);
+            canvas.heightProperty().removeListener(sizeListener);
+        }
+    }
+}
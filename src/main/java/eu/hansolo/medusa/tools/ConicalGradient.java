@@ -124,12 +124,9 @@ public class ConicalGradient {
         int calculatedStopsLength = sortedStops.size() - 1;
         for (int y = 0; y < height; y++) {
             for (int x = 0; x < width; x++) {
-                double dx       = x - centerX;
-                double dy       = y - centerY;
-                double distance = Math.sqrt((dx * dx) + (dy * dy));
-                distance = Double.compare(distance, 0) == 0 ? 1 : distance;
-
-                double angle = adjustAngle(dx, dy, Math.abs(Math.toDegrees(Math.acos(dx / distance))));
+                double dx    = x - centerX;
+                double dy    = y - centerY;
+                double angle = adjustAngle(dx, dy, Math.abs(Trig.atan2Deg(dy, dx)));
 
                 for (int i = 0; i < calculatedStopsLength; i++) {
                     double offsetI      = (sortedStops.get(i).getOffset() * 360.0);
@@ -164,7 +161,7 @@ public class ConicalGradient {
                 double distance = Math.sqrt((dx * dx) + (dy * dy));
                 distance = Double.compare(distance, 0) == 0 ? 1 : distance;
 
-                double angle         = adjustAngle(dx, dy, Math.abs(Math.toDegrees(Math.acos(dx / distance))));
+                double angle         = adjustAngle(dx, dy, Math.abs(Trig.atan2Deg(dy, dx)));
                 double radiusMinus05 = radius - 0.25;
                 double radiusMinus10 = radius - 0.5;
                 double radiusMinus15 = radius - 1.0;
@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+/**
+ * An average with O(1) memory that does not store the samples.
+ * Three variants are supported:
+ * - per sample: average += ALPHA * (value - average)
+ * - per time: like per sample but ALPHA depends on the time since the
+ *   last sample, so a sample loses half of its weight within HALF_LIFE
+ *   no matter how many samples arrive in that time
+ * - time weighted: every value is weighted by the time it was the
+ *   current value (sample and hold), which is the right average for
+ *   irregularly spaced samples. The latest value is weighted up to now.
+ * The timestamps are nanoseconds of any monotonic clock (e.g.
+ * System.nanoTime()), adding a sample does not allocate.
+ */
+public class ExponentialAverage {
+    private static final double  LN2 = Math.log(2);
+    private        final double  alpha;
+    private        final long    halfLifeNanos;
+    private        final boolean timeWeighted;
+    private              double  average;
+    private              double  lastValue;
+    private              long    lastNanos;
+    private              boolean empty;
+
+
+    // ******************** Constructors **************************************
+    /**
+     * Creates an exponential moving average with a fixed weight per sample.
+     * @param ALPHA the weight of a new sample (0 < ALPHA <= 1), e.g. 2 / (period + 1)
+     */
+    public ExponentialAverage(final double ALPHA) {
+        if (ALPHA <= 0 || ALPHA > 1) { throw new IllegalArgumentException("Alpha must be in the range of (0, 1]"); }
+        alpha         = ALPHA;
+        halfLifeNanos = 0;
+        timeWeighted  = false;
+        empty         = true;
+    }
+    /**
+     * Creates an exponential moving average that decays with the given
+     * half-life.
+     * @param HALF_LIFE_NANOS
+     * @param TIME_WEIGHTED if true every value will be weighted by the time it was the current value
+     */
+    public ExponentialAverage(final long HALF_LIFE_NANOS, final boolean TIME_WEIGHTED) {
+        if (HALF_LIFE_NANOS <= 0) { throw new IllegalArgumentException("Half-life must be positive"); }
+        alpha         = 0;
+        halfLifeNanos = HALF_LIFE_NANOS;
+        timeWeighted  = TIME_WEIGHTED;
+        empty         = true;
+    }
+
+
+    // ******************** Methods *******************************************
+    public void add(final double VALUE, final long NANOS) {
+        if (empty) {
+            average   = VALUE;
+            lastValue = VALUE;
+            lastNanos = NANOS;
+            empty     = false;
+            return;
+        }
+        if (0 == halfLifeNanos) {
+            average += alpha * (VALUE - average);
+        } else {
+            average += weight(NANOS - lastNanos) * ((timeWeighted ? lastValue : VALUE) - average);
+        }
+        lastValue = VALUE;
+        lastNanos = NANOS;
+    }
+
+    /**
+     * Returns the average, 0 if no sample has been added.
+     * @return the average
+     */
+    public double getAverage() { return getAverage(System.nanoTime()); }
+    /**
+     * Returns the average at the given time, for the time weighted
+     * average the latest value is weighted up to this time.
+     * @param NANOS
+     * @return the average at the given time
+     */
+    public double getAverage(final long NANOS) {
+        if (empty) { return 0; }
+        return timeWeighted ? average + weight(NANOS - lastNanos) * (lastValue - average) : average;
+    }
+
+    public boolean isEmpty() { return empty; }
+
+    public void reset() { empty = true; }
+
+    /**
+     * Returns the peak (e.g. the maxMeasuredValue) after it decayed towards
+     * the given value for the given time with the given half-life. Use
+     * max(VALUE, decayPeak(...)) for an upper and min(VALUE, decayPeak(...))
+     * for a lower peak (peak hold with decay).
+     * @param PEAK
+     * @param VALUE
+     * @param DT_NANOS
+     * @param HALF_LIFE_NANOS
+     * @return the decayed peak
+     */
+    public static double decayPeak(final double PEAK, final double VALUE, final long DT_NANOS, final long HALF_LIFE_NANOS) {
+        return VALUE + (PEAK - VALUE) * Math.exp(-Math.max(0, DT_NANOS) * LN2 / HALF_LIFE_NANOS);
+    }
+
+    private double weight(final long DT_NANOS) { return 1 - Math.exp(-Math.max(0, DT_NANOS) * LN2 / halfLifeNanos); }
+}
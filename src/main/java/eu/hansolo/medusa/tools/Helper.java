@@ -23,18 +23,21 @@ import eu.hansolo.medusa.Fonts;
 import eu.hansolo.medusa.Gauge;
 import eu.hansolo.medusa.Gauge.ScaleDirection;
 import eu.hansolo.medusa.Gauge.SkinType;
+import eu.hansolo.medusa.RenderingProfile;
 import eu.hansolo.medusa.Section;
 import eu.hansolo.medusa.TickLabelLocation;
 import eu.hansolo.medusa.TickLabelOrientation;
 import eu.hansolo.medusa.TickMarkType;
 import eu.hansolo.medusa.TimeSection;
 import javafx.geometry.VPos;
+import javafx.scene.CacheHint;
 import javafx.scene.Node;
 import javafx.scene.SnapshotParameters;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Label;
 import javafx.scene.control.Tooltip;
+import javafx.scene.effect.Effect;
 import javafx.scene.image.Image;
 import javafx.scene.image.PixelWriter;
 import javafx.scene.image.WritableImage;
@@ -56,6 +59,7 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.FormatStyle;
 import java.time.temporal.ChronoField;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
@@ -73,6 +77,7 @@ public class Helper {
     public static final double MAX_TICK_MARK_WIDTH  = 0.02;
     public static final Color  INACTIVE_ALARM_COLOR = Color.rgb(90, 90, 90, 0.5);
     public static final double MIN_FONT_SIZE        = 5;
+    private static final String QUALITY_CACHE_KEY   = "medusa.qualityCache";
 
 
     public static final <T extends Number> T clamp(final T MIN, final T MAX, final T VALUE) {
@@ -274,6 +279,25 @@ public class Helper {
         return DEFAULT_COLOR;
     }
 
+    /**
+     * Returns the start, stop, color and highlight color of the given sections
+     * as a flat list that can be compared with equals(), e.g. to decide if a
+     * canvas that shows the sections has to be repainted.
+     * @param SECTIONS
+     * @return the drawn state of the given sections
+     */
+    public static final List<Object> getSectionsKey(final List<Section> SECTIONS) {
+        List<Object> key = new ArrayList<>(SECTIONS.size() * 4);
+        for (Section section : SECTIONS) { key.addAll(Arrays.asList(section.getStart(), section.getStop(), section.getColor(), section.getHighlightColor())); }
+        return key;
+    }
+
+    public static final List<Object> getTimeSectionsKey(final List<TimeSection> SECTIONS) {
+        List<Object> key = new ArrayList<>(SECTIONS.size() * 4);
+        for (TimeSection section : SECTIONS) { key.addAll(Arrays.asList(section.getStart(), section.getStop(), section.getColor(), section.getHighlightColor())); }
+        return key;
+    }
+
     public static final void rotateContextForText(final GraphicsContext CTX, final double START_ANGLE, final double ANGLE, final TickLabelOrientation ORIENTATION) {
         switch (ORIENTATION) {
             case ORTHOGONAL:
@@ -296,22 +320,52 @@ public class Helper {
         }
     }
 
+    /**
+     * Reduces the font size of the given text until it fits into MAX_WIDTH
+     * (but not below MIN_FONT_SIZE). The width is measured once and the
+     * font size is computed from the ratio of MAX_WIDTH and the measured
+     * width, rounded down to 0.1 steps below FONT_SIZE. Because the width
+     * of a text is not exactly proportional to its font size (hinting) the
+     * result will be verified and reduced by another step if needed.
+     * @param TEXT
+     * @param MAX_WIDTH
+     * @param FONT_SIZE
+     */
     public static final void adjustTextSize(final Text TEXT, final double MAX_WIDTH, final double FONT_SIZE) {
-        final String FONT_NAME          = TEXT.getFont().getName();
-        double       adjustableFontSize = FONT_SIZE;
-        while (TEXT.getLayoutBounds().getWidth() > MAX_WIDTH && adjustableFontSize > MIN_FONT_SIZE) {
-            adjustableFontSize -= 0.1;
-            TEXT.setFont(new Font(FONT_NAME, adjustableFontSize));
+        final String FONT_NAME = TEXT.getFont().getName();
+        final double WIDTH     = TEXT.getLayoutBounds().getWidth();
+        if (WIDTH <= MAX_WIDTH || FONT_SIZE <= MIN_FONT_SIZE) { return; }
+        double fontSize = getFittingFontSize(FONT_SIZE, TEXT.getFont().getSize() * MAX_WIDTH / WIDTH);
+        TEXT.setFont(TextMeasurer.getFont(FONT_NAME, fontSize));
+        for (int i = 0 ; i < 2 && fontSize > MIN_FONT_SIZE && TEXT.getLayoutBounds().getWidth() > MAX_WIDTH ; i++) {
+            fontSize -= 0.1;
+            TEXT.setFont(TextMeasurer.getFont(FONT_NAME, fontSize));
         }
     }
+    /**
+     * Reduces the font size of the given label until its text fits into
+     * MAX_WIDTH (but not below MIN_FONT_SIZE). The width of the text will
+     * be taken from the TextMeasurer, so no layout of the label is needed.
+     * @param TEXT
+     * @param MAX_WIDTH
+     * @param FONT_SIZE
+     */
     public static final void adjustTextSize(final Label TEXT, final double MAX_WIDTH, final double FONT_SIZE) {
-        final String FONT_NAME          = TEXT.getFont().getName();
-        double       adjustableFontSize = FONT_SIZE;
-
-        while (TEXT.getLayoutBounds().getWidth() > MAX_WIDTH && adjustableFontSize > MIN_FONT_SIZE) {
-            adjustableFontSize -= 0.1;
-            TEXT.setFont(new Font(FONT_NAME, adjustableFontSize));
-        }
+        final Font   FONT  = TEXT.getFont();
+        final double WIDTH = TextMeasurer.getWidth(FONT, TEXT.getText()) + TEXT.getInsets().getLeft() + TEXT.getInsets().getRight();
+        if (WIDTH <= MAX_WIDTH || FONT_SIZE <= MIN_FONT_SIZE) { return; }
+        TEXT.setFont(TextMeasurer.getFont(FONT.getName(), getFittingFontSize(FONT_SIZE, FONT.getSize() * MAX_WIDTH / WIDTH)));
+    }
+    /**
+     * Returns the biggest font size of FONT_SIZE - n * 0.1 that is not
+     * bigger than TARGET_SIZE. Like the former iteration in 0.1 steps the
+     * result will stop at the first step that is not bigger than MIN_FONT_SIZE.
+     */
+    private static double getFittingFontSize(final double FONT_SIZE, final double TARGET_SIZE) {
+        final double TARGET = Math.max(TARGET_SIZE, MIN_FONT_SIZE);
+        // the epsilon avoids an extra step due to rounding errors
+        final int    STEPS  = (int) Math.ceil((FONT_SIZE - TARGET) * 10 - 1e-9);
+        return FONT_SIZE - Math.max(1, STEPS) * 0.1;
     }
 
     public static final DateTimeFormatter getDateFormat(final Locale LOCALE) {
@@ -332,6 +386,38 @@ public class Helper {
         NODE.setVisible(ENABLE);
     }
 
+    /**
+     * Applies the given effect to the given node with respect to the
+     * rendering profile. With QUALITY the effect will simply be applied.
+     * With PERFORMANCE nodes that change with the value (DYNAMIC) will get
+     * no effect at all and static nodes will be rendered together with
+     * their effect into a cached bitmap, so the effect will only be
+     * computed again if the node itself changes. Switching back to QUALITY
+     * restores the cache settings the node had before.
+     * @param NODE
+     * @param EFFECT
+     * @param DYNAMIC true if the node changes with the value
+     * @param PROFILE
+     */
+    public static final void applyEffect(final Node NODE, final Effect EFFECT, final boolean DYNAMIC, final RenderingProfile PROFILE) {
+        if (RenderingProfile.PERFORMANCE == PROFILE) {
+            NODE.setEffect(DYNAMIC ? null : EFFECT);
+            if (!DYNAMIC) {
+                // remember the cache settings of the QUALITY profile once
+                NODE.getProperties().putIfAbsent(QUALITY_CACHE_KEY, new Object[] { NODE.isCache(), NODE.getCacheHint() });
+                NODE.setCache(null != EFFECT);
+                NODE.setCacheHint(CacheHint.QUALITY);
+            }
+        } else {
+            NODE.setEffect(EFFECT);
+            final Object[] CACHE = (Object[]) NODE.getProperties().remove(QUALITY_CACHE_KEY);
+            if (null != CACHE) {
+                NODE.setCache((Boolean) CACHE[0]);
+                NODE.setCacheHint((CacheHint) CACHE[1]);
+            }
+        }
+    }
+
     public static final String colorToCss(final Color COLOR) {
         return COLOR.toString().replace("0x", "#");
     }
@@ -682,8 +768,8 @@ public class Helper {
         double angle                  = 0;
         int    customTickLabelCounter = 0;
         for (double i = 0 ; Double.compare(-ANGLE_RANGE - tmpStep, i) <= 0 ; i -= tmpStep) {
-            sinValue = Math.sin(Math.toRadians(angle + START_ANGLE));
-            cosValue = Math.cos(Math.toRadians(angle + START_ANGLE));
+            sinValue = Trig.sinDeg(angle + START_ANGLE);
+            cosValue = Trig.cosDeg(angle + START_ANGLE);
 
             switch(tickLabelLocation) {
                 case OUTSIDE:
@@ -714,40 +800,40 @@ public class Helper {
                     trapezoidMajorInnerAngle2   = Math.toRadians(angle + 1.2 + START_ANGLE);
                     trapezoidMajorOuterAngle1   = Math.toRadians(angle - 0.8 + START_ANGLE);
                     trapezoidMajorOuterAngle2   = Math.toRadians(angle + 0.8 + START_ANGLE);
-                    trapezoidMajorInnerPoint1X  = centerX + SIZE * 0.3585 * Math.sin(trapezoidMajorInnerAngle1);
-                    trapezoidMajorInnerPoint1Y  = centerY + SIZE * 0.3585 * Math.cos(trapezoidMajorInnerAngle1);
-                    trapezoidMajorInnerPoint2X  = centerX + SIZE * 0.3585 * Math.sin(trapezoidMajorInnerAngle2);
-                    trapezoidMajorInnerPoint2Y  = centerY + SIZE * 0.3585 * Math.cos(trapezoidMajorInnerAngle2);
-                    trapezoidMajorOuterPoint1X  = centerX + SIZE * 0.4105 * Math.sin(trapezoidMajorOuterAngle1);
-                    trapezoidMajorOuterPoint1Y  = centerY + SIZE * 0.4105 * Math.cos(trapezoidMajorOuterAngle1);
-                    trapezoidMajorOuterPoint2X  = centerX + SIZE * 0.4105 * Math.sin(trapezoidMajorOuterAngle2);
-                    trapezoidMajorOuterPoint2Y  = centerY + SIZE * 0.4105 * Math.cos(trapezoidMajorOuterAngle2);
+                    trapezoidMajorInnerPoint1X  = centerX + SIZE * 0.3585 * Trig.sin(trapezoidMajorInnerAngle1);
+                    trapezoidMajorInnerPoint1Y  = centerY + SIZE * 0.3585 * Trig.cos(trapezoidMajorInnerAngle1);
+                    trapezoidMajorInnerPoint2X  = centerX + SIZE * 0.3585 * Trig.sin(trapezoidMajorInnerAngle2);
+                    trapezoidMajorInnerPoint2Y  = centerY + SIZE * 0.3585 * Trig.cos(trapezoidMajorInnerAngle2);
+                    trapezoidMajorOuterPoint1X  = centerX + SIZE * 0.4105 * Trig.sin(trapezoidMajorOuterAngle1);
+                    trapezoidMajorOuterPoint1Y  = centerY + SIZE * 0.4105 * Trig.cos(trapezoidMajorOuterAngle1);
+                    trapezoidMajorOuterPoint2X  = centerX + SIZE * 0.4105 * Trig.sin(trapezoidMajorOuterAngle2);
+                    trapezoidMajorOuterPoint2Y  = centerY + SIZE * 0.4105 * Trig.cos(trapezoidMajorOuterAngle2);
 
                     trapezoidMediumInnerAngle1  = Math.toRadians(angle - 1.0 + START_ANGLE);
                     trapezoidMediumInnerAngle2  = Math.toRadians(angle + 1.0 + START_ANGLE);
                     trapezoidMediumOuterAngle1  = Math.toRadians(angle - 0.7 + START_ANGLE);
                     trapezoidMediumOuterAngle2  = Math.toRadians(angle + 0.7 + START_ANGLE);
-                    trapezoidMediumInnerPoint1X = centerX + SIZE * 0.3585 * Math.sin(trapezoidMediumInnerAngle1);
-                    trapezoidMediumInnerPoint1Y = centerY + SIZE * 0.3585 * Math.cos(trapezoidMediumInnerAngle1);
-                    trapezoidMediumInnerPoint2X = centerX + SIZE * 0.3585 * Math.sin(trapezoidMediumInnerAngle2);
-                    trapezoidMediumInnerPoint2Y = centerY + SIZE * 0.3585 * Math.cos(trapezoidMediumInnerAngle2);
-                    trapezoidMediumOuterPoint1X = centerX + SIZE * 0.3985 * Math.sin(trapezoidMajorOuterAngle1);
-                    trapezoidMediumOuterPoint1Y = centerY + SIZE * 0.3985 * Math.cos(trapezoidMediumOuterAngle1);
-                    trapezoidMediumOuterPoint2X = centerX + SIZE * 0.3985 * Math.sin(trapezoidMediumOuterAngle2);
-                    trapezoidMediumOuterPoint2Y = centerY + SIZE * 0.3985 * Math.cos(trapezoidMediumOuterAngle2);
+                    trapezoidMediumInnerPoint1X = centerX + SIZE * 0.3585 * Trig.sin(trapezoidMediumInnerAngle1);
+                    trapezoidMediumInnerPoint1Y = centerY + SIZE * 0.3585 * Trig.cos(trapezoidMediumInnerAngle1);
+                    trapezoidMediumInnerPoint2X = centerX + SIZE * 0.3585 * Trig.sin(trapezoidMediumInnerAngle2);
+                    trapezoidMediumInnerPoint2Y = centerY + SIZE * 0.3585 * Trig.cos(trapezoidMediumInnerAngle2);
+                    trapezoidMediumOuterPoint1X = centerX + SIZE * 0.3985 * Trig.sin(trapezoidMajorOuterAngle1);
+                    trapezoidMediumOuterPoint1Y = centerY + SIZE * 0.3985 * Trig.cos(trapezoidMediumOuterAngle1);
+                    trapezoidMediumOuterPoint2X = centerX + SIZE * 0.3985 * Trig.sin(trapezoidMediumOuterAngle2);
+                    trapezoidMediumOuterPoint2Y = centerY + SIZE * 0.3985 * Trig.cos(trapezoidMediumOuterAngle2);
 
                     trapezoidMinorInnerAngle1   = Math.toRadians(angle - 0.8 + START_ANGLE);
                     trapezoidMinorInnerAngle2   = Math.toRadians(angle + 0.8 + START_ANGLE);
                     trapezoidMinorOuterAngle1   = Math.toRadians(angle - 0.6 + START_ANGLE);
                     trapezoidMinorOuterAngle2   = Math.toRadians(angle + 0.6 + START_ANGLE);
-                    trapezoidMinorInnerPoint1X  = centerX + SIZE * 0.3585 * Math.sin(trapezoidMinorInnerAngle1);
-                    trapezoidMinorInnerPoint1Y  = centerY + SIZE * 0.3585 * Math.cos(trapezoidMinorInnerAngle1);
-                    trapezoidMinorInnerPoint2X  = centerX + SIZE * 0.3585 * Math.sin(trapezoidMinorInnerAngle2);
-                    trapezoidMinorInnerPoint2Y  = centerY + SIZE * 0.3585 * Math.cos(trapezoidMinorInnerAngle2);
-                    trapezoidMinorOuterPoint1X  = centerX + SIZE * 0.3975 * Math.sin(trapezoidMinorOuterAngle1);
-                    trapezoidMinorOuterPoint1Y  = centerY + SIZE * 0.3975 * Math.cos(trapezoidMinorOuterAngle1);
-                    trapezoidMinorOuterPoint2X  = centerX + SIZE * 0.3975 * Math.sin(trapezoidMinorOuterAngle2);
-                    trapezoidMinorOuterPoint2Y  = centerY + SIZE * 0.3975 * Math.cos(trapezoidMinorOuterAngle2);
+                    trapezoidMinorInnerPoint1X  = centerX + SIZE * 0.3585 * Trig.sin(trapezoidMinorInnerAngle1);
+                    trapezoidMinorInnerPoint1Y  = centerY + SIZE * 0.3585 * Trig.cos(trapezoidMinorInnerAngle1);
+                    trapezoidMinorInnerPoint2X  = centerX + SIZE * 0.3585 * Trig.sin(trapezoidMinorInnerAngle2);
+                    trapezoidMinorInnerPoint2Y  = centerY + SIZE * 0.3585 * Trig.cos(trapezoidMinorInnerAngle2);
+                    trapezoidMinorOuterPoint1X  = centerX + SIZE * 0.3975 * Trig.sin(trapezoidMinorOuterAngle1);
+                    trapezoidMinorOuterPoint1Y  = centerY + SIZE * 0.3975 * Trig.cos(trapezoidMinorOuterAngle1);
+                    trapezoidMinorOuterPoint2X  = centerX + SIZE * 0.3975 * Trig.sin(trapezoidMinorOuterAngle2);
+                    trapezoidMinorOuterPoint2Y  = centerY + SIZE * 0.3975 * Trig.cos(trapezoidMinorOuterAngle2);
 
                     triangleMajorInnerPointX    = centerX + SIZE * 0.3585 * sinValue;
                     triangleMajorInnerPointY    = centerY + SIZE * 0.3585 * cosValue;
@@ -793,40 +879,40 @@ public class Helper {
                     trapezoidMajorInnerAngle2   = Math.toRadians(angle + 0.8 + START_ANGLE);
                     trapezoidMajorOuterAngle1   = Math.toRadians(angle - 1.2 + START_ANGLE);
                     trapezoidMajorOuterAngle2   = Math.toRadians(angle + 1.2 + START_ANGLE);
-                    trapezoidMajorInnerPoint1X  = centerX + SIZE * 0.423 * Math.sin(trapezoidMajorInnerAngle1);
-                    trapezoidMajorInnerPoint1Y  = centerY + SIZE * 0.423 * Math.cos(trapezoidMajorInnerAngle1);
-                    trapezoidMajorInnerPoint2X  = centerX + SIZE * 0.423 * Math.sin(trapezoidMajorInnerAngle2);
-                    trapezoidMajorInnerPoint2Y  = centerY + SIZE * 0.423 * Math.cos(trapezoidMajorInnerAngle2);
-                    trapezoidMajorOuterPoint1X  = centerX + SIZE * 0.475 * Math.sin(trapezoidMajorOuterAngle1);
-                    trapezoidMajorOuterPoint1Y  = centerY + SIZE * 0.475 * Math.cos(trapezoidMajorOuterAngle1);
-                    trapezoidMajorOuterPoint2X  = centerX + SIZE * 0.475 * Math.sin(trapezoidMajorOuterAngle2);
-                    trapezoidMajorOuterPoint2Y  = centerY + SIZE * 0.475 * Math.cos(trapezoidMajorOuterAngle2);
+                    trapezoidMajorInnerPoint1X  = centerX + SIZE * 0.423 * Trig.sin(trapezoidMajorInnerAngle1);
+                    trapezoidMajorInnerPoint1Y  = centerY + SIZE * 0.423 * Trig.cos(trapezoidMajorInnerAngle1);
+                    trapezoidMajorInnerPoint2X  = centerX + SIZE * 0.423 * Trig.sin(trapezoidMajorInnerAngle2);
+                    trapezoidMajorInnerPoint2Y  = centerY + SIZE * 0.423 * Trig.cos(trapezoidMajorInnerAngle2);
+                    trapezoidMajorOuterPoint1X  = centerX + SIZE * 0.475 * Trig.sin(trapezoidMajorOuterAngle1);
+                    trapezoidMajorOuterPoint1Y  = centerY + SIZE * 0.475 * Trig.cos(trapezoidMajorOuterAngle1);
+                    trapezoidMajorOuterPoint2X  = centerX + SIZE * 0.475 * Trig.sin(trapezoidMajorOuterAngle2);
+                    trapezoidMajorOuterPoint2Y  = centerY + SIZE * 0.475 * Trig.cos(trapezoidMajorOuterAngle2);
 
                     trapezoidMediumInnerAngle1  = Math.toRadians(angle - 0.7 + START_ANGLE);
                     trapezoidMediumInnerAngle2  = Math.toRadians(angle + 0.7 + START_ANGLE);
                     trapezoidMediumOuterAngle1  = Math.toRadians(angle - 1.0 + START_ANGLE);
                     trapezoidMediumOuterAngle2  = Math.toRadians(angle + 1.0 + START_ANGLE);
-                    trapezoidMediumInnerPoint1X = centerX + SIZE * 0.435 * Math.sin(trapezoidMediumInnerAngle1);
-                    trapezoidMediumInnerPoint1Y = centerY + SIZE * 0.435 * Math.cos(trapezoidMediumInnerAngle1);
-                    trapezoidMediumInnerPoint2X = centerX + SIZE * 0.435 * Math.sin(trapezoidMediumInnerAngle2);
-                    trapezoidMediumInnerPoint2Y = centerY + SIZE * 0.435 * Math.cos(trapezoidMediumInnerAngle2);
-                    trapezoidMediumOuterPoint1X = centerX + SIZE * 0.475 * Math.sin(trapezoidMajorOuterAngle1);
-                    trapezoidMediumOuterPoint1Y = centerY + SIZE * 0.475 * Math.cos(trapezoidMediumOuterAngle1);
-                    trapezoidMediumOuterPoint2X = centerX + SIZE * 0.475 * Math.sin(trapezoidMediumOuterAngle2);
-                    trapezoidMediumOuterPoint2Y = centerY + SIZE * 0.475 * Math.cos(trapezoidMediumOuterAngle2);
+                    trapezoidMediumInnerPoint1X = centerX + SIZE * 0.435 * Trig.sin(trapezoidMediumInnerAngle1);
+                    trapezoidMediumInnerPoint1Y = centerY + SIZE * 0.435 * Trig.cos(trapezoidMediumInnerAngle1);
+                    trapezoidMediumInnerPoint2X = centerX + SIZE * 0.435 * Trig.sin(trapezoidMediumInnerAngle2);
+                    trapezoidMediumInnerPoint2Y = centerY + SIZE * 0.435 * Trig.cos(trapezoidMediumInnerAngle2);
+                    trapezoidMediumOuterPoint1X = centerX + SIZE * 0.475 * Trig.sin(trapezoidMajorOuterAngle1);
+                    trapezoidMediumOuterPoint1Y = centerY + SIZE * 0.475 * Trig.cos(trapezoidMediumOuterAngle1);
+                    trapezoidMediumOuterPoint2X = centerX + SIZE * 0.475 * Trig.sin(trapezoidMediumOuterAngle2);
+                    trapezoidMediumOuterPoint2Y = centerY + SIZE * 0.475 * Trig.cos(trapezoidMediumOuterAngle2);
 
                     trapezoidMinorInnerAngle1   = Math.toRadians(angle - 0.6 + START_ANGLE);
                     trapezoidMinorInnerAngle2   = Math.toRadians(angle + 0.6 + START_ANGLE);
                     trapezoidMinorOuterAngle1   = Math.toRadians(angle - 0.8 + START_ANGLE);
                     trapezoidMinorOuterAngle2   = Math.toRadians(angle + 0.8 + START_ANGLE);
-                    trapezoidMinorInnerPoint1X  = centerX + SIZE * 0.440 * Math.sin(trapezoidMinorInnerAngle1);
-                    trapezoidMinorInnerPoint1Y  = centerY + SIZE * 0.440 * Math.cos(trapezoidMinorInnerAngle1);
-                    trapezoidMinorInnerPoint2X  = centerX + SIZE * 0.440 * Math.sin(trapezoidMinorInnerAngle2);
-                    trapezoidMinorInnerPoint2Y  = centerY + SIZE * 0.440 * Math.cos(trapezoidMinorInnerAngle2);
-                    trapezoidMinorOuterPoint1X  = centerX + SIZE * 0.475 * Math.sin(trapezoidMinorOuterAngle1);
-                    trapezoidMinorOuterPoint1Y  = centerY + SIZE * 0.475 * Math.cos(trapezoidMinorOuterAngle1);
-                    trapezoidMinorOuterPoint2X  = centerX + SIZE * 0.475 * Math.sin(trapezoidMinorOuterAngle2);
-                    trapezoidMinorOuterPoint2Y  = centerY + SIZE * 0.475 * Math.cos(trapezoidMinorOuterAngle2);
+                    trapezoidMinorInnerPoint1X  = centerX + SIZE * 0.440 * Trig.sin(trapezoidMinorInnerAngle1);
+                    trapezoidMinorInnerPoint1Y  = centerY + SIZE * 0.440 * Trig.cos(trapezoidMinorInnerAngle1);
+                    trapezoidMinorInnerPoint2X  = centerX + SIZE * 0.440 * Trig.sin(trapezoidMinorInnerAngle2);
+                    trapezoidMinorInnerPoint2Y  = centerY + SIZE * 0.440 * Trig.cos(trapezoidMinorInnerAngle2);
+                    trapezoidMinorOuterPoint1X  = centerX + SIZE * 0.475 * Trig.sin(trapezoidMinorOuterAngle1);
+                    trapezoidMinorOuterPoint1Y  = centerY + SIZE * 0.475 * Trig.cos(trapezoidMinorOuterAngle1);
+                    trapezoidMinorOuterPoint2X  = centerX + SIZE * 0.475 * Trig.sin(trapezoidMinorOuterAngle2);
+                    trapezoidMinorOuterPoint2Y  = centerY + SIZE * 0.475 * Trig.cos(trapezoidMinorOuterAngle2);
 
                     triangleMajorInnerPointX    = centerX + SIZE * 0.423 * sinValue;
                     triangleMajorInnerPointY    = centerY + SIZE * 0.423 * cosValue;
@@ -1192,8 +1278,8 @@ public class Helper {
                 Alarm         alarm      = entry.getKey();
                 ZonedDateTime alarmTime  = alarm.getTime();
                 double        alarmAngle = (alarmTime.getMinute() + alarmTime.getSecond() / 60.0) * angleStep + 180;
-                double        sinValue   = Math.sin(Math.toRadians((-alarmAngle)));
-                double        cosValue   = Math.cos(Math.toRadians((-alarmAngle)));
+                double        sinValue   = Trig.sinDeg(-alarmAngle);
+                double        cosValue   = Trig.cosDeg(-alarmAngle);
                 Color         alarmColor = alarm.isArmed() ? alarm.getColor() : INACTIVE_ALARM_COLOR;
                 Circle        dot        = entry.getValue();
                 dot.setRadius(alarmSize);
@@ -0,0 +1,238 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+
+/**
+ * An append-only ring of (timestamp, value) samples outside of the Java
+ * heap. The samples are stored in a direct ByteBuffer (allocate()) or in
+ * a memory-mapped file (open()), so a history of millions of samples
+ * neither boxes values nor adds to the garbage collection and a mapped
+ * history is available again immediately after a restart.
+ * If the ring is full the oldest sample will be overwritten. The
+ * timestamps are milliseconds since the epoch and never decrease (an
+ * older timestamp will be stored with the timestamp of the latest
+ * sample), which allows time range queries by binary search.
+ * Index 0 is the oldest sample. The store is not thread-safe, it should
+ * be written and read on the FX application thread like the Gauge.
+ *
+ * File layout: a header of {@value #HEADER_SIZE} bytes (magic, version,
+ * capacity, number of appended samples) followed by the records of
+ * {@value #RECORD_SIZE} bytes (long timestamp, double value).
+ */
+public final class HistoryStore implements Closeable {
+    public  static final int        HEADER_SIZE      = 32;
+    public  static final int        RECORD_SIZE      = 16;
+    public  static final int        MAX_CAPACITY     = (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE;
+    private static final int        MAGIC            = 0x4D485354; // MHST
+    private static final int        VERSION          = 1;
+    private static final int        MAGIC_OFFSET     = 0;
+    private static final int        VERSION_OFFSET   = 4;
+    private static final int        CAPACITY_OFFSET  = 8;
+    private static final int        COUNT_OFFSET     = 16;
+    private        final ByteBuffer buffer;
+    private        final int        capacity;
+    private              long       count;
+
+
+    // ******************** Constructors **************************************
+    private HistoryStore(final ByteBuffer BUFFER, final int CAPACITY) {
+        buffer   = BUFFER;
+        capacity = CAPACITY;
+        if (BUFFER.getInt(MAGIC_OFFSET) == MAGIC) {
+            count = BUFFER.getLong(COUNT_OFFSET);
+        } else {
+            BUFFER.putInt(MAGIC_OFFSET, MAGIC);
+            BUFFER.putInt(VERSION_OFFSET, VERSION);
+            BUFFER.putInt(CAPACITY_OFFSET, CAPACITY);
+            BUFFER.putLong(COUNT_OFFSET, 0);
+            count = 0;
+        }
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns a new store for the given number of samples in a direct
+     * ByteBuffer.
+     * @param CAPACITY
+     * @return a new store in a direct ByteBuffer
+     */
+    public static HistoryStore allocate(final int CAPACITY) {
+        checkCapacity(CAPACITY);
+        return new HistoryStore(ByteBuffer.allocateDirect(HEADER_SIZE + CAPACITY * RECORD_SIZE), CAPACITY);
+    }
+
+    /**
+     * Returns a store for the given number of samples that is mapped to
+     * the given file. If the file already contains a history with the
+     * same capacity the samples in it will be available immediately,
+     * a new or empty file will be initialized.
+     * @param FILE
+     * @param CAPACITY
+     * @return a store that is mapped to the given file
+     * @throws IOException if the file cannot be mapped or contains
+     *                     something else than a history with the given capacity
+     */
+    public static HistoryStore open(final Path FILE, final int CAPACITY) throws IOException {
+        checkCapacity(CAPACITY);
+        final long SIZE = HEADER_SIZE + (long) CAPACITY * RECORD_SIZE;
+        try (FileChannel channel = FileChannel.open(FILE, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final long FILE_SIZE = channel.size();
+            if (FILE_SIZE != 0 && FILE_SIZE != SIZE) { throw new IOException(FILE + " does not contain a history with a capacity of " + CAPACITY); }
+            final MappedByteBuffer BUFFER = channel.map(MapMode.READ_WRITE, 0, SIZE);
+            if (FILE_SIZE != 0 && (BUFFER.getInt(MAGIC_OFFSET) != MAGIC || BUFFER.getInt(VERSION_OFFSET) != VERSION || BUFFER.getInt(CAPACITY_OFFSET) != CAPACITY)) {
+                throw new IOException(FILE + " does not contain a history with a capacity of " + CAPACITY);
+            }
+            // the mapping stays valid after the channel has been closed
+            return new HistoryStore(BUFFER, CAPACITY);
+        }
+    }
+
+    private static void checkCapacity(final int CAPACITY) {
+        if (CAPACITY < 1 || CAPACITY > MAX_CAPACITY) { throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY); }
+    }
+
+    public int getCapacity() { return capacity; }
+
+    /**
+     * Returns the number of samples in the store.
+     * @return the number of samples in the store
+     */
+    public int size() { return (int) Math.min(count, capacity); }
+
+    public boolean isEmpty() { return 0 == count; }
+
+    /**
+     * Appends the given sample, the oldest sample will be overwritten if
+     * the store is full.
+     * @param TIMESTAMP milliseconds since the epoch
+     * @param VALUE
+     */
+    public void append(final long TIMESTAMP, final double VALUE) {
+        final int POSITION = offset((int) (count % capacity));
+        buffer.putLong(POSITION, 0 == count ? TIMESTAMP : Math.max(TIMESTAMP, getTimestamp(size() - 1)));
+        buffer.putDouble(POSITION + 8, VALUE);
+        count++;
+        // the count is written last, a sample is only visible after a restart if it was written completely
+        buffer.putLong(COUNT_OFFSET, count);
+    }
+
+    public long getTimestamp(final int INDEX) { return buffer.getLong(offset(physical(INDEX))); }
+
+    public double getValue(final int INDEX) { return buffer.getDouble(offset(physical(INDEX)) + 8); }
+
+    /**
+     * Returns the index of the first sample with a timestamp that is
+     * equal or later than the given timestamp, size() if there is none.
+     * @param TIMESTAMP milliseconds since the epoch
+     * @return the index of the first sample at or after the given timestamp
+     */
+    public int indexOf(final long TIMESTAMP) {
+        int low  = 0;
+        int high = size();
+        while (low < high) {
+            final int MID = (low + high) >>> 1;
+            if (getTimestamp(MID) < TIMESTAMP) { low = MID + 1; } else { high = MID; }
+        }
+        return low;
+    }
+
+    /**
+     * Calls the consumer with all samples from FROM (inclusive) to TO
+     * (exclusive), the oldest sample first.
+     * @param FROM milliseconds since the epoch
+     * @param TO milliseconds since the epoch
+     * @param CONSUMER
+     */
+    public void forEach(final long FROM, final long TO, final SampleConsumer CONSUMER) {
+        for (int i = indexOf(FROM), n = indexOf(TO) ; i < n ; i++) { CONSUMER.accept(getTimestamp(i), getValue(i)); }
+    }
+
+    /**
+     * Returns the average of all samples from FROM (inclusive) to TO
+     * (exclusive) or NaN if there are no samples in this range.
+     * @param FROM milliseconds since the epoch
+     * @param TO milliseconds since the epoch
+     * @return the average of the samples in the given range or NaN
+     */
+    public double getAverage(final long FROM, final long TO) {
+        final int START = indexOf(FROM);
+        final int END   = indexOf(TO);
+        if (START >= END) { return Double.NaN; }
+        double sum = 0;
+        for (int i = START ; i < END ; i++) { sum += getValue(i); }
+        return sum / (END - START);
+    }
+
+    /**
+     * Copies the latest samples into the given array, the oldest of them
+     * first, and returns the number of copied samples which is less than
+     * the length of the array if the store contains less samples.
+     * @param VALUES
+     * @return the number of copied samples
+     */
+    public int getLatest(final double[] VALUES) {
+        final int SIZE   = size();
+        final int LENGTH = Math.min(SIZE, VALUES.length);
+        for (int i = 0 ; i < LENGTH ; i++) { VALUES[i] = getValue(SIZE - LENGTH + i); }
+        return LENGTH;
+    }
+
+    /**
+     * Removes all samples.
+     */
+    public void clear() {
+        count = 0;
+        buffer.putLong(COUNT_OFFSET, 0);
+    }
+
+    /**
+     * Writes the samples of a memory-mapped store to the file, this is
+     * done by the operating system anyway but only forced by this method.
+     */
+    public void force() {
+        if (buffer instanceof MappedByteBuffer) { ((MappedByteBuffer) buffer).force(); }
+    }
+
+    @Override public void close() { force(); }
+
+    private int physical(final int INDEX) {
+        final int SIZE = size();
+        if (INDEX < 0 || INDEX >= SIZE) { throw new IndexOutOfBoundsException("Index: " + INDEX + ", Size: " + SIZE); }
+        return count > capacity ? (int) ((count + INDEX) % capacity) : INDEX;
+    }
+
+    private static int offset(final int PHYSICAL_INDEX) { return HEADER_SIZE + PHYSICAL_INDEX * RECORD_SIZE; }
+
+
+    // ******************** Inner Classes *************************************
+    @FunctionalInterface
+    public interface SampleConsumer {
+        void accept(final long TIMESTAMP, final double VALUE);
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import javafx.scene.control.Control;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Optional runtime metrics for a single Gauge or Clock. Recording is
+ * switched off by default and can be switched on globally with
+ * Metrics.setEnabled(true) or -Dmedusa.metrics=true. When switched off
+ * the instrumented code paths only read one static flag.
+ * The values are recorded without synchronization, so they might be
+ * slightly off if a control is updated from several threads.
+ */
+public final class Metrics {
+    public enum Type {
+        VALUE_SET(false), UPDATE_DEFERRED(false), UPDATE_COALESCED(false), UPDATE_DROPPED(false),
+        // CANVAS_REDRAW is not recorded by all skins (see MetricsMXBean)
+        UPDATE_DISPATCH(true), SKIN_REDRAW(true), SKIN_RESIZE(true), CANVAS_REDRAW(true),
+        ANIMATION_START(false), ANIMATION_FRAME(false);
+
+        public final boolean TIMED;
+
+        Type(final boolean TIMED) { this.TIMED = TIMED; }
+    }
+
+    public  static final String                  OBJECT_NAME = "eu.hansolo.medusa:type=Metrics";
+    private static final Type[]                  TYPES       = Type.values();
+    private static final Set<Metrics>            REGISTRY    = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    private static volatile boolean              enabled     = Boolean.getBoolean("medusa.metrics");
+    private static final AtomicLong              NEXT_ID     = new AtomicLong();
+    private        final long                    id;
+    private        final WeakReference<Control>  control;
+    private        final long[]                  counts;
+    private        final Histogram[]             histograms;
+
+
+    // ******************** Constructors **************************************
+    public Metrics(final Control CONTROL) {
+        id         = NEXT_ID.incrementAndGet();
+        control    = new WeakReference<>(CONTROL);
+        counts     = new long[TYPES.length];
+        histograms = new Histogram[TYPES.length];
+        for (Type type : TYPES) { if (type.TIMED) { histograms[type.ordinal()] = new Histogram(); } }
+        REGISTRY.add(this);
+    }
+
+
+    // ******************** Methods *******************************************
+    public static boolean isEnabled() { return enabled; }
+    public static void setEnabled(final boolean ENABLED) { enabled = ENABLED; }
+
+    /**
+     * Returns System.nanoTime() if metrics are enabled, otherwise 0.
+     * Pass the returned value to record(), which ignores a start of 0.
+     * @return the start time in nanoseconds or 0 if metrics are disabled
+     */
+    public static long start() { return enabled ? System.nanoTime() : 0; }
+
+    public void increment(final Type TYPE) { counts[TYPE.ordinal()]++; }
+
+    public void record(final Type TYPE, final long START_NANOS) {
+        if (0 == START_NANOS) { return; }
+        final long NANOS = System.nanoTime() - START_NANOS;
+        counts[TYPE.ordinal()]++;
+        if (TYPE.TIMED) { histograms[TYPE.ordinal()].add(NANOS); }
+    }
+
+    public long getCount(final Type TYPE) { return counts[TYPE.ordinal()]; }
+
+    /**
+     * Returns the histogram of the durations for the given type or null if
+     * the type is only counted.
+     * @param TYPE
+     * @return the histogram of the durations for the given type
+     */
+    public Histogram getHistogram(final Type TYPE) { return histograms[TYPE.ordinal()]; }
+
+    public void reset() {
+        for (int i = 0 ; i < counts.length ; i++) {
+            counts[i] = 0;
+            if (null != histograms[i]) { histograms[i].reset(); }
+        }
+    }
+
+    /**
+     * Returns a name for the control this metrics belong to. If the control
+     * has an id the id will be used, otherwise the class name and identity hash.
+     * @return a name for the control this metrics belong to
+     */
+    public String getName() {
+        Control c = control.get();
+        if (null == c) { return "disposed"; }
+        String id = c.getId();
+        return null == id || id.isEmpty() ? c.getClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(c)) : id;
+    }
+
+    /**
+     * Returns a key that is unique for the lifetime of the JVM, the name
+     * followed by a generated id, so controls with the same id (or none)
+     * don't replace each other in the MBean.
+     * @return a unique key for the control this metrics belong to
+     */
+    public String getKey() { return getName() + "#" + id; }
+
+    public Control getControl() { return control.get(); }
+
+    /**
+     * Returns the metrics of all controls that are still reachable.
+     * @return the metrics of all controls that are still reachable
+     */
+    public static List<Metrics> getAll() {
+        synchronized (REGISTRY) { return new ArrayList<>(REGISTRY); }
+    }
+
+    /**
+     * Returns the metrics of the controls with the highest total time (or
+     * count for types that are not timed) for the given type.
+     * @param TYPE
+     * @param LIMIT
+     * @return the metrics with the highest cost for the given type
+     */
+    public static List<Metrics> getTop(final Type TYPE, final int LIMIT) {
+        List<Metrics> all = getAll();
+        all.sort(Comparator.comparingLong((Metrics m) -> TYPE.TIMED ? m.getHistogram(TYPE).getTotal() : m.getCount(TYPE)).reversed());
+        return all.subList(0, Math.min(Math.max(LIMIT, 0), all.size()));
+    }
+
+    public static void resetAll() { getAll().forEach(Metrics::reset); }
+
+    /**
+     * Registers the MetricsMXBean at the platform MBeanServer under
+     * {@value #OBJECT_NAME}. Calling it more than once has no effect.
+     */
+    public static void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName  name   = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) { server.registerMBean(new StandardMBean(new MBean(), MetricsMXBean.class, true), name); }
+        } catch (InstanceAlreadyExistsException e) {
+            // registered concurrently
+        } catch (JMException e) {
+            throw new IllegalStateException("Could not register metrics MBean", e);
+        }
+    }
+
+    @Override public String toString() {
+        StringBuilder sb = new StringBuilder("{").append("\"name\":\"").append(getName()).append("\"");
+        for (Type type : TYPES) {
+            sb.append(",\"").append(type.name()).append("\":");
+            if (type.TIMED) {
+                sb.append(histograms[type.ordinal()]);
+            } else {
+                sb.append(counts[type.ordinal()]);
+            }
+        }
+        return sb.append("}").toString();
+    }
+
+
+    // ******************** Inner Classes *************************************
+    /**
+     * Histogram of durations in nanoseconds with power of two buckets.
+     */
+    public static final class Histogram {
+        private final long[] buckets = new long[64];
+        private       long   count;
+        private       long   total;
+        private       long   max;
+
+
+        // ******************** Methods ***************************************
+        void add(final long NANOS) {
+            final long VALUE = NANOS < 0 ? 0 : NANOS;
+            buckets[64 - Long.numberOfLeadingZeros(VALUE) - (VALUE == 0 ? 0 : 1)]++;
+            count++;
+            total += VALUE;
+            if (VALUE > max) { max = VALUE; }
+        }
+
+        public long getCount() { return count; }
+
+        public long getTotal() { return total; }
+
+        public long getMax() { return max; }
+
+        public double getMean() { return 0 == count ? 0 : (double) total / count; }
+
+        /**
+         * Returns the upper bound of the bucket that contains the given percentile.
+         * @param PERCENTILE in the range of 0 - 100
+         * @return the upper bound in nanoseconds of the bucket containing the percentile
+         */
+        public long getPercentile(final double PERCENTILE) {
+            if (0 == count) { return 0; }
+            long threshold = (long) Math.ceil(Helper.clamp(0.0, 100.0, PERCENTILE) / 100.0 * count);
+            long sum       = 0;
+            for (int i = 0 ; i < buckets.length ; i++) {
+                sum += buckets[i];
+                if (sum >= threshold && sum > 0) { return Math.min(max, i == 63 ? Long.MAX_VALUE : (1L << (i + 1)) - 1); }
+            }
+            return max;
+        }
+
+        public long[] getBuckets() { return buckets.clone(); }
+
+        void reset() {
+            Arrays.fill(buckets, 0);
+            count = 0;
+            total = 0;
+            max   = 0;
+        }
+
+        @Override public String toString() {
+            return new StringBuilder("{")
+                .append("\"count\":").append(count).append(",")
+                .append("\"total\":").append(total).append(",")
+                .append("\"mean\":").append(getMean()).append(",")
+                .append("\"p99\":").append(getPercentile(99)).append(",")
+                .append("\"max\":").append(max)
+                .append("}").toString();
+        }
+    }
+
+    private static final class MBean implements MetricsMXBean {
+        @Override public boolean isEnabled() { return Metrics.isEnabled(); }
+        @Override public void setEnabled(final boolean ENABLED) { Metrics.setEnabled(ENABLED); }
+
+        @Override public int getControlCount() { return getAll().size(); }
+
+        @Override public Map<String, Long> getCounts(final String TYPE) {
+            Type type = Type.valueOf(TYPE);
+            Map<String, Long> map = new LinkedHashMap<>();
+            for (Metrics metrics : Metrics.getTop(type, Integer.MAX_VALUE)) { map.put(metrics.getKey(), metrics.getCount(type)); }
+            return map;
+        }
+
+        @Override public Map<String, Long> getTotalNanos(final String TYPE) {
+            Type type = Type.valueOf(TYPE);
+            if (!type.TIMED) { return Collections.emptyMap(); }
+            Map<String, Long> map = new LinkedHashMap<>();
+            for (Metrics metrics : Metrics.getTop(type, Integer.MAX_VALUE)) { map.put(metrics.getKey(), metrics.getHistogram(type).getTotal()); }
+            return map;
+        }
+
+        @Override public String[] getTop(final String TYPE, final int LIMIT) {
+            return Metrics.getTop(Type.valueOf(TYPE), LIMIT).stream().map(Metrics::toString).toArray(String[]::new);
+        }
+
+        @Override public void reset() { resetAll(); }
+    }
+}
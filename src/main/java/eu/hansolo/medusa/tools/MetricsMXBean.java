@@ -0,0 +1,46 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import java.util.Map;
+
+
+/**
+ * JMX view on the Metrics of all Gauges and Clocks. The type parameters
+ * are the names of Metrics.Type (e.g. SKIN_REDRAW), the maps are keyed
+ * by Metrics.getKey().
+ * CANVAS_REDRAW is only recorded by the skins that paint their canvases
+ * through CanvasLayers (GaugeSkin, ClockSkin), by the tick mark canvases
+ * of HSkin, VSkin and NasaSkin and by the segmented bar of DigitalSkin and
+ * SimpleDigitalSkin. The other canvas based skins only record SKIN_REDRAW
+ * and SKIN_RESIZE, so use these to compare skins with each other.
+ */
+public interface MetricsMXBean {
+    boolean isEnabled();
+    void setEnabled(boolean ENABLED);
+
+    int getControlCount();
+
+    Map<String, Long> getCounts(String TYPE);
+
+    Map<String, Long> getTotalNanos(String TYPE);
+
+    String[] getTop(String TYPE, int LIMIT);
+
+    void reset();
+}
@@ -0,0 +1,215 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import java.util.Arrays;
+
+
+/**
+ * A sliding window over the latest values that only keeps aggregates
+ * per bucket of consecutive values (min, max and their positions, sum
+ * and sum of squares). The window is divided in at most MAX_BUCKETS
+ * buckets, so adding a value is O(1) and reading the window (e.g. to
+ * draw a sparkline with a min- and a max-point per bucket) only depends
+ * on the number of buckets and not on the size of the window.
+ * The window always consists of whole buckets, if a new bucket is
+ * started the oldest bucket will be dropped, so the number of values in
+ * the window differs from WINDOW_SIZE by less than one bucket.
+ * Every value has a sequence number (the number of values added before),
+ * buckets are indexed from 0 (oldest) to getBucketCount() - 1 (newest).
+ */
+public class MinMaxBuckets {
+    public  static final int      MAX_BUCKETS = 2048;
+    private        final int      windowSize;
+    private        final int      bucketSize;
+    private        final int      capacity;
+    private        final int[]    count;
+    private        final double[] min;
+    private        final double[] max;
+    private        final long[]   minSeq;
+    private        final long[]   maxSeq;
+    private        final long[]   startSeq;
+    private        final double[] sum;
+    private        final double[] sumOfSquares;
+    private              int      oldest;
+    private              int      used;
+    private              long     seq;
+    private              double   last;
+
+
+    // ******************** Constructors **************************************
+    public MinMaxBuckets(final int WINDOW_SIZE) {
+        this(WINDOW_SIZE, MAX_BUCKETS);
+    }
+    public MinMaxBuckets(final int WINDOW_SIZE, final int MAX_BUCKET_COUNT) {
+        windowSize   = Math.max(1, WINDOW_SIZE);
+        bucketSize   = (int) Math.ceil(windowSize / (double) Math.max(1, MAX_BUCKET_COUNT));
+        capacity     = (int) Math.ceil(windowSize / (double) bucketSize);
+        count        = new int[capacity];
+        min          = new double[capacity];
+        max          = new double[capacity];
+        minSeq       = new long[capacity];
+        maxSeq       = new long[capacity];
+        startSeq     = new long[capacity];
+        sum          = new double[capacity];
+        sumOfSquares = new double[capacity];
+    }
+
+
+    // ******************** Methods *******************************************
+    public int getWindowSize() { return windowSize; }
+
+    public int getBucketSize() { return bucketSize; }
+
+    /**
+     * Returns the number of buckets in use.
+     * @return the number of buckets in use
+     */
+    public int getBucketCount() { return used; }
+
+    /**
+     * Returns the number of values that have been added so far, which is
+     * also the sequence number of the next value.
+     * @return the number of values that have been added so far
+     */
+    public long getSeq() { return seq; }
+
+    /**
+     * Returns the latest value.
+     * @return the latest value
+     */
+    public double getLast() { return last; }
+
+    public void add(final double VALUE) { add(VALUE, 1); }
+    /**
+     * Adds the given value COUNT times in O(number of touched buckets),
+     * e.g. to fill the window with an initial value.
+     * @param VALUE
+     * @param COUNT
+     */
+    public void add(final double VALUE, final int COUNT) {
+        int remaining = Math.min(COUNT, windowSize);
+        seq += COUNT - remaining;
+        while (remaining > 0) {
+            int newest = newest();
+            if (0 == used || count[newest] == bucketSize) { newest = startBucket(); }
+            final int N = Math.min(remaining, bucketSize - count[newest]);
+            if (VALUE < min[newest]) {
+                min[newest]    = VALUE;
+                minSeq[newest] = seq;
+            }
+            if (VALUE > max[newest]) {
+                max[newest]    = VALUE;
+                maxSeq[newest] = seq;
+            }
+            sum[newest]          += N * VALUE;
+            sumOfSquares[newest] += N * VALUE * VALUE;
+            count[newest]        += N;
+            seq                  += N;
+            remaining            -= N;
+        }
+        if (COUNT > 0) { last = VALUE; }
+    }
+
+    public void clear() {
+        oldest = 0;
+        used   = 0;
+        seq    = 0;
+        last   = 0;
+        Arrays.fill(count, 0);
+    }
+
+    public int getCount(final int BUCKET) { return count[physical(BUCKET)]; }
+    public double getMin(final int BUCKET) { return min[physical(BUCKET)]; }
+    public double getMax(final int BUCKET) { return max[physical(BUCKET)]; }
+    public long getMinSeq(final int BUCKET) { return minSeq[physical(BUCKET)]; }
+    public long getMaxSeq(final int BUCKET) { return maxSeq[physical(BUCKET)]; }
+    public long getStartSeq(final int BUCKET) { return startSeq[physical(BUCKET)]; }
+
+    /**
+     * Returns the number of values in the window.
+     * @return the number of values in the window
+     */
+    public int getValueCount() {
+        int n = 0;
+        for (int i = 0 ; i < used ; i++) { n += count[(oldest + i) % capacity]; }
+        return n;
+    }
+
+    public double getMin() {
+        double result = Double.MAX_VALUE;
+        for (int i = 0 ; i < used ; i++) { result = Math.min(result, min[(oldest + i) % capacity]); }
+        return 0 == used ? 0 : result;
+    }
+
+    public double getMax() {
+        double result = -Double.MAX_VALUE;
+        for (int i = 0 ; i < used ; i++) { result = Math.max(result, max[(oldest + i) % capacity]); }
+        return 0 == used ? 0 : result;
+    }
+
+    public double getMean() {
+        final int N = getValueCount();
+        if (0 == N) { return 0; }
+        double s = 0;
+        for (int i = 0 ; i < used ; i++) { s += sum[(oldest + i) % capacity]; }
+        return s / N;
+    }
+
+    /**
+     * Returns the (population) standard deviation of the values in the
+     * window like Statistics.getStdDev().
+     * @return the standard deviation of the values in the window
+     */
+    public double getStdDev() {
+        final int N = getValueCount();
+        if (0 == N) { return 0; }
+        double s  = 0;
+        double sq = 0;
+        for (int i = 0 ; i < used ; i++) {
+            final int BUCKET = (oldest + i) % capacity;
+            s  += sum[BUCKET];
+            sq += sumOfSquares[BUCKET];
+        }
+        final double MEAN = s / N;
+        return Math.sqrt(Math.max(0, sq / N - MEAN * MEAN));
+    }
+
+    private int newest() { return 0 == used ? oldest : (oldest + used - 1) % capacity; }
+
+    private int startBucket() {
+        if (used == capacity) {
+            oldest = (oldest + 1) % capacity;
+        } else {
+            used++;
+        }
+        final int NEWEST = newest();
+        count[NEWEST]        = 0;
+        min[NEWEST]          = Double.MAX_VALUE;
+        max[NEWEST]          = -Double.MAX_VALUE;
+        sum[NEWEST]          = 0;
+        sumOfSquares[NEWEST] = 0;
+        startSeq[NEWEST]     = seq;
+        return NEWEST;
+    }
+
+    private int physical(final int BUCKET) {
+        if (BUCKET < 0 || BUCKET >= used) { throw new IndexOutOfBoundsException("Bucket: " + BUCKET + ", Buckets: " + used); }
+        return (oldest + BUCKET) % capacity;
+    }
+}
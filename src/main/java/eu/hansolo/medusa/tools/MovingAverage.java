@@ -82,5 +82,8 @@ public class MovingAverage {
 
     public boolean isFilling() { return window.size() < period; }
 
-    public void reset() { window.clear(); }
+    public void reset() {
+        window.clear();
+        sum = 0;
+    }
 }
@@ -0,0 +1,269 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import eu.hansolo.medusa.Clock;
+import eu.hansolo.medusa.Clock.ClockSkinType;
+import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.Gauge.SkinType;
+import javafx.application.Platform;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.control.Control;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+
+/**
+ * Renders gauges and clocks offscreen and writes them as PNG files.
+ * There is one Scene (with a Group as root) per skin type that will be
+ * reused for all snapshots of that type, only the configuration of the
+ * control will be changed between two snapshots. Snapshots are taken on
+ * the FX application thread in batches while the PNG encoding of the
+ * previous batch runs on background threads.
+ * To run without a display (e.g. on a CI server) start the JVM with
+ * Monocle on the classpath and
+ * -Dglass.platform=Monocle -Dmonocle.platform=Headless -Dprism.order=sw
+ */
+public class OffscreenRenderer {
+    private static final int                          DEFAULT_BATCH_SIZE = 16;
+    private        final int                          width;
+    private        final int                          height;
+    private        final int                          batchSize;
+    private        final Map<Object, Control>         controls;
+    private        final BlockingQueue<int[]>         buffers;
+    private        final BlockingQueue<PngEncoder>    encoders;
+    private        final SnapshotParameters           parameters;
+    private        final ExecutorService              driver;
+    private        final ExecutorService              encoderService;
+    private              WritableImage                image;
+
+
+    // ******************** Constructors **************************************
+    public OffscreenRenderer(final int WIDTH, final int HEIGHT) {
+        this(WIDTH, HEIGHT, DEFAULT_BATCH_SIZE);
+    }
+    public OffscreenRenderer(final int WIDTH, final int HEIGHT, final int BATCH_SIZE) {
+        if (WIDTH <= 0 || HEIGHT <= 0) { throw new IllegalArgumentException("Width and height must be positive"); }
+        width          = WIDTH;
+        height         = HEIGHT;
+        batchSize      = Helper.clamp(1, 1024, BATCH_SIZE);
+        controls       = new HashMap<>();
+        buffers        = new ArrayBlockingQueue<>(2 * batchSize);
+        encoders       = new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+        parameters     = new SnapshotParameters();
+        driver         = Executors.newSingleThreadExecutor(Helper.getThreadFactory("OffscreenRenderer", true));
+        encoderService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), Helper.getThreadFactory("OffscreenEncoder", true));
+
+        // two batches worth of pixel buffers, one is filled on the fx thread while the other one is encoded
+        for (int i = 0 ; i < 2 * batchSize ; i++) { buffers.add(new int[WIDTH * HEIGHT]); }
+        for (int i = 0 ; i < Runtime.getRuntime().availableProcessors() ; i++) { encoders.add(new PngEncoder()); }
+        parameters.setFill(Color.TRANSPARENT);
+
+        startToolkit();
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Renders all given snapshots with a gauge of the given skin type.
+     * The gauge will be reused for all snapshots, so each configurator
+     * should set all properties that differ from the other snapshots.
+     * Animation will be switched off before each configurator is called.
+     *
+     * @param SKIN_TYPE
+     * @param SNAPSHOTS
+     * @return a future that completes with the number of written files
+     */
+    public CompletableFuture<Integer> renderGauges(final SkinType SKIN_TYPE, final List<Snapshot<Gauge>> SNAPSHOTS) {
+        return render(SKIN_TYPE, () -> new Gauge(SKIN_TYPE), SNAPSHOTS);
+    }
+
+    /**
+     * Renders all given snapshots with a clock of the given skin type.
+     * The clock will be reused for all snapshots and will not be running,
+     * so each configurator should at least set the time to show.
+     *
+     * @param SKIN_TYPE
+     * @param SNAPSHOTS
+     * @return a future that completes with the number of written files
+     */
+    public CompletableFuture<Integer> renderClocks(final ClockSkinType SKIN_TYPE, final List<Snapshot<Clock>> SNAPSHOTS) {
+        return render(SKIN_TYPE, () -> new Clock(SKIN_TYPE), SNAPSHOTS);
+    }
+
+    /**
+     * Stops the background threads. Snapshots that have not been taken yet
+     * will be skipped, but this method blocks until the PNG files of the
+     * snapshots that have been taken are written. The renderer cannot be
+     * used afterwards.
+     */
+    public void shutdown() {
+        driver.shutdownNow();
+        encoderService.shutdown();
+        try {
+            // the encoders are in use until all pending encodings are finished
+            while (!encoderService.awaitTermination(1, TimeUnit.SECONDS)) { }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        encoders.forEach(PngEncoder::dispose);
+    }
+
+    private <T extends Control> CompletableFuture<Integer> render(final Object KEY, final Supplier<T> FACTORY, final List<Snapshot<T>> SNAPSHOTS) {
+        final CompletableFuture<Integer> FUTURE  = new CompletableFuture<>();
+        final List<Snapshot<T>>          JOBS    = new ArrayList<>(SNAPSHOTS);
+        final AtomicInteger              WRITTEN = new AtomicInteger(0);
+        driver.execute(() -> {
+            try {
+                List<CompletableFuture<Void>> encodings = new ArrayList<>(JOBS.size());
+                for (int from = 0 ; from < JOBS.size() ; from += batchSize) {
+                    List<Snapshot<T>> batch   = JOBS.subList(from, Math.min(from + batchSize, JOBS.size()));
+                    List<int[]>       pixels  = new ArrayList<>(batch.size());
+                    try {
+                        for (int i = 0 ; i < batch.size() ; i++) { pixels.add(buffers.take()); }
+
+                        CompletableFuture<Void> snapshots = new CompletableFuture<>();
+                        Platform.runLater(() -> {
+                            try {
+                                T control = getControl(KEY, FACTORY);
+                                for (int i = 0 ; i < batch.size() ; i++) { snapshot(control, batch.get(i), pixels.get(i)); }
+                                snapshots.complete(null);
+                            } catch (Throwable t) {
+                                snapshots.completeExceptionally(t);
+                            }
+                        });
+                        snapshots.join();
+
+                        for (int i = 0 ; i < batch.size() ; i++) {
+                            final Path  FILE   = batch.get(i).getFile();
+                            final int[] BUFFER = pixels.get(i);
+                            encodings.add(CompletableFuture.runAsync(() -> {
+                                PngEncoder encoder = null;
+                                try {
+                                    encoder = encoders.take();
+                                    encoder.write(BUFFER, width, height, FILE);
+                                    WRITTEN.incrementAndGet();
+                                } catch (IOException | InterruptedException e) {
+                                    throw new IllegalStateException("Could not write " + FILE, e);
+                                } finally {
+                                    if (null != encoder) { encoders.add(encoder); }
+                                    buffers.add(BUFFER);
+                                }
+                            }, encoderService));
+                            // the encoding returns the buffer to the pool
+                            pixels.set(i, null);
+                        }
+                    } finally {
+                        // buffers that have not been handed over to an encoding (e.g. after an interrupt)
+                        for (int[] buffer : pixels) { if (null != buffer) { buffers.add(buffer); } }
+                    }
+                }
+                CompletableFuture.allOf(encodings.toArray(new CompletableFuture<?>[0])).join();
+                FUTURE.complete(WRITTEN.get());
+            } catch (Throwable t) {
+                FUTURE.completeExceptionally(t);
+            }
+        });
+        return FUTURE;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Control> T getControl(final Object KEY, final Supplier<T> FACTORY) {
+        Control control = controls.get(KEY);
+        if (null == control) {
+            control = FACTORY.get();
+            control.setPrefSize(width, height);
+            control.setMinSize(width, height);
+            control.setMaxSize(width, height);
+            new Scene(new Group(control), width, height, Color.TRANSPARENT);
+            controls.put(KEY, control);
+        }
+        return (T) control;
+    }
+
+    private <T extends Control> void snapshot(final T CONTROL, final Snapshot<T> SNAPSHOT, final int[] PIXELS) {
+        if (CONTROL instanceof Gauge) {
+            ((Gauge) CONTROL).setAnimated(false);
+        } else if (CONTROL instanceof Clock) {
+            ((Clock) CONTROL).setAnimated(false);
+            ((Clock) CONTROL).setRunning(false);
+        }
+        SNAPSHOT.getConfigurator().accept(CONTROL);
+
+        // Applying the CSS creates the skin of the gauge if it has not been shown before
+        Group root = (Group) CONTROL.getScene().getRoot();
+        root.applyCss();
+
+        // The scene has no window, so queued update events have to be dispatched manually
+        if (CONTROL instanceof Gauge) { ((Gauge) CONTROL).flushUpdateEvents(); }
+
+        root.layout();
+
+        if (null == image) { image = new WritableImage(width, height); }
+        image = CONTROL.snapshot(parameters, image);
+        image.getPixelReader().getPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), PIXELS, 0, width);
+    }
+
+    private static void startToolkit() {
+        try {
+            Platform.startup(() -> {});
+        } catch (IllegalStateException e) {
+            // Toolkit already running
+        }
+    }
+
+
+    // ******************** Inner Classes *************************************
+    public static class Snapshot<T extends Control> {
+        private final Consumer<T> configurator;
+        private final Path        file;
+
+
+        // ******************** Constructors **************************************
+        public Snapshot(final Consumer<T> CONFIGURATOR, final Path FILE) {
+            configurator = null == CONFIGURATOR ? control -> {} : CONFIGURATOR;
+            file         = FILE;
+        }
+
+
+        // ******************** Methods *******************************************
+        public Consumer<T> getConfigurator() { return configurator; }
+
+        public Path getFile() { return file; }
+    }
+}
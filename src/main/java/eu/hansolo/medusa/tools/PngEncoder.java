@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+
+/**
+ * Minimal PNG writer for 8 bit RGBA images that takes the pixels directly
+ * from an int[] in ARGB format (as delivered by a PixelReader). Row and
+ * deflate buffers are kept per instance so one encoder can be reused for
+ * many images of the same size. An instance is not thread safe.
+ */
+final class PngEncoder {
+    private static final byte[] SIGNATURE = { (byte) 137, 80, 78, 71, 13, 10, 26, 10 };
+    private static final byte[] IHDR      = { 'I', 'H', 'D', 'R' };
+    private static final byte[] IDAT      = { 'I', 'D', 'A', 'T' };
+    private static final byte[] IEND      = { 'I', 'E', 'N', 'D' };
+    private        final Deflater deflater;
+    private        final CRC32    crc;
+    private              byte[]   row;
+    private              byte[]   chunk;
+
+
+    // ******************** Constructors **************************************
+    PngEncoder() {
+        deflater = new Deflater(Deflater.BEST_SPEED);
+        crc      = new CRC32();
+        chunk    = new byte[65536];
+        row      = new byte[0];
+    }
+
+
+    // ******************** Methods *******************************************
+    void write(final int[] ARGB, final int WIDTH, final int HEIGHT, final Path FILE) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(FILE), 65536)) {
+            write(ARGB, WIDTH, HEIGHT, out);
+        }
+    }
+    void write(final int[] ARGB, final int WIDTH, final int HEIGHT, final OutputStream OUT) throws IOException {
+        OUT.write(SIGNATURE);
+
+        byte[] header = new byte[13];
+        putInt(header, 0, WIDTH);
+        putInt(header, 4, HEIGHT);
+        header[8]  = 8; // bit depth
+        header[9]  = 6; // color type RGBA
+        header[10] = 0; // compression
+        header[11] = 0; // filter
+        header[12] = 0; // interlace
+        writeChunk(OUT, IHDR, header, header.length);
+
+        int rowLength = 1 + WIDTH * 4;
+        if (row.length != rowLength) { row = new byte[rowLength]; }
+
+        deflater.reset();
+        int chunkLength = 0;
+        for (int y = 0 ; y < HEIGHT ; y++) {
+            int offset = y * WIDTH;
+            row[0] = 0; // filter type none
+            for (int x = 0, i = 1 ; x < WIDTH ; x++) {
+                int argb = ARGB[offset + x];
+                row[i++] = (byte) (argb >> 16);
+                row[i++] = (byte) (argb >> 8);
+                row[i++] = (byte) argb;
+                row[i++] = (byte) (argb >>> 24);
+            }
+            deflater.setInput(row, 0, rowLength);
+            while (!deflater.needsInput()) {
+                chunkLength += deflater.deflate(chunk, chunkLength, chunk.length - chunkLength);
+                if (chunkLength == chunk.length) {
+                    writeChunk(OUT, IDAT, chunk, chunkLength);
+                    chunkLength = 0;
+                }
+            }
+        }
+        deflater.finish();
+        while (!deflater.finished()) {
+            chunkLength += deflater.deflate(chunk, chunkLength, chunk.length - chunkLength);
+            if (chunkLength == chunk.length) {
+                writeChunk(OUT, IDAT, chunk, chunkLength);
+                chunkLength = 0;
+            }
+        }
+        if (chunkLength > 0) { writeChunk(OUT, IDAT, chunk, chunkLength); }
+
+        writeChunk(OUT, IEND, new byte[0], 0);
+    }
+
+    void dispose() { deflater.end(); }
+
+    private void writeChunk(final OutputStream OUT, final byte[] TYPE, final byte[] DATA, final int LENGTH) throws IOException {
+        byte[] buffer = new byte[4];
+        putInt(buffer, 0, LENGTH);
+        OUT.write(buffer);
+        OUT.write(TYPE);
+        OUT.write(DATA, 0, LENGTH);
+        crc.reset();
+        crc.update(TYPE);
+        crc.update(DATA, 0, LENGTH);
+        putInt(buffer, 0, (int) crc.getValue());
+        OUT.write(buffer);
+    }
+
+    private static void putInt(final byte[] BUFFER, final int OFFSET, final int VALUE) {
+        BUFFER[OFFSET]     = (byte) (VALUE >>> 24);
+        BUFFER[OFFSET + 1] = (byte) (VALUE >>> 16);
+        BUFFER[OFFSET + 2] = (byte) (VALUE >>> 8);
+        BUFFER[OFFSET + 3] = (byte) VALUE;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ToDoubleFunction;
+
+
+/**
+ * Subscribes a target (e.g. a gauge) to a Flow.Publisher.
+ * The items are mapped to a double and handed over to the FX application
+ * thread by an AsyncValueDispatcher.Slot, so only the latest item per
+ * frame will be applied to the target (latest wins), older items are
+ * dropped and nothing is buffered.
+ * Demand: the subscriber has a fixed budget of DEMAND items per frame.
+ * It requests DEMAND items on subscription and, whenever the slot is
+ * drained on a pulse of the AsyncValueDispatcher, requests as many items
+ * as it received since the last drain. So the outstanding demand never
+ * exceeds DEMAND and a fast publisher is throttled to the display rate,
+ * no matter how often the values are applied. No timer is needed per
+ * binding, because the slot is drained on the pulse after each item.
+ * The target is only weakly referenced, the subscription will be
+ * cancelled with the first item after the target has been garbage
+ * collected (or with cancel()).
+ * An error of the publisher or of the mapper ends the binding and can
+ * be queried with getError().
+ *
+ * @param <T> the type of the published items
+ * @param <B> the type of the target
+ */
+public final class PublisherBinding<T, B> implements Flow.Subscriber<T> {
+    public  static final int                          DEFAULT_DEMAND = 1;
+    private        final WeakReference<B>             target;
+    private        final ToDoubleFunction<? super T>  mapper;
+    private        final ObjDoubleConsumer<B>         setter;
+    private        final int                          demand;
+    private        final AsyncValueDispatcher.Slot    slot;
+    private        final AtomicInteger                received;
+    private volatile     Flow.Subscription            subscription;
+    private volatile     Throwable                    error;
+    private volatile     boolean                      completed;
+    private volatile     boolean                      cancelled;
+
+
+    // ******************** Constructors **************************************
+    public PublisherBinding(final B TARGET, final ToDoubleFunction<? super T> MAPPER, final ObjDoubleConsumer<B> SETTER) {
+        this(TARGET, MAPPER, SETTER, DEFAULT_DEMAND);
+    }
+    public PublisherBinding(final B TARGET, final ToDoubleFunction<? super T> MAPPER, final ObjDoubleConsumer<B> SETTER, final int DEMAND) {
+        if (DEMAND < 1) { throw new IllegalArgumentException("Demand must be at least 1"); }
+        target   = new WeakReference<>(TARGET);
+        mapper   = MAPPER;
+        setter   = SETTER;
+        demand   = DEMAND;
+        slot     = new AsyncValueDispatcher.Slot(this::apply);
+        received = new AtomicInteger();
+    }
+
+
+    // ******************** Methods *******************************************
+    @Override public void onSubscribe(final Flow.Subscription SUBSCRIPTION) {
+        if (null != subscription || cancelled) {
+            SUBSCRIPTION.cancel();
+            return;
+        }
+        subscription = SUBSCRIPTION;
+        SUBSCRIPTION.request(demand);
+    }
+
+    @Override public void onNext(final T ITEM) {
+        if (completed || cancelled) { return; }
+        if (null == target.get()) {
+            cancel();
+            return;
+        }
+        final double VALUE;
+        try {
+            VALUE = mapper.applyAsDouble(ITEM);
+        } catch (RuntimeException e) {
+            error = e;
+            cancel();
+            return;
+        }
+        received.incrementAndGet();
+        slot.set(VALUE);
+    }
+
+    // the latest value will still be applied
+    @Override public void onError(final Throwable THROWABLE) {
+        error     = THROWABLE;
+        completed = true;
+    }
+
+    @Override public void onComplete() { completed = true; }
+
+    /**
+     * Cancels the subscription, values that have not been applied yet
+     * will be dropped. Can be called from any thread.
+     */
+    public void cancel() {
+        cancelled = true;
+        final Flow.Subscription SUBSCRIPTION = subscription;
+        if (null != SUBSCRIPTION) { SUBSCRIPTION.cancel(); }
+    }
+
+    /**
+     * Returns true as long as the binding receives items, false after it
+     * has been cancelled or the publisher completed.
+     * @return true as long as the binding receives items
+     */
+    public boolean isActive() { return !completed && !cancelled; }
+
+    /**
+     * Returns the error that was signalled by the publisher or thrown by
+     * the mapper, null if the binding is active or ended without error.
+     * @return the error that ended the binding or null
+     */
+    public Throwable getError() { return error; }
+
+    // called on the FX application thread with the latest value
+    private void apply(final double VALUE) {
+        final B TARGET = target.get();
+        if (null == TARGET) {
+            cancel();
+            return;
+        }
+        if (cancelled) { return; }
+        setter.accept(TARGET, VALUE);
+        replenish();
+    }
+
+    // called once per pulse when the slot was drained, tops the outstanding demand up to the budget of one frame
+    private void replenish() {
+        if (!isActive()) { return; }
+        final int RECEIVED = received.getAndSet(0);
+        if (RECEIVED > 0) { subscription.request(RECEIVED); }
+    }
+}
@@ -0,0 +1,323 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import eu.hansolo.medusa.Gauge.KnobType;
+import eu.hansolo.medusa.Gauge.NeedleShape;
+import eu.hansolo.medusa.Gauge.NeedleType;
+import eu.hansolo.medusa.TickLabelLocation;
+import javafx.geometry.Bounds;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.effect.DropShadow;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.CycleMethod;
+import javafx.scene.paint.LinearGradient;
+import javafx.scene.paint.RadialGradient;
+import javafx.scene.paint.Stop;
+import javafx.scene.shape.Path;
+import javafx.scene.transform.Transform;
+import javafx.stage.Screen;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+
+/**
+ * Rasterizes needles and knobs once and shares the resulting images
+ * between all skins. Gauges of the same type, size and colors will use
+ * the same image (and so the same texture) and only rotate or position
+ * it with their own ImageView. The images are keyed by all parameters
+ * that have an influence on their look, so a style change of one gauge
+ * simply leads to another image. The least recently used images will be
+ * dropped if the cache exceeds its size which can be set with
+ * -Dmedusa.rasterCacheSize (default 256 images).
+ * The images are rendered with the output scale of the primary screen.
+ * The cache must only be used on the FX application thread.
+ */
+public final class RasterCache {
+    private static final int                      MAX_ENTRIES = Integer.getInteger("medusa.rasterCacheSize", 256);
+    private static final Map<List<Object>, Image> CACHE       = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override protected boolean removeEldestEntry(final Map.Entry<List<Object>, Image> ELDEST) { return size() > MAX_ENTRIES; }
+    };
+    private static final SnapshotParameters       PARAMETERS  = new SnapshotParameters();
+    private static       Canvas                   canvas;
+    private static       long                     hits;
+    private static       long                     misses;
+
+    static {
+        PARAMETERS.setFill(Color.TRANSPARENT);
+    }
+
+
+    // ******************** Constructors **************************************
+    private RasterCache() {}
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns the image of a knob with the given size. REFERENCE is the
+     * size the proportions of the knob (e.g. the width of the frame) are
+     * related to, in most skins this is the size of the gauge.
+     * @param TYPE
+     * @param COLOR
+     * @param SIZE
+     * @param REFERENCE
+     * @param PRESSED
+     * @return the image of the knob
+     */
+    public static Image getKnob(final KnobType TYPE, final Color COLOR, final double SIZE, final double REFERENCE, final boolean PRESSED) {
+        if (SIZE <= 0) { return null; }
+        final double SCALE = getOutputScale();
+        return get(Arrays.asList(KnobType.class, TYPE, COLOR, SIZE, REFERENCE, PRESSED, SCALE), () -> {
+            final int PIXELS = (int) Math.ceil(SIZE * SCALE);
+            if (null == canvas) { canvas = new Canvas(); }
+            canvas.setWidth(PIXELS);
+            canvas.setHeight(PIXELS);
+            GraphicsContext ctx = canvas.getGraphicsContext2D();
+            ctx.clearRect(0, 0, PIXELS, PIXELS);
+            ctx.save();
+            ctx.scale(SCALE, SCALE);
+            drawKnob(ctx, SIZE, REFERENCE, TYPE, COLOR, PRESSED);
+            ctx.restore();
+            PARAMETERS.setTransform(Transform.scale(1, 1));
+            return canvas.snapshot(PARAMETERS, null);
+        });
+    }
+
+    /**
+     * Returns the image of the given needle path. The path must already
+     * have its final shape, fill and stroke and must not be transformed.
+     * The image covers the local bounds of the path, use setImage() to
+     * show it in an ImageView with the same local coordinates as the path.
+     * @param NEEDLE
+     * @param TYPE
+     * @param SHAPE
+     * @param TICK_LABEL_LOCATION
+     * @param COLOR
+     * @param BORDER_COLOR
+     * @return the image of the needle
+     */
+    public static Image getNeedle(final Path NEEDLE, final NeedleType TYPE, final NeedleShape SHAPE, final TickLabelLocation TICK_LABEL_LOCATION, final Color COLOR, final Color BORDER_COLOR) {
+        return getNeedle(NEEDLE, TYPE, SHAPE, TICK_LABEL_LOCATION, COLOR, BORDER_COLOR, null);
+    }
+    /**
+     * Returns the image of the given needle path with the given shadow
+     * rendered into it. Because the image will be rotated the shadow
+     * should not have an offset.
+     * @param NEEDLE
+     * @param TYPE
+     * @param SHAPE
+     * @param TICK_LABEL_LOCATION
+     * @param COLOR
+     * @param BORDER_COLOR
+     * @param SHADOW the shadow to render into the image or null
+     * @return the image of the needle
+     */
+    public static Image getNeedle(final Path NEEDLE, final NeedleType TYPE, final NeedleShape SHAPE, final TickLabelLocation TICK_LABEL_LOCATION, final Color COLOR, final Color BORDER_COLOR, final DropShadow SHADOW) {
+        NEEDLE.setEffect(SHADOW);
+        final Bounds BOUNDS = NEEDLE.getLayoutBounds();
+        if (BOUNDS.getWidth() <= 0 || BOUNDS.getHeight() <= 0) { return null; }
+        final double       SCALE      = getOutputScale();
+        final List<Object> SHADOW_KEY = null == SHADOW ? null : Arrays.asList(SHADOW.getColor(), SHADOW.getRadius(), SHADOW.getSpread(), SHADOW.getOffsetX(), SHADOW.getOffsetY());
+        return get(Arrays.asList(NeedleType.class, TYPE, SHAPE, TICK_LABEL_LOCATION, BOUNDS.getWidth(), BOUNDS.getHeight(), COLOR, BORDER_COLOR, NEEDLE.getStrokeWidth(), SHADOW_KEY, SCALE), () -> {
+            PARAMETERS.setTransform(Transform.scale(SCALE, SCALE));
+            return NEEDLE.snapshot(PARAMETERS, null);
+        });
+    }
+
+    /**
+     * Shows the image of the given needle path in the given image view. The
+     * image view will get the same local coordinates and the same layout
+     * position as the path, so transforms (e.g. a Rotate with a pivot
+     * relative to the path) can be applied to the image view unchanged.
+     * @param VIEW
+     * @param NEEDLE
+     * @param IMAGE
+     */
+    public static void setImage(final ImageView VIEW, final Path NEEDLE, final Image IMAGE) {
+        final Bounds BOUNDS = NEEDLE.getBoundsInLocal();
+        VIEW.setImage(IMAGE);
+        VIEW.setX(BOUNDS.getMinX());
+        VIEW.setY(BOUNDS.getMinY());
+        VIEW.setFitWidth(BOUNDS.getWidth());
+        VIEW.setFitHeight(BOUNDS.getHeight());
+        VIEW.setLayoutX(NEEDLE.getLayoutX());
+        VIEW.setLayoutY(NEEDLE.getLayoutY());
+    }
+
+    /**
+     * Removes all images from the cache. Images that are in use will be
+     * kept by their image views until these get a new image.
+     */
+    public static void clear() {
+        CACHE.clear();
+        hits   = 0;
+        misses = 0;
+    }
+
+    public static int size() { return CACHE.size(); }
+
+    public static long getHits() { return hits; }
+
+    public static long getMisses() { return misses; }
+
+    private static Image get(final List<Object> KEY, final Supplier<Image> FACTORY) {
+        Image image = CACHE.get(KEY);
+        if (null == image) {
+            misses++;
+            image = FACTORY.get();
+            CACHE.put(KEY, image);
+        } else {
+            hits++;
+        }
+        return image;
+    }
+
+    private static double getOutputScale() {
+        return Screen.getPrimary().getOutputScaleX();
+    }
+
+    private static void drawKnob(final GraphicsContext CTX, final double SIZE, final double REFERENCE, final KnobType TYPE, final Color COLOR, final boolean PRESSED) {
+        double w = SIZE;
+        double h = SIZE;
+
+        Color  knobColor = COLOR;
+        double hue       = knobColor.getHue();
+        double sat       = knobColor.getSaturation();
+        double alp       = knobColor.getOpacity();
+        double brg       = Color.BLACK.equals(knobColor) ? 0.2 : knobColor.getBrightness();
+        double gradTop;
+        double gradBot;
+
+        switch (TYPE) {
+            case PLAIN:
+                CTX.setFill(new LinearGradient(0, 0, 0, h, false, CycleMethod.NO_CYCLE,
+                                               new Stop(0.0, Color.rgb(180,180,180)),
+                                               new Stop(0.46, Color.rgb(63,63,63)),
+                                               new Stop(1.0, Color.rgb(40,40,40))));
+                CTX.fillOval(0, 0, w, h);
+
+                CTX.setFill(new LinearGradient(0, 0.11764706 * h, 0, 0.76470588 * h, false, CycleMethod.NO_CYCLE,
+                                               new Stop(0.0, Color.hsb(hue, sat, PRESSED ? brg * 0.9 : brg * 1.0, alp)),
+                                               new Stop(0.01, Color.hsb(hue, sat, PRESSED ? brg * 0.75 : brg * 0.85, alp)),
+                                               new Stop(0.5, Color.hsb(hue, sat, PRESSED ? brg * 0.4 : brg * 0.5, alp)),
+                                               new Stop(0.51, Color.hsb(hue, sat, PRESSED ? brg * 0.35 : brg * 0.45, alp)),
+                                               new Stop(1.0, Color.hsb(hue, sat, PRESSED ? brg * 0.7 : brg * 0.8, alp))));
+                CTX.fillOval(w * 0.11764706, h * 0.11764706, w - w * 0.23529412, h - h * 0.23529412);
+
+                CTX.setFill(new RadialGradient(0, 0, 0.5 * w, 0.47 * h, w * 0.38, false, CycleMethod.NO_CYCLE,
+                                               new Stop(0, Color.TRANSPARENT),
+                                               new Stop(0.76, Color.TRANSPARENT),
+                                               new Stop(1.0, Color.rgb(0, 0, 0, PRESSED ? 0.5 : 0.2))));
+                CTX.fillOval(w * 0.11764706, h * 0.11764706, w - w * 0.23529412, h - h * 0.23529412);
+                break;
+            case METAL:
+                CTX.setFill(new LinearGradient(0, 0, 0, h,
+                                               false, CycleMethod.NO_CYCLE,
+                                               new Stop(0.0, Color.rgb(92,95,101)),
+                                               new Stop(0.47, Color.rgb(46,49,53)),
+                                               new Stop(1.0, Color.rgb(22,23,26))));
+                CTX.fillOval(0, 0, w, h);
+
+                CTX.setFill(new LinearGradient(0, 0.058823529411764705 * h, 0, 0.9411764705882353 * h,
+                                               false, CycleMethod.NO_CYCLE,
+                                               new Stop(0.0, Color.hsb(hue, sat, PRESSED ? brg * 0.7 : brg * 0.9, alp)),
+                                               new Stop(0.0, Color.hsb(hue, sat, PRESSED ? brg * 0.3 : brg * 0.5, alp))));
+                CTX.fillOval(0.05882353 * w, 0.05882353 * h, w * 0.88235294, h * 0.88235294);
+
+                CTX.beginPath();
+                CTX.moveTo(0.17647058823529413 * w, 0.8235294117647058 * h);
+                CTX.bezierCurveTo(0.29411764705882354 * w, 0.8823529411764706 * h, 0.35294117647058826 * w, 0.9411764705882353 * h, 0.5294117647058824 * w, 0.9411764705882353 * h);
+                CTX.bezierCurveTo(0.6470588235294118 * w, 0.9411764705882353 * h, 0.7058823529411765 * w, 0.8823529411764706 * h, 0.8235294117647058 * w, 0.8235294117647058 * h);
+                CTX.bezierCurveTo(0.7647058823529411 * w, 0.7058823529411765 * h, 0.6470588235294118 * w, 0.5882352941176471 * h, 0.5294117647058824 * w, 0.5882352941176471 * h);
+                CTX.bezierCurveTo(0.35294117647058826 * w, 0.5882352941176471 * h, 0.23529411764705882 * w, 0.7058823529411765 * h, 0.17647058823529413 * w, 0.8235294117647058 * h);
+                CTX.closePath();
+                CTX.setFill(new RadialGradient(0, 0,
+                                            0.47058823529411764 * w, 0.8823529411764706 * h,
+                                            0.3235294117647059 * w,
+                                               false, CycleMethod.NO_CYCLE,
+                                               new Stop(0.0, Color.rgb(255, 255, 255, PRESSED ? 0.3 : 0.6)),
+                                               new Stop(1.0, Color.TRANSPARENT)));
+                CTX.fill();
+
+                CTX.beginPath();
+                CTX.moveTo(0.058823529411764705 * w, 0.29411764705882354 * h);
+                CTX.bezierCurveTo(0.17647058823529413 * w, 0.35294117647058826 * h, 0.35294117647058826 * w, 0.35294117647058826 * h, 0.5294117647058824 * w, 0.35294117647058826 * h);
+                CTX.bezierCurveTo(0.6470588235294118 * w, 0.35294117647058826 * h, 0.8235294117647058 * w, 0.35294117647058826 * h, 0.9411764705882353 * w, 0.29411764705882354 * h);
+                CTX.bezierCurveTo(0.8823529411764706 * w, 0.11764705882352941 * h, 0.7058823529411765 * w, 0.0 * h, 0.5294117647058824 * w, 0.0 * h);
+                CTX.bezierCurveTo(0.29411764705882354 * w, 0.0 * h, 0.11764705882352941 * w, 0.11764705882352941 * h, 0.058823529411764705 * w, 0.29411764705882354 * h);
+                CTX.closePath();
+                CTX.setFill(new RadialGradient(0, 0,
+                                            0.47058823529411764 * w, 0.0,
+                                            0.4411764705882353 * w,
+                                               false, CycleMethod.NO_CYCLE,
+                                               new Stop(0.0, Color.rgb(255, 255, 255, PRESSED ? 0.45 : 0.75)),
+                                               new Stop(1.0, Color.TRANSPARENT)));
+                CTX.fill();
+
+                CTX.setFill(new LinearGradient(0.5294117647058824 * w, 0.23529411764705882 * h,
+                                            0.5294117647058824 * w, 0.7647058823529411 * h,
+                                               false, CycleMethod.NO_CYCLE,
+                                               new Stop(0.0, Color.BLACK),
+                                               new Stop(1.0, Color.rgb(204, 204, 204))));
+                CTX.fillOval(0.23529412 * w, 0.23529412 * h, 0.52941176 * w, 0.52941176 * h);
+
+                CTX.setFill(new LinearGradient(0.5294117647058824 * w, 0.29411764705882354 * h,
+                                            0.5294117647058824 * w, 0.7058823529411765 * h,
+                                               false, CycleMethod.NO_CYCLE,
+                                               new Stop(0.0, Color.rgb(1,6,11)),
+                                               new Stop(1.0, Color.rgb(50,52,56))));
+                CTX.fillOval(0.29411765 * w, 0.29411765 * h, 0.41176471 * w, 0.41176471 * h);
+                break;
+            case FLAT:
+                double lineWidth = 0.00740741 * REFERENCE;
+                double knobSize  = w - 2 * lineWidth;
+                CTX.setFill(PRESSED ? knobColor.darker() : knobColor);
+                CTX.setStroke(PRESSED ? Color.WHITE.darker() : Color.WHITE);
+                CTX.setLineWidth(lineWidth);
+                CTX.fillOval(lineWidth, lineWidth, knobSize, knobSize);
+                CTX.strokeOval(lineWidth, lineWidth, knobSize, knobSize);
+                break;
+            case STANDARD:
+            default:
+                CTX.setFill(new LinearGradient(0, 0, 0, h,
+                                               false, CycleMethod.NO_CYCLE,
+                                               new Stop(0.0, Color.rgb(133, 133, 133).brighter().brighter()),
+                                               new Stop(0.52, Color.rgb(133, 133, 133)),
+                                               new Stop(1.0, Color.rgb(133, 133, 133).darker().darker())));
+                CTX.fillOval(0, 0, w, h);
+                gradTop = PRESSED ? h - REFERENCE * 0.01 : REFERENCE * 0.005;
+                gradBot = PRESSED ? REFERENCE * 0.005 : h - REFERENCE * 0.01;
+                CTX.setFill(new LinearGradient(0, gradTop, 0, gradBot,
+                                               false, CycleMethod.NO_CYCLE,
+                                               new Stop(0.0, Color.hsb(hue, sat, brg * 0.85, alp)),
+                                               new Stop(0.45, Color.hsb(hue, sat, brg * 0.65, alp)),
+                                               new Stop(1.0, Color.hsb(hue, sat, brg * 0.4, alp))));
+                CTX.fillOval(REFERENCE * 0.005, REFERENCE * 0.005, w - REFERENCE * 0.01, h - REFERENCE * 0.01);
+                break;
+        }
+    
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.ArcType;
+import javafx.scene.shape.StrokeLineCap;
+
+
+/**
+ * Renders a circular bar made of segments (like in the DIGITAL and
+ * SIMPLE_DIGITAL skins) into a canvas. The bar remembers which segments
+ * are lit and with which paint they have been drawn, so on a value change
+ * only the segments that changed their state will be touched. Segments
+ * that have to be switched off are cleared through a wedge shaped clip.
+ * The whole bar will only be redrawn if the paint or the geometry changed
+ * or if more segments changed than are lit.
+ * Segment k is drawn at the angle START_ANGLE - k * SEGMENT_ANGLE with the
+ * given extent (angles in degrees like in GraphicsContext.strokeArc()).
+ */
+public final class SegmentedBar {
+    private final Canvas          canvas;
+    private final GraphicsContext ctx;
+    private final int             noOfSegments;
+    private final int             segmentAngle;
+    private       double          x;
+    private       double          y;
+    private       double          diameter;
+    private       double          lineWidth;
+    private       double          startAngle;
+    private       double          extent;
+    private       Paint           paint;
+    private       int             litFrom;
+    private       int             litTo;
+    private       boolean         dirty;
+
+
+    // ******************** Constructors **************************************
+    public SegmentedBar(final Canvas CANVAS, final int NO_OF_SEGMENTS, final int SEGMENT_ANGLE) {
+        if (NO_OF_SEGMENTS <= 0 || SEGMENT_ANGLE <= 0) { throw new IllegalArgumentException("Number of segments and segment angle must be positive"); }
+        canvas       = CANVAS;
+        ctx          = CANVAS.getGraphicsContext2D();
+        noOfSegments = NO_OF_SEGMENTS;
+        segmentAngle = SEGMENT_ANGLE;
+        dirty        = true;
+    }
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Defines the geometry of the bar. If it differs from the current
+     * geometry the bar will be redrawn completely on the next update.
+     * @param X the x coordinate of the bounds of the arcs
+     * @param Y the y coordinate of the bounds of the arcs
+     * @param DIAMETER the width and height of the bounds of the arcs
+     * @param LINE_WIDTH the width of the segments
+     * @param START_ANGLE the start angle of the first segment
+     * @param EXTENT the angular extent of one segment
+     */
+    public void setGeometry(final double X, final double Y, final double DIAMETER, final double LINE_WIDTH, final double START_ANGLE, final double EXTENT) {
+        if (Double.compare(X, x) == 0 && Double.compare(Y, y) == 0 && Double.compare(DIAMETER, diameter) == 0 &&
+            Double.compare(LINE_WIDTH, lineWidth) == 0 && Double.compare(START_ANGLE, startAngle) == 0 &&
+            Double.compare(EXTENT, extent) == 0) { return; }
+        x            = X;
+        y            = Y;
+        diameter     = DIAMETER;
+        lineWidth    = LINE_WIDTH;
+        startAngle   = START_ANGLE;
+        extent       = EXTENT;
+        dirty        = true;
+    }
+
+    /**
+     * Forces a complete redraw on the next update (e.g. after the canvas
+     * was cleared or resized).
+     */
+    public void invalidate() { dirty = true; }
+
+    /**
+     * Lights the segments that correspond to the given value. The value
+     * angle is the angle between the start of the scale and the value, the
+     * zero angle is the angle between the start of the scale and zero.
+     * If START_FROM_ZERO is true the segments between zero and the value
+     * will be lit, otherwise the segments between the start of the scale
+     * and the value.
+     * @param VALUE
+     * @param VALUE_ANGLE
+     * @param ZERO_ANGLE
+     * @param START_FROM_ZERO
+     * @param PAINT
+     * @return true if the canvas has been touched
+     */
+    public boolean setValue(final double VALUE, final double VALUE_ANGLE, final int ZERO_ANGLE, final boolean START_FROM_ZERO, final Paint PAINT) {
+        final int RANGE = noOfSegments * segmentAngle;
+        int from = 0;
+        int to   = 0;
+        if (!START_FROM_ZERO) {
+            // all segments with a start angle below the value angle
+            to = (int) Math.ceil(VALUE_ANGLE / segmentAngle);
+        } else if (VALUE < 0) {
+            // segments between the value angle (inclusive) and zero
+            from = (int) Math.floor((VALUE_ANGLE - segmentAngle) / segmentAngle) + 1;
+            to   = Math.floorDiv(Math.min(ZERO_ANGLE, RANGE) - 1, segmentAngle) + 1;
+        } else if (VALUE > 0) {
+            // segments between the one that contains zero and the value angle
+            from = -Math.floorDiv(-(Math.max(ZERO_ANGLE, 0) - segmentAngle / 2), segmentAngle);
+            to   = (int) Math.ceil(VALUE_ANGLE / segmentAngle);
+        }
+        return setSegments(from, to, PAINT);
+    }
+
+    /**
+     * Lights the segments from FROM (inclusive) to TO (exclusive) with the
+     * given paint, all other segments will be switched off.
+     * @param FROM
+     * @param TO
+     * @param PAINT
+     * @return true if the canvas has been touched
+     */
+    public boolean setSegments(final int FROM, final int TO, final Paint PAINT) {
+        final int NEW_FROM = Helper.clamp(0, noOfSegments, FROM);
+        final int NEW_TO   = Math.max(NEW_FROM, Helper.clamp(0, noOfSegments, TO));
+
+        final int CHANGED;
+        if (NEW_TO <= litFrom || NEW_FROM >= litTo) {
+            CHANGED = (litTo - litFrom) + (NEW_TO - NEW_FROM);
+        } else {
+            CHANGED = Math.abs(NEW_FROM - litFrom) + Math.abs(NEW_TO - litTo);
+        }
+
+        final boolean REDRAW = dirty || !PAINT.equals(paint) || CHANGED > NEW_TO - NEW_FROM;
+        if (REDRAW) {
+            ctx.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+            prepare(PAINT);
+            for (int i = NEW_FROM ; i < NEW_TO ; i++) { strokeSegment(i); }
+            dirty = false;
+        } else if (CHANGED > 0) {
+            prepare(PAINT);
+            for (int i = litFrom ; i < litTo ; i++) {
+                if (i < NEW_FROM || i >= NEW_TO) { clearSegment(i); }
+            }
+            for (int i = NEW_FROM ; i < NEW_TO ; i++) {
+                if (i < litFrom || i >= litTo) { strokeSegment(i); }
+            }
+        }
+        paint   = PAINT;
+        litFrom = NEW_FROM;
+        litTo   = NEW_TO;
+        return REDRAW || CHANGED > 0;
+    }
+
+    public int getLitFrom() { return litFrom; }
+
+    public int getLitTo() { return litTo; }
+
+    private void prepare(final Paint PAINT) {
+        ctx.setLineCap(StrokeLineCap.BUTT);
+        ctx.setLineWidth(lineWidth);
+        ctx.setStroke(PAINT);
+    }
+
+    private void strokeSegment(final int INDEX) {
+        ctx.strokeArc(x, y, diameter, diameter, startAngle - INDEX * segmentAngle, extent, ArcType.OPEN);
+    }
+
+    private void clearSegment(final int INDEX) {
+        final double CENTER_X = x + diameter * 0.5;
+        final double CENTER_Y = y + diameter * 0.5;
+        final double RADIUS   = diameter * 0.5 + lineWidth;
+        // the wedge is centered on the segment so that its edges lie in the gaps to the neighbours
+        final double START    = startAngle - INDEX * segmentAngle - (segmentAngle - extent) * 0.5;
+        ctx.save();
+        ctx.beginPath();
+        ctx.moveTo(CENTER_X, CENTER_Y);
+        ctx.arc(CENTER_X, CENTER_Y, RADIUS, RADIUS, START, segmentAngle);
+        ctx.closePath();
+        ctx.clip();
+        ctx.clearRect(CENTER_X - RADIUS, CENTER_Y - RADIUS, 2 * RADIUS, 2 * RADIUS);
+        ctx.restore();
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import javafx.geometry.Bounds;
+import javafx.geometry.VPos;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Measures text without a layout pass of the text node that shows it.
+ * Each font (by name) is measured once at a reference size with an
+ * off-scene Text node, all other sizes are scaled linearly.
+ * Numeric strings (digits, signs and separators) are measured
+ * by summing up the cached advances of their characters, because the
+ * digits of the fonts used for values have no kerning. All other
+ * strings are cached per (font, string) in a small LRU cache. The
+ * fonts themselves are cached per (name, size), see getFont().
+ * Like the skins that use it, this class must only be used on the FX
+ * application thread.
+ */
+public final class TextMeasurer {
+    private static final double                  REFERENCE_SIZE = 100;
+    private static final int                     MAX_STRINGS    = 512;
+    private static final int                     MAX_FONTS      = 64;
+    private static final String                  NUMERIC_CHARS  = "0123456789.,-+";
+    private static final Text                    TEXT           = new Text();
+    private static final Map<String, FontEntry>  FONTS          = new HashMap<>();
+
+    static {
+        TEXT.setTextOrigin(VPos.BASELINE);
+    }
+
+
+    // ******************** Constructors **************************************
+    private TextMeasurer() {}
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns the width of the given text in the given font like
+     * getLayoutBounds().getWidth() of a Text node would do.
+     * @param FONT
+     * @param STRING
+     * @return the width of the given text in the given font
+     */
+    public static double getWidth(final Font FONT, final String STRING) {
+        if (null == STRING || STRING.isEmpty()) { return 0; }
+        return getEntry(FONT).getWidth(STRING) * FONT.getSize() / REFERENCE_SIZE;
+    }
+
+    /**
+     * Returns the height of one line of text in the given font like
+     * getLayoutBounds().getHeight() of a Text node would do.
+     * @param FONT
+     * @return the height of one line of text in the given font
+     */
+    public static double getHeight(final Font FONT) { return getEntry(FONT).height * FONT.getSize() / REFERENCE_SIZE; }
+
+    /**
+     * Returns the distance between the top of the layout bounds and the
+     * baseline of a text in the given font.
+     * @param FONT
+     * @return the ascent of the given font
+     */
+    public static double getAscent(final Font FONT) { return getEntry(FONT).ascent * FONT.getSize() / REFERENCE_SIZE; }
+
+    /**
+     * Returns the biggest font size up to the size of the given font for
+     * which the given text fits into MAX_WIDTH (but not less than
+     * Helper.MIN_FONT_SIZE), rounded down to a multiple of 0.1. Because
+     * the width scales linearly with the font size this needs no iteration.
+     * @param FONT
+     * @param STRING
+     * @param MAX_WIDTH
+     * @return the font size for which the given text fits into MAX_WIDTH
+     */
+    public static double fitFontSize(final Font FONT, final String STRING, final double MAX_WIDTH) {
+        final double FONT_SIZE = FONT.getSize();
+        final double WIDTH     = getWidth(FONT, STRING);
+        if (WIDTH <= MAX_WIDTH) { return FONT_SIZE; }
+        return Math.max(Helper.MIN_FONT_SIZE, Math.floor(FONT_SIZE * MAX_WIDTH / WIDTH * 10) / 10);
+    }
+
+    /**
+     * Returns a cached font with the given name and size. Fitting text
+     * often leads to the same sizes over and over again (e.g. on every
+     * value update), so the last used sizes of each font are cached.
+     * @param NAME
+     * @param SIZE
+     * @return a font with the given name and size
+     */
+    public static Font getFont(final String NAME, final double SIZE) {
+        final Map<Double, Font> FONT_SIZES = getEntry(NAME).fonts;
+        Font font = FONT_SIZES.get(SIZE);
+        if (null == font) {
+            font = new Font(NAME, SIZE);
+            FONT_SIZES.put(SIZE, font);
+        }
+        return font;
+    }
+
+    /**
+     * Removes all cached measurements and fonts.
+     */
+    public static void clear() { FONTS.clear(); }
+
+    private static FontEntry getEntry(final Font FONT) { return getEntry(FONT.getName()); }
+    private static FontEntry getEntry(final String NAME) {
+        FontEntry entry = FONTS.get(NAME);
+        if (null == entry) {
+            entry = new FontEntry(new Font(NAME, REFERENCE_SIZE));
+            FONTS.put(NAME, entry);
+        }
+        return entry;
+    }
+
+    private static boolean isNumeric(final String STRING) {
+        for (int i = 0 ; i < STRING.length() ; i++) { if (NUMERIC_CHARS.indexOf(STRING.charAt(i)) < 0) { return false; } }
+        return true;
+    }
+
+    private static Bounds measure(final Font FONT, final String STRING) {
+        TEXT.setFont(FONT);
+        TEXT.setText(STRING);
+        return TEXT.getLayoutBounds();
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static final class FontEntry {
+        private final Font                font;
+        private final double              height;
+        private final double              ascent;
+        private final double[]            advances;
+        private final Map<String, Double> widths;
+        private final Map<Double, Font>   fonts;
+
+
+        // ******************** Constructors **********************************
+        FontEntry(final Font FONT) {
+            font     = FONT;
+            advances = new double[NUMERIC_CHARS.length()];
+            Arrays.fill(advances, -1);
+            widths   = new LinkedHashMap<String, Double>(16, 0.75f, true) {
+                @Override protected boolean removeEldestEntry(final Map.Entry<String, Double> ELDEST) { return size() > MAX_STRINGS; }
+            };
+            fonts    = new LinkedHashMap<Double, Font>(16, 0.75f, true) {
+                @Override protected boolean removeEldestEntry(final Map.Entry<Double, Font> ELDEST) { return size() > MAX_FONTS; }
+            };
+            Bounds bounds = measure(font, "0");
+            height = bounds.getHeight();
+            ascent = -bounds.getMinY();
+        }
+
+
+        // ******************** Methods ***************************************
+        double getWidth(final String STRING) {
+            if (isNumeric(STRING)) {
+                double width = 0;
+                for (int i = 0 ; i < STRING.length() ; i++) { width += getAdvance(NUMERIC_CHARS.indexOf(STRING.charAt(i))); }
+                return width;
+            }
+            Double width = widths.get(STRING);
+            if (null == width) {
+                width = measure(font, STRING).getWidth();
+                widths.put(STRING, width);
+            }
+            return width;
+        }
+
+        private double getAdvance(final int INDEX) {
+            if (advances[INDEX] < 0) { advances[INDEX] = measure(font, String.valueOf(NUMERIC_CHARS.charAt(INDEX))).getWidth(); }
+            return advances[INDEX];
+        }
+    }
+}
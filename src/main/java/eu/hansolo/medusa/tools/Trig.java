@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+
+/**
+ * Sine, cosine and arc tangent from lookup tables with linear
+ * interpolation. Used in the drawing routines where the same angles are
+ * calculated over and over again (tick marks, dots, conical gradients).
+ * The resolution is given in table entries per degree and can be set
+ * with -Dmedusa.trigResolution=n (default {@value #DEFAULT_RESOLUTION}).
+ * With the default resolution the maximum error of sin/cos is about
+ * 1.5e-7, which is less than 1/10000 of a pixel on a 1024px gauge. A
+ * resolution of 0 switches the tables off and uses the Math functions.
+ */
+public final class Trig {
+    public  static final int    DEFAULT_RESOLUTION = 16;
+    public  static final int    MAX_RESOLUTION     = 1024;
+    private static final double RAD_TO_DEG         = 180.0 / Math.PI;
+    private static final int    ATAN_SIZE          = 4096;
+    private static final double[] ATAN             = new double[ATAN_SIZE + 2];
+    private static volatile Table table;
+
+    static {
+        for (int i = 0 ; i < ATAN.length ; i++) { ATAN[i] = Math.toDegrees(Math.atan((double) i / ATAN_SIZE)); }
+        setResolution(Integer.getInteger("medusa.trigResolution", DEFAULT_RESOLUTION));
+    }
+
+
+    // ******************** Constructors **************************************
+    private Trig() {}
+
+
+    // ******************** Methods *******************************************
+    /**
+     * Returns the number of table entries per degree, 0 means the tables
+     * are switched off.
+     * @return the number of table entries per degree
+     */
+    public static int getResolution() { return null == table ? 0 : table.resolution; }
+    /**
+     * Defines the number of table entries per degree. The sine table will
+     * be rebuilt, it has 360 * RESOLUTION entries. 0 switches the tables
+     * off and uses the Math functions.
+     * @param RESOLUTION
+     */
+    public static void setResolution(final int RESOLUTION) {
+        final int STEPS = Helper.clamp(0, MAX_RESOLUTION, RESOLUTION);
+        table = 0 == STEPS ? null : new Table(STEPS);
+    }
+
+    /**
+     * Returns the sine of the given angle in degrees.
+     * @param DEGREES
+     * @return the sine of the given angle in degrees
+     */
+    public static double sinDeg(final double DEGREES) {
+        final Table TABLE = table;
+        if (null == TABLE || !Double.isFinite(DEGREES)) { return Math.sin(Math.toRadians(DEGREES)); }
+        double position = DEGREES * TABLE.resolution;
+        position -= Math.floor(position / TABLE.size) * TABLE.size;
+        final int    INDEX    = (int) position;
+        final double FRACTION = position - INDEX;
+        final double[] SIN    = TABLE.sin;
+        return SIN[INDEX] + (SIN[INDEX + 1] - SIN[INDEX]) * FRACTION;
+    }
+
+    /**
+     * Returns the cosine of the given angle in degrees.
+     * @param DEGREES
+     * @return the cosine of the given angle in degrees
+     */
+    public static double cosDeg(final double DEGREES) { return sinDeg(DEGREES + 90.0); }
+
+    /**
+     * Returns the sine of the given angle in radians.
+     * @param RADIANS
+     * @return the sine of the given angle in radians
+     */
+    public static double sin(final double RADIANS) { return sinDeg(RADIANS * RAD_TO_DEG); }
+
+    /**
+     * Returns the cosine of the given angle in radians.
+     * @param RADIANS
+     * @return the cosine of the given angle in radians
+     */
+    public static double cos(final double RADIANS) { return sinDeg(RADIANS * RAD_TO_DEG + 90.0); }
+
+    /**
+     * Returns the angle of the point (X, Y) in degrees in the range of
+     * -180 to 180 like Math.toDegrees(Math.atan2(Y, X)). The maximum error
+     * is about 1e-6 degrees.
+     * @param Y
+     * @param X
+     * @return the angle of the point (X, Y) in degrees
+     */
+    public static double atan2Deg(final double Y, final double X) {
+        if (null == table || !Double.isFinite(X) || !Double.isFinite(Y)) { return Math.toDegrees(Math.atan2(Y, X)); }
+        final double ABS_X = Math.abs(X);
+        final double ABS_Y = Math.abs(Y);
+        if (0 == ABS_X && 0 == ABS_Y) { return Math.toDegrees(Math.atan2(Y, X)); }
+        // reduce to the first octant where the arc tangent of the ratio is smooth
+        final boolean SWAP     = ABS_Y > ABS_X;
+        final double  POSITION = (SWAP ? ABS_X / ABS_Y : ABS_Y / ABS_X) * ATAN_SIZE;
+        final int     INDEX    = (int) POSITION;
+        double angle = ATAN[INDEX] + (ATAN[INDEX + 1] - ATAN[INDEX]) * (POSITION - INDEX);
+        if (SWAP)  { angle = 90.0 - angle; }
+        if (X < 0) { angle = 180.0 - angle; }
+        return Y < 0 ? -angle : angle;
+    }
+
+
+    // ******************** Inner Classes *************************************
+    private static final class Table {
+        private final int      resolution;
+        private final int      size;
+        private final double[] sin;
+
+
+        // ******************** Constructors **********************************
+        Table(final int RESOLUTION) {
+            resolution = RESOLUTION;
+            size       = 360 * RESOLUTION;
+            // two extra entries so that INDEX + 1 is always valid
+            sin        = new double[size + 2];
+            for (int i = 0 ; i < sin.length ; i++) { sin[i] = Math.sin(Math.toRadians((double) i / RESOLUTION)); }
+        }
+    }
+}
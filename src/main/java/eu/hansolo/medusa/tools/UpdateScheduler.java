@@ -0,0 +1,249 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import eu.hansolo.medusa.Gauge;
+import eu.hansolo.medusa.Section;
+import javafx.animation.AnimationTimer;
+import javafx.scene.control.Control;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Global scheduler for the visual updates of gauge skins. If enabled,
+ * skins submit their pending updates (e.g. needle rotation or bar redraw
+ * after a value change) instead of executing them immediately. On each
+ * pulse the pending updates are executed in the order of their priority
+ * (focused, alarmed, normal, hidden) until the frame budget is used up,
+ * the remaining updates will be executed on the next pulses. Every pulse
+ * a task is carried over raises its priority by one level, so under a
+ * sustained load of focused updates the normal and hidden updates are
+ * delayed by a few pulses but never starved.
+ * A task that is submitted again before it was executed will only be
+ * executed once. Because tasks read the state of the gauge when they
+ * are executed, the newest value always wins.
+ * If the scheduler is disabled (default) submitted tasks will be
+ * executed immediately. All methods have to be called on the FX
+ * application thread.
+ */
+public final class UpdateScheduler {
+    public enum Priority { FOCUSED, ALARMED, NORMAL, HIDDEN }
+
+    public  static final long                   DEFAULT_FRAME_BUDGET = 8_000_000; // 8ms in ns
+    private static final Priority[]             PRIORITIES           = Priority.values();
+    private static final ArrayDeque<Task>       PENDING              = new ArrayDeque<>();
+    private static final List<ArrayDeque<Task>> QUEUES;
+    private static       boolean                enabled              = Boolean.getBoolean("medusa.scheduler");
+    private static       long                   frameBudget          = DEFAULT_FRAME_BUDGET;
+    private static       boolean                timerRunning;
+    private static       long                   carriedOver;
+    private static       int                    pendingCount;
+    private static       AnimationTimer         timer;
+
+    static {
+        QUEUES = new ArrayList<>(PRIORITIES.length);
+        for (int i = 0 ; i < PRIORITIES.length ; i++) { QUEUES.add(new ArrayDeque<>()); }
+    }
+
+
+    // ******************** Constructors **************************************
+    private UpdateScheduler() {}
+
+
+    // ******************** Methods *******************************************
+    public static boolean isEnabled() { return enabled; }
+    /**
+     * Enables or disables the scheduler. When disabled all pending tasks
+     * will be executed immediately.
+     * @param ENABLED
+     */
+    public static void setEnabled(final boolean ENABLED) {
+        enabled = ENABLED;
+        if (!ENABLED) { flush(); }
+    }
+
+    /**
+     * Returns the time in nanoseconds that may be spent per pulse for
+     * executing pending tasks.
+     * @return the time budget per pulse in nanoseconds
+     */
+    public static long getFrameBudget() { return frameBudget; }
+    public static void setFrameBudget(final long NANOS) { frameBudget = Helper.clamp(100_000L, 1_000_000_000L, NANOS); }
+
+    /**
+     * Returns the number of tasks that could not be executed within the
+     * budget of the last pulse and have been carried over to the next one.
+     * @return the number of tasks carried over to the next pulse
+     */
+    public static long getCarriedOver() { return carriedOver; }
+
+    public static int getPendingCount() { return pendingCount; }
+
+    /**
+     * Submits the given task. If the scheduler is disabled the task will be
+     * executed immediately, otherwise it will be executed on one of the
+     * next pulses. If the task is already pending it will not be queued again.
+     * @param TASK
+     */
+    public static void submit(final Task TASK) {
+        if (!enabled) {
+            TASK.run();
+            return;
+        }
+        if (TASK.pending) {
+            if (Metrics.isEnabled() && TASK.owner instanceof Gauge) { ((Gauge) TASK.owner).getMetrics().increment(Metrics.Type.UPDATE_COALESCED); }
+            return;
+        }
+        TASK.pending = true;
+        pendingCount++;
+        // a cancelled task might still be queued, it will be executed at its old position
+        if (!TASK.queued) {
+            TASK.queued = true;
+            PENDING.add(TASK);
+        }
+        startTimer();
+    }
+
+    /**
+     * Removes the given task from the pending tasks (e.g. when a skin is
+     * disposed). The task stays queued until the next pulse skips it, so
+     * cancelling does not search the queue.
+     * @param TASK
+     */
+    public static void cancel(final Task TASK) {
+        if (!TASK.pending) { return; }
+        TASK.pending = false;
+        pendingCount--;
+    }
+
+    /**
+     * Executes all pending tasks immediately.
+     */
+    public static void flush() {
+        while (!PENDING.isEmpty()) {
+            final Task TASK = PENDING.poll();
+            TASK.queued = false;
+            if (TASK.pending) { TASK.run(); }
+        }
+    }
+
+    public static Priority getPriority(final Control CONTROL) {
+        if (null == CONTROL || null == CONTROL.getScene() || !CONTROL.isVisible()) { return Priority.HIDDEN; }
+        if (CONTROL instanceof Gauge && !((Gauge) CONTROL).isEffectivelyVisible()) { return Priority.HIDDEN; }
+        if (CONTROL.isFocused() || CONTROL.isHover()) { return Priority.FOCUSED; }
+        if (CONTROL instanceof Gauge && isAlarmed((Gauge) CONTROL)) { return Priority.ALARMED; }
+        return Priority.NORMAL;
+    }
+
+    private static boolean isAlarmed(final Gauge GAUGE) {
+        final double VALUE = GAUGE.getCurrentValue();
+        if ((GAUGE.isCheckThreshold() || GAUGE.isThresholdVisible()) && VALUE > GAUGE.getThreshold()) { return true; }
+        if (GAUGE.getCheckSectionsForValue() || GAUGE.isHighlightSections()) {
+            final List<Section> SECTIONS = GAUGE.getSections();
+            for (int i = 0, n = SECTIONS.size() ; i < n ; i++) {
+                if (SECTIONS.get(i).contains(VALUE)) { return true; }
+            }
+        }
+        return false;
+    }
+
+    private static void startTimer() {
+        if (timerRunning) { return; }
+        if (null == timer) {
+            timer = new AnimationTimer() {
+                @Override public void handle(final long NOW) { process(); }
+            };
+        }
+        timer.start();
+        timerRunning = true;
+    }
+
+    private static void process() {
+        final long START = System.nanoTime();
+
+        // sort pending tasks by priority (raised by their age), keeping the submission order within a priority
+        while (!PENDING.isEmpty()) {
+            final Task TASK = PENDING.poll();
+            if (!TASK.pending) {
+                TASK.queued = false;
+                continue;
+            }
+            QUEUES.get(Math.max(0, getPriority(TASK.owner).ordinal() - TASK.age)).add(TASK);
+        }
+
+        boolean budgetLeft = true;
+        for (ArrayDeque<Task> queue : QUEUES) {
+            while (budgetLeft && !queue.isEmpty()) {
+                final Task TASK = queue.poll();
+                TASK.queued = false;
+                TASK.run();
+                budgetLeft = System.nanoTime() - START < frameBudget;
+            }
+            // carry over what is left in the order of the priorities
+            while (!queue.isEmpty()) {
+                final Task TASK = queue.poll();
+                TASK.age++;
+                PENDING.add(TASK);
+            }
+        }
+        carriedOver = PENDING.size();
+
+        if (PENDING.isEmpty()) {
+            timer.stop();
+            timerRunning = false;
+        }
+    }
+
+
+    // ******************** Inner Classes *************************************
+    /**
+     * A reusable update of a control. Create one instance per kind of update
+     * (e.g. in the constructor of a skin) and submit it whenever the update
+     * is needed.
+     */
+    public static final class Task implements Runnable {
+        private final Control  owner;
+        private final Runnable runnable;
+        private       boolean  pending;
+        private       boolean  queued;
+        private       int      age;
+
+
+        // ******************** Constructors **********************************
+        public Task(final Control OWNER, final Runnable RUNNABLE) {
+            owner    = OWNER;
+            runnable = RUNNABLE;
+        }
+
+
+        // ******************** Methods ***************************************
+        public Control getOwner() { return owner; }
+
+        public boolean isPending() { return pending; }
+
+        @Override public void run() {
+            if (pending) { pendingCount--; }
+            pending = false;
+            age     = 0;
+            runnable.run();
+        }
+    }
+}
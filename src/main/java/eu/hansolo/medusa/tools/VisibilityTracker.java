@@ -0,0 +1,163 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2016-2021 Gerrit Grunwald.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package eu.hansolo.medusa.tools;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Tracks the effective visibility of a node. A node is effectively
+ * visible if the node and all of its parents are visible and the bounds
+ * of the node intersect the clips of all its parents and the scene.
+ * This covers nodes that are scrolled out of a ScrollPane (the viewport
+ * is clipped), nodes on unselected Tabs or in collapsed TitledPanes
+ * (the content is set invisible resp. clipped) and nodes that are
+ * clipped away in general.
+ * The tracker listens to the visibility, clip and parent of all nodes
+ * in the parent chain and to the transform and bounds of the node itself.
+ * It can be switched off globally with -Dmedusa.visibilityTracking=false,
+ * in this case the node is always treated as effectively visible.
+ */
+public final class VisibilityTracker {
+    private static final boolean                ENABLED = Boolean.parseBoolean(System.getProperty("medusa.visibilityTracking", "true"));
+    private        final Node                   node;
+    private        final ReadOnlyBooleanWrapper visible;
+    private        final InvalidationListener   chainListener;
+    private        final InvalidationListener   updateListener;
+    private        final List<Node>             chain;
+    private        final List<Node>             clips;
+    private              Scene                  scene;
+
+
+    // ******************** Constructors **************************************
+    public VisibilityTracker(final Node NODE) {
+        node           = NODE;
+        visible        = new ReadOnlyBooleanWrapper(this, "effectivelyVisible", true);
+        chainListener  = o -> rebuild();
+        updateListener = o -> update();
+        chain          = new ArrayList<>(16);
+        clips          = new ArrayList<>(4);
+        if (ENABLED) {
+            node.sceneProperty().addListener(chainListener);
+            rebuild();
+        }
+    }
+
+
+    // ******************** Methods *******************************************
+    public boolean isVisible() { return visible.get(); }
+    public ReadOnlyBooleanProperty visibleProperty() { return visible.getReadOnlyProperty(); }
+
+    /**
+     * Removes all listeners from the node and its parents.
+     */
+    public void dispose() {
+        node.sceneProperty().removeListener(chainListener);
+        unregister();
+    }
+
+    private void rebuild() {
+        unregister();
+        scene = node.getScene();
+        if (null != scene) {
+            node.localToSceneTransformProperty().addListener(updateListener);
+            node.boundsInLocalProperty().addListener(updateListener);
+            scene.widthProperty().addListener(updateListener);
+            scene.heightProperty().addListener(updateListener);
+            for (Node n = node ; null != n ; n = n.getParent()) {
+                n.visibleProperty().addListener(updateListener);
+                n.parentProperty().addListener(chainListener);
+                n.clipProperty().addListener(chainListener);
+                Node clip = n.getClip();
+                if (null != clip) {
+                    clip.boundsInParentProperty().addListener(updateListener);
+                    clips.add(clip);
+                }
+                chain.add(n);
+            }
+        }
+        update();
+    }
+
+    private void unregister() {
+        for (Node n : chain) {
+            n.visibleProperty().removeListener(updateListener);
+            n.parentProperty().removeListener(chainListener);
+            n.clipProperty().removeListener(chainListener);
+        }
+        for (Node clip : clips) { clip.boundsInParentProperty().removeListener(updateListener); }
+        chain.clear();
+        clips.clear();
+        if (null != scene) {
+            node.localToSceneTransformProperty().removeListener(updateListener);
+            node.boundsInLocalProperty().removeListener(updateListener);
+            scene.widthProperty().removeListener(updateListener);
+            scene.heightProperty().removeListener(updateListener);
+            scene = null;
+        }
+    }
+
+    private void update() {
+        if (null == scene) {
+            visible.set(false);
+            return;
+        }
+        // All observed values are read (no short circuit) to validate them again,
+        // otherwise the invalidation listeners would not be called on the next change
+        final Bounds BOUNDS = node.getLocalToSceneTransform().transform(node.getBoundsInLocal());
+        boolean      isVisible = true;
+        for (Node n : chain) {
+            isVisible &= n.isVisible();
+            Node clip = n.getClip();
+            if (null != clip) {
+                Bounds clipBounds = clip.getBoundsInParent();
+                if (n != node) { isVisible &= n.localToScene(clipBounds).intersects(BOUNDS); }
+            }
+        }
+        final double WIDTH  = scene.getWidth();
+        final double HEIGHT = scene.getHeight();
+        // The scene size is not known before it was shown the first time
+        if (WIDTH > 0 && HEIGHT > 0) { isVisible &= BOUNDS.intersects(0, 0, WIDTH, HEIGHT); }
+        visible.set(isVisible);
+    }
+
+    /**
+     * Returns true if the given node is effectively visible right now
+     * without tracking changes.
+     * @param NODE
+     * @return true if the given node is effectively visible
+     */
+    public static boolean isEffectivelyVisible(final Node NODE) {
+        final Scene SCENE = NODE.getScene();
+        if (null == SCENE) { return false; }
+        final Bounds BOUNDS = NODE.localToScene(NODE.getBoundsInLocal());
+        for (Node n = NODE ; null != n ; n = n.getParent()) {
+            if (!n.isVisible()) { return false; }
+            if (n != NODE && null != n.getClip() && !n.localToScene(n.getClip().getBoundsInParent()).intersects(BOUNDS)) { return false; }
+        }
+        return SCENE.getWidth() <= 0 || SCENE.getHeight() <= 0 || BOUNDS.intersects(0, 0, SCENE.getWidth(), SCENE.getHeight());
+    }
+}
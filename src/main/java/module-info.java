@@ -19,6 +19,7 @@ module eu.hansolo.medusa {
 
     // Java
     requires java.base;
+    requires java.management;
 
     // Java-FX
     requires transitive javafx.base;